@@ -0,0 +1,97 @@
+/* Copyright 2002-2025 CS GROUP
+ * Licensed to CS GROUP (CS) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * CS licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.orekit.benchmarks;
+
+import org.hipparchus.util.FastMath;
+import org.orekit.Utils;
+import org.orekit.bodies.OneAxisEllipsoid;
+import org.orekit.forces.gravity.potential.GRGSFormatReader;
+import org.orekit.forces.gravity.potential.GravityFieldFactory;
+import org.orekit.frames.Frame;
+import org.orekit.frames.FramesFactory;
+import org.orekit.orbits.KeplerianOrbit;
+import org.orekit.orbits.Orbit;
+import org.orekit.orbits.PositionAngleType;
+import org.orekit.propagation.analytical.tle.TLE;
+import org.orekit.utils.Constants;
+import org.orekit.utils.IERSConventions;
+
+/** Shared fixtures for benchmarks.
+ * <p>
+ * All benchmarks use the same data set from the test resources, so
+ * results are reproducible from one run to the other and between
+ * Orekit versions.
+ * </p>
+ * @author Luc Maisonobe
+ * @since 13.2
+ */
+final class BenchmarkFixtures {
+
+    /** Two-Line Elements used as reference (ISS in 2003, covered by test EOP and space weather data). */
+    static final String[] ISS_TLE = {
+        "1 25544U 98067A   03042.38687590  .00035128  00000-0  41387-3 0  9990",
+        "2 25544 051.6337 292.0267 0005644 135.6869 224.5096 15.60691825241426"
+    };
+
+    /** Private constructor for a utility class.
+     */
+    private BenchmarkFixtures() {
+        // nothing to do
+    }
+
+    /** Set up data context from test resources.
+     */
+    static void setUpData() {
+        Utils.setDataRoot("regular-data:potential/grgs-format:atmosphere");
+        GravityFieldFactory.addPotentialCoefficientsReader(new GRGSFormatReader("grim4s4_gr", true));
+    }
+
+    /** Get the reference TLE.
+     * @return reference TLE
+     */
+    static TLE getTLE() {
+        return new TLE(ISS_TLE[0], ISS_TLE[1]);
+    }
+
+    /** Get the Earth-fixed frame.
+     * @return Earth-fixed frame
+     */
+    static Frame getITRF() {
+        return FramesFactory.getITRF(IERSConventions.IERS_2010, true);
+    }
+
+    /** Get the Earth shape.
+     * @return Earth shape
+     */
+    static OneAxisEllipsoid getEarth() {
+        return new OneAxisEllipsoid(Constants.WGS84_EARTH_EQUATORIAL_RADIUS,
+                                    Constants.WGS84_EARTH_FLATTENING,
+                                    getITRF());
+    }
+
+    /** Get a typical LEO orbit at reference TLE epoch.
+     * @return LEO orbit
+     */
+    static Orbit getLEO() {
+        return new KeplerianOrbit(Constants.WGS84_EARTH_EQUATORIAL_RADIUS + 400000.0, 5.6e-4,
+                                  FastMath.toRadians(51.6), FastMath.toRadians(135.7),
+                                  FastMath.toRadians(292.0), FastMath.toRadians(224.5),
+                                  PositionAngleType.MEAN, FramesFactory.getEME2000(),
+                                  getTLE().getDate(), Constants.EIGEN5C_EARTH_MU);
+    }
+
+}
@@ -0,0 +1,73 @@
+/* Copyright 2002-2025 CS GROUP
+ * Licensed to CS GROUP (CS) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * CS licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.orekit.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.orekit.data.DataSource;
+import org.orekit.files.ccsds.ndm.ParserBuilder;
+import org.orekit.files.ccsds.ndm.odm.oem.Oem;
+import org.orekit.files.ccsds.ndm.odm.oem.OemParser;
+
+/** Benchmarks for CCSDS messages parsing.
+ * @author Luc Maisonobe
+ * @since 13.2
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Thread)
+public class CcsdsBenchmark {
+
+    /** Name of the OEM resource to parse. */
+    @Param({ "/ccsds/odm/oem/OEMExample5.txt", "/ccsds/odm/oem/ISS.resampled.truncated.txt" })
+    private String name;
+
+    /** Data source. */
+    private DataSource source;
+
+    /** Set up data source.
+     */
+    @Setup
+    public void setUp() {
+        BenchmarkFixtures.setUpData();
+        source = new DataSource(name, () -> CcsdsBenchmark.class.getResourceAsStream(name));
+    }
+
+    /** Benchmark OEM parsing.
+     * @return parsed message
+     */
+    @Benchmark
+    public Oem parseOem() {
+        final OemParser parser = new ParserBuilder().buildOemParser();
+        return parser.parseMessage(source);
+    }
+
+}
@@ -0,0 +1,148 @@
+/* Copyright 2002-2025 CS GROUP
+ * Licensed to CS GROUP (CS) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * CS licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.orekit.benchmarks;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import org.hipparchus.ode.nonstiff.DormandPrince853Integrator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.orekit.bodies.CelestialBody;
+import org.orekit.bodies.CelestialBodyFactory;
+import org.orekit.bodies.OneAxisEllipsoid;
+import org.orekit.forces.gravity.potential.GravityFieldFactory;
+import org.orekit.forces.gravity.potential.UnnormalizedSphericalHarmonicsProvider;
+import org.orekit.models.earth.atmosphere.HarrisPriester;
+import org.orekit.orbits.Orbit;
+import org.orekit.orbits.OrbitType;
+import org.orekit.propagation.PropagationType;
+import org.orekit.propagation.SpacecraftState;
+import org.orekit.propagation.ToleranceProvider;
+import org.orekit.propagation.semianalytical.dsst.DSSTPropagator;
+import org.orekit.propagation.semianalytical.dsst.forces.DSSTAtmosphericDrag;
+import org.orekit.propagation.semianalytical.dsst.forces.DSSTSolarRadiationPressure;
+import org.orekit.propagation.semianalytical.dsst.forces.DSSTTesseral;
+import org.orekit.propagation.semianalytical.dsst.forces.DSSTThirdBody;
+import org.orekit.propagation.semianalytical.dsst.forces.DSSTZonal;
+import org.orekit.time.AbsoluteDate;
+import org.orekit.utils.Constants;
+
+/** Benchmark for DSST short periodic terms computation.
+ * <p>
+ * The benchmark propagates a LEO orbit over 30 days in osculating mode
+ * with a full force model (gravity field, Sun and Moon, drag and solar
+ * radiation pressure), using either serial or concurrent update of
+ * the short periodic terms.
+ * </p>
+ * @author Luc Maisonobe
+ * @since 13.2
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 10)
+@Measurement(iterations = 3, time = 10)
+@Fork(1)
+@State(Scope.Thread)
+public class DSSTShortPeriodTermsBenchmark {
+
+    /** Propagation duration. */
+    private static final double DURATION = 30 * Constants.JULIAN_DAY;
+
+    /** Number of workers (1 means serial computation). */
+    @Param({ "1", "2", "4" })
+    private int workers;
+
+    /** Executor for concurrent computation. */
+    private ExecutorService executor;
+
+    /** Initial orbit. */
+    private Orbit orbit;
+
+    /** Target date. */
+    private AbsoluteDate target;
+
+    /** DSST propagator. */
+    private DSSTPropagator dsst;
+
+    /** Set up propagator.
+     */
+    @Setup
+    public void setUp() {
+
+        BenchmarkFixtures.setUpData();
+        orbit  = BenchmarkFixtures.getLEO();
+        target = orbit.getDate().shiftedBy(DURATION);
+        executor = workers > 1 ? Executors.newFixedThreadPool(workers) : null;
+
+        final UnnormalizedSphericalHarmonicsProvider unnormalized = GravityFieldFactory.getUnnormalizedProvider(8, 8);
+        final OneAxisEllipsoid earth = BenchmarkFixtures.getEarth();
+        final CelestialBody    sun   = CelestialBodyFactory.getSun();
+        final double[][] equinoctialTolerances = ToleranceProvider.getDefaultToleranceProvider(1.0).
+                                                 getTolerances(orbit, OrbitType.EQUINOCTIAL);
+        dsst = new DSSTPropagator(new DormandPrince853Integrator(60.0, 86400.0,
+                                                                 equinoctialTolerances[0],
+                                                                 equinoctialTolerances[1]),
+                                  PropagationType.OSCULATING);
+
+        final DSSTAtmosphericDrag drag =
+                        new DSSTAtmosphericDrag(new HarrisPriester(sun, earth), 2.2, 10.0, unnormalized.getMu());
+        final DSSTSolarRadiationPressure srp =
+                        new DSSTSolarRadiationPressure(1.2, 10.0, sun, earth, unnormalized.getMu());
+        drag.setParallelShortPeriodTerms(executor, workers);
+        srp.setParallelShortPeriodTerms(executor, workers);
+
+        dsst.addForceModel(new DSSTZonal(earth.getBodyFrame(), unnormalized));
+        dsst.addForceModel(new DSSTTesseral(earth.getBodyFrame(), Constants.WGS84_EARTH_ANGULAR_VELOCITY, unnormalized));
+        dsst.addForceModel(new DSSTThirdBody(sun, unnormalized.getMu()));
+        dsst.addForceModel(new DSSTThirdBody(CelestialBodyFactory.getMoon(), unnormalized.getMu()));
+        dsst.addForceModel(drag);
+        dsst.addForceModel(srp);
+        dsst.setParallelShortPeriodTerms(executor, workers);
+
+    }
+
+    /** Release executor.
+     */
+    @TearDown
+    public void tearDown() {
+        if (executor != null) {
+            executor.shutdownNow();
+        }
+    }
+
+    /** Benchmark DSST propagation.
+     * @return final state
+     */
+    @Benchmark
+    public SpacecraftState dsst() {
+        dsst.setInitialState(new SpacecraftState(orbit), PropagationType.MEAN);
+        return dsst.propagate(target);
+    }
+
+}
@@ -0,0 +1,111 @@
+/* Copyright 2002-2025 CS GROUP
+ * Licensed to CS GROUP (CS) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * CS licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.orekit.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.hipparchus.geometry.euclidean.threed.Vector3D;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.orekit.bodies.CelestialBodyFactory;
+import org.orekit.forces.gravity.HolmesFeatherstoneAttractionModel;
+import org.orekit.forces.gravity.potential.GravityFieldFactory;
+import org.orekit.frames.Frame;
+import org.orekit.models.earth.atmosphere.NRLMSISE00;
+import org.orekit.models.earth.atmosphere.data.CssiSpaceWeatherData;
+import org.orekit.propagation.SpacecraftState;
+import org.orekit.time.AbsoluteDate;
+
+/** Benchmarks for force models and atmosphere.
+ * @author Luc Maisonobe
+ * @since 13.2
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Thread)
+public class ForceModelsBenchmark {
+
+    /** Gravity field degree and order. */
+    @Param({ "20", "50" })
+    private int degree;
+
+    /** Gravity field model. */
+    private HolmesFeatherstoneAttractionModel gravity;
+
+    /** Gravity field parameters. */
+    private double[] gravityParameters;
+
+    /** Atmosphere model. */
+    private NRLMSISE00 atmosphere;
+
+    /** Spacecraft state. */
+    private SpacecraftState state;
+
+    /** Inertial frame. */
+    private Frame frame;
+
+    /** Spacecraft position. */
+    private Vector3D position;
+
+    /** Date. */
+    private AbsoluteDate date;
+
+    /** Set up models.
+     */
+    @Setup
+    public void setUp() {
+        BenchmarkFixtures.setUpData();
+        gravity           = new HolmesFeatherstoneAttractionModel(BenchmarkFixtures.getITRF(),
+                                                                  GravityFieldFactory.getNormalizedProvider(degree, degree));
+        state             = new SpacecraftState(BenchmarkFixtures.getLEO());
+        gravityParameters = gravity.getParameters(state.getDate());
+        atmosphere        = new NRLMSISE00(new CssiSpaceWeatherData(CssiSpaceWeatherData.DEFAULT_SUPPORTED_NAMES),
+                                           CelestialBodyFactory.getSun(), BenchmarkFixtures.getEarth());
+        frame             = state.getFrame();
+        position          = state.getPosition();
+        date              = state.getDate();
+    }
+
+    /** Benchmark gravity field acceleration.
+     * @return acceleration
+     */
+    @Benchmark
+    public Vector3D holmesFeatherstone() {
+        return gravity.acceleration(state, gravityParameters);
+    }
+
+    /** Benchmark atmosphere density.
+     * @return density
+     */
+    @Benchmark
+    public double nrlmsise00() {
+        return atmosphere.getDensity(date, position, frame);
+    }
+
+}
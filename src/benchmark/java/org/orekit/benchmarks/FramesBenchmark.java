@@ -0,0 +1,125 @@
+/* Copyright 2002-2025 CS GROUP
+ * Licensed to CS GROUP (CS) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * CS licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.orekit.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.hipparchus.geometry.euclidean.threed.Vector3D;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.orekit.bodies.GeodeticPoint;
+import org.orekit.bodies.OneAxisEllipsoid;
+import org.orekit.frames.Frame;
+import org.orekit.frames.FramesFactory;
+import org.orekit.time.AbsoluteDate;
+
+/** Benchmarks for frames and body shapes.
+ * <p>
+ * Each benchmark invocation processes one point per minute over one day,
+ * so caches are exercised as they would be in an ephemeris generation loop.
+ * </p>
+ * @author Luc Maisonobe
+ * @since 13.2
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Thread)
+public class FramesBenchmark {
+
+    /** Number of points. */
+    private static final int N = 1440;
+
+    /** Inertial frame. */
+    private Frame gcrf;
+
+    /** Earth-fixed frame. */
+    private Frame itrf;
+
+    /** Earth shape. */
+    private OneAxisEllipsoid earth;
+
+    /** Sample dates. */
+    private AbsoluteDate[] dates;
+
+    /** Sample Cartesian points (in Earth frame). */
+    private Vector3D[] points;
+
+    /** Sample geodetic points. */
+    private GeodeticPoint[] geodetic;
+
+    /** Set up samples.
+     */
+    @Setup
+    public void setUp() {
+        BenchmarkFixtures.setUpData();
+        gcrf     = FramesFactory.getGCRF();
+        itrf     = BenchmarkFixtures.getITRF();
+        earth    = BenchmarkFixtures.getEarth();
+        dates    = new AbsoluteDate[N];
+        points   = new Vector3D[N];
+        geodetic = new GeodeticPoint[N];
+        final AbsoluteDate t0 = BenchmarkFixtures.getTLE().getDate();
+        for (int i = 0; i < N; ++i) {
+            dates[i]    = t0.shiftedBy(60.0 * i);
+            points[i]   = new Vector3D(6.8e6, new Vector3D(0.01 * i, 1.3 * Math.sin(0.007 * i)));
+            geodetic[i] = earth.transform(points[i], itrf, dates[i]);
+        }
+    }
+
+    /** Benchmark GCRF to ITRF transforms.
+     * @param blackhole sink for results
+     */
+    @Benchmark
+    public void gcrfToItrf(final Blackhole blackhole) {
+        for (final AbsoluteDate date : dates) {
+            blackhole.consume(gcrf.getTransformTo(itrf, date));
+        }
+    }
+
+    /** Benchmark Cartesian to geodetic conversion.
+     * @param blackhole sink for results
+     */
+    @Benchmark
+    public void cartesianToGeodetic(final Blackhole blackhole) {
+        for (int i = 0; i < N; ++i) {
+            blackhole.consume(earth.transform(points[i], itrf, dates[i]));
+        }
+    }
+
+    /** Benchmark geodetic to Cartesian conversion.
+     * @param blackhole sink for results
+     */
+    @Benchmark
+    public void geodeticToCartesian(final Blackhole blackhole) {
+        for (final GeodeticPoint point : geodetic) {
+            blackhole.consume(earth.transform(point));
+        }
+    }
+
+}
@@ -0,0 +1,160 @@
+/* Copyright 2002-2025 CS GROUP
+ * Licensed to CS GROUP (CS) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * CS licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.orekit.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.hipparchus.ode.nonstiff.DormandPrince853Integrator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.orekit.bodies.CelestialBodyFactory;
+import org.orekit.forces.drag.DragForce;
+import org.orekit.forces.drag.IsotropicDrag;
+import org.orekit.forces.gravity.HolmesFeatherstoneAttractionModel;
+import org.orekit.forces.gravity.ThirdBodyAttraction;
+import org.orekit.forces.gravity.potential.GravityFieldFactory;
+import org.orekit.forces.gravity.potential.UnnormalizedSphericalHarmonicsProvider;
+import org.orekit.frames.Frame;
+import org.orekit.models.earth.atmosphere.NRLMSISE00;
+import org.orekit.models.earth.atmosphere.data.CssiSpaceWeatherData;
+import org.orekit.orbits.Orbit;
+import org.orekit.orbits.OrbitType;
+import org.orekit.propagation.PropagationType;
+import org.orekit.propagation.SpacecraftState;
+import org.orekit.propagation.ToleranceProvider;
+import org.orekit.propagation.analytical.tle.TLE;
+import org.orekit.propagation.analytical.tle.TLEPropagator;
+import org.orekit.propagation.numerical.NumericalPropagator;
+import org.orekit.propagation.semianalytical.dsst.DSSTPropagator;
+import org.orekit.propagation.semianalytical.dsst.forces.DSSTTesseral;
+import org.orekit.propagation.semianalytical.dsst.forces.DSSTZonal;
+import org.orekit.time.AbsoluteDate;
+import org.orekit.utils.Constants;
+
+/** Benchmarks for orbit propagators.
+ * <p>
+ * Each benchmark propagates a LEO orbit over one day.
+ * </p>
+ * @author Luc Maisonobe
+ * @since 13.2
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+@State(Scope.Thread)
+public class PropagatorsBenchmark {
+
+    /** Propagation duration. */
+    private static final double DURATION = Constants.JULIAN_DAY;
+
+    /** Initial orbit. */
+    private Orbit orbit;
+
+    /** Target date. */
+    private AbsoluteDate target;
+
+    /** Reference TLE. */
+    private TLE tle;
+
+    /** Numerical propagator. */
+    private NumericalPropagator numerical;
+
+    /** DSST propagator. */
+    private DSSTPropagator dsst;
+
+    /** Set up propagators.
+     */
+    @Setup
+    public void setUp() {
+
+        BenchmarkFixtures.setUpData();
+        final Frame itrf = BenchmarkFixtures.getITRF();
+        orbit  = BenchmarkFixtures.getLEO();
+        target = orbit.getDate().shiftedBy(DURATION);
+        tle    = BenchmarkFixtures.getTLE();
+
+        // numerical propagator with typical LEO force models
+        final double[][] cartesianTolerances = ToleranceProvider.getDefaultToleranceProvider(0.001).
+                                               getTolerances(orbit, OrbitType.CARTESIAN);
+        numerical = new NumericalPropagator(new DormandPrince853Integrator(0.001, 300.0,
+                                                                           cartesianTolerances[0],
+                                                                           cartesianTolerances[1]));
+        numerical.setOrbitType(OrbitType.CARTESIAN);
+        numerical.addForceModel(new HolmesFeatherstoneAttractionModel(itrf,
+                                                                      GravityFieldFactory.getNormalizedProvider(20, 20)));
+        numerical.addForceModel(new DragForce(new NRLMSISE00(new CssiSpaceWeatherData(CssiSpaceWeatherData.DEFAULT_SUPPORTED_NAMES),
+                                                             CelestialBodyFactory.getSun(),
+                                                             BenchmarkFixtures.getEarth()),
+                                              new IsotropicDrag(10.0, 2.2)));
+        numerical.addForceModel(new ThirdBodyAttraction(CelestialBodyFactory.getSun()));
+        numerical.addForceModel(new ThirdBodyAttraction(CelestialBodyFactory.getMoon()));
+
+        // semi-analytical propagator with gravity field
+        final UnnormalizedSphericalHarmonicsProvider unnormalized = GravityFieldFactory.getUnnormalizedProvider(8, 8);
+        final double[][] equinoctialTolerances = ToleranceProvider.getDefaultToleranceProvider(1.0).
+                                                 getTolerances(orbit, OrbitType.EQUINOCTIAL);
+        dsst = new DSSTPropagator(new DormandPrince853Integrator(60.0, 86400.0,
+                                                                 equinoctialTolerances[0],
+                                                                 equinoctialTolerances[1]),
+                                  PropagationType.OSCULATING);
+        dsst.addForceModel(new DSSTZonal(itrf, unnormalized));
+        dsst.addForceModel(new DSSTTesseral(itrf, Constants.WGS84_EARTH_ANGULAR_VELOCITY, unnormalized));
+
+    }
+
+    /** Benchmark numerical propagation.
+     * @return final state
+     */
+    @Benchmark
+    public SpacecraftState numerical() {
+        numerical.setInitialState(new SpacecraftState(orbit));
+        return numerical.propagate(target);
+    }
+
+    /** Benchmark DSST propagation.
+     * @return final state
+     */
+    @Benchmark
+    public SpacecraftState dsst() {
+        dsst.setInitialState(new SpacecraftState(orbit), PropagationType.MEAN);
+        return dsst.propagate(target);
+    }
+
+    /** Benchmark TLE propagation, with one output per minute.
+     * @return last state
+     */
+    @Benchmark
+    public SpacecraftState tle() {
+        final TLEPropagator propagator = TLEPropagator.selectExtrapolator(tle);
+        SpacecraftState state = null;
+        for (double dt = 0; dt <= DURATION; dt += 60.0) {
+            state = propagator.propagate(tle.getDate().shiftedBy(dt));
+        }
+        return state;
+    }
+
+}
@@ -0,0 +1,110 @@
+/* Copyright 2002-2025 CS GROUP
+ * Licensed to CS GROUP (CS) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * CS licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.orekit.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.orekit.time.AbsoluteDate;
+import org.orekit.time.TimeScale;
+import org.orekit.time.TimeScalesFactory;
+
+/** Benchmarks for dates arithmetic and parsing.
+ * @author Luc Maisonobe
+ * @since 13.2
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class TimeBenchmark {
+
+    /** UTC time scale. */
+    private TimeScale utc;
+
+    /** Reference date. */
+    private AbsoluteDate date;
+
+    /** Other date. */
+    private AbsoluteDate other;
+
+    /** Time offset. */
+    private double dt;
+
+    /** Set up dates.
+     */
+    @Setup
+    public void setUp() {
+        BenchmarkFixtures.setUpData();
+        utc   = TimeScalesFactory.getUTC();
+        date  = BenchmarkFixtures.getTLE().getDate();
+        other = date.shiftedBy(12345.678);
+        dt    = 0.125;
+    }
+
+    /** Benchmark date shift.
+     * @return shifted date
+     */
+    @Benchmark
+    public AbsoluteDate shiftedBy() {
+        return date.shiftedBy(dt);
+    }
+
+    /** Benchmark date difference.
+     * @return duration between dates
+     */
+    @Benchmark
+    public double durationFrom() {
+        return other.durationFrom(date);
+    }
+
+    /** Benchmark date comparison.
+     * @return comparison result
+     */
+    @Benchmark
+    public int compareTo() {
+        return other.compareTo(date);
+    }
+
+    /** Benchmark ISO-8601 parsing.
+     * @return parsed date
+     */
+    @Benchmark
+    public AbsoluteDate parse() {
+        return new AbsoluteDate("2003-02-11T09:17:05.278", utc);
+    }
+
+    /** Benchmark formatting.
+     * @return formatted date
+     */
+    @Benchmark
+    public String format() {
+        return date.toString(utc);
+    }
+
+}
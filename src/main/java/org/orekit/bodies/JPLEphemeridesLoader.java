@@ -54,7 +54,7 @@ import org.orekit.utils.Constants;
 import org.orekit.utils.FieldPVCoordinates;
 import org.orekit.utils.OrekitConfiguration;
 import org.orekit.utils.PVCoordinates;
-import org.orekit.utils.GenericTimeStampedCache;
+import org.orekit.utils.TimeStampedCache;
 import org.orekit.utils.TimeStampedGenerator;
 import org.orekit.utils.units.UnitsConverter;
 
@@ -219,7 +219,7 @@ public class JPLEphemeridesLoader extends AbstractSelfFeedingLoader
     }
 
     /** Ephemeris for selected body. */
-    private final GenericTimeStampedCache<PosVelChebyshev> ephemerides;
+    private final TimeStampedCache<PosVelChebyshev> ephemerides;
 
     /** Constants defined in the file. */
     private final AtomicReference<Map<String, Double>> constants;
@@ -313,7 +313,7 @@ public class JPLEphemeridesLoader extends AbstractSelfFeedingLoader
             loadType = generateType;
         }
 
-        ephemerides = new GenericTimeStampedCache<>(
+        ephemerides = OrekitConfiguration.getTimeStampedCacheFactory().createCache(
                 2, OrekitConfiguration.getCacheSlotsNumber(),
                 Double.POSITIVE_INFINITY, FIFTY_DAYS,
                 new EphemerisParser());
@@ -0,0 +1,431 @@
+/* Copyright 2002-2025 CS GROUP
+ * Licensed to CS GROUP (CS) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * CS licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.orekit.data;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InterruptedIOException;
+import java.io.Reader;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.IntFunction;
+
+import org.hipparchus.util.FastMath;
+import org.orekit.errors.OrekitException;
+import org.orekit.errors.OrekitMessages;
+
+/** Filter running another filter in a separate pipeline stage.
+ * <p>
+ * This filter wraps another filter (typically a decompression filter like
+ * {@link GzipFilter}, {@link UnixCompressFilter} or {@link
+ * org.orekit.files.rinex.HatanakaCompressFilter HatanakaCompressFilter}).
+ * When the wrapped filter applies to a data source, the filtered data is
+ * produced by a task running in an {@link ExecutorService executor}, and
+ * transferred to the consumer thread by chunks through a bounded buffer.
+ * The wrapped filter and the consumer (typically a parser) can therefore
+ * run concurrently on different cores.
+ * </p>
+ * <p>
+ * Wrapping several filters that are stacked one on top of the other (for
+ * example gzip inflation and Hatanaka reconstruction) leads to one stage
+ * per filter, each stage running in its own task, and the final parsing
+ * running in the thread that opens the data source.
+ * </p>
+ * <p>
+ * One task is submitted to the executor each time a filtered data source
+ * is opened, and it runs until the data is exhausted or the consumer closes
+ * the stream or reader. The executor must therefore be able to run at least
+ * as many tasks concurrently as there are pipeline stages simultaneously
+ * open, otherwise consumers would wait forever for stages that cannot start.
+ * Executors built by {@link java.util.concurrent.Executors#newCachedThreadPool()}
+ * fulfill this constraint. The executor is not shut down by this filter.
+ * </p>
+ * @author Luc Maisonobe
+ * @since 13.2
+ */
+public class PipelinedFilter implements DataFilter {
+
+    /** Default size of chunks. */
+    public static final int DEFAULT_CHUNK_SIZE = 65536;
+
+    /** Default number of chunks in the buffer between stages. */
+    public static final int DEFAULT_CAPACITY = 16;
+
+    /** Wrapped filter. */
+    private final DataFilter filter;
+
+    /** Executor running the stages. */
+    private final ExecutorService executor;
+
+    /** Size of chunks (in bytes or characters). */
+    private final int chunkSize;
+
+    /** Number of chunks in the buffer between stages. */
+    private final int capacity;
+
+    /** Simple constructor with default chunk size and capacity.
+     * @param filter wrapped filter
+     * @param executor executor running the stages
+     * @see #DEFAULT_CHUNK_SIZE
+     * @see #DEFAULT_CAPACITY
+     */
+    public PipelinedFilter(final DataFilter filter, final ExecutorService executor) {
+        this(filter, executor, DEFAULT_CHUNK_SIZE, DEFAULT_CAPACITY);
+    }
+
+    /** Simple constructor.
+     * @param filter wrapped filter
+     * @param executor executor running the stages
+     * @param chunkSize size of chunks (in bytes or characters)
+     * @param capacity number of chunks in the buffer between stages
+     */
+    public PipelinedFilter(final DataFilter filter, final ExecutorService executor,
+                           final int chunkSize, final int capacity) {
+        if (chunkSize < 1) {
+            throw new OrekitException(OrekitMessages.NOT_STRICTLY_POSITIVE, chunkSize);
+        }
+        if (capacity < 1) {
+            throw new OrekitException(OrekitMessages.NOT_STRICTLY_POSITIVE, capacity);
+        }
+        this.filter    = filter;
+        this.executor  = executor;
+        this.chunkSize = chunkSize;
+        this.capacity  = capacity;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public DataSource filter(final DataSource original) throws IOException {
+
+        final DataSource filtered = filter.filter(original);
+        if (filtered == original) {
+            // the wrapped filter does not apply to this data source
+            return original;
+        }
+
+        final DataSource.Opener fOpener = filtered.getOpener();
+        if (fOpener.rawDataIsBinary()) {
+            final DataSource.StreamOpener pOpener = () -> new StageInputStream(fOpener.openStreamOnce());
+            return new DataSource(filtered.getName(), pOpener);
+        } else {
+            final DataSource.ReaderOpener pOpener = () -> new StageReader(fOpener.openReaderOnce());
+            return new DataSource(filtered.getName(), pOpener);
+        }
+
+    }
+
+    /** Reader for chunks.
+     * @param <A> type of the array
+     */
+    @FunctionalInterface
+    private interface ChunkReader<A> {
+        /** Read a part of a chunk.
+         * @param buffer buffer where to put data
+         * @param offset offset in buffer
+         * @param length maximum number of elements to read
+         * @return number of elements read, or -1 at end of data
+         * @exception IOException if data cannot be read
+         */
+        int read(A buffer, int offset, int length) throws IOException;
+    }
+
+    /** Chunk of data transferred between stages.
+     * @param <A> type of the array
+     */
+    private static class Chunk<A> {
+
+        /** Data. */
+        private final A data;
+
+        /** Number of elements in the data array (-1 at end of data). */
+        private final int length;
+
+        /** Error that occurred in the producing stage (null if no error occurred).
+         * <p>
+         * The error is either an {@link IOException}, a {@link RuntimeException} or an {@link Error}.
+         * </p>
+         */
+        private final Throwable error;
+
+        /** Simple constructor.
+         * @param data data
+         * @param length number of elements in the data array (-1 at end of data)
+         * @param error error that occurred in the producing stage (null if no error occurred)
+         */
+        Chunk(final A data, final int length, final Throwable error) {
+            this.data   = data;
+            this.length = length;
+            this.error  = error;
+        }
+
+    }
+
+    /** Pipe between a producing stage and a consumer.
+     * @param <A> type of the array
+     */
+    private class Pipe<A> implements Runnable {
+
+        /** Upstream data. */
+        private final Closeable upstream;
+
+        /** Reader for upstream chunks. */
+        private final ChunkReader<A> chunkReader;
+
+        /** Allocator for chunks arrays. */
+        private final IntFunction<A> allocator;
+
+        /** Bounded buffer between producer and consumer. */
+        private final BlockingQueue<Chunk<A>> queue;
+
+        /** Arrays released by the consumer, available for reuse by the producer. */
+        private final BlockingQueue<A> recycled;
+
+        /** Indicator for started producer or closed consumer. */
+        private final AtomicBoolean started;
+
+        /** Producer task. */
+        private final Future<?> producer;
+
+        /** Current chunk. */
+        private Chunk<A> current;
+
+        /** Position in current chunk. */
+        private int position;
+
+        /** Simple constructor.
+         * <p>
+         * The producer task is submitted to the executor at construction.
+         * </p>
+         * @param upstream upstream data
+         * @param chunkReader reader for upstream chunks
+         * @param allocator allocator for chunks arrays
+         */
+        Pipe(final Closeable upstream, final ChunkReader<A> chunkReader, final IntFunction<A> allocator) {
+            this.upstream    = upstream;
+            this.chunkReader = chunkReader;
+            this.allocator   = allocator;
+            this.queue       = new ArrayBlockingQueue<>(capacity);
+            this.recycled    = new ArrayBlockingQueue<>(capacity + 2);
+            this.started     = new AtomicBoolean(false);
+            this.current     = null;
+            this.position    = 0;
+            this.producer    = executor.submit(this);
+        }
+
+        /** Produce chunks from upstream data. */
+        @Override
+        public void run() {
+
+            if (started.getAndSet(true)) {
+                // the consumer has already been closed
+                return;
+            }
+
+            try {
+
+                Throwable error = null;
+                for (int n = 0; n >= 0 && error == null;) {
+
+                    A   buffer = null;
+                    int filled = 0;
+                    try {
+
+                        // reuse an array released by the consumer if possible
+                        buffer = recycled.poll();
+                        if (buffer == null) {
+                            buffer = allocator.apply(chunkSize);
+                        }
+
+                        // fill up the chunk, as upstream may provide small parts (lines for example)
+                        while (filled < chunkSize && n >= 0) {
+                            n = chunkReader.read(buffer, filled, chunkSize - filled);
+                            if (n > 0) {
+                                filled += n;
+                            }
+                        }
+
+                        // CHECKSTYLE: stop IllegalCatch check
+                    } catch (IOException | RuntimeException | Error e) {
+                        // CHECKSTYLE: resume IllegalCatch check
+                        // the error will be transferred to the consumer after the data already read
+                        error = e;
+                    }
+
+                    if (filled > 0) {
+                        queue.put(new Chunk<>(buffer, filled, null));
+                    }
+
+                }
+
+                // end of data, with the error if any, so the consumer does not wait forever
+                queue.put(new Chunk<>(null, -1, error));
+
+            } catch (InterruptedException ie) {
+                // the consumer has been closed while we were waiting
+                Thread.currentThread().interrupt();
+            } finally {
+                closeUpstream();
+            }
+
+        }
+
+        /** Read data.
+         * @param destination destination array
+         * @param offset offset in destination array
+         * @param length maximum number of elements to read
+         * @return number of elements read, or -1 at end of data
+         * @exception IOException if data cannot be read
+         */
+        int read(final A destination, final int offset, final int length) throws IOException {
+
+            if (length == 0) {
+                return 0;
+            }
+
+            while (current == null || current.length >= 0 && position >= current.length) {
+                if (current != null) {
+                    // release the exhausted array so the producer can reuse it
+                    recycled.offer(current.data);
+                }
+                try {
+                    current  = queue.take();
+                    position = 0;
+                } catch (InterruptedException ie) {
+                    Thread.currentThread().interrupt();
+                    throw new InterruptedIOException(ie.getLocalizedMessage());
+                }
+            }
+
+            if (current.error instanceof IOException) {
+                throw (IOException) current.error;
+            } else if (current.error instanceof RuntimeException) {
+                throw (RuntimeException) current.error;
+            } else if (current.error != null) {
+                throw (Error) current.error;
+            } else if (current.length < 0) {
+                // end of data
+                return -1;
+            }
+
+            final int n = FastMath.min(length, current.length - position);
+            System.arraycopy(current.data, position, destination, offset, n);
+            position += n;
+            return n;
+
+        }
+
+        /** Close the pipe. */
+        void close() {
+            if (started.getAndSet(true)) {
+                // the producer is running or has completed, it will close upstream itself
+                producer.cancel(true);
+            } else {
+                // the producer will never run, we have to close upstream ourselves
+                producer.cancel(false);
+                closeUpstream();
+            }
+            queue.clear();
+            recycled.clear();
+            current = new Chunk<>(null, -1, null);
+        }
+
+        /** Close upstream data, ignoring errors. */
+        private void closeUpstream() {
+            try {
+                upstream.close();
+            } catch (IOException ioe) {
+                // ignored, as the data is not needed anymore
+            }
+        }
+
+    }
+
+    /** Input stream for one pipeline stage. */
+    private class StageInputStream extends InputStream {
+
+        /** Pipe to upstream stage. */
+        private final Pipe<byte[]> pipe;
+
+        /** Buffer for single byte reads. */
+        private final byte[] single;
+
+        /** Simple constructor.
+         * @param upstream upstream stream
+         */
+        StageInputStream(final InputStream upstream) {
+            this.pipe   = new Pipe<>(upstream, upstream::read, byte[]::new);
+            this.single = new byte[1];
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        public int read() throws IOException {
+            for (int n = 0; n == 0;) {
+                n = pipe.read(single, 0, 1);
+                if (n < 0) {
+                    return -1;
+                }
+            }
+            return single[0] & 0xFF;
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        public int read(final byte[] b, final int off, final int len) throws IOException {
+            return pipe.read(b, off, len);
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        public void close() {
+            pipe.close();
+        }
+
+    }
+
+    /** Reader for one pipeline stage. */
+    private class StageReader extends Reader {
+
+        /** Pipe to upstream stage. */
+        private final Pipe<char[]> pipe;
+
+        /** Simple constructor.
+         * @param upstream upstream reader
+         */
+        StageReader(final Reader upstream) {
+            this.pipe = new Pipe<>(upstream, upstream::read, char[]::new);
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        public int read(final char[] cbuf, final int off, final int len) throws IOException {
+            return pipe.read(cbuf, off, len);
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        public void close() {
+            pipe.close();
+        }
+
+    }
+
+}
@@ -25,7 +25,10 @@ import org.hipparchus.optim.nonlinear.vector.leastsquares.MultivariateJacobianFu
 import org.hipparchus.util.FastMath;
 import org.hipparchus.util.Incrementor;
 import org.hipparchus.util.Pair;
+import org.orekit.errors.OrekitException;
+import org.orekit.errors.OrekitMessages;
 import org.orekit.estimation.measurements.EstimatedMeasurement;
+import org.orekit.estimation.measurements.ObservableSatellite;
 import org.orekit.estimation.measurements.ObservedMeasurement;
 import org.orekit.orbits.Orbit;
 import org.orekit.propagation.MatricesHarvester;
@@ -49,6 +52,7 @@ import java.util.HashMap;
 import java.util.IdentityHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ExecutorService;
 
 /** Bridge between {@link ObservedMeasurement measurements} and {@link
  * org.hipparchus.optim.nonlinear.vector.leastsquares.LeastSquaresProblem
@@ -61,6 +65,11 @@ import java.util.Map;
  */
 public abstract class AbstractBatchLSModel implements MultivariateJacobianFunction {
 
+    /** Marker for columns not yet assigned to a block.
+     * @since 13.2
+     */
+    private static final int UNASSIGNED = -2;
+
     /** Builders for propagators. */
     private final PropagatorBuilder[] builders;
 
@@ -125,9 +134,34 @@ public abstract class AbstractBatchLSModel implements MultivariateJacobianFuncti
      */
     private final MatricesHarvester[] harvesters;
 
-    /** Model function Jacobian. */
+    /** Model function Jacobian (lazily allocated, never allocated in block-sparse mode). */
     private RealMatrix jacobian;
 
+    /** Number of columns in the Jacobian.
+     * @since 13.2
+     */
+    private final int nbColumns;
+
+    /** Block-sparse normal equations (null in dense Jacobian mode).
+     * @since 13.2
+     */
+    private BlockSparseNormalEquations normalEquations;
+
+    /** Executor for parallel measurements evaluation (null for serial evaluation).
+     * @since 13.2
+     */
+    private ExecutorService executorService;
+
+    /** Maximum number of threads working simultaneously, including the calling thread.
+     * @since 13.2
+     */
+    private int maxWorkers;
+
+    /** Number of measurements buffered before parallel evaluation.
+     * @since 13.2
+     */
+    private int batchSize;
+
     /**
      * Constructor.
      * @param propagatorBuilders builders to use for propagation
@@ -212,9 +246,10 @@ public abstract class AbstractBatchLSModel implements MultivariateJacobianFuncti
             }
         }
 
-        // Initialize point and value
-        value    = new ArrayRealVector(rows);
-        jacobian = MatrixUtils.createRealMatrix(rows, columns);
+        // Initialize point and value (Jacobian is allocated lazily as it may be huge)
+        value     = new ArrayRealVector(rows);
+        jacobian  = null;
+        nbColumns = columns;
 
         // Decide whether the propagation will be done forward or backward.
         // Minimize the duration between first measurement treated and orbit determination date
@@ -230,6 +265,189 @@ public abstract class AbstractBatchLSModel implements MultivariateJacobianFuncti
         forwardPropagation = FastMath.abs(refDate.durationFrom(firstDate)) <= FastMath.abs(refDate.durationFrom(lastDate));
     }
 
+    /** Set up parallel evaluation of measurements.
+     * <p>
+     * By default, measurements are evaluated serially, as soon as the propagation
+     * reaches their dates. When an executor is set, the interpolated states are
+     * buffered until {@code batchSize} measurements are pending (or propagation
+     * ends), then the measurements and their derivatives are {@link
+     * ObservedMeasurement#estimate(int, int, SpacecraftState[]) estimated} in
+     * parallel. Residuals and Jacobian rows are always assembled in chronological
+     * order in the calling thread, so the result is the same as with serial
+     * evaluation. Measurements and their modifiers must be safe to estimate
+     * concurrently when this mode is used.
+     * </p>
+     * @param executor executor running the evaluations (will <em>not</em>
+     * be shut down by the model), null for serial evaluation
+     * @param workers maximum number of threads working simultaneously, including the calling thread
+     * @param size number of measurements buffered before parallel evaluation
+     * @since 13.2
+     */
+    public void setParallelMeasurementsEvaluation(final ExecutorService executor,
+                                                  final int workers, final int size) {
+        if (executor != null) {
+            if (workers < 1) {
+                throw new OrekitException(OrekitMessages.NOT_STRICTLY_POSITIVE, workers);
+            }
+            if (size < 1) {
+                throw new OrekitException(OrekitMessages.NOT_STRICTLY_POSITIVE, size);
+            }
+        }
+        this.executorService = executor;
+        this.maxWorkers      = workers;
+        this.batchSize       = size;
+    }
+
+    /** Get the executor for parallel measurements evaluation.
+     * @return executor for parallel measurements evaluation (null for serial evaluation)
+     * @since 13.2
+     */
+    ExecutorService getExecutorService() {
+        return executorService;
+    }
+
+    /** Get the maximum number of threads working simultaneously, including the calling thread.
+     * @return maximum number of threads working simultaneously, including the calling thread
+     * @since 13.2
+     */
+    int getMaxWorkers() {
+        return maxWorkers;
+    }
+
+    /** Get the number of measurements buffered before parallel evaluation.
+     * @return number of measurements buffered before parallel evaluation
+     * @since 13.2
+     */
+    int getBatchSize() {
+        return batchSize;
+    }
+
+    /** Select accumulation of block-sparse normal equations instead of dense Jacobian.
+     * <p>
+     * In block-sparse mode, the m×n Jacobian is never allocated and the {@link
+     * #value(RealVector)} method returns a null Jacobian. The normal equations are
+     * accumulated measurement by measurement in blocks: one independent block for
+     * each group of spacecraft linked by multi-satellites measurements (holding their
+     * orbital and propagation parameters, and the measurements parameters seen only by
+     * this group), plus one global block for parameters shared between groups. This
+     * mode is intended to be used with {@link BlockSparseGaussNewtonOptimizer}.
+     * </p>
+     * @param blockSparse if true, block-sparse normal equations are accumulated
+     * instead of dense Jacobian
+     * @since 13.2
+     */
+    public void setBlockSparseNormalEquations(final boolean blockSparse) {
+
+        if (!blockSparse) {
+            normalEquations = null;
+            return;
+        }
+
+        // identify groups of propagators linked by multi-satellites measurements
+        final int[] parent = new int[builders.length];
+        for (int p = 0; p < parent.length; ++p) {
+            parent[p] = p;
+        }
+        int maxDimension = 1;
+        for (final ObservedMeasurement<?> measurement : measurements) {
+            maxDimension = FastMath.max(maxDimension, measurement.getDimension());
+            final int p0 = measurement.getSatellites().get(0).getPropagatorIndex();
+            for (final ObservableSatellite satellite : measurement.getSatellites()) {
+                parent[findRoot(parent, satellite.getPropagatorIndex())] = findRoot(parent, p0);
+            }
+        }
+        final int[] group  = new int[builders.length];
+        final int[] number = new int[builders.length];
+        Arrays.fill(number, -1);
+        int nbBlocks = 0;
+        for (int p = 0; p < builders.length; ++p) {
+            final int root = findRoot(parent, p);
+            if (number[root] < 0) {
+                number[root] = nbBlocks++;
+            }
+            group[p] = number[root];
+        }
+
+        // orbital parameters belong to their propagator group
+        final int[] blocks = new int[nbColumns];
+        Arrays.fill(blocks, UNASSIGNED);
+        for (int p = 0; p < builders.length; ++p) {
+            for (int j = orbitsStartColumns[p]; j < orbitsEndColumns[p]; ++j) {
+                blocks[j] = group[p];
+            }
+        }
+
+        // propagation parameters are global if shared between several groups
+        for (int p = 0; p < builders.length; ++p) {
+            for (final DelegatingDriver delegating : getSelectedPropagationDriversForBuilder(p).getDrivers()) {
+                for (Span<String> span = delegating.getNamesSpanMap().getFirstSpan(); span != null; span = span.next()) {
+                    assignBlock(blocks, propagationParameterColumns.get(span.getData()), group[p]);
+                }
+            }
+        }
+
+        // measurements parameters are global if seen by several groups
+        for (final ObservedMeasurement<?> measurement : measurements) {
+            final int g = group[measurement.getSatellites().get(0).getPropagatorIndex()];
+            for (final ParameterDriver driver : measurement.getParametersDrivers()) {
+                if (driver.isSelected()) {
+                    for (Span<String> span = driver.getNamesSpanMap().getFirstSpan(); span != null; span = span.next()) {
+                        assignBlock(blocks, measurementParameterColumns.get(span.getData()), g);
+                    }
+                }
+            }
+        }
+
+        // parameters not seen by any measurement are considered global
+        for (int j = 0; j < blocks.length; ++j) {
+            if (blocks[j] == UNASSIGNED) {
+                blocks[j] = BlockSparseNormalEquations.GLOBAL;
+            }
+        }
+
+        normalEquations = new BlockSparseNormalEquations(blocks, nbBlocks, maxDimension);
+        jacobian        = null;
+
+    }
+
+    /** Find the root of a propagators group.
+     * @param parent parent links between propagators
+     * @param p propagator index
+     * @return index of the root propagator of the group
+     * @since 13.2
+     */
+    private static int findRoot(final int[] parent, final int p) {
+        int root = p;
+        while (parent[root] != root) {
+            root = parent[root];
+        }
+        return root;
+    }
+
+    /** Assign a column to a block.
+     * @param blocks blocks of all columns
+     * @param column column to assign (may be null if parameter is not estimated)
+     * @param block block seeing the parameter
+     * @since 13.2
+     */
+    private static void assignBlock(final int[] blocks, final Integer column, final int block) {
+        if (column != null) {
+            if (blocks[column] == UNASSIGNED) {
+                blocks[column] = block;
+            } else if (blocks[column] != block) {
+                blocks[column] = BlockSparseNormalEquations.GLOBAL;
+            }
+        }
+    }
+
+    /** Get the block-sparse normal equations.
+     * @return block-sparse normal equations (null in dense Jacobian mode)
+     * @since 13.2
+     */
+    BlockSparseNormalEquations getNormalEquations() {
+        return normalEquations;
+    }
+
     /** Set the counter for evaluations.
      * @param evaluationsCounter counter for evaluations
      */
@@ -284,9 +502,15 @@ public abstract class AbstractBatchLSModel implements MultivariateJacobianFuncti
         // Reset value and Jacobian
         evaluations.clear();
         value.set(0.0);
-        for (int i = 0; i < jacobian.getRowDimension(); ++i) {
-            for (int j = 0; j < jacobian.getColumnDimension(); ++j) {
-                jacobian.setEntry(i, j, 0.0);
+        if (normalEquations != null) {
+            normalEquations.clear();
+        } else if (jacobian == null) {
+            jacobian = MatrixUtils.createRealMatrix(value.getDimension(), nbColumns);
+        } else {
+            for (int i = 0; i < jacobian.getRowDimension(); ++i) {
+                for (int j = 0; j < jacobian.getColumnDimension(); ++j) {
+                    jacobian.setEntry(i, j, 0.0);
+                }
             }
         }
 
@@ -301,7 +525,8 @@ public abstract class AbstractBatchLSModel implements MultivariateJacobianFuncti
 
         observer.modelCalled(orbits, evaluations);
 
-        return new Pair<>(value, jacobian);
+        // in block-sparse mode, the Jacobian is not available, only the normal equations
+        return new Pair<>(value, normalEquations == null ? jacobian : null);
 
     }
 
@@ -420,23 +645,84 @@ public abstract class AbstractBatchLSModel implements MultivariateJacobianFuncti
      */
     public void fetchEvaluatedMeasurement(final int index, final EstimatedMeasurement<?> evaluation) {
 
-        // States and observed measurement
-        final SpacecraftState[]      evaluationStates    = evaluation.getStates();
-        final ObservedMeasurement<?> observedMeasurement = evaluation.getObservedMeasurement();
-
         // compute weighted residuals
-        evaluations.put(observedMeasurement, evaluation);
+        evaluations.put(evaluation.getObservedMeasurement(), evaluation);
         if (evaluation.getStatus() == EstimatedMeasurement.Status.REJECTED) {
             return;
         }
 
+        final double[] weighted = weightedResiduals(evaluation);
+        for (int i = 0; i < weighted.length; ++i) {
+            value.setEntry(index + i, weighted[i]);
+        }
+
+        fillJacobian(index, evaluation);
+
+        if (normalEquations != null) {
+            // accumulate the measurement into normal equations (residuals are observed minus theoretical)
+            for (int i = 0; i < weighted.length; ++i) {
+                weighted[i] = -weighted[i];
+            }
+            normalEquations.accumulateMeasurement(weighted);
+        }
+
+    }
+
+    /** Accumulate a measurement evaluation into normal equations, without storing it.
+     * <p>
+     * This method is intended for streaming estimation, where measurements are
+     * discarded as soon as they have been accumulated.
+     * </p>
+     * @param evaluation measurement evaluation
+     * @return true if the measurement was used, false if it was rejected
+     * @since 13.2
+     */
+    boolean accumulateEvaluatedMeasurement(final EstimatedMeasurement<?> evaluation) {
+
+        if (evaluation.getStatus() == EstimatedMeasurement.Status.REJECTED) {
+            return false;
+        }
+
+        final double[] weighted = weightedResiduals(evaluation);
+        fillJacobian(0, evaluation);
+        for (int i = 0; i < weighted.length; ++i) {
+            weighted[i] = -weighted[i];
+        }
+        normalEquations.accumulateMeasurement(weighted);
+        return true;
+
+    }
+
+    /** Compute weighted residuals (theoretical minus observed).
+     * @param evaluation measurement evaluation
+     * @return weighted residuals
+     * @since 13.2
+     */
+    private double[] weightedResiduals(final EstimatedMeasurement<?> evaluation) {
+        final ObservedMeasurement<?> observedMeasurement = evaluation.getObservedMeasurement();
         final double[] evaluated = evaluation.getEstimatedValue();
         final double[] observed  = observedMeasurement.getObservedValue();
         final double[] sigma     = observedMeasurement.getTheoreticalStandardDeviation();
-        final double[] weight    = evaluation.getObservedMeasurement().getBaseWeight();
+        final double[] weight    = observedMeasurement.getBaseWeight();
+        final double[] weighted  = new double[evaluated.length];
         for (int i = 0; i < evaluated.length; ++i) {
-            value.setEntry(index + i, weight[i] * (evaluated[i] - observed[i]) / sigma[i]);
+            weighted[i] = weight[i] * (evaluated[i] - observed[i]) / sigma[i];
         }
+        return weighted;
+    }
+
+    /** Fill the Jacobian rows of a measurement.
+     * @param index index of the measurement first component
+     * @param evaluation measurement evaluation
+     * @since 13.2
+     */
+    private void fillJacobian(final int index, final EstimatedMeasurement<?> evaluation) {
+
+        // States and observed measurement
+        final SpacecraftState[]      evaluationStates    = evaluation.getStates();
+        final ObservedMeasurement<?> observedMeasurement = evaluation.getObservedMeasurement();
+        final double[]               sigma               = observedMeasurement.getTheoreticalStandardDeviation();
+        final double[]               weight              = observedMeasurement.getBaseWeight();
 
         for (int k = 0; k < evaluationStates.length; ++k) {
 
@@ -467,8 +753,8 @@ public abstract class AbstractBatchLSModel implements MultivariateJacobianFuncti
                         final ParameterDriver driver =
                                         selectedOrbitalDrivers.getDrivers().get(j - orbitsStartColumns[p]);
                         final double partial = dMdY0.getEntry(i, orbitsJacobianColumns[j]);
-                        jacobian.setEntry(index + i, j,
-                                          weight[i] * partial / sigma[i] * driver.getScale());
+                        setJacobianEntry(index, i, j,
+                                         weight[i] * partial / sigma[i] * driver.getScale());
                     }
                 }
             }
@@ -493,8 +779,8 @@ public abstract class AbstractBatchLSModel implements MultivariateJacobianFuncti
                         final TimeSpanMap<String> delegatingNameSpanMap = delegating.getNamesSpanMap();
                         // get point entry for each span (for each estimated value), point is sorted
                         for (Span<String> currentNameSpan = delegatingNameSpanMap.getFirstSpan(); currentNameSpan != null; currentNameSpan = currentNameSpan.next()) {
-                            jacobian.addToEntry(index + i, propagationParameterColumns.get(currentNameSpan.getData()),
-                                    weight[i] * dMdPp.getEntry(i, col++) / sigma[i] * delegating.getScale());
+                            addToJacobianEntry(index, i, propagationParameterColumns.get(currentNameSpan.getData()),
+                                               weight[i] * dMdPp.getEntry(i, col++) / sigma[i] * delegating.getScale());
                         }
                     }
                 }
@@ -506,8 +792,8 @@ public abstract class AbstractBatchLSModel implements MultivariateJacobianFuncti
                 for (Span<String> span = driver.getNamesSpanMap().getFirstSpan(); span != null; span = span.next()) {
                     final double[] aMPm = evaluation.getParameterDerivatives(driver, span.getStart());
                     for (int i = 0; i < aMPm.length; ++i) {
-                        jacobian.setEntry(index + i, measurementParameterColumns.get(span.getData()),
-                                          weight[i] * aMPm[i] / sigma[i] * driver.getScale());
+                        setJacobianEntry(index, i, measurementParameterColumns.get(span.getData()),
+                                         weight[i] * aMPm[i] / sigma[i] * driver.getScale());
                     }
                 }
             }
@@ -515,6 +801,36 @@ public abstract class AbstractBatchLSModel implements MultivariateJacobianFuncti
 
     }
 
+    /** Set an entry in the Jacobian.
+     * @param index index of the measurement first component
+     * @param i index of the component within the measurement
+     * @param column column index
+     * @param v value to set
+     * @since 13.2
+     */
+    private void setJacobianEntry(final int index, final int i, final int column, final double v) {
+        if (normalEquations == null) {
+            jacobian.setEntry(index + i, column, v);
+        } else {
+            normalEquations.setEntry(i, column, v);
+        }
+    }
+
+    /** Add to an entry in the Jacobian.
+     * @param index index of the measurement first component
+     * @param i index of the component within the measurement
+     * @param column column index
+     * @param v value to add
+     * @since 13.2
+     */
+    private void addToJacobianEntry(final int index, final int i, final int column, final double v) {
+        if (normalEquations == null) {
+            jacobian.addToEntry(index + i, column, v);
+        } else {
+            normalEquations.addToEntry(i, column, v);
+        }
+    }
+
     /** Configure the multi-satellites handler to handle measurements.
      * @param point evaluation point
      * @return multi-satellites handler to handle measurements
@@ -522,13 +838,7 @@ public abstract class AbstractBatchLSModel implements MultivariateJacobianFuncti
     private MultiSatStepHandler configureMeasurements(final RealVector point) {
 
         // Set up the measurement parameters
-        int index = orbitsEndColumns[builders.length - 1] + propagationParameterColumns.size();
-        for (final ParameterDriver parameter : estimatedMeasurementsParameters.getDrivers()) {
-
-            for (Span<Double> span = parameter.getValueSpanMap().getFirstSpan(); span != null; span = span.next()) {
-                parameter.setNormalizedValue(point.getEntry(index++), span.getStart());
-            }
-        }
+        setMeasurementsParameters(point);
 
         // Set up measurements handler
         final List<PreCompensation> precompensated = new ArrayList<>();
@@ -552,6 +862,61 @@ public abstract class AbstractBatchLSModel implements MultivariateJacobianFuncti
 
     }
 
+    /** Set up the measurements parameters.
+     * @param point evaluation point
+     * @since 13.2
+     */
+    private void setMeasurementsParameters(final RealVector point) {
+        int index = orbitsEndColumns[builders.length - 1] + propagationParameterColumns.size();
+        for (final ParameterDriver parameter : estimatedMeasurementsParameters.getDrivers()) {
+
+            for (Span<Double> span = parameter.getValueSpanMap().getFirstSpan(); span != null; span = span.next()) {
+                parameter.setNormalizedValue(point.getEntry(index++), span.getStart());
+            }
+        }
+    }
+
+    /** Accumulate normal equations from streamed measurements.
+     * <p>
+     * The measurements are not stored in the model, the handler is expected to
+     * evaluate them during propagation and to call {@link
+     * #accumulateEvaluatedMeasurement(EstimatedMeasurement)} for each one.
+     * </p>
+     * @param point evaluation point
+     * @param handler handler evaluating the streamed measurements
+     * @param accumulator accumulator for normal equations (will be cleared first)
+     * @param start propagation start date
+     * @param end propagation end date
+     * @return orbits at evaluation point
+     * @since 13.2
+     */
+    Orbit[] accumulateStreamedMeasurements(final RealVector point, final MultiSatStepHandler handler,
+                                           final BlockSparseNormalEquations accumulator,
+                                           final AbsoluteDate start, final AbsoluteDate end) {
+
+        // Set up the propagators parallelizer
+        final Propagator[] propagators = createPropagators(point);
+        final Orbit[] orbits = new Orbit[propagators.length];
+        for (int i = 0; i < propagators.length; ++i) {
+            harvesters[i] = configureHarvester(propagators[i]);
+            orbits[i]     = configureOrbits(harvesters[i], propagators[i]);
+        }
+        setMeasurementsParameters(point);
+
+        // Run the propagation, accumulating normal equations on the fly
+        final BlockSparseNormalEquations saved = normalEquations;
+        try {
+            normalEquations = accumulator;
+            accumulator.clear();
+            new PropagatorsParallelizer(Arrays.asList(propagators), handler).propagate(start, end);
+        } finally {
+            normalEquations = saved;
+        }
+
+        return orbits;
+
+    }
+
     /** Get the iterations count.
      * @return iterations count
      */
@@ -22,6 +22,7 @@ import java.util.Collections;
 import java.util.Comparator;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ExecutorService;
 
 import org.hipparchus.exception.LocalizedCoreFormats;
 import org.hipparchus.exception.MathIllegalArgumentException;
@@ -37,6 +38,7 @@ import org.hipparchus.optim.nonlinear.vector.leastsquares.LeastSquaresProblem;
 import org.hipparchus.optim.nonlinear.vector.leastsquares.ParameterValidator;
 import org.hipparchus.util.Incrementor;
 import org.orekit.errors.OrekitException;
+import org.orekit.errors.OrekitMessages;
 import org.orekit.estimation.measurements.EstimatedMeasurement;
 import org.orekit.estimation.measurements.EstimationsProvider;
 import org.orekit.estimation.measurements.ObservedMeasurement;
@@ -104,6 +106,21 @@ public class BatchLSEstimator {
     /** Counter for the iterations. */
     private Incrementor iterationsCounter;
 
+    /** Executor for parallel measurements evaluation (null for serial evaluation).
+     * @since 13.2
+     */
+    private ExecutorService executorService;
+
+    /** Maximum number of threads working simultaneously, including the calling thread.
+     * @since 13.2
+     */
+    private int maxWorkers;
+
+    /** Number of measurements buffered before parallel evaluation.
+     * @since 13.2
+     */
+    private int batchSize;
+
     /** Simple constructor.
      * <p>
      * If multiple {@link PropagatorBuilder propagator builders} are set up,
@@ -120,6 +137,11 @@ public class BatchLSEstimator {
      * navigation bulletins are not considered accurate enough and the navigation
      * constellation must be propagated numerically.
      * </p>
+     * <p>
+     * For large problems (many spacecraft and many measurements parameters),
+     * a {@link BlockSparseGaussNewtonOptimizer} can be used, which avoids
+     * storing the full Jacobian.
+     * </p>
      * @param optimizer solver for least squares problem
      * @param propagatorBuilder builders to use for propagation
      */
@@ -161,6 +183,39 @@ public class BatchLSEstimator {
         measurements.add(measurement);
     }
 
+    /** Set up parallel evaluation of measurements.
+     * <p>
+     * By default, measurements are evaluated serially as propagation goes on.
+     * When an executor is set, measurements are buffered by batches of
+     * {@code batchSize} and estimated in parallel, residuals and Jacobian
+     * being assembled deterministically in chronological order. This is
+     * worth it when measurements modeling (modifiers for troposphere,
+     * ionosphere, relativistic effects, phase centers…) dominates the
+     * computation time. Measurements and their modifiers must be safe to
+     * estimate concurrently when this mode is used.
+     * </p>
+     * @param executor executor running the evaluations (will <em>not</em>
+     * be shut down by the estimator), null for serial evaluation
+     * @param workers maximum number of threads working simultaneously, including the calling thread
+     * @param size number of measurements buffered before parallel evaluation
+     * @see AbstractBatchLSModel#setParallelMeasurementsEvaluation(ExecutorService, int, int)
+     * @since 13.2
+     */
+    public void setParallelMeasurementsEvaluation(final ExecutorService executor,
+                                                  final int workers, final int size) {
+        if (executor != null) {
+            if (workers < 1) {
+                throw new OrekitException(OrekitMessages.NOT_STRICTLY_POSITIVE, workers);
+            }
+            if (size < 1) {
+                throw new OrekitException(OrekitMessages.NOT_STRICTLY_POSITIVE, size);
+            }
+        }
+        this.executorService = executor;
+        this.maxWorkers      = workers;
+        this.batchSize       = size;
+    }
+
     /** Set the maximum number of iterations.
      * <p>
      * The iterations correspond to the top level iterations of
@@ -436,6 +491,8 @@ public class BatchLSEstimator {
             }
         };
         final AbstractBatchLSModel model = builders[0].buildLeastSquaresModel(builders, measurements, estimatedMeasurementsParameters, modelObserver);
+        model.setParallelMeasurementsEvaluation(executorService, maxWorkers, batchSize);
+        model.setBlockSparseNormalEquations(optimizer instanceof BlockSparseGaussNewtonOptimizer);
 
         lsBuilder.model(model);
 
@@ -642,7 +699,12 @@ public class BatchLSEstimator {
         public Evaluation evaluate(final RealVector point) {
 
             // perform the evaluation
-            final Evaluation evaluation = problem.evaluate(point);
+            // (normal equations are accumulated in a buffer reused by all evaluations,
+            //  so we keep a snapshot as the optimizer may still use this evaluation later on)
+            final Evaluation raw        = problem.evaluate(point);
+            final Evaluation evaluation = model.getNormalEquations() == null ?
+                                          raw :
+                                          new BlockSparseEvaluation(raw, model.getNormalEquations().snapshot());
 
             // notify the observer
             if (observer != null) {
@@ -0,0 +1,89 @@
+/* Copyright 2002-2025 CS GROUP
+ * Licensed to CS GROUP (CS) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * CS licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.orekit.estimation.leastsquares;
+
+import org.hipparchus.exception.LocalizedCoreFormats;
+import org.hipparchus.linear.QRDecomposition;
+import org.hipparchus.linear.RealMatrix;
+import org.hipparchus.linear.RealVector;
+import org.hipparchus.optim.nonlinear.vector.leastsquares.AbstractEvaluation;
+import org.hipparchus.optim.nonlinear.vector.leastsquares.LeastSquaresProblem.Evaluation;
+import org.orekit.errors.OrekitException;
+
+/** Least squares evaluation backed by block-sparse normal equations.
+ * <p>
+ * As the Jacobian is not stored, {@link #getJacobian()} is not supported,
+ * covariances are computed from the normal equations.
+ * </p>
+ * @author Luc Maisonobe
+ * @since 13.2
+ */
+class BlockSparseEvaluation extends AbstractEvaluation {
+
+    /** Underlying evaluation (with a null Jacobian). */
+    private final Evaluation evaluation;
+
+    /** Normal equations at evaluation point. */
+    private final BlockSparseNormalEquations normalEquations;
+
+    /** Simple constructor.
+     * @param evaluation underlying evaluation (with a null Jacobian)
+     * @param normalEquations normal equations at evaluation point
+     */
+    BlockSparseEvaluation(final Evaluation evaluation, final BlockSparseNormalEquations normalEquations) {
+        super(evaluation.getResiduals().getDimension());
+        this.evaluation      = evaluation;
+        this.normalEquations = normalEquations;
+    }
+
+    /** Get the normal equations at evaluation point.
+     * @return normal equations at evaluation point
+     */
+    BlockSparseNormalEquations getNormalEquations() {
+        return normalEquations;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public RealMatrix getCovariances(final double threshold) {
+        // the normal matrix is already J^T.J
+        return new QRDecomposition(normalEquations.getNormalMatrix(), threshold).getSolver().getInverse();
+    }
+
+    /** {@inheritDoc}
+     * <p>
+     * This method is not supported as the Jacobian is not stored.
+     * </p>
+     */
+    @Override
+    public RealMatrix getJacobian() {
+        throw new OrekitException(LocalizedCoreFormats.UNSUPPORTED_OPERATION);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public RealVector getResiduals() {
+        return evaluation.getResiduals();
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public RealVector getPoint() {
+        return evaluation.getPoint();
+    }
+
+}
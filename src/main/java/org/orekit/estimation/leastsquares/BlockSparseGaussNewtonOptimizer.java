@@ -0,0 +1,98 @@
+/* Copyright 2002-2025 CS GROUP
+ * Licensed to CS GROUP (CS) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * CS licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.orekit.estimation.leastsquares;
+
+import org.hipparchus.exception.LocalizedCoreFormats;
+import org.hipparchus.linear.RealVector;
+import org.hipparchus.optim.ConvergenceChecker;
+import org.hipparchus.optim.nonlinear.vector.leastsquares.LeastSquaresOptimizer;
+import org.hipparchus.optim.nonlinear.vector.leastsquares.LeastSquaresProblem;
+import org.hipparchus.optim.nonlinear.vector.leastsquares.LeastSquaresProblem.Evaluation;
+import org.hipparchus.util.Incrementor;
+import org.hipparchus.util.MathUtils;
+import org.orekit.errors.OrekitException;
+
+/** Gauss-Newton optimizer working on block-sparse normal equations.
+ * <p>
+ * When this optimizer is used by {@link BatchLSEstimator}, the estimation model
+ * never allocates the full m×n Jacobian. Normal equations are accumulated
+ * measurement by measurement in a block-arrow structure: one independent block
+ * for each group of spacecraft linked by multi-satellites measurements, and one
+ * global block for parameters shared between groups (station positions, Earth
+ * orientation corrections…). Each step is computed by eliminating the independent
+ * blocks with Cholesky decompositions and solving the Schur complement on the
+ * global block. This is intended for large constellations orbit determination,
+ * where the dense Jacobian does not fit in memory.
+ * </p>
+ * <p>
+ * This optimizer can only be used with {@link BatchLSEstimator}, it does not
+ * support general {@link LeastSquaresProblem least squares problems}. As the
+ * Jacobian is not stored, {@link Evaluation#getJacobian()} is not supported
+ * by the evaluations and the optimum, but covariances are available.
+ * </p>
+ * @author Luc Maisonobe
+ * @since 13.2
+ */
+public class BlockSparseGaussNewtonOptimizer implements LeastSquaresOptimizer {
+
+    /** Simple constructor.
+     */
+    public BlockSparseGaussNewtonOptimizer() {
+        // nothing to do
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public Optimum optimize(final LeastSquaresProblem lsp) {
+
+        // create local evaluation and iteration counts
+        final Incrementor evaluationCounter = lsp.getEvaluationCounter();
+        final Incrementor iterationCounter  = lsp.getIterationCounter();
+        final ConvergenceChecker<Evaluation> checker = lsp.getConvergenceChecker();
+
+        // Computation will be useless without a checker (see "for-loop")
+        MathUtils.checkNotNull(checker);
+
+        RealVector currentPoint = lsp.getStart();
+        Evaluation current      = null;
+        while (true) {
+
+            iterationCounter.increment();
+
+            // evaluate the objective function and its normal equations
+            final Evaluation previous = current;
+            evaluationCounter.increment();
+            current = lsp.evaluate(currentPoint);
+            if (!(current instanceof BlockSparseEvaluation)) {
+                throw new OrekitException(LocalizedCoreFormats.UNSUPPORTED_OPERATION);
+            }
+            currentPoint = current.getPoint();
+
+            // check convergence
+            if (previous != null &&
+                checker.converged(iterationCounter.getCount(), previous, current)) {
+                return Optimum.of(current, evaluationCounter.getCount(), iterationCounter.getCount());
+            }
+
+            // solve the normal equations and update the point
+            currentPoint = currentPoint.add(((BlockSparseEvaluation) current).getNormalEquations().solve());
+
+        }
+
+    }
+
+}
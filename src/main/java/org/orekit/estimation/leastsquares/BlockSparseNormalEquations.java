@@ -0,0 +1,499 @@
+/* Copyright 2002-2025 CS GROUP
+ * Licensed to CS GROUP (CS) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * CS licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.orekit.estimation.leastsquares;
+
+import java.util.Arrays;
+
+import org.hipparchus.linear.Array2DRowRealMatrix;
+import org.hipparchus.linear.ArrayRealVector;
+import org.hipparchus.linear.CholeskyDecomposition;
+import org.hipparchus.linear.DecompositionSolver;
+import org.hipparchus.linear.RealMatrix;
+import org.hipparchus.linear.RealVector;
+import org.orekit.errors.OrekitInternalError;
+
+/** Block-sparse accumulator for least squares normal equations.
+ * <p>
+ * Estimated parameters are split in independent blocks (typically the orbital
+ * and propagation parameters of one spacecraft, together with the measurements
+ * parameters that only this spacecraft sees) and one global block (shared
+ * parameters like station positions or Earth orientation corrections). No
+ * measurement is allowed to depend on parameters from two different independent
+ * blocks, hence the normal matrix J<sup>T</sup>J has a block-arrow structure:
+ * only the diagonal blocks, the global block and the coupling between each block
+ * and the global block are stored. The full m×n Jacobian is never stored either,
+ * as measurements rows are accumulated one at a time.
+ * </p>
+ * <p>
+ * The system is solved by eliminating each independent block (using Cholesky
+ * decomposition) and then solving the Schur complement on the global block.
+ * </p>
+ * @author Luc Maisonobe
+ * @since 13.2
+ */
+class BlockSparseNormalEquations {
+
+    /** Block index for global parameters. */
+    static final int GLOBAL = -1;
+
+    /** Relative symmetry threshold for Cholesky decompositions. */
+    private static final double SYMMETRY_THRESHOLD = 1.0e-10;
+
+    /** Absolute positivity threshold for Cholesky decompositions.
+     * <p>
+     * Normalized normal equations may have very small diagonal elements
+     * for weakly observable parameters, so only non-positive pivots are rejected.
+     * </p>
+     */
+    private static final double POSITIVITY_THRESHOLD = 0.0;
+
+    /** Block index of each column. */
+    private final int[] blocks;
+
+    /** Index of each column within its block. */
+    private final int[] indices;
+
+    /** Columns of each block. */
+    private final int[][] blockColumns;
+
+    /** Global columns. */
+    private final int[] globalColumns;
+
+    /** Diagonal part of the normal matrix for each block. */
+    private final double[][][] nBB;
+
+    /** Coupling part of the normal matrix between each block and global parameters. */
+    private final double[][][] nBG;
+
+    /** Right hand side of normal equations for each block. */
+    private final double[][] rB;
+
+    /** Global part of the normal matrix. */
+    private final double[][] nGG;
+
+    /** Right hand side of normal equations for global parameters. */
+    private final double[] rG;
+
+    /** Rows of the current measurement. */
+    private final double[][] rows;
+
+    /** Flags for columns used by the current measurement. */
+    private final boolean[] used;
+
+    /** Columns used by the current measurement. */
+    private final int[] usedColumns;
+
+    /** Number of columns used by the current measurement. */
+    private int nbUsed;
+
+    /** Sum of squares of accumulated residuals. */
+    private double sumOfSquares;
+
+    /** Number of accumulated rows. */
+    private int nbRows;
+
+    /** Simple constructor.
+     * @param blocks block index of each column, between 0 and {@code nbBlocks - 1},
+     * or {@link #GLOBAL} for global parameters
+     * @param nbBlocks number of independent blocks
+     * @param maxDimension maximum dimension of measurements
+     */
+    BlockSparseNormalEquations(final int[] blocks, final int nbBlocks, final int maxDimension) {
+
+        final int n = blocks.length;
+        this.blocks  = blocks.clone();
+        this.indices = new int[n];
+
+        // sort columns by blocks
+        final int[] blockSizes = new int[nbBlocks];
+        int         nbGlobal   = 0;
+        for (int j = 0; j < n; ++j) {
+            indices[j] = blocks[j] == GLOBAL ? nbGlobal++ : blockSizes[blocks[j]]++;
+        }
+        this.blockColumns  = new int[nbBlocks][];
+        this.globalColumns = new int[nbGlobal];
+        for (int b = 0; b < nbBlocks; ++b) {
+            blockColumns[b] = new int[blockSizes[b]];
+        }
+        for (int j = 0; j < n; ++j) {
+            if (blocks[j] == GLOBAL) {
+                globalColumns[indices[j]] = j;
+            } else {
+                blockColumns[blocks[j]][indices[j]] = j;
+            }
+        }
+
+        // allocate normal equations
+        this.nBB = new double[nbBlocks][][];
+        this.nBG = new double[nbBlocks][][];
+        this.rB  = new double[nbBlocks][];
+        for (int b = 0; b < nbBlocks; ++b) {
+            nBB[b] = new double[blockSizes[b]][blockSizes[b]];
+            nBG[b] = new double[blockSizes[b]][nbGlobal];
+            rB[b]  = new double[blockSizes[b]];
+        }
+        this.nGG = new double[nbGlobal][nbGlobal];
+        this.rG  = new double[nbGlobal];
+
+        // allocate current measurement buffer
+        this.rows        = new double[maxDimension][n];
+        this.used        = new boolean[n];
+        this.usedColumns = new int[n];
+        this.nbUsed      = 0;
+
+    }
+
+    /** Copy constructor for snapshots.
+     * <p>
+     * Only the accumulated normal equations are copied, the snapshot
+     * cannot be used to accumulate new measurements.
+     * </p>
+     * @param original normal equations to copy
+     */
+    private BlockSparseNormalEquations(final BlockSparseNormalEquations original) {
+
+        // column organization is never modified after construction and can be shared
+        this.blocks        = original.blocks;
+        this.indices       = original.indices;
+        this.blockColumns  = original.blockColumns;
+        this.globalColumns = original.globalColumns;
+
+        // copy accumulated normal equations
+        this.nBB = new double[original.nBB.length][][];
+        this.nBG = new double[original.nBG.length][][];
+        this.rB  = new double[original.rB.length][];
+        for (int b = 0; b < nBB.length; ++b) {
+            nBB[b] = copy(original.nBB[b]);
+            nBG[b] = copy(original.nBG[b]);
+            rB[b]  = original.rB[b].clone();
+        }
+        this.nGG          = copy(original.nGG);
+        this.rG           = original.rG.clone();
+        this.sumOfSquares = original.sumOfSquares;
+        this.nbRows       = original.nbRows;
+
+        // no current measurement buffer
+        this.rows        = new double[0][];
+        this.used        = new boolean[0];
+        this.usedColumns = new int[0];
+        this.nbUsed      = 0;
+
+    }
+
+    /** Create a snapshot of the accumulated normal equations.
+     * <p>
+     * The snapshot is independent of the instance, which can therefore be
+     * cleared and used to accumulate new measurements without changing it.
+     * It is intended to be {@link #solve() solved}, it cannot be used to
+     * accumulate measurements itself.
+     * </p>
+     * @return snapshot of the accumulated normal equations
+     */
+    BlockSparseNormalEquations snapshot() {
+        return new BlockSparseNormalEquations(this);
+    }
+
+    /** Deep copy of a two-dimensional array.
+     * @param array array to copy
+     * @return copy of the array
+     */
+    private static double[][] copy(final double[][] array) {
+        final double[][] copied = new double[array.length][];
+        for (int i = 0; i < array.length; ++i) {
+            copied[i] = array[i].clone();
+        }
+        return copied;
+    }
+
+    /** Get the number of independent blocks.
+     * @return number of independent blocks
+     */
+    int getNbBlocks() {
+        return blockColumns.length;
+    }
+
+    /** Get the number of global parameters.
+     * @return number of global parameters
+     */
+    int getNbGlobal() {
+        return globalColumns.length;
+    }
+
+    /** Reset the normal equations.
+     */
+    void clear() {
+        for (int b = 0; b < nBB.length; ++b) {
+            for (final double[] row : nBB[b]) {
+                Arrays.fill(row, 0.0);
+            }
+            for (final double[] row : nBG[b]) {
+                Arrays.fill(row, 0.0);
+            }
+            Arrays.fill(rB[b], 0.0);
+        }
+        for (final double[] row : nGG) {
+            Arrays.fill(row, 0.0);
+        }
+        Arrays.fill(rG, 0.0);
+        sumOfSquares = 0.0;
+        nbRows       = 0;
+        resetMeasurement();
+    }
+
+    /** Get the sum of squares of accumulated residuals.
+     * @return sum of squares of accumulated residuals
+     */
+    double getSumOfSquares() {
+        return sumOfSquares;
+    }
+
+    /** Get the number of accumulated rows.
+     * @return number of accumulated rows
+     */
+    int getNbRows() {
+        return nbRows;
+    }
+
+    /** Add prior information to the normal equations.
+     * <p>
+     * The information matrix must not couple parameters from different independent blocks.
+     * </p>
+     * @param information information matrix (i.e. inverse of covariance matrix)
+     * @param rhs right hand side to add (information matrix multiplied by prior offset)
+     */
+    void addInformation(final RealMatrix information, final RealVector rhs) {
+        for (int c1 = 0; c1 < blocks.length; ++c1) {
+            final int i1 = indices[c1];
+            if (blocks[c1] == GLOBAL) {
+                rG[i1] += rhs.getEntry(c1);
+            } else {
+                rB[blocks[c1]][i1] += rhs.getEntry(c1);
+            }
+            for (int c2 = 0; c2 < blocks.length; ++c2) {
+                final double v = information.getEntry(c1, c2);
+                if (blocks[c2] == GLOBAL) {
+                    if (blocks[c1] == GLOBAL) {
+                        nGG[i1][indices[c2]] += v;
+                    } else {
+                        nBG[blocks[c1]][i1][indices[c2]] += v;
+                    }
+                } else if (blocks[c1] == blocks[c2]) {
+                    nBB[blocks[c1]][i1][indices[c2]] += v;
+                } else if (blocks[c1] != GLOBAL && v != 0.0) {
+                    // the information matrix couples independent blocks
+                    throw new OrekitInternalError(null);
+                }
+            }
+        }
+    }
+
+    /** Set an entry in the current measurement Jacobian.
+     * @param i index of the measurement component
+     * @param column column index
+     * @param v value to set
+     */
+    void setEntry(final int i, final int column, final double v) {
+        use(column);
+        rows[i][column] = v;
+    }
+
+    /** Add to an entry in the current measurement Jacobian.
+     * @param i index of the measurement component
+     * @param column column index
+     * @param v value to add
+     */
+    void addToEntry(final int i, final int column, final double v) {
+        use(column);
+        rows[i][column] += v;
+    }
+
+    /** Mark a column as used by current measurement.
+     * @param column column index
+     */
+    private void use(final int column) {
+        if (!used[column]) {
+            used[column]          = true;
+            usedColumns[nbUsed++] = column;
+        }
+    }
+
+    /** Accumulate the current measurement into the normal equations.
+     * <p>
+     * The current measurement buffer is reset after accumulation.
+     * </p>
+     * @param residuals weighted residuals of the measurement
+     */
+    void accumulateMeasurement(final double[] residuals) {
+
+        // identify the block of the measurement
+        int block = GLOBAL;
+        for (int k = 0; k < nbUsed; ++k) {
+            final int b = blocks[usedColumns[k]];
+            if (b != GLOBAL) {
+                if (block != GLOBAL && b != block) {
+                    // the partition should prevent this
+                    throw new OrekitInternalError(null);
+                }
+                block = b;
+            }
+        }
+
+        for (int i = 0; i < residuals.length; ++i) {
+            sumOfSquares += residuals[i] * residuals[i];
+            ++nbRows;
+            final double[] row = rows[i];
+            for (int k1 = 0; k1 < nbUsed; ++k1) {
+                final int    c1 = usedColumns[k1];
+                final double v1 = row[c1];
+                if (v1 == 0.0) {
+                    continue;
+                }
+                final int i1 = indices[c1];
+                if (blocks[c1] == GLOBAL) {
+                    rG[i1] += v1 * residuals[i];
+                    for (int k2 = 0; k2 < nbUsed; ++k2) {
+                        final int c2 = usedColumns[k2];
+                        if (blocks[c2] == GLOBAL) {
+                            nGG[i1][indices[c2]] += v1 * row[c2];
+                        }
+                    }
+                } else {
+                    rB[block][i1] += v1 * residuals[i];
+                    for (int k2 = 0; k2 < nbUsed; ++k2) {
+                        final int c2 = usedColumns[k2];
+                        if (blocks[c2] == GLOBAL) {
+                            nBG[block][i1][indices[c2]] += v1 * row[c2];
+                        } else {
+                            nBB[block][i1][indices[c2]] += v1 * row[c2];
+                        }
+                    }
+                }
+            }
+        }
+
+        resetMeasurement();
+
+    }
+
+    /** Reset the current measurement buffer.
+     */
+    private void resetMeasurement() {
+        for (int k = 0; k < nbUsed; ++k) {
+            final int column = usedColumns[k];
+            for (final double[] row : rows) {
+                row[column] = 0.0;
+            }
+            used[column] = false;
+        }
+        nbUsed = 0;
+    }
+
+    /** Solve the normal equations.
+     * <p>
+     * The accumulated normal equations are preserved.
+     * </p>
+     * @return solution of the normal equations
+     */
+    RealVector solve() {
+
+        final int nbBlocks = nBB.length;
+        final int nbGlobal = globalColumns.length;
+
+        // eliminate independent blocks, building the Schur complement on global parameters
+        RealMatrix                schur = nbGlobal > 0 ? new Array2DRowRealMatrix(nGG) : null;
+        RealVector                g     = new ArrayRealVector(rG);
+        final RealMatrix[]        x     = new RealMatrix[nbBlocks];
+        final RealVector[]        y     = new RealVector[nbBlocks];
+        for (int b = 0; b < nbBlocks; ++b) {
+            if (blockColumns[b].length > 0) {
+                final DecompositionSolver solver =
+                                new CholeskyDecomposition(new Array2DRowRealMatrix(nBB[b], false),
+                                                          SYMMETRY_THRESHOLD, POSITIVITY_THRESHOLD).getSolver();
+                y[b] = solver.solve(new ArrayRealVector(rB[b], false));
+                if (nbGlobal > 0) {
+                    final RealMatrix coupling = new Array2DRowRealMatrix(nBG[b], false);
+                    x[b]  = solver.solve(coupling);
+                    schur = schur.subtract(coupling.transposeMultiply(x[b]));
+                    g     = g.subtract(coupling.preMultiply(y[b]));
+                }
+            }
+        }
+
+        // solve global parameters
+        final RealVector xG;
+        if (nbGlobal > 0) {
+            // enforce exact symmetry, which may have been lost by rounding errors during elimination
+            for (int i = 0; i < nbGlobal; ++i) {
+                for (int j = 0; j < i; ++j) {
+                    final double s = 0.5 * (schur.getEntry(i, j) + schur.getEntry(j, i));
+                    schur.setEntry(i, j, s);
+                    schur.setEntry(j, i, s);
+                }
+            }
+            xG = new CholeskyDecomposition(schur, SYMMETRY_THRESHOLD, POSITIVITY_THRESHOLD).getSolver().solve(g);
+        } else {
+            xG = g;
+        }
+
+        // back-substitute independent blocks
+        final RealVector solution = new ArrayRealVector(blocks.length);
+        for (int k = 0; k < nbGlobal; ++k) {
+            solution.setEntry(globalColumns[k], xG.getEntry(k));
+        }
+        for (int b = 0; b < nbBlocks; ++b) {
+            if (blockColumns[b].length > 0) {
+                final RealVector xB = nbGlobal > 0 ? y[b].subtract(x[b].operate(xG)) : y[b];
+                for (int k = 0; k < blockColumns[b].length; ++k) {
+                    solution.setEntry(blockColumns[b][k], xB.getEntry(k));
+                }
+            }
+        }
+
+        return solution;
+
+    }
+
+    /** Get the full normal matrix.
+     * <p>
+     * This method allocates a dense n×n matrix, it is intended to be
+     * used only once at the end of the estimation, for covariance computation.
+     * </p>
+     * @return full normal matrix
+     */
+    RealMatrix getNormalMatrix() {
+        final RealMatrix normal = new Array2DRowRealMatrix(blocks.length, blocks.length);
+        for (int i = 0; i < globalColumns.length; ++i) {
+            for (int j = 0; j < globalColumns.length; ++j) {
+                normal.setEntry(globalColumns[i], globalColumns[j], nGG[i][j]);
+            }
+        }
+        for (int b = 0; b < nBB.length; ++b) {
+            final int[] columns = blockColumns[b];
+            for (int i = 0; i < columns.length; ++i) {
+                for (int j = 0; j < columns.length; ++j) {
+                    normal.setEntry(columns[i], columns[j], nBB[b][i][j]);
+                }
+                for (int j = 0; j < globalColumns.length; ++j) {
+                    normal.setEntry(columns[i], globalColumns[j], nBG[b][i][j]);
+                    normal.setEntry(globalColumns[j], columns[i], nBG[b][i][j]);
+                }
+            }
+        }
+        return normal;
+    }
+
+}
@@ -16,7 +16,9 @@
  */
 package org.orekit.estimation.leastsquares;
 
+import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.ExecutorService;
 
 import org.orekit.estimation.measurements.EstimatedMeasurement;
 import org.orekit.estimation.measurements.ObservableSatellite;
@@ -25,9 +27,16 @@ import org.orekit.propagation.SpacecraftState;
 import org.orekit.propagation.sampling.MultiSatStepHandler;
 import org.orekit.propagation.sampling.OrekitStepInterpolator;
 import org.orekit.time.AbsoluteDate;
+import org.orekit.utils.ParallelLoop;
 
 /** {@link org.orekit.propagation.sampling.OrekitStepHandler Step handler} picking up
  * {@link ObservedMeasurement measurements}.
+ * <p>
+ * If the model has been set up for {@link
+ * AbstractBatchLSModel#setParallelMeasurementsEvaluation(ExecutorService, int, int)
+ * parallel evaluation}, the interpolated states are buffered and the measurements are
+ * estimated by batches, the results being fetched to the model in chronological order.
+ * </p>
  * @author Luc Maisonobe
  * @since 8.0
  */
@@ -45,6 +54,21 @@ class MeasurementHandler implements MultiSatStepHandler {
     /** Index of the next measurement component in the model. */
     private int index;
 
+    /** Measurements pending evaluation (only used in parallel mode).
+     * @since 13.2
+     */
+    private final List<ObservedMeasurement<?>> pendingMeasurements;
+
+    /** States for measurements pending evaluation (only used in parallel mode).
+     * @since 13.2
+     */
+    private final List<SpacecraftState[]> pendingStates;
+
+    /** Index of the first pending measurement component in the model (only used in parallel mode).
+     * @since 13.2
+     */
+    private int pendingIndex;
+
     /** Simple constructor.
      * @param model least squares model
      * @param precompensated underlying measurements
@@ -52,13 +76,18 @@ class MeasurementHandler implements MultiSatStepHandler {
     MeasurementHandler(final AbstractBatchLSModel model, final List<PreCompensation> precompensated) {
         this.model          = model;
         this.precompensated = precompensated;
+        this.pendingMeasurements = new ArrayList<>();
+        this.pendingStates       = new ArrayList<>();
     }
 
     /** {@inheritDoc} */
     @Override
     public void init(final List<SpacecraftState> initialStates, final AbsoluteDate target) {
-        number = 0;
-        index  = 0;
+        number       = 0;
+        index        = 0;
+        pendingIndex = 0;
+        pendingMeasurements.clear();
+        pendingStates.clear();
     }
 
     /** {@inheritDoc} */
@@ -86,12 +115,24 @@ class MeasurementHandler implements MultiSatStepHandler {
                 final ObservableSatellite satellite = observed.getSatellites().get(i);
                 states[i] = interpolators.get(satellite.getPropagatorIndex()).getInterpolatedState(next.getDate());
             }
-            final EstimatedMeasurement<?> estimated = observed.estimate(model.getIterationsCount(),
-                                                                        model.getEvaluationsCount(),
-                                                                        states);
-
-            // fetch the evaluated measurement to the estimator
-            model.fetchEvaluatedMeasurement(index, estimated);
+            if (model.getExecutorService() == null) {
+                final EstimatedMeasurement<?> estimated = observed.estimate(model.getIterationsCount(),
+                                                                            model.getEvaluationsCount(),
+                                                                            states);
+
+                // fetch the evaluated measurement to the estimator
+                model.fetchEvaluatedMeasurement(index, estimated);
+            } else {
+                // buffer the measurement for later parallel evaluation
+                if (pendingMeasurements.isEmpty()) {
+                    pendingIndex = index;
+                }
+                pendingMeasurements.add(observed);
+                pendingStates.add(states);
+                if (pendingMeasurements.size() >= model.getBatchSize()) {
+                    flush();
+                }
+            }
 
             // prepare handling of next measurement
             ++number;
@@ -101,4 +142,40 @@ class MeasurementHandler implements MultiSatStepHandler {
 
     }
 
+    /** {@inheritDoc} */
+    @Override
+    public void finish(final List<SpacecraftState> finalStates) {
+        flush();
+    }
+
+    /** Evaluate all pending measurements in parallel and fetch them to the model.
+     * @since 13.2
+     */
+    private void flush() {
+
+        final int                      n = pendingMeasurements.size();
+        if (n == 0) {
+            return;
+        }
+
+        // estimate the theoretical measurements, each worker picking measurements until none remain
+        final int                       iterations  = model.getIterationsCount();
+        final int                       evaluations = model.getEvaluationsCount();
+        final EstimatedMeasurement<?>[] estimated   = new EstimatedMeasurement<?>[n];
+        ParallelLoop.run(model.getExecutorService(), model.getMaxWorkers(), n,
+                         k -> estimated[k] = pendingMeasurements.get(k).estimate(iterations, evaluations,
+                                                                                 pendingStates.get(k)));
+
+        // fetch the evaluated measurements to the estimator, in chronological order
+        int k = pendingIndex;
+        for (final EstimatedMeasurement<?> measurement : estimated) {
+            model.fetchEvaluatedMeasurement(k, measurement);
+            k += measurement.getObservedMeasurement().getDimension();
+        }
+
+        pendingMeasurements.clear();
+        pendingStates.clear();
+
+    }
+
 }
@@ -0,0 +1,465 @@
+/* Copyright 2002-2025 CS GROUP
+ * Licensed to CS GROUP (CS) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * CS licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.orekit.estimation.leastsquares;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.hipparchus.exception.LocalizedCoreFormats;
+import org.hipparchus.exception.MathIllegalArgumentException;
+import org.hipparchus.exception.MathRuntimeException;
+import org.hipparchus.linear.ArrayRealVector;
+import org.hipparchus.linear.MatrixUtils;
+import org.hipparchus.linear.QRDecomposition;
+import org.hipparchus.linear.RealMatrix;
+import org.hipparchus.linear.RealVector;
+import org.hipparchus.util.FastMath;
+import org.hipparchus.util.Incrementor;
+import org.orekit.errors.OrekitException;
+import org.orekit.estimation.measurements.ObservedMeasurement;
+import org.orekit.propagation.Propagator;
+import org.orekit.propagation.conversion.PropagatorBuilder;
+import org.orekit.utils.ParameterDriver;
+import org.orekit.utils.ParameterDriversList;
+import org.orekit.utils.ParameterDriversList.DelegatingDriver;
+import org.orekit.utils.TimeSpanMap.Span;
+
+/** Batch least squares estimator streaming measurements.
+ * <p>
+ * This estimator is a variant of {@link BatchLSEstimator} intended for very long arcs
+ * with many measurements. Measurements are not stored: at each Gauss-Newton iteration,
+ * they are pulled from a user provided {@link Iterable source}, evaluated while the
+ * orbits are propagated, folded into the normal equations (information matrix and
+ * right hand side) and discarded. Memory consumption therefore depends only on the
+ * number of estimated parameters, not on the number of measurements.
+ * </p>
+ * <p>
+ * The source is iterated over once before the first iteration (to identify the
+ * measurements time span and the estimated measurements parameters) and once per
+ * iteration, so it must be able to provide new iterators several times, for example
+ * by re-reading a file. Each iterator must provide measurements in chronological order.
+ * As measurements may be different instances at each pass, the estimated measurements
+ * parameters must be shared by all passes (this is the case for parameters attached
+ * to {@link org.orekit.estimation.measurements.GroundStation ground stations} or
+ * {@link org.orekit.estimation.measurements.ObservableSatellite satellites}).
+ * </p>
+ * <p>
+ * Outliers rejection is supported using {@link
+ * org.orekit.estimation.measurements.modifiers.OutlierFilter outlier filters} set up
+ * on the measurements, which will reject measurements once their warm-up iterations
+ * have been performed.
+ * </p>
+ * <p>
+ * As in {@link SequentialBatchLSEstimator}, a priori information resulting from a
+ * previous estimation can be set, for example to process an arc by successive chunks.
+ * </p>
+ * @author Luc Maisonobe
+ * @since 13.2
+ */
+public class StreamingBatchLSEstimator {
+
+    /** Default maximum number of iterations. */
+    public static final int DEFAULT_MAX_ITERATIONS = 10;
+
+    /** Default convergence threshold on normalized parameters. */
+    public static final double DEFAULT_CONVERGENCE_THRESHOLD = 1.0e-3;
+
+    /** Builders for propagator. */
+    private final PropagatorBuilder[] builders;
+
+    /** Measurements source. */
+    private final Iterable<ObservedMeasurement<?>> source;
+
+    /** Maximum number of iterations. */
+    private int maxIterations;
+
+    /** Convergence threshold on normalized parameters. */
+    private double convergenceThreshold;
+
+    /** A priori normalized parameters (null if no a priori data). */
+    private RealVector aPrioriState;
+
+    /** A priori normalized covariance (null if no a priori data). */
+    private RealMatrix aPrioriCovariance;
+
+    /** Estimated measurements parameters. */
+    private ParameterDriversList estimatedMeasurementsParameters;
+
+    /** Normal equations at last iteration. */
+    private BlockSparseNormalEquations normalEquations;
+
+    /** Counter for the iterations. */
+    private Incrementor iterationsCounter;
+
+    /** Number of used measurements at last iteration. */
+    private int used;
+
+    /** Number of rejected measurements at last iteration. */
+    private int rejected;
+
+    /** Simple constructor.
+     * @param source measurements source, iterated over once per iteration, in chronological order
+     * @param propagatorBuilder builders to use for propagation
+     */
+    public StreamingBatchLSEstimator(final Iterable<ObservedMeasurement<?>> source,
+                                     final PropagatorBuilder... propagatorBuilder) {
+        this.builders             = propagatorBuilder.clone();
+        this.source               = source;
+        this.maxIterations        = DEFAULT_MAX_ITERATIONS;
+        this.convergenceThreshold = DEFAULT_CONVERGENCE_THRESHOLD;
+        this.aPrioriState         = null;
+        this.aPrioriCovariance    = null;
+    }
+
+    /** Set the maximum number of iterations.
+     * <p>
+     * As each iteration implies one pass over the measurements, there is
+     * one model evaluation per iteration.
+     * </p>
+     * @param maxIterations maximum number of iterations
+     */
+    public void setMaxIterations(final int maxIterations) {
+        this.maxIterations = maxIterations;
+    }
+
+    /** Set the convergence threshold on normalized parameters.
+     * <p>
+     * Convergence is reached when the largest change of normalized
+     * parameters during one iteration is below the threshold.
+     * </p>
+     * @param threshold convergence threshold on normalized parameters
+     */
+    public void setParametersConvergenceThreshold(final double threshold) {
+        this.convergenceThreshold = threshold;
+    }
+
+    /** Set a priori data.
+     * <p>
+     * The a priori state and covariance are expressed with normalized parameters,
+     * in the same order as the columns of {@link #getPhysicalCovariances(double)},
+     * typically using the results of a previous estimation.
+     * </p>
+     * @param aPrioriNormalizedState a priori normalized state (null to remove a priori data)
+     * @param aPrioriNormalizedCovariance a priori normalized covariance (null to remove a priori data)
+     */
+    public void setAPrioriData(final RealVector aPrioriNormalizedState,
+                               final RealMatrix aPrioriNormalizedCovariance) {
+        this.aPrioriState      = aPrioriNormalizedState;
+        this.aPrioriCovariance = aPrioriNormalizedCovariance;
+    }
+
+    /** Get the orbital parameters supported by this estimator.
+     * <p>
+     * If there are more than one propagator builder, then the names
+     * of the drivers have an index marker in square brackets appended
+     * to them in order to distinguish the various orbits. So for example
+     * with one builder generating Keplerian orbits the names would be
+     * simply "a", "e", "i"... but if there are several builders the
+     * names would be "a[0]", "e[0]", "i[0]"..."a[1]", "e[1]", "i[1]"...
+     * </p>
+     * @param estimatedOnly if true, only estimated parameters are returned
+     * @return orbital parameters supported by this estimator
+     */
+    public ParameterDriversList getOrbitalParametersDrivers(final boolean estimatedOnly) {
+
+        final ParameterDriversList estimated = new ParameterDriversList();
+        for (int i = 0; i < builders.length; ++i) {
+            final String suffix = builders.length > 1 ? "[" + i + "]" : null;
+            for (final DelegatingDriver delegating : builders[i].getOrbitalParametersDrivers().getDrivers()) {
+                if (delegating.isSelected() || !estimatedOnly) {
+                    for (final ParameterDriver driver : delegating.getRawDrivers()) {
+                        if (suffix != null && !driver.getName().endsWith(suffix)) {
+                            // we add suffix only conditionally because the method may already have been called
+                            // and suffixes may have already been appended
+                            driver.setName(driver.getName() + suffix);
+                        }
+                        estimated.add(driver);
+                    }
+                }
+            }
+        }
+        return estimated;
+
+    }
+
+    /** Get the propagator parameters supported by this estimator.
+     * @param estimatedOnly if true, only estimated parameters are returned
+     * @return propagator parameters supported by this estimator
+     */
+    public ParameterDriversList getPropagatorParametersDrivers(final boolean estimatedOnly) {
+
+        final ParameterDriversList estimated = new ParameterDriversList();
+        for (PropagatorBuilder builder : builders) {
+            for (final DelegatingDriver delegating : builder.getPropagationParametersDrivers().getDrivers()) {
+                if (delegating.isSelected() || !estimatedOnly) {
+                    for (final ParameterDriver driver : delegating.getRawDrivers()) {
+                        estimated.add(driver);
+                    }
+                }
+            }
+        }
+        return estimated;
+
+    }
+
+    /** Get the measurements parameters supported by this estimator.
+     * <p>
+     * Beware that this method performs one pass over the measurements source.
+     * </p>
+     * @param estimatedOnly if true, only estimated parameters are returned
+     * @return measurements parameters supported by this estimator
+     */
+    public ParameterDriversList getMeasurementsParametersDrivers(final boolean estimatedOnly) {
+
+        final ParameterDriversList parameters =  new ParameterDriversList();
+        for (final ObservedMeasurement<?> measurement : source) {
+            for (final ParameterDriver driver : measurement.getParametersDrivers()) {
+                if (!estimatedOnly || driver.isSelected()) {
+                    parameters.add(driver);
+                }
+            }
+        }
+
+        parameters.sort();
+
+        return parameters;
+
+    }
+
+    /** Estimate the orbital, propagation and measurements parameters.
+     * <p>
+     * The initial guess for all parameters must have been set before calling this method
+     * using {@link #getOrbitalParametersDrivers(boolean)}, {@link #getPropagatorParametersDrivers(boolean)},
+     * and {@link #getMeasurementsParametersDrivers(boolean)} and then {@link ParameterDriver#setValue(double)
+     * setting the values} of the parameters.
+     * </p>
+     * <p>
+     * After this method returns, the estimated parameters can be retrieved using
+     * the same methods, and statistics about the last iteration are available.
+     * </p>
+     * @return propagators configured with estimated orbits as initial states, and all
+     * propagators estimated parameters also set
+     */
+    public Propagator[] estimate() {
+
+        // preliminary pass: identify measurements time span and estimated measurements parameters
+        final ParameterDriversList measurementsParameters = new ParameterDriversList();
+        ObservedMeasurement<?> first = null;
+        ObservedMeasurement<?> last  = null;
+        int maxDimension = 1;
+        for (final ObservedMeasurement<?> measurement : source) {
+            if (first == null) {
+                first = measurement;
+            }
+            last         = measurement;
+            maxDimension = FastMath.max(maxDimension, measurement.getDimension());
+            for (final ParameterDriver driver : measurement.getParametersDrivers()) {
+                if (driver.isSelected()) {
+                    measurementsParameters.add(driver);
+                }
+            }
+        }
+        if (first == null) {
+            throw new OrekitException(LocalizedCoreFormats.NO_DATA);
+        }
+        measurementsParameters.sort();
+        estimatedMeasurementsParameters = measurementsParameters;
+
+        // gather all estimated parameters, setting reference date for those that lack one
+        final List<ParameterDriver> drivers = new ArrayList<>();
+        drivers.addAll(getOrbitalParametersDrivers(true).getDrivers());
+        drivers.addAll(getPropagatorParametersDrivers(true).getDrivers());
+        drivers.addAll(measurementsParameters.getDrivers());
+        int n = 0;
+        for (final ParameterDriver driver : drivers) {
+            if (driver.getReferenceDate() == null) {
+                driver.setReferenceDate(builders[0].getInitialOrbitDate());
+            }
+            n += driver.getNbOfValues();
+        }
+
+        // the model only uses the measurements list to identify the propagation direction,
+        // measurements are provided to it by streaming
+        final AbstractBatchLSModel model =
+                        builders[0].buildLeastSquaresModel(builders,
+                                                           new ArrayList<>(Arrays.asList(first, last)),
+                                                           measurementsParameters,
+                                                           (orbits, estimations) -> { });
+
+        // normal equations as a dense information matrix
+        final int[] blocks = new int[n];
+        Arrays.fill(blocks, BlockSparseNormalEquations.GLOBAL);
+        normalEquations = new BlockSparseNormalEquations(blocks, 0, maxDimension);
+
+        try {
+
+            // a priori information
+            final RealMatrix aPrioriInformation;
+            if (aPrioriState != null && aPrioriCovariance != null) {
+                if (aPrioriState.getDimension() != n) {
+                    throw new OrekitException(LocalizedCoreFormats.DIMENSIONS_MISMATCH,
+                                              aPrioriState.getDimension(), n);
+                }
+                aPrioriInformation = MatrixUtils.inverse(aPrioriCovariance);
+            } else {
+                aPrioriInformation = null;
+            }
+
+            iterationsCounter = new Incrementor(maxIterations);
+            final Incrementor evaluationsCounter = new Incrementor(maxIterations);
+            model.setIterationsCounter(iterationsCounter);
+            model.setEvaluationsCounter(evaluationsCounter);
+
+            RealVector point = getNormalizedValues(drivers, n);
+            while (true) {
+
+                iterationsCounter.increment();
+                evaluationsCounter.increment();
+
+                // stream all measurements through the model
+                final StreamingMeasurementHandler handler = new StreamingMeasurementHandler(model, source.iterator());
+                model.accumulateStreamedMeasurements(point, handler, normalEquations,
+                                                     first.getDate().shiftedBy(-1.0),
+                                                     last.getDate().shiftedBy(+1.0));
+                used     = handler.getUsed();
+                rejected = handler.getRejected();
+                if (aPrioriInformation != null) {
+                    normalEquations.addInformation(aPrioriInformation,
+                                                   aPrioriInformation.operate(aPrioriState.subtract(point)));
+                }
+
+                // update parameters, letting them handle min/max clipping
+                final RealVector updated = point.add(normalEquations.solve());
+                setNormalizedValues(drivers, updated);
+                final RealVector clipped = getNormalizedValues(drivers, n);
+                final boolean converged = clipped.getLInfDistance(point) <= convergenceThreshold;
+                point = clipped;
+
+                if (converged) {
+                    // create a new configured propagator with all estimated parameters
+                    return model.createPropagators(point);
+                }
+
+            }
+
+        } catch (MathRuntimeException mrte) {
+            throw new OrekitException(mrte);
+        }
+
+    }
+
+    /** Get the normalized values of parameters.
+     * @param drivers parameters drivers
+     * @param n total number of values
+     * @return normalized values of all spans of all parameters
+     */
+    private static RealVector getNormalizedValues(final List<ParameterDriver> drivers, final int n) {
+        final RealVector values = new ArrayRealVector(n);
+        int index = 0;
+        for (final ParameterDriver driver : drivers) {
+            for (Span<Double> span = driver.getValueSpanMap().getFirstSpan(); span != null; span = span.next()) {
+                values.setEntry(index++, driver.getNormalizedValue(span.getStart()));
+            }
+        }
+        return values;
+    }
+
+    /** Set the normalized values of parameters.
+     * @param drivers parameters drivers
+     * @param values normalized values of all spans of all parameters
+     */
+    private static void setNormalizedValues(final List<ParameterDriver> drivers, final RealVector values) {
+        int index = 0;
+        for (final ParameterDriver driver : drivers) {
+            for (Span<Double> span = driver.getValueSpanMap().getFirstSpan(); span != null; span = span.next()) {
+                driver.setNormalizedValue(values.getEntry(index++), span.getStart());
+            }
+        }
+    }
+
+    /** Get the number of iterations performed by the last estimation.
+     * @return number of iterations performed by the last estimation
+     */
+    public int getIterationsCount() {
+        return iterationsCounter.getCount();
+    }
+
+    /** Get the number of measurements used at last iteration.
+     * @return number of measurements used at last iteration
+     */
+    public int getUsedMeasurementsCount() {
+        return used;
+    }
+
+    /** Get the number of measurements rejected at last iteration.
+     * @return number of measurements rejected at last iteration
+     */
+    public int getRejectedMeasurementsCount() {
+        return rejected;
+    }
+
+    /** Get the root mean square of weighted residuals at last iteration.
+     * @return root mean square of weighted residuals at last iteration
+     */
+    public double getRMS() {
+        return FastMath.sqrt(normalEquations.getSumOfSquares() / normalEquations.getNbRows());
+    }
+
+    /** Get the covariances matrix in space flight dynamics physical units.
+     * <p>
+     * The covariances are computed from the normal equations at last iteration.
+     * </p>
+     * @param threshold threshold to identify matrix singularity
+     * @return covariances matrix in space flight dynamics physical units
+     */
+    public RealMatrix getPhysicalCovariances(final double threshold) {
+
+        final RealMatrix covariances;
+        try {
+            // get the normalized matrix
+            covariances = new QRDecomposition(normalEquations.getNormalMatrix(), threshold).getSolver().getInverse();
+        } catch (MathIllegalArgumentException miae) {
+            // the problem is singular
+            throw new OrekitException(miae);
+        }
+
+        // retrieve the scaling factors
+        final List<ParameterDriver> drivers = new ArrayList<>();
+        drivers.addAll(getOrbitalParametersDrivers(true).getDrivers());
+        drivers.addAll(getPropagatorParametersDrivers(true).getDrivers());
+        drivers.addAll(estimatedMeasurementsParameters.getDrivers());
+        final double[] scale = new double[covariances.getRowDimension()];
+        int index = 0;
+        for (final ParameterDriver driver : drivers) {
+            for (int i = 0; i < driver.getNbOfValues(); ++i) {
+                scale[index++] = driver.getScale();
+            }
+        }
+
+        // unnormalize the matrix, to retrieve physical covariances
+        for (int i = 0; i < covariances.getRowDimension(); ++i) {
+            for (int j = 0; j < covariances.getColumnDimension(); ++j) {
+                covariances.setEntry(i, j, scale[i] * scale[j] * covariances.getEntry(i, j));
+            }
+        }
+
+        return covariances;
+
+    }
+
+}
@@ -0,0 +1,144 @@
+/* Copyright 2002-2025 CS GROUP
+ * Licensed to CS GROUP (CS) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * CS licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.orekit.estimation.leastsquares;
+
+import java.util.Iterator;
+import java.util.List;
+
+import org.orekit.errors.OrekitException;
+import org.orekit.errors.OrekitMessages;
+import org.orekit.estimation.measurements.ObservableSatellite;
+import org.orekit.estimation.measurements.ObservedMeasurement;
+import org.orekit.propagation.SpacecraftState;
+import org.orekit.propagation.sampling.MultiSatStepHandler;
+import org.orekit.propagation.sampling.OrekitStepInterpolator;
+import org.orekit.time.AbsoluteDate;
+
+/** {@link MultiSatStepHandler Step handler} consuming a stream of {@link ObservedMeasurement measurements}.
+ * <p>
+ * Measurements are pulled from the iterator as propagation goes forward, they must
+ * therefore be provided in chronological order. Each measurement is evaluated and
+ * accumulated in the model normal equations, and then discarded.
+ * </p>
+ * @author Luc Maisonobe
+ * @since 13.2
+ */
+class StreamingMeasurementHandler implements MultiSatStepHandler {
+
+    /** Least squares model. */
+    private final AbstractBatchLSModel model;
+
+    /** Measurements source. */
+    private final Iterator<ObservedMeasurement<?>> iterator;
+
+    /** Next measurement to handle (null if it has not been pulled from the iterator yet). */
+    private ObservedMeasurement<?> next;
+
+    /** Date of the last pulled measurement. */
+    private AbsoluteDate previousDate;
+
+    /** Number of used measurements. */
+    private int used;
+
+    /** Number of rejected measurements. */
+    private int rejected;
+
+    /** Simple constructor.
+     * @param model least squares model
+     * @param iterator measurements source, in chronological order
+     */
+    StreamingMeasurementHandler(final AbstractBatchLSModel model, final Iterator<ObservedMeasurement<?>> iterator) {
+        this.model        = model;
+        this.iterator     = iterator;
+        this.next         = null;
+        this.previousDate = AbsoluteDate.PAST_INFINITY;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void init(final List<SpacecraftState> initialStates, final AbsoluteDate target) {
+        used     = 0;
+        rejected = 0;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void handleStep(final List<OrekitStepInterpolator> interpolators) {
+
+        // Current state date for interpolator 0
+        final AbsoluteDate currentDate = interpolators.get(0).getCurrentState().getDate();
+
+        while (true) {
+
+            // pull the next enabled measurement
+            while (next == null) {
+                if (!iterator.hasNext()) {
+                    return;
+                }
+                final ObservedMeasurement<?> pulled = iterator.next();
+                if (pulled.getDate().isBefore(previousDate)) {
+                    throw new OrekitException(OrekitMessages.NON_CHRONOLOGICAL_DATES_FOR_OBSERVATIONS,
+                                              previousDate, pulled.getDate(),
+                                              previousDate.durationFrom(pulled.getDate()));
+                }
+                previousDate = pulled.getDate();
+                if (pulled.isEnabled()) {
+                    next = pulled;
+                }
+            }
+
+            if (next.getDate().isAfter(currentDate)) {
+                // the measurement will be handled in a later step
+                return;
+            }
+
+            // estimate the theoretical measurement
+            final SpacecraftState[] states = new SpacecraftState[next.getSatellites().size()];
+            for (int i = 0; i < states.length; ++i) {
+                final ObservableSatellite satellite = next.getSatellites().get(i);
+                states[i] = interpolators.get(satellite.getPropagatorIndex()).getInterpolatedState(next.getDate());
+            }
+
+            // accumulate it in normal equations, and discard it
+            if (model.accumulateEvaluatedMeasurement(next.estimate(model.getIterationsCount(),
+                                                                   model.getEvaluationsCount(),
+                                                                   states))) {
+                ++used;
+            } else {
+                ++rejected;
+            }
+            next = null;
+
+        }
+
+    }
+
+    /** Get the number of used measurements.
+     * @return number of used measurements
+     */
+    int getUsed() {
+        return used;
+    }
+
+    /** Get the number of rejected measurements.
+     * @return number of rejected measurements
+     */
+    int getRejected() {
+        return rejected;
+    }
+
+}
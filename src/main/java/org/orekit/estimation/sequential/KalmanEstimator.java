@@ -90,13 +90,15 @@ public class KalmanEstimator extends AbstractKalmanEstimator {
      * @param processNoiseMatricesProviders providers for process noise matrices
      * @param estimatedMeasurementParameters measurement parameters to estimate
      * @param measurementProcessNoiseMatrix provider for measurement process noise matrix
+     * @param squareRoot if true, a {@link SquareRootExtendedKalmanFilter square-root filter} is used
      * @since 10.3
      */
     KalmanEstimator(final MatrixDecomposer decomposer,
                     final List<PropagatorBuilder> propagatorBuilders,
                     final List<CovarianceMatrixProvider> processNoiseMatricesProviders,
                     final ParameterDriversList estimatedMeasurementParameters,
-                    final CovarianceMatrixProvider measurementProcessNoiseMatrix) {
+                    final CovarianceMatrixProvider measurementProcessNoiseMatrix,
+                    final boolean squareRoot) {
         super(decomposer, propagatorBuilders);
 
         // Build the process model and measurement model
@@ -105,7 +107,9 @@ public class KalmanEstimator extends AbstractKalmanEstimator {
                                             estimatedMeasurementParameters,
                                             measurementProcessNoiseMatrix);
 
-        this.filter = new ExtendedKalmanFilter<>(decomposer, processModel, processModel.getEstimate());
+        this.filter = squareRoot ?
+                      new SquareRootExtendedKalmanFilter<>(processModel, processModel.getEstimate()) :
+                      new ExtendedKalmanFilter<>(decomposer, processModel, processModel.getEstimate());
 
     }
 
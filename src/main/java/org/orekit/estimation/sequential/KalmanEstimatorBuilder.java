@@ -49,6 +49,11 @@ public class KalmanEstimatorBuilder {
     /** Process noise matrix provider for measurement parameters. */
     private CovarianceMatrixProvider measurementProcessNoiseMatrix;
 
+    /** Indicator for square-root filter.
+     * @since 13.2
+     */
+    private boolean squareRoot;
+
     /** Default constructor.
      *  Set an extended Kalman filter, with linearized covariance prediction.
      */
@@ -58,6 +63,7 @@ public class KalmanEstimatorBuilder {
         this.estimatedMeasurementsParameters = new ParameterDriversList();
         this.processNoiseMatricesProviders   = new ArrayList<>();
         this.measurementProcessNoiseMatrix   = null;
+        this.squareRoot                      = false;
     }
 
     /** Construct a {@link KalmanEstimator} from the data in this builder.
@@ -74,7 +80,8 @@ public class KalmanEstimatorBuilder {
             throw new OrekitException(OrekitMessages.NO_PROPAGATOR_CONFIGURED);
         }
         return new KalmanEstimator(decomposer, propagatorBuilders, processNoiseMatricesProviders,
-                                   estimatedMeasurementsParameters, measurementProcessNoiseMatrix);
+                                   estimatedMeasurementsParameters, measurementProcessNoiseMatrix,
+                                   squareRoot);
     }
 
     /** Configure the matrix decomposer.
@@ -86,6 +93,24 @@ public class KalmanEstimatorBuilder {
         return this;
     }
 
+    /** Configure the use of a square-root filter.
+     * <p>
+     * By default, a regular extended Kalman filter is used. When the square-root
+     * filter is selected, a {@link SquareRootExtendedKalmanFilter} is used instead:
+     * a square root of the covariance is propagated and the scalar components of
+     * the measurements are processed one at a time, which improves numerical
+     * stability with many estimated parameters or long runs. The {@link
+     * #decomposer(MatrixDecomposer) decomposer} is not used in this case.
+     * </p>
+     * @param useSquareRoot if true, a square-root filter is used
+     * @return this object.
+     * @since 13.2
+     */
+    public KalmanEstimatorBuilder squareRootFilter(final boolean useSquareRoot) {
+        squareRoot = useSquareRoot;
+        return this;
+    }
+
     /** Add a propagation configuration.
      * <p>
      * This method must be called once for each propagator to managed with the
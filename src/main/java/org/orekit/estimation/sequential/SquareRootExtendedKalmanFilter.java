@@ -0,0 +1,303 @@
+/* Copyright 2002-2025 CS GROUP
+ * Licensed to CS GROUP (CS) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * CS licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.orekit.estimation.sequential;
+
+import org.hipparchus.filtering.kalman.KalmanFilter;
+import org.hipparchus.filtering.kalman.KalmanObserver;
+import org.hipparchus.filtering.kalman.Measurement;
+import org.hipparchus.filtering.kalman.ProcessEstimate;
+import org.hipparchus.filtering.kalman.extended.NonLinearEvolution;
+import org.hipparchus.filtering.kalman.extended.NonLinearProcess;
+import org.hipparchus.linear.CholeskyDecomposition;
+import org.hipparchus.linear.EigenDecompositionSymmetric;
+import org.hipparchus.linear.MatrixUtils;
+import org.hipparchus.linear.QRDecomposition;
+import org.hipparchus.linear.RealMatrix;
+import org.hipparchus.linear.RealVector;
+import org.hipparchus.util.FastMath;
+
+/** Square-root variant of the extended Kalman filter.
+ * <p>
+ * This filter propagates a square root S of the covariance matrix
+ * (P = S S<sup>T</sup>) instead of the covariance matrix itself, which
+ * roughly doubles the numerical precision of the covariance and guarantees
+ * it remains symmetric positive semi-definite, even with many estimated
+ * parameters or very long runs.
+ * </p>
+ * <p>
+ * The prediction step triangularizes the pre-array [F S | Q<sup>1/2</sup>]
+ * using a QR decomposition. The correction step first whitens the measurement
+ * using the Cholesky decomposition of its (small) noise matrix, then processes
+ * the scalar components one at a time using Potter's algorithm, so the
+ * innovation covariance matrix is never inverted. The innovation covariance
+ * matrix is still computed (without inversion) as it is needed by the
+ * process to filter outliers.
+ * </p>
+ * @param <T> the type of the measurements
+ * @see org.hipparchus.filtering.kalman.extended.ExtendedKalmanFilter
+ * @author Luc Maisonobe
+ * @since 13.2
+ */
+public class SquareRootExtendedKalmanFilter<T extends Measurement> implements KalmanFilter<T> {
+
+    /** Process to be estimated. */
+    private final NonLinearProcess<T> process;
+
+    /** Predicted state. */
+    private ProcessEstimate predicted;
+
+    /** Corrected state. */
+    private ProcessEstimate corrected;
+
+    /** Square root of the current covariance matrix. */
+    private RealMatrix squareRoot;
+
+    /** Prior corrected covariance. */
+    private RealMatrix priorCovariance;
+
+    /** State transition matrix of the last prediction. */
+    private RealMatrix stateTransitionMatrix;
+
+    /** Observer. */
+    private KalmanObserver observer;
+
+    /** Simple constructor.
+     * @param process process to be estimated
+     * @param initialState initial state
+     */
+    public SquareRootExtendedKalmanFilter(final NonLinearProcess<T> process,
+                                          final ProcessEstimate initialState) {
+        this.process    = process;
+        this.corrected  = initialState;
+        this.squareRoot = squareRoot(initialState.getCovariance());
+        this.observer   = null;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public ProcessEstimate estimationStep(final T measurement) {
+
+        final NonLinearEvolution evolution =
+                        process.getEvolution(corrected.getTime(), corrected.getState(), measurement);
+
+        // prediction
+        predict(evolution);
+
+        // correction
+        final RealMatrix h = evolution.getMeasurementJacobian();
+        if (h == null) {
+            corrected = predicted;
+        } else {
+            final RealMatrix hs                   = h.multiply(squareRoot);
+            final RealMatrix innovationCovariance = hs.multiplyTransposed(hs).add(measurement.getCovariance());
+            final RealVector innovation           = process.getInnovation(measurement, evolution, innovationCovariance);
+            correct(measurement, evolution.getStateTransitionMatrix(), innovation, h, innovationCovariance);
+        }
+
+        if (observer != null) {
+            observer.updatePerformed(this);
+        }
+        return corrected;
+
+    }
+
+    /** Perform prediction step.
+     * @param evolution process evolution
+     */
+    private void predict(final NonLinearEvolution evolution) {
+
+        final RealMatrix stm = evolution.getStateTransitionMatrix();
+        final int        n   = squareRoot.getRowDimension();
+
+        // triangularize the pre-array [F S | Q^1/2]
+        final RealMatrix preArray = MatrixUtils.createRealMatrix(2 * n, n);
+        preArray.setSubMatrix(stm.multiply(squareRoot).transpose().getData(), 0, 0);
+        preArray.setSubMatrix(squareRoot(evolution.getProcessNoiseMatrix()).transpose().getData(), n, 0);
+        squareRoot = new QRDecomposition(preArray).getR().getSubMatrix(0, n - 1, 0, n - 1).transpose();
+
+        priorCovariance       = corrected.getCovariance();
+        stateTransitionMatrix = stm;
+        predicted             = new ProcessEstimate(evolution.getCurrentTime(), evolution.getCurrentState(),
+                                                    squareRoot.multiplyTransposed(squareRoot));
+
+    }
+
+    /** Perform correction step.
+     * @param measurement single measurement to correct the state
+     * @param stm state transition matrix
+     * @param innovation innovation vector (null if measurement should be ignored)
+     * @param h Jacobian of measurement with respect to state
+     * @param innovationCovariance innovation covariance matrix
+     */
+    private void correct(final T measurement, final RealMatrix stm, final RealVector innovation,
+                         final RealMatrix h, final RealMatrix innovationCovariance) {
+
+        if (innovation == null) {
+            // measurement should be ignored
+            corrected = predicted;
+            return;
+        }
+
+        // whiten the measurement, so its components become independent with unit variance
+        final double[][] l  = new CholeskyDecomposition(measurement.getCovariance()).getL().getData();
+        final double[][] hw = forwardSubstitution(l, h.getData());
+        final double[][] nu = forwardSubstitution(l, MatrixUtils.createColumnRealMatrix(innovation.toArray()).getData());
+
+        // process scalar components one at a time (Potter's algorithm)
+        final int        n     = squareRoot.getRowDimension();
+        final double[]   x0    = predicted.getState().toArray();
+        final double[]   x     = x0.clone();
+        final double[][] s     = squareRoot.getData();
+        final double[]   phi   = new double[n];
+        final double[]   gain  = new double[n];
+        for (int k = 0; k < hw.length; ++k) {
+
+            // residual, taking into account the corrections from the previous components
+            double residual = nu[k][0];
+            for (int i = 0; i < n; ++i) {
+                residual -= hw[k][i] * (x[i] - x0[i]);
+            }
+
+            // phi = S^T h
+            double alpha = 1.0;
+            for (int j = 0; j < n; ++j) {
+                double sum = 0;
+                for (int i = 0; i < n; ++i) {
+                    sum += s[i][j] * hw[k][i];
+                }
+                phi[j] = sum;
+                alpha += sum * sum;
+            }
+
+            // gain = S phi / alpha
+            for (int i = 0; i < n; ++i) {
+                double sum = 0;
+                for (int j = 0; j < n; ++j) {
+                    sum += s[i][j] * phi[j];
+                }
+                gain[i] = sum / alpha;
+            }
+
+            // update state and square root
+            final double beta = alpha / (alpha + FastMath.sqrt(alpha));
+            for (int i = 0; i < n; ++i) {
+                x[i] += gain[i] * residual;
+                for (int j = 0; j < n; ++j) {
+                    s[i][j] -= beta * gain[i] * phi[j];
+                }
+            }
+
+        }
+        squareRoot = MatrixUtils.createRealMatrix(s);
+
+        // Kalman gain for the complete measurement: K = P H^T R^-1 = P Hw^T L^-1
+        final RealMatrix covariance = squareRoot.multiplyTransposed(squareRoot);
+        final double[][] kT         = backSubstitution(l, MatrixUtils.createRealMatrix(hw).multiply(covariance).getData());
+
+        corrected = new ProcessEstimate(measurement.getTime(), MatrixUtils.createRealVector(x), covariance,
+                                        stm, h, innovationCovariance, MatrixUtils.createRealMatrix(kT).transpose());
+
+    }
+
+    /** Compute a square root of a symmetric positive semi-definite matrix.
+     * <p>
+     * The matrix is symmetrized first and eigenvalues slightly negative
+     * due to numerical noise are considered to be zero.
+     * </p>
+     * @param m symmetric positive semi-definite matrix
+     * @return matrix S such that S S<sup>T</sup> = m
+     */
+    private static RealMatrix squareRoot(final RealMatrix m) {
+        final EigenDecompositionSymmetric ed = new EigenDecompositionSymmetric(m.add(m.transpose()).scalarMultiply(0.5));
+        final RealMatrix root = ed.getV().copy();
+        for (int j = 0; j < root.getColumnDimension(); ++j) {
+            final double sqrt = FastMath.sqrt(FastMath.max(0.0, ed.getEigenvalue(j)));
+            for (int i = 0; i < root.getRowDimension(); ++i) {
+                root.multiplyEntry(i, j, sqrt);
+            }
+        }
+        return root;
+    }
+
+    /** Solve L X = B for a lower triangular matrix L.
+     * @param l lower triangular matrix
+     * @param b right hand side
+     * @return solution X
+     */
+    private static double[][] forwardSubstitution(final double[][] l, final double[][] b) {
+        final double[][] x = new double[b.length][];
+        for (int i = 0; i < b.length; ++i) {
+            x[i] = b[i].clone();
+            for (int j = 0; j < i; ++j) {
+                for (int c = 0; c < x[i].length; ++c) {
+                    x[i][c] -= l[i][j] * x[j][c];
+                }
+            }
+            for (int c = 0; c < x[i].length; ++c) {
+                x[i][c] /= l[i][i];
+            }
+        }
+        return x;
+    }
+
+    /** Solve L<sup>T</sup> X = B for a lower triangular matrix L.
+     * @param l lower triangular matrix
+     * @param b right hand side
+     * @return solution X
+     */
+    private static double[][] backSubstitution(final double[][] l, final double[][] b) {
+        final double[][] x = new double[b.length][];
+        for (int i = b.length - 1; i >= 0; --i) {
+            x[i] = b[i].clone();
+            for (int j = i + 1; j < b.length; ++j) {
+                for (int c = 0; c < x[i].length; ++c) {
+                    x[i][c] -= l[j][i] * x[j][c];
+                }
+            }
+            for (int c = 0; c < x[i].length; ++c) {
+                x[i][c] /= l[i][i];
+            }
+        }
+        return x;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void setObserver(final KalmanObserver kalmanObserver) {
+        this.observer = kalmanObserver;
+        observer.init(this);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public ProcessEstimate getPredicted() {
+        return predicted;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public ProcessEstimate getCorrected() {
+        return corrected;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public RealMatrix getStateCrossCovariance() {
+        return priorCovariance.multiplyTransposed(stateTransitionMatrix);
+    }
+
+}
@@ -17,6 +17,7 @@
 package org.orekit.estimation.sequential;
 
 import java.util.List;
+import java.util.concurrent.ExecutorService;
 
 import org.hipparchus.filtering.kalman.KalmanFilter;
 import org.hipparchus.filtering.kalman.ProcessEstimate;
@@ -77,18 +78,23 @@ public class UnscentedKalmanEstimator extends AbstractKalmanEstimator {
      * @param estimatedMeasurementParameters measurement parameters to estimate
      * @param measurementProcessNoiseMatrix provider for measurement process noise matrix
      * @param utProvider provider for the unscented transform.
+     * @param executor executor for parallel sigma points processing (null for serial processing)
+     * @param maxWorkers maximum number of threads working simultaneously, including the calling thread
      */
     UnscentedKalmanEstimator(final MatrixDecomposer decomposer,
                              final List<PropagatorBuilder> propagatorBuilders,
                              final List<CovarianceMatrixProvider> processNoiseMatricesProviders,
                              final ParameterDriversList estimatedMeasurementParameters,
                              final CovarianceMatrixProvider measurementProcessNoiseMatrix,
-                             final UnscentedTransformProvider utProvider) {
+                             final UnscentedTransformProvider utProvider,
+                             final ExecutorService executor,
+                             final int maxWorkers) {
         super(decomposer, propagatorBuilders);
 
         // Build the process model and measurement model
         this.processModel = new UnscentedKalmanModel(propagatorBuilders, processNoiseMatricesProviders,
                                                      estimatedMeasurementParameters, measurementProcessNoiseMatrix);
+        this.processModel.setParallelSigmaPoints(executor, maxWorkers);
 
         this.filter = new UnscentedKalmanFilter<>(decomposer, processModel, processModel.getEstimate(), utProvider);
 
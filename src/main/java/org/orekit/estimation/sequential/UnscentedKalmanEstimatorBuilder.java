@@ -18,6 +18,7 @@ package org.orekit.estimation.sequential;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.ExecutorService;
 
 import org.hipparchus.linear.MatrixDecomposer;
 import org.hipparchus.linear.QRDecomposer;
@@ -59,6 +60,16 @@ public class UnscentedKalmanEstimatorBuilder {
     /** Unscend transform provider. */
     private UnscentedTransformProvider utProvider;
 
+    /** Executor for parallel sigma points processing (null for serial processing).
+     * @since 13.2
+     */
+    private ExecutorService executorService;
+
+    /** Maximum number of threads working simultaneously, including the calling thread.
+     * @since 13.2
+     */
+    private int maxWorkers;
+
     /** Default constructor.
      *  Set an Unscented Kalman filter.
      */
@@ -69,6 +80,8 @@ public class UnscentedKalmanEstimatorBuilder {
         this.processNoiseMatrixProviders     = new ArrayList<>();
         this.measurementProcessNoiseMatrix   = null;
         this.utProvider                      = null;
+        this.executorService                 = null;
+        this.maxWorkers                      = 1;
     }
 
     /** Construct a {@link UnscentedKalmanEstimator} from the data in this builder.
@@ -93,7 +106,7 @@ public class UnscentedKalmanEstimatorBuilder {
         }
         return new UnscentedKalmanEstimator(decomposer, propagatorBuilders, processNoiseMatrixProviders,
                                             estimatedMeasurementsParameters, measurementProcessNoiseMatrix,
-                                            utProvider);
+                                            utProvider, executorService, maxWorkers);
 
     }
 
@@ -115,6 +128,34 @@ public class UnscentedKalmanEstimatorBuilder {
         return this;
     }
 
+    /** Configure parallel processing of sigma points.
+     * <p>
+     * By default, sigma points are propagated and their measurements are predicted
+     * serially. When an executor is configured, propagations and measurements
+     * predictions are performed concurrently, the results being gathered in sigma
+     * points order so the filter output is the same as with serial processing.
+     * As force models and measurements read their parameters from shared drivers,
+     * propagations (resp. measurements predictions) fall back to serial processing
+     * when propagation (resp. measurements) parameters are estimated.
+     * Force models, attitude providers, measurements and modifiers must
+     * be safe to use concurrently when this mode is used; this is generally
+     * not the case for maneuvers, as their triggers keep track of firing state.
+     * </p>
+     * @param executor executor running the tasks (will <em>not</em>
+     * be shut down by the estimator), null for serial processing
+     * @param workers maximum number of threads working simultaneously, including the calling thread
+     * @return this object.
+     * @since 13.2
+     */
+    public UnscentedKalmanEstimatorBuilder sigmaPointsExecutor(final ExecutorService executor, final int workers) {
+        if (executor != null && workers < 1) {
+            throw new OrekitException(OrekitMessages.NOT_STRICTLY_POSITIVE, workers);
+        }
+        this.executorService = executor;
+        this.maxWorkers      = workers;
+        return this;
+    }
+
     /** Add a propagation configuration.
      * <p>
      * This method must be called once for each propagator to managed with the
@@ -23,6 +23,8 @@ import org.hipparchus.linear.ArrayRealVector;
 import org.hipparchus.linear.MatrixUtils;
 import org.hipparchus.linear.RealMatrix;
 import org.hipparchus.linear.RealVector;
+import org.orekit.errors.OrekitException;
+import org.orekit.errors.OrekitMessages;
 import org.orekit.estimation.measurements.EstimatedMeasurement;
 import org.orekit.estimation.measurements.EstimatedMeasurementBase;
 import org.orekit.estimation.measurements.ObservedMeasurement;
@@ -33,11 +35,13 @@ import org.orekit.propagation.SpacecraftState;
 import org.orekit.propagation.conversion.AbstractPropagatorBuilder;
 import org.orekit.propagation.conversion.PropagatorBuilder;
 import org.orekit.time.AbsoluteDate;
+import org.orekit.utils.ParallelLoop;
 import org.orekit.utils.ParameterDriver;
 import org.orekit.utils.ParameterDriversList;
 import org.orekit.utils.ParameterDriversList.DelegatingDriver;
 
 import java.util.List;
+import java.util.concurrent.ExecutorService;
 
 /** Class defining the process model dynamics to use with a {@link UnscentedKalmanEstimator}.
  * @author Gaëtan Pierre
@@ -49,6 +53,16 @@ public class UnscentedKalmanModel extends AbstractKalmanEstimationCommon impleme
     /** Reference values. */
     private final double[] referenceValues;
 
+    /** Executor for parallel sigma points processing (null for serial processing).
+     * @since 13.2
+     */
+    private ExecutorService executorService;
+
+    /** Maximum number of threads working simultaneously, including the calling thread.
+     * @since 13.2
+     */
+    private int maxWorkers;
+
     /** Unscented Kalman process model constructor (package private).
      * @param propagatorBuilders propagators builders used to evaluate the orbits.
      * @param covarianceMatricesProviders provider for covariance matrix
@@ -87,6 +101,38 @@ public class UnscentedKalmanModel extends AbstractKalmanEstimationCommon impleme
         }
     }
 
+    /** Set up parallel processing of sigma points.
+     * <p>
+     * By default, sigma points are propagated and their measurements are predicted
+     * serially. When an executor is set, the propagators are still built in the
+     * calling thread (as propagator builders and parameters drivers are shared),
+     * but the propagations and the measurements predictions are performed in parallel.
+     * Results are always gathered in sigma points order in the calling thread, and
+     * builders are reset to their original orbit and mass after each sigma point in
+     * both modes, so the filter output is the same as with serial processing.
+     * </p>
+     * <p>
+     * As force models and measurements read their parameters from shared drivers,
+     * propagations are performed in parallel only if no propagation parameters are
+     * estimated, and measurements predictions are performed in parallel only if
+     * no measurements parameters are estimated; otherwise the corresponding step
+     * falls back to serial processing. Force models, attitude providers, measurements
+     * and modifiers must be safe to use concurrently when this mode is used; this is
+     * generally not the case for maneuvers, as their triggers keep track of firing state.
+     * </p>
+     * @param executor executor running the tasks (will <em>not</em>
+     * be shut down by the model), null for serial processing
+     * @param workers maximum number of threads working simultaneously, including the calling thread
+     * @since 13.2
+     */
+    public void setParallelSigmaPoints(final ExecutorService executor, final int workers) {
+        if (executor != null && workers < 1) {
+            throw new OrekitException(OrekitMessages.NOT_STRICTLY_POSITIVE, workers);
+        }
+        this.executorService = executor;
+        this.maxWorkers      = workers;
+    }
+
     /** {@inheritDoc} */
     @Override
     public UnscentedEvolution getEvolution(final double previousTime, final RealVector[] sigmaPoints,
@@ -119,18 +165,51 @@ public class UnscentedKalmanModel extends AbstractKalmanEstimationCommon impleme
         // Note that -not- resetting the builders on the last iteration means that their time-stamps correspond
         // to the prediction time.  The assumption is that the unscented filter calls getEvolution, then
         // getPredictedMeasurements, then getInnovation.
-        for (int i = sigmaPoints.length - 1; i >= 0; i--) {
+        if (executorService == null || getEstimatedPropagationParameters().getNbParams() > 0) {
+            for (int i = sigmaPoints.length - 1; i >= 0; i--) {
 
-            // Set parameters for this sigma point
-            final RealVector sigmaPoint = sigmaPoints[i].copy();
-            updateParameters(sigmaPoint);
+                // Set parameters for this sigma point
+                final RealVector sigmaPoint = sigmaPoints[i].copy();
+                updateParameters(sigmaPoint);
 
-            // Get propagators
-            final Propagator[] propagators = getEstimatedPropagators();
+                // Get propagators
+                final Propagator[] propagators = getEstimatedPropagators();
+
+                // Do prediction
+                predictedSigmaPoints[i] =
+                        predictState(observedMeasurement.getDate(), sigmaPoint, propagators, i != 0);
+            }
+        } else {
+
+            // Build all propagators in the calling thread, as builders and drivers are shared
+            final RealVector[]        points      = new RealVector[sigmaPoints.length];
+            final Propagator[][]      propagators = new Propagator[sigmaPoints.length][];
+            final SpacecraftState[][] original    = new SpacecraftState[sigmaPoints.length][];
+            for (int i = sigmaPoints.length - 1; i >= 0; i--) {
+                points[i] = sigmaPoints[i].copy();
+                updateParameters(points[i]);
+                propagators[i] = getEstimatedPropagators();
+                original[i]    = new SpacecraftState[propagators[i].length];
+                for (int k = 0; k < propagators[i].length; ++k) {
+                    original[i][k] = propagators[i][k].getInitialState();
+                }
+            }
+
+            // Propagate all sigma points concurrently
+            final AbsoluteDate        date       = observedMeasurement.getDate();
+            final SpacecraftState[][] propagated = new SpacecraftState[sigmaPoints.length][];
+            ParallelLoop.run(executorService, maxWorkers, sigmaPoints.length, i -> {
+                propagated[i] = new SpacecraftState[propagators[i].length];
+                for (int k = 0; k < propagators[i].length; ++k) {
+                    propagated[i][k] = propagators[i][k].propagate(date);
+                }
+            });
+
+            // Update builders in the same order as serial processing
+            for (int i = sigmaPoints.length - 1; i >= 0; i--) {
+                predictedSigmaPoints[i] = updatePredictedState(points[i], original[i], propagated[i], i != 0);
+            }
 
-            // Do prediction
-            predictedSigmaPoints[i] =
-                    predictState(observedMeasurement.getDate(), sigmaPoint, propagators, i != 0);
         }
 
         // Reset the driver reference values based on the first sigma point
@@ -200,27 +279,52 @@ public class UnscentedKalmanModel extends AbstractKalmanEstimationCommon impleme
         // Initialize arrays of predicted states and measurements
         final RealVector[] predictedMeasurements = new RealVector[predictedSigmaPoints.length];
 
-        // Loop on sigma points to predict measurements
-        for (int i = 0; i < predictedSigmaPoints.length; ++i) {
-            // Set parameters for this sigma point
-            final RealVector predictedSigmaPoint = predictedSigmaPoints[i].copy();
-            updateParameters(predictedSigmaPoint);
+        if (executorService == null || getEstimatedMeasurementsParameters().getNbParams() > 0) {
+            // Loop on sigma points to predict measurements
+            for (int i = 0; i < predictedSigmaPoints.length; ++i) {
+                // Set parameters for this sigma point
+                final RealVector predictedSigmaPoint = predictedSigmaPoints[i].copy();
+                updateParameters(predictedSigmaPoint);
+
+                // Get propagators
+                final Propagator[] propagators = getEstimatedPropagators();
 
-            // Get propagators
-            final Propagator[] propagators = getEstimatedPropagators();
+                // Predicted states
+                final SpacecraftState[] predictedStates = new SpacecraftState[propagators.length];
+                for (int k = 0; k < propagators.length; ++k) {
+                    predictedStates[k] = propagators[k].getInitialState();
+                }
 
-            // Predicted states
-            final SpacecraftState[] predictedStates = new SpacecraftState[propagators.length];
-            for (int k = 0; k < propagators.length; ++k) {
-                predictedStates[k] = propagators[k].getInitialState();
+                // Calculated estimated measurement from predicted sigma point
+                final EstimatedMeasurement<?> estimated = estimateMeasurement(observedMeasurement, getCurrentMeasurementNumber(),
+                                                                                       KalmanEstimatorUtil.filterRelevant(observedMeasurement,
+                                                                                                                          predictedStates));
+                predictedMeasurements[i] = new ArrayRealVector(estimated.getEstimatedValue())
+                        .ebeDivide(theoreticalStandardDeviation);
+            }
+        } else {
+
+            // Build all predicted states in the calling thread, as builders and drivers are shared
+            final SpacecraftState[][] predictedStates = new SpacecraftState[predictedSigmaPoints.length][];
+            for (int i = 0; i < predictedSigmaPoints.length; ++i) {
+                updateParameters(predictedSigmaPoints[i].copy());
+                final Propagator[] propagators = getEstimatedPropagators();
+                predictedStates[i] = new SpacecraftState[propagators.length];
+                for (int k = 0; k < propagators.length; ++k) {
+                    predictedStates[i][k] = propagators[k].getInitialState();
+                }
             }
 
-            // Calculated estimated measurement from predicted sigma point
-            final EstimatedMeasurement<?> estimated = estimateMeasurement(observedMeasurement, getCurrentMeasurementNumber(),
-                                                                                   KalmanEstimatorUtil.filterRelevant(observedMeasurement,
-                                                                                                                      predictedStates));
-            predictedMeasurements[i] = new ArrayRealVector(estimated.getEstimatedValue())
-                    .ebeDivide(theoreticalStandardDeviation);
+            // Estimate all measurements concurrently
+            final int measurementNumber = getCurrentMeasurementNumber();
+            ParallelLoop.run(executorService, maxWorkers, predictedSigmaPoints.length, i -> {
+                final EstimatedMeasurement<?> estimated = estimateMeasurement(observedMeasurement, measurementNumber,
+                                                                              KalmanEstimatorUtil.filterRelevant(observedMeasurement,
+                                                                                                                 predictedStates[i]));
+                predictedMeasurements[i] = new ArrayRealVector(estimated.getEstimatedValue())
+                        .ebeDivide(theoreticalStandardDeviation);
+            });
+
         }
 
         // Return the predicted measurements
@@ -261,11 +365,43 @@ public class UnscentedKalmanModel extends AbstractKalmanEstimationCommon impleme
     }
 
 
+    /** Predict the state for one sigma point.
+     * @param date prediction date
+     * @param previousState sigma point
+     * @param propagators propagators built for the sigma point
+     * @param resetState if true, the builders are reset to their original orbit and mass after prediction
+     * @return predicted sigma point
+     */
     private RealVector predictState(final AbsoluteDate date,
                                     final RealVector previousState,
                                     final Propagator[] propagators,
                                     final boolean resetState) {
 
+        // Record original states and propagate
+        final SpacecraftState[] original  = new SpacecraftState[propagators.length];
+        final SpacecraftState[] predicted = new SpacecraftState[propagators.length];
+        for (int k = 0; k < propagators.length; ++k) {
+            original[k]  = propagators[k].getInitialState();
+            predicted[k] = propagators[k].propagate(date);
+        }
+
+        return updatePredictedState(previousState, original, predicted, resetState);
+
+    }
+
+    /** Update the builders and the state vector with the propagated states for one sigma point.
+     * @param previousState sigma point
+     * @param original initial states of the propagators built for the sigma point
+     * @param predicted propagated states
+     * @param resetState if true, the builders are reset to their original orbit and mass after prediction
+     * @return predicted sigma point
+     * @since 13.2
+     */
+    private RealVector updatePredictedState(final RealVector previousState,
+                                            final SpacecraftState[] original,
+                                            final SpacecraftState[] predicted,
+                                            final boolean resetState) {
+
         // Initialise predicted state
         final RealVector predictedState = previousState.copy();
 
@@ -273,23 +409,17 @@ public class UnscentedKalmanModel extends AbstractKalmanEstimationCommon impleme
         int jOrb = 0;
 
         // Loop over propagators
-        for (int k = 0; k < propagators.length; ++k) {
-
-            // Record original state
-            final SpacecraftState originalState = propagators[k].getInitialState();
-
-            // Propagate
-            final SpacecraftState predicted = propagators[k].propagate(date);
+        for (int k = 0; k < predicted.length; ++k) {
 
             // Update the builder with the predicted orbit
             // This updates the orbital drivers with the values of the predicted orbit
-            getBuilders().get(k).resetOrbit(predicted.getOrbit());
+            getBuilders().get(k).resetOrbit(predicted[k].getOrbit());
 
             // Additionally, for PropagatorBuilders which use mass, update the builder with the predicted mass value.
             // If any mass changes have occurred during this estimation step, such as maneuvers,
             // the updated mass value must be carried over so that new Propagators from this builder start with the updated mass.
             if (getBuilders().get(k) instanceof AbstractPropagatorBuilder) {
-                ((AbstractPropagatorBuilder<?>) (getBuilders().get(k))).setMass(predicted.getMass());
+                ((AbstractPropagatorBuilder<?>) (getBuilders().get(k))).setMass(predicted[k].getMass());
             }
 
             // The orbital parameters in the state vector are replaced with their predicted values
@@ -305,9 +435,12 @@ public class UnscentedKalmanModel extends AbstractKalmanEstimationCommon impleme
                 }
             }
 
-            // Set the builder back to the original time
+            // Set the builder back to the original time and mass
             if (resetState) {
-                getBuilders().get(k).resetOrbit(originalState.getOrbit());
+                getBuilders().get(k).resetOrbit(original[k].getOrbit());
+                if (getBuilders().get(k) instanceof AbstractPropagatorBuilder) {
+                    ((AbstractPropagatorBuilder<?>) (getBuilders().get(k))).setMass(original[k].getMass());
+                }
             }
         }
 
@@ -0,0 +1,63 @@
+/* Copyright 2002-2025 CS GROUP
+ * Licensed to CS GROUP (CS) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * CS licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.orekit.files.ccsds.ndm.odm.oem;
+
+import org.orekit.files.ccsds.ndm.odm.CartesianCovariance;
+import org.orekit.utils.TimeStampedPVCoordinates;
+
+/** Consumer for ephemeris data streamed by {@link OemParser#parseMessage(org.orekit.data.DataSource,
+ * OemDataConsumer) OEM parser}.
+ * <p>
+ * Calls are made in message order: {@link #startSegment(OemMetadata, double)} once per
+ * segment, when its metadata is complete, then {@link #addData(TimeStampedPVCoordinates,
+ * boolean)} for each ephemeris data line and {@link #addCovarianceMatrix(CartesianCovariance)}
+ * for each covariance matrix, then {@link #endSegment(OemMetadata)}.
+ * </p>
+ * @author Luc Maisonobe
+ * @since 13.2
+ */
+public interface OemDataConsumer {
+
+    /** Start a new segment.
+     * @param metadata segment metadata
+     * @param mu gravitational parameter in m³/s²
+     */
+    default void startSegment(OemMetadata metadata, double mu) {
+        // nothing by default
+    }
+
+    /** Add a data point.
+     * @param data data point, in segment metadata frame
+     * @param hasAcceleration true if the data point has acceleration data
+     */
+    void addData(TimeStampedPVCoordinates data, boolean hasAcceleration);
+
+    /** Add a covariance matrix.
+     * @param covarianceMatrix covariance matrix
+     */
+    default void addCovarianceMatrix(CartesianCovariance covarianceMatrix) {
+        // nothing by default
+    }
+
+    /** End current segment.
+     * @param metadata segment metadata
+     */
+    default void endSegment(OemMetadata metadata) {
+        // nothing by default
+    }
+
+}
@@ -48,6 +48,7 @@ import org.orekit.files.ccsds.utils.parsing.ProcessingState;
 import org.orekit.files.general.EphemerisFileParser;
 import org.orekit.time.AbsoluteDate;
 import org.orekit.utils.IERSConventions;
+import org.orekit.utils.TimeStampedPVCoordinates;
 import org.orekit.utils.units.Unit;
 
 /**
@@ -61,6 +62,12 @@ import org.orekit.utils.units.Unit;
  * way to use parsers is to either dedicate one parser for each message
  * and drop it afterwards, or to use a single-thread loop.
  * </p>
+ * <p>
+ * For very large messages, {@link #parseMessage(DataSource, OemDataConsumer)} streams
+ * ephemeris data lines and covariance matrices to a {@link OemDataConsumer consumer}
+ * as they are parsed, instead of storing them in the segments, so memory consumption
+ * does not depend on message size.
+ * </p>
  * @author sports
  * @since 6.1
  */
@@ -105,6 +112,11 @@ public class OemParser extends OdmParser<Oem, OemParser> implements EphemerisFil
     /** State vector logical block being read. */
     private StateVector stateVectorBlock;
 
+    /** Consumer for streamed data (null if data is stored in segments).
+     * @since 13.2
+     */
+    private OemDataConsumer consumer;
+
     /**
      * Complete constructor.
      * <p>
@@ -139,6 +151,29 @@ public class OemParser extends OdmParser<Oem, OemParser> implements EphemerisFil
         return parseMessage(source);
     }
 
+    /** Parse a data source, streaming ephemeris data to a consumer.
+     * <p>
+     * The returned message contains the header and one segment for each
+     * ephemeris block with its metadata and comments, but segments data
+     * do not contain any ephemeris data line nor covariance matrix. These
+     * are sent to the consumer as they are parsed and are not stored.
+     * As segments are empty, {@link OemSegment#getPropagator() segments propagators}
+     * cannot be built from the returned message.
+     * </p>
+     * @param source data source to parse
+     * @param dataConsumer consumer for ephemeris data lines and covariance matrices
+     * @return parsed message, with empty segments data
+     * @since 13.2
+     */
+    public Oem parseMessage(final DataSource source, final OemDataConsumer dataConsumer) {
+        this.consumer = dataConsumer;
+        try {
+            return parseMessage(source);
+        } finally {
+            this.consumer = null;
+        }
+    }
+
     /** {@inheritDoc} */
     @Override
     public OdmHeader getHeader() {
@@ -217,6 +252,9 @@ public class OemParser extends OdmParser<Oem, OemParser> implements EphemerisFil
         if (metadata.getCenter().getBody() != null) {
             setMuCreated(metadata.getCenter().getBody().getGM());
         }
+        if (consumer != null) {
+            consumer.startSegment(metadata, getSelectedMu());
+        }
         anticipateNext(getFileFormat() == FileFormat.XML ? structureProcessor : this::processKvnDataToken);
         return true;
     }
@@ -241,6 +279,9 @@ public class OemParser extends OdmParser<Oem, OemParser> implements EphemerisFil
     public boolean finalizeData() {
         if (metadata != null) {
             currentBlock.validate(header.getFormatVersion());
+            if (consumer != null) {
+                consumer.endSegment(metadata);
+            }
             segments.add(new OemSegment(metadata, currentBlock, getSelectedMu()));
         }
         metadata          = null;
@@ -273,8 +314,7 @@ public class OemParser extends OdmParser<Oem, OemParser> implements EphemerisFil
             stateVectorBlock = new StateVector();
             anticipateNext(this::processXmlStateVectorToken);
         } else {
-            currentBlock.addData(stateVectorBlock.toTimeStampedPVCoordinates(),
-                                 stateVectorBlock.hasAcceleration());
+            addData(stateVectorBlock.toTimeStampedPVCoordinates(), stateVectorBlock.hasAcceleration());
             stateVectorBlock = null;
             anticipateNext(structureProcessor);
         }
@@ -295,13 +335,40 @@ public class OemParser extends OdmParser<Oem, OemParser> implements EphemerisFil
                         this::processXmlCovarianceToken :
                         this::processKvnCovarianceToken);
         } else {
-            currentBlock.addCovarianceMatrix(currentCovariance);
+            addCovarianceMatrix(currentCovariance);
             currentCovariance = null;
             anticipateNext(structureProcessor);
         }
         return true;
     }
 
+    /** Add a data point, either to current block or to streaming consumer.
+     * @param data data point to add
+     * @param hasAcceleration true if the current data point has acceleration data
+     * @return always return {@code true}
+     * @since 13.2
+     */
+    private boolean addData(final TimeStampedPVCoordinates data, final boolean hasAcceleration) {
+        if (consumer == null) {
+            return currentBlock.addData(data, hasAcceleration);
+        } else {
+            consumer.addData(data, hasAcceleration);
+            return true;
+        }
+    }
+
+    /** Add a covariance matrix, either to current block or to streaming consumer.
+     * @param covarianceMatrix covariance matrix to add
+     * @since 13.2
+     */
+    private void addCovarianceMatrix(final CartesianCovariance covarianceMatrix) {
+        if (consumer == null) {
+            currentBlock.addCovarianceMatrix(covarianceMatrix);
+        } else {
+            consumer.addCovarianceMatrix(covarianceMatrix);
+        }
+    }
+
     /** Process one metadata token.
      * @param token token to process
      * @return true if token was processed, false otherwise
@@ -380,8 +447,8 @@ public class OemParser extends OdmParser<Oem, OemParser> implements EphemerisFil
                     stateVectorBlock.setA(1, Units.KM_PER_S2.toSI(Double.parseDouble(fields[8])));
                     stateVectorBlock.setA(2, Units.KM_PER_S2.toSI(Double.parseDouble(fields[9])));
                 }
-                return currentBlock.addData(stateVectorBlock.toTimeStampedPVCoordinates(),
-                                            stateVectorBlock.hasAcceleration());
+                return addData(stateVectorBlock.toTimeStampedPVCoordinates(),
+                               stateVectorBlock.hasAcceleration());
             } catch (NumberFormatException nfe) {
                 throw new OrekitException(nfe, OrekitMessages.UNABLE_TO_PARSE_LINE_IN_FILE,
                                           token.getLineNumber(), token.getFileName(), token.getRawContent());
@@ -460,7 +527,7 @@ public class OemParser extends OdmParser<Oem, OemParser> implements EphemerisFil
                 }
                 if (++currentRow == 6) {
                     // this was the last row
-                    currentBlock.addCovarianceMatrix(currentCovariance);
+                    addCovarianceMatrix(currentCovariance);
                     currentCovariance = null;
                     currentRow        = -1;
                 }
@@ -0,0 +1,254 @@
+/* Copyright 2002-2025 CS GROUP
+ * Licensed to CS GROUP (CS) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * CS licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.orekit.files.ccsds.ndm.odm.oem;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.BiConsumer;
+
+import org.hipparchus.exception.LocalizedCoreFormats;
+import org.hipparchus.util.FastMath;
+import org.orekit.errors.OrekitIllegalArgumentException;
+import org.orekit.files.general.EphemerisFile;
+import org.orekit.frames.Frame;
+import org.orekit.propagation.BoundedPropagator;
+import org.orekit.time.AbsoluteDate;
+import org.orekit.utils.CartesianDerivativesFilter;
+import org.orekit.utils.TimeStampedPVCoordinates;
+
+/** Streaming consumer feeding bounded-window propagators.
+ * <p>
+ * This consumer keeps at most a fixed number of ephemeris data lines in memory.
+ * Each time this window is full, it builds a {@link BoundedPropagator} covering
+ * the window and hands it to a sink, then slides the window forward. The last
+ * points of a window are kept as the first points of the next window (as many
+ * as interpolation samples, but at least one point must be new), so that dates
+ * close to the boundary between two windows can be interpolated with centered
+ * samples from either window and that the union of windows covers the whole segment
+ * without gaps. At segment end, the remaining points are flushed as a last, shorter window.
+ * </p>
+ * <p>
+ * Used with {@link OemParser#parseMessage(org.orekit.data.DataSource, OemDataConsumer)},
+ * this allows for example to screen large catalogs of ephemerides with memory
+ * consumption independent of messages sizes.
+ * </p>
+ * @author Luc Maisonobe
+ * @since 13.2
+ */
+public class SlidingWindowOemConsumer implements OemDataConsumer {
+
+    /** Maximum number of points in a window. */
+    private final int windowSize;
+
+    /** Sink for window propagators. */
+    private final BiConsumer<OemMetadata, BoundedPropagator> sink;
+
+    /** Points in current window. */
+    private final List<TimeStampedPVCoordinates> window;
+
+    /** Acceleration availability for points in current window. */
+    private final List<Boolean> accelerations;
+
+    /** Metadata of current segment. */
+    private OemMetadata metadata;
+
+    /** Gravitational parameter of current segment. */
+    private double mu;
+
+    /** Number of points shared between consecutive windows. */
+    private int overlap;
+
+    /** Indicator for points not yet handed to the sink. */
+    private boolean pending;
+
+    /** Simple constructor.
+     * @param windowSize maximum number of points in a window (must be at least 2)
+     * @param sink sink for window propagators, called with the metadata of the
+     * segment the window belongs to
+     */
+    public SlidingWindowOemConsumer(final int windowSize,
+                                    final BiConsumer<OemMetadata, BoundedPropagator> sink) {
+        if (windowSize < 2) {
+            throw new OrekitIllegalArgumentException(LocalizedCoreFormats.NUMBER_TOO_SMALL, windowSize, 2);
+        }
+        this.windowSize    = windowSize;
+        this.sink          = sink;
+        this.window        = new ArrayList<>(windowSize);
+        this.accelerations = new ArrayList<>(windowSize);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void startSegment(final OemMetadata segmentMetadata, final double segmentMu) {
+        this.metadata = segmentMetadata;
+        this.mu       = segmentMu;
+        this.overlap  = FastMath.min(segmentMetadata.getInterpolationDegree() + 1, windowSize - 1);
+        this.pending  = false;
+        window.clear();
+        accelerations.clear();
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void addData(final TimeStampedPVCoordinates data, final boolean hasAcceleration) {
+        window.add(data);
+        accelerations.add(hasAcceleration);
+        pending = true;
+        if (window.size() == windowSize) {
+            flush();
+            window.subList(0, windowSize - overlap).clear();
+            accelerations.subList(0, windowSize - overlap).clear();
+        }
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void endSegment(final OemMetadata segmentMetadata) {
+        if (pending && window.size() > 1) {
+            flush();
+        }
+        window.clear();
+        accelerations.clear();
+        metadata = null;
+    }
+
+    /** Hand a propagator for current window to the sink. */
+    private void flush() {
+
+        // restrict window to useable time range
+        AbsoluteDate start = window.get(0).getDate();
+        if (metadata.getUseableStartTime() != null && metadata.getUseableStartTime().isAfter(start)) {
+            start = metadata.getUseableStartTime();
+        }
+        AbsoluteDate stop = window.get(window.size() - 1).getDate();
+        if (metadata.getUseableStopTime() != null && metadata.getUseableStopTime().isBefore(stop)) {
+            stop = metadata.getUseableStopTime();
+        }
+
+        if (start.isBeforeOrEqualTo(stop)) {
+            final CartesianDerivativesFilter filter = accelerations.contains(Boolean.FALSE) ?
+                                                      CartesianDerivativesFilter.USE_PV :
+                                                      CartesianDerivativesFilter.USE_PVA;
+            sink.accept(metadata,
+                        new WindowSegment(metadata, mu, new ArrayList<>(window), filter, start, stop).getPropagator());
+        }
+        pending = false;
+
+    }
+
+    /** Ephemeris segment for one window. */
+    private static class WindowSegment implements EphemerisFile.EphemerisSegment<TimeStampedPVCoordinates> {
+
+        /** Segment metadata. */
+        private final OemMetadata metadata;
+
+        /** Gravitational parameter. */
+        private final double mu;
+
+        /** Points in the window. */
+        private final List<TimeStampedPVCoordinates> coordinates;
+
+        /** Available derivatives. */
+        private final CartesianDerivativesFilter filter;
+
+        /** Start date. */
+        private final AbsoluteDate start;
+
+        /** Stop date. */
+        private final AbsoluteDate stop;
+
+        /** Simple constructor.
+         * @param metadata segment metadata
+         * @param mu gravitational parameter
+         * @param coordinates points in the window
+         * @param filter available derivatives
+         * @param start start date
+         * @param stop stop date
+         */
+        WindowSegment(final OemMetadata metadata, final double mu,
+                      final List<TimeStampedPVCoordinates> coordinates,
+                      final CartesianDerivativesFilter filter,
+                      final AbsoluteDate start, final AbsoluteDate stop) {
+            this.metadata    = metadata;
+            this.mu          = mu;
+            this.coordinates = coordinates;
+            this.filter      = filter;
+            this.start       = start;
+            this.stop        = stop;
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        public double getMu() {
+            return mu;
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        public Frame getFrame() {
+            return metadata.getFrame();
+        }
+
+        /** {@inheritDoc}
+         * <p>
+         * As in {@link OemSegment#getInertialFrame()}, this implementation returns
+         * {@link #getFrame() defining frame} if it is pseudo-inertial, or its closest
+         * ancestor that is pseudo-inertial.
+         * </p>
+         */
+        @Override
+        public Frame getInertialFrame() {
+            Frame frame = getFrame();
+            while (!frame.isPseudoInertial()) {
+                frame = frame.getParent();
+            }
+            return frame;
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        public int getInterpolationSamples() {
+            return FastMath.min(metadata.getInterpolationDegree() + 1, coordinates.size());
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        public CartesianDerivativesFilter getAvailableDerivatives() {
+            return filter;
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        public List<TimeStampedPVCoordinates> getCoordinates() {
+            return coordinates;
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        public AbsoluteDate getStart() {
+            return start;
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        public AbsoluteDate getStop() {
+            return stop;
+        }
+
+    }
+
+}
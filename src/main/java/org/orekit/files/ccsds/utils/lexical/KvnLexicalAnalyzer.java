@@ -19,83 +19,55 @@ package org.orekit.files.ccsds.utils.lexical;
 import java.io.BufferedReader;
 import java.io.IOException;
 import java.io.Reader;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
 
 import org.hipparchus.exception.DummyLocalizable;
+import org.hipparchus.util.FastMath;
 import org.orekit.data.DataSource;
 import org.orekit.errors.OrekitException;
 import org.orekit.errors.OrekitMessages;
 import org.orekit.files.ccsds.utils.FileFormat;
-import org.orekit.utils.units.Unit;
 import org.orekit.utils.units.UnitsCache;
 
 /** Lexical analyzer for Key-Value Notation CCSDS messages.
+ * <p>
+ * Since 13.2, lines are scanned by hand rather than matched against regular expressions.
+ * Most lines in large ephemeris messages are raw data lines, which previously failed
+ * four successive regular expressions matches before being recognized as such. They
+ * are now identified by looking at their first non-blank character only. The token
+ * stream delivered to {@link MessageParser message parsers} is unchanged: lines are
+ * split exactly as the regular expressions below would have done.
+ * </p>
+ * <pre>
+ *   entry:   ^\p{Blank}*([A-Z][A-Z_0-9]*)\p{Blank}*=\p{Blank}*((?:(?:\p{Graph}.*?)?))(?:\p{Blank}+\[([units]*)\])?\p{Blank}*$
+ *   comment: ^\p{Blank}*(COMMENT)\p{Blank}*((?:(?:\p{Graph}.*?)?))\p{Blank}*$
+ *   start:   ^\p{Blank}*([A-Z][A-Z_0-9]*)_START\p{Blank}*$
+ *   stop:    ^\p{Blank}*([A-Z][A-Z_0-9]*)_STOP\p{Blank}*$
+ * </pre>
+ * <p>
+ * Lines matching none of these patterns are delivered as {@link TokenType#RAW_LINE raw lines}.
+ * </p>
  * @author Luc Maisonobe
  * @since 11.0
  */
 public class KvnLexicalAnalyzer implements LexicalAnalyzer {
 
-    /** Regular expression matching blanks at start of line. */
-    private static final String LINE_START         = "^\\p{Blank}*";
+    /** Key for comments. */
+    private static final String COMMENT = "COMMENT";
 
-    /** Regular expression matching the special COMMENT key that must be stored in the matcher. */
-    private static final String COMMENT_KEY        = "(COMMENT)\\p{Blank}*";
+    /** Suffix for block start keys. */
+    private static final String START = "_START";
 
-    /** Regular expression matching a non-comment key that must be stored in the matcher. */
-    private static final String NON_COMMENT_KEY    = "([A-Z][A-Z_0-9]*)\\p{Blank}*=\\p{Blank}*";
+    /** Suffix for block stop keys. */
+    private static final String STOP = "_STOP";
 
-    /** Regular expression matching a no-value key starting a block that must be stored in the matcher. */
-    private static final String START_KEY          = "([A-Z][A-Z_0-9]*)_START";
-
-    /** Regular expression matching a no-value key ending a block that must be stored in the matcher. */
-    private static final String STOP_KEY           = "([A-Z][A-Z_0-9]*)_STOP";
-
-    /** Regular expression matching a value that must be stored in the matcher. */
-    private static final String OPTIONAL_VALUE     = "((?:(?:\\p{Graph}.*?)?))";
-
-    /** Operators allowed in units specifications. */
-    private static final String UNITS_OPERATORS    = "-+*×.·/⁄^√⁺⁻";
-
-    /** Letters allowed in units specifications. */
-    private static final String UNITS_LETTERS      = "A-Za-zµμ"; // beware µ (U+00B5) and μ (U+03BC) look similar but are different
-
-    /** Digits allowed in units specifications. */
-    private static final String UNITS_DIGITS       = "0-9⁰¹²³⁴⁵⁶⁷⁸⁹";
-
-    /** Fractions allowed in units specifications. */
-    private static final String UNITS_FRACTIONS    = "¼½¾⅐⅑⅒⅓⅔⅕⅖⅗⅘⅙⅚⅛⅜⅝⅞";
-
-    /** Symbols allowed in units specifications. */
-    private static final String UNITS_SYMBOLS      = "%°◦′'″\\\"#";
-
-    /** Parentheses allowed in units specifications. */
-    private static final String UNITS_PARENTHESES  = "()";
-
-    /** Regular expression matching units that must be stored in the matcher. */
-    private static final String UNITS              = "(?:\\p{Blank}+\\[([" +
-                                                     UNITS_OPERATORS + UNITS_LETTERS + UNITS_DIGITS +
-                                                     UNITS_FRACTIONS + UNITS_SYMBOLS + UNITS_PARENTHESES +
-                                                    "]*)\\])?";
-
-    /** Regular expression matching blanks at end of line. */
-    private static final String LINE_END           = "\\p{Blank}*$";
-
-    /** Regular expression matching comment entry. */
-    private static final Pattern COMMENT_ENTRY     = Pattern.compile(LINE_START + COMMENT_KEY + OPTIONAL_VALUE + LINE_END);
-
-    /** Regular expression matching non-comment entry with optional units.
-     * <p>
-     * Note than since 12.0, we allow empty values at lexical analysis level and detect them at parsing level
-     * </p>
-     */
-    private static final Pattern NON_COMMENT_ENTRY = Pattern.compile(LINE_START + NON_COMMENT_KEY + OPTIONAL_VALUE + UNITS + LINE_END);
-
-    /** Regular expression matching no-value entry starting a block. */
-    private static final Pattern START_ENTRY       = Pattern.compile(LINE_START + START_KEY + LINE_END);
-
-    /** Regular expression matching no-value entry ending a block. */
-    private static final Pattern STOP_ENTRY        = Pattern.compile(LINE_START + STOP_KEY + LINE_END);
+    /** Characters allowed in units specifications, ranges A-Z, a-z and 0-9 excluded. */
+    private static final String UNITS_CHARACTERS =
+                    "-+*×.·/⁄^√⁺⁻" +      // operators
+                    "µμ" +                // beware µ (U+00B5) and μ (U+03BC) look similar but are different
+                    "⁰¹²³⁴⁵⁶⁷⁸⁹" +        // superscript digits
+                    "¼½¾⅐⅑⅒⅓⅔⅕⅖⅗⅘⅙⅚⅛⅜⅝⅞" + // fractions
+                    "%°◦′'″\"#" +          // symbols
+                    "()";                 // parentheses
 
     /** Source providing the data to analyze. */
     private final DataSource source;
@@ -124,51 +96,13 @@ public class KvnLexicalAnalyzer implements LexicalAnalyzer {
                 throw new OrekitException(OrekitMessages.UNABLE_TO_FIND_FILE, source.getName());
             }
 
+            final String name = source.getName();
             int lineNumber = 0;
             for (String line = br.readLine(); line != null; line = br.readLine()) {
                 ++lineNumber;
-                if (line.trim().length() == 0) {
-                    continue;
-                }
-
-                final Matcher nonComment = NON_COMMENT_ENTRY.matcher(line);
-                if (nonComment.matches()) {
-                    // regular key=value line
-                    final Unit units = cache.getUnits(nonComment.groupCount() > 2 ? nonComment.group(3) : null);
-                    messageParser.process(new ParseToken(TokenType.ENTRY,
-                                                         nonComment.group(1), nonComment.group(2),
-                                                         units, lineNumber, source.getName()));
-                } else {
-                    final Matcher comment = COMMENT_ENTRY.matcher(line);
-                    if (comment.matches()) {
-                        // comment line
-                        messageParser.process(new ParseToken(TokenType.ENTRY,
-                                                             comment.group(1), comment.group(2), null,
-                                                             lineNumber, source.getName()));
-                    } else {
-                        final Matcher start = START_ENTRY.matcher(line);
-                        if (start.matches()) {
-                            // block start
-                            messageParser.process(new ParseToken(TokenType.START,
-                                                                 start.group(1), null, null,
-                                                                 lineNumber, source.getName()));
-                        } else {
-                            final Matcher stop = STOP_ENTRY.matcher(line);
-                            if (stop.matches()) {
-                                // block end
-                                messageParser.process(new ParseToken(TokenType.STOP,
-                                                                     stop.group(1), null, null,
-                                                                     lineNumber, source.getName()));
-                            } else {
-                                // raw data line
-                                messageParser.process(new ParseToken(TokenType.RAW_LINE,
-                                                                     null, line, null,
-                                                                     lineNumber, source.getName()));
-                            }
-                        }
-                    }
+                if (!isEmpty(line)) {
+                    messageParser.process(tokenize(line, lineNumber, name));
                 }
-
             }
 
             return messageParser.build();
@@ -178,4 +112,179 @@ public class KvnLexicalAnalyzer implements LexicalAnalyzer {
         }
     }
 
+    /** Split one line into a token.
+     * @param line line to split (must not be empty)
+     * @param lineNumber number of the line
+     * @param name name of the file
+     * @return token for the line
+     */
+    private ParseToken tokenize(final String line, final int lineNumber, final String name) {
+
+        final int length   = line.length();
+        final int keyStart = skipBlanks(line, 0, length);
+        if (keyStart >= length || !isUpperCase(line.charAt(keyStart))) {
+            // fast path for data lines, which never start with a key
+            return new ParseToken(TokenType.RAW_LINE, null, line, null, lineNumber, name);
+        }
+
+        int keyEnd = keyStart + 1;
+        while (keyEnd < length && isKeyCharacter(line.charAt(keyEnd))) {
+            ++keyEnd;
+        }
+        final int lineEnd = trimEnd(line, keyEnd, length);
+
+        final int equal = skipBlanks(line, keyEnd, length);
+        if (equal < length && line.charAt(equal) == '=') {
+            // regular key=value line, with optional units
+            final int valueStart = skipBlanks(line, equal + 1, length);
+            int       valueEnd   = FastMath.max(valueStart, lineEnd);
+            String    units      = null;
+            if (lineEnd > valueStart && line.charAt(lineEnd - 1) == ']') {
+                int open = lineEnd - 2;
+                while (open > valueStart && isUnitsCharacter(line.charAt(open))) {
+                    --open;
+                }
+                if (open > valueStart && line.charAt(open) == '[' && isBlank(line.charAt(open - 1))) {
+                    units    = line.substring(open + 1, lineEnd - 1);
+                    valueEnd = trimEnd(line, valueStart, open);
+                }
+            }
+            if (isValue(line, valueStart, valueEnd)) {
+                return new ParseToken(TokenType.ENTRY,
+                                      line.substring(keyStart, keyEnd), line.substring(valueStart, valueEnd),
+                                      cache.getUnits(units), lineNumber, name);
+            }
+        }
+
+        if (line.startsWith(COMMENT, keyStart)) {
+            // comment line
+            final int valueStart = skipBlanks(line, keyStart + COMMENT.length(), length);
+            final int valueEnd   = trimEnd(line, valueStart, length);
+            if (isValue(line, valueStart, valueEnd)) {
+                return new ParseToken(TokenType.ENTRY,
+                                      COMMENT, line.substring(valueStart, valueEnd), null,
+                                      lineNumber, name);
+            }
+        }
+
+        if (keyEnd == lineEnd) {
+            if (keyEnd - keyStart > START.length() && line.startsWith(START, keyEnd - START.length())) {
+                // block start
+                return new ParseToken(TokenType.START,
+                                      line.substring(keyStart, keyEnd - START.length()), null, null,
+                                      lineNumber, name);
+            }
+            if (keyEnd - keyStart > STOP.length() && line.startsWith(STOP, keyEnd - STOP.length())) {
+                // block end
+                return new ParseToken(TokenType.STOP,
+                                      line.substring(keyStart, keyEnd - STOP.length()), null, null,
+                                      lineNumber, name);
+            }
+        }
+
+        // raw data line
+        return new ParseToken(TokenType.RAW_LINE, null, line, null, lineNumber, name);
+
+    }
+
+    /** Check if a line is empty.
+     * @param line line to check
+     * @return true if line contains only whitespace and control characters
+     */
+    private static boolean isEmpty(final String line) {
+        for (int i = 0; i < line.length(); ++i) {
+            if (line.charAt(i) > ' ') {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /** Skip blank characters.
+     * @param line line to scan
+     * @param from index of first character to check
+     * @param to index after last character to check
+     * @return index of first non-blank character, or {@code to} if there are none
+     */
+    private static int skipBlanks(final String line, final int from, final int to) {
+        int i = from;
+        while (i < to && isBlank(line.charAt(i))) {
+            ++i;
+        }
+        return i;
+    }
+
+    /** Trim blank characters at the end of a range.
+     * @param line line to scan
+     * @param from index of first character to check
+     * @param to index after last character to check
+     * @return index after last non-blank character, or {@code from} if there are none
+     */
+    private static int trimEnd(final String line, final int from, final int to) {
+        int i = to;
+        while (i > from && isBlank(line.charAt(i - 1))) {
+            --i;
+        }
+        return i;
+    }
+
+    /** Check if a range is a valid value.
+     * <p>
+     * Values are either empty or start with a visible ASCII character, and cannot
+     * contain line terminators.
+     * </p>
+     * @param line line to scan
+     * @param from index of first character of the value
+     * @param to index after last character of the value
+     * @return true if range is a valid value
+     */
+    private static boolean isValue(final String line, final int from, final int to) {
+        if (from < to) {
+            final char first = line.charAt(from);
+            if (first < '!' || first > '~') {
+                return false;
+            }
+            for (int i = from + 1; i < to; ++i) {
+                final char c = line.charAt(i);
+                if (c == '\u0085' || c == '\u2028' || c == '\u2029' || c == '\n' || c == '\r') {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+
+    /** Check if a character is a blank (space or tab).
+     * @param c character to check
+     * @return true if character is a blank
+     */
+    private static boolean isBlank(final char c) {
+        return c == ' ' || c == '\t';
+    }
+
+    /** Check if a character is an upper case ASCII letter.
+     * @param c character to check
+     * @return true if character is an upper case ASCII letter
+     */
+    private static boolean isUpperCase(final char c) {
+        return c >= 'A' && c <= 'Z';
+    }
+
+    /** Check if a character is allowed in keys after the first one.
+     * @param c character to check
+     * @return true if character is allowed in keys
+     */
+    private static boolean isKeyCharacter(final char c) {
+        return isUpperCase(c) || c >= '0' && c <= '9' || c == '_';
+    }
+
+    /** Check if a character is allowed in units specifications.
+     * @param c character to check
+     * @return true if character is allowed in units specifications
+     */
+    private static boolean isUnitsCharacter(final char c) {
+        return isUpperCase(c) || c >= 'a' && c <= 'z' || c >= '0' && c <= '9' ||
+               UNITS_CHARACTERS.indexOf(c) >= 0;
+    }
+
 }
@@ -0,0 +1,746 @@
+/* Copyright 2002-2025 CS GROUP
+ * Licensed to CS GROUP (CS) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * CS licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.orekit.files.general;
+
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.Buffer;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.RandomAccess;
+import java.util.function.Function;
+
+import org.hipparchus.exception.LocalizedCoreFormats;
+import org.hipparchus.geometry.euclidean.threed.Vector3D;
+import org.hipparchus.linear.MatrixUtils;
+import org.hipparchus.linear.RealMatrix;
+import org.orekit.annotation.DefaultDataContext;
+import org.orekit.data.DataContext;
+import org.orekit.errors.OrekitException;
+import org.orekit.errors.OrekitIllegalArgumentException;
+import org.orekit.errors.OrekitMessages;
+import org.orekit.frames.Frame;
+import org.orekit.frames.Frames;
+import org.orekit.frames.Predefined;
+import org.orekit.orbits.OrbitType;
+import org.orekit.orbits.PositionAngleType;
+import org.orekit.propagation.StateCovariance;
+import org.orekit.time.AbsoluteDate;
+import org.orekit.time.TimeOffset;
+import org.orekit.utils.CartesianDerivativesFilter;
+import org.orekit.utils.TimeStampedPVCoordinates;
+
+/** Ephemeris file stored in a compact binary columnar format and accessed through memory mapping.
+ * <p>
+ * Text formats like OEM, SP3 or STK must be parsed entirely before the first
+ * ephemeris point can be used, and {@link OrekitEphemerisFile} keeps all points
+ * as Java objects. This class provides an alternative persistent form intended
+ * for very large catalogs. The file is generated once from any {@link EphemerisFile}
+ * by {@link #write(EphemerisFile, Path)}, and {@link #open(Path) opening} it only
+ * reads a small directory describing satellites and segments, the bulk data being
+ * memory-mapped. Coordinates are built on the fly when {@link
+ * BinaryEphemerisSegment#getCoordinates() segment coordinates} are accessed, typically
+ * by the neighbors search of the {@link EphemerisSegment#getPropagator() segment propagators},
+ * so only the pages around the interpolation dates are ever read from disk.
+ * </p>
+ * <p>
+ * The file layout is a fixed size header (magic number, format version and directory size),
+ * followed by the directory (satellites identifiers, central attraction coefficients and
+ * segments metadata), followed by the data. For each segment, data is stored as columns of
+ * 64 bits floating point numbers: dates as offsets in seconds with respect to segment start,
+ * then the position coordinates, velocity coordinates and acceleration coordinates,
+ * depending on the {@link EphemerisSegment#getAvailableDerivatives() available derivatives}.
+ * Segments may optionally hold covariance matrices, which are stored after the coordinates
+ * as a column of date offsets and 21 columns for the lower triangular part of Cartesian
+ * covariance matrices expressed in segment frame.
+ * </p>
+ * <p>
+ * Frames are stored by name. The default {@link #open(Path)} method only recognizes
+ * {@link Predefined predefined frames}, other frames must be provided by the caller
+ * using {@link #open(Path, Function)}.
+ * </p>
+ * <p>
+ * As memory mapping is limited to 2GiB buffers, one segment cannot hold more than
+ * about 27 millions entries with accelerations, but the file as a whole has no size limit.
+ * </p>
+ * @author Luc Maisonobe
+ * @since 13.2
+ */
+public class BinaryEphemerisFile
+    implements EphemerisFile<TimeStampedPVCoordinates, BinaryEphemerisFile.BinaryEphemerisSegment> {
+
+    /** Magic number at file start. */
+    private static final byte[] MAGIC = "ORKEPHEM".getBytes(StandardCharsets.US_ASCII);
+
+    /** Format version. */
+    private static final int VERSION = 1;
+
+    /** Size of the header (magic number, version and directory size). */
+    private static final int HEADER_SIZE = 16;
+
+    /** Size of one double number. */
+    private static final int DOUBLE_SIZE = 8;
+
+    /** Number of columns for covariance (date offset and lower triangular part of 6x6 matrix). */
+    private static final int COVARIANCE_COLUMNS = 22;
+
+    /** Maximum size of one mapped segment. */
+    private static final long MAX_SEGMENT_SIZE = Integer.MAX_VALUE;
+
+    /** Satellites. */
+    private final Map<String, BinarySatelliteEphemeris> satellites;
+
+    /** Simple constructor.
+     * @param satellites satellites
+     */
+    private BinaryEphemerisFile(final Map<String, BinarySatelliteEphemeris> satellites) {
+        this.satellites = Collections.unmodifiableMap(satellites);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public Map<String, BinarySatelliteEphemeris> getSatellites() {
+        return satellites;
+    }
+
+    /** Write an ephemeris file in binary format, without covariance.
+     * @param ephemerisFile ephemeris file to write
+     * @param file file to write
+     * @exception IOException if file cannot be written
+     * @see #write(EphemerisFile, Path, CovariancesProvider)
+     */
+    public static void write(final EphemerisFile<?, ?> ephemerisFile, final Path file)
+        throws IOException {
+        write(ephemerisFile, file, (id, segment) -> Collections.emptyList());
+    }
+
+    /** Write an ephemeris file in binary format.
+     * <p>
+     * The provided covariances must be {@link OrbitType#CARTESIAN Cartesian} covariances
+     * expressed in the frame of the segment they belong to.
+     * </p>
+     * @param ephemerisFile ephemeris file to write
+     * @param file file to write
+     * @param covariancesProvider provider for covariances associated with each segment
+     * @exception IOException if file cannot be written
+     */
+    public static void write(final EphemerisFile<?, ?> ephemerisFile, final Path file,
+                             final CovariancesProvider covariancesProvider)
+        throws IOException {
+
+        // gather data and build directory
+        final List<EphemerisSegment<?>>     segments    = new ArrayList<>();
+        final List<List<StateCovariance>>   covariances = new ArrayList<>();
+        final ByteArrayOutputStream         baos        = new ByteArrayOutputStream();
+        final DataOutputStream              directory   = new DataOutputStream(baos);
+        long offset = 0;
+        directory.writeInt(ephemerisFile.getSatellites().size());
+        for (final SatelliteEphemeris<?, ?> satellite : ephemerisFile.getSatellites().values()) {
+            directory.writeUTF(satellite.getId());
+            directory.writeDouble(satellite.getMu());
+            directory.writeInt(satellite.getSegments().size());
+            for (final EphemerisSegment<?> segment : satellite.getSegments()) {
+
+                final List<StateCovariance> segmentCovariances =
+                                covariancesProvider.getCovariances(satellite.getId(), segment);
+                for (final StateCovariance covariance : segmentCovariances) {
+                    checkCovariance(covariance, segment.getFrame());
+                }
+
+                final int  count   = segment.getCoordinates().size();
+                final int  columns = columns(segment.getAvailableDerivatives());
+                final long size    = DOUBLE_SIZE * (((long) count) * columns +
+                                                    ((long) segmentCovariances.size()) * COVARIANCE_COLUMNS);
+                if (size > MAX_SEGMENT_SIZE) {
+                    throw new OrekitIllegalArgumentException(LocalizedCoreFormats.NUMBER_TOO_LARGE,
+                                                             size, MAX_SEGMENT_SIZE);
+                }
+
+                directory.writeUTF(segment.getFrame().getName());
+                directory.writeDouble(segment.getMu());
+                directory.writeInt(segment.getInterpolationSamples());
+                directory.writeInt(segment.getAvailableDerivatives().getMaxOrder());
+                writeDate(directory, segment.getStart());
+                writeDate(directory, segment.getStop());
+                directory.writeInt(count);
+                directory.writeInt(segmentCovariances.size());
+                directory.writeLong(offset);
+
+                segments.add(segment);
+                covariances.add(segmentCovariances);
+                offset += size;
+
+            }
+        }
+
+        // pad directory so data columns are aligned
+        while (baos.size() % DOUBLE_SIZE != 0) {
+            directory.writeByte(0);
+        }
+        directory.flush();
+
+        try (DataOutputStream out =
+                        new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(file)))) {
+
+            // header
+            out.write(MAGIC);
+            out.writeInt(VERSION);
+            out.writeInt(baos.size());
+
+            // directory
+            baos.writeTo(out);
+
+            // data
+            for (int i = 0; i < segments.size(); ++i) {
+                writeCoordinates(out, segments.get(i));
+                writeCovariances(out, segments.get(i).getStart(), covariances.get(i));
+            }
+
+        }
+
+    }
+
+    /** Check a covariance can be stored.
+     * @param covariance covariance to check
+     * @param frame segment frame
+     */
+    private static void checkCovariance(final StateCovariance covariance, final Frame frame) {
+        if (covariance.getOrbitType() != OrbitType.CARTESIAN) {
+            throw new OrekitIllegalArgumentException(OrekitMessages.WRONG_ORBIT_PARAMETERS_TYPE,
+                                                     covariance.getOrbitType(), OrbitType.CARTESIAN);
+        }
+        if (covariance.getFrame() == null) {
+            throw new OrekitIllegalArgumentException(OrekitMessages.FRAMES_MISMATCH,
+                                                     covariance.getLOF().getName(), frame.getName());
+        }
+        if (!covariance.getFrame().getName().equals(frame.getName())) {
+            throw new OrekitIllegalArgumentException(OrekitMessages.FRAMES_MISMATCH,
+                                                     covariance.getFrame().getName(), frame.getName());
+        }
+    }
+
+    /** Get the number of coordinates columns.
+     * @param filter filter for available derivatives
+     * @return number of coordinates columns (including date offsets)
+     */
+    private static int columns(final CartesianDerivativesFilter filter) {
+        return 1 + 3 * (filter.getMaxOrder() + 1);
+    }
+
+    /** Write a date.
+     * @param out output stream
+     * @param date date to write
+     * @exception IOException if date cannot be written
+     */
+    private static void writeDate(final DataOutputStream out, final AbsoluteDate date)
+        throws IOException {
+        out.writeLong(date.getSeconds());
+        out.writeLong(date.getAttoSeconds());
+    }
+
+    /** Write coordinates columns of one segment.
+     * @param out output stream
+     * @param segment segment to write
+     * @exception IOException if data cannot be written
+     */
+    private static void writeCoordinates(final DataOutputStream out, final EphemerisSegment<?> segment)
+        throws IOException {
+
+        final List<? extends TimeStampedPVCoordinates> coordinates = segment.getCoordinates();
+        final AbsoluteDate start = segment.getStart();
+
+        // dates column
+        for (final TimeStampedPVCoordinates pv : coordinates) {
+            out.writeDouble(pv.getDate().durationFrom(start));
+        }
+
+        // coordinates columns
+        for (int order = 0; order <= segment.getAvailableDerivatives().getMaxOrder(); ++order) {
+            for (int component = 0; component < 3; ++component) {
+                for (final TimeStampedPVCoordinates pv : coordinates) {
+                    final Vector3D v = order == 0 ? pv.getPosition() : (order == 1 ? pv.getVelocity() : pv.getAcceleration());
+                    out.writeDouble(component == 0 ? v.getX() : (component == 1 ? v.getY() : v.getZ()));
+                }
+            }
+        }
+
+    }
+
+    /** Write covariances columns of one segment.
+     * @param out output stream
+     * @param start segment start date
+     * @param covariances covariances to write
+     * @exception IOException if data cannot be written
+     */
+    private static void writeCovariances(final DataOutputStream out, final AbsoluteDate start,
+                                         final List<StateCovariance> covariances)
+        throws IOException {
+
+        // dates column
+        for (final StateCovariance covariance : covariances) {
+            out.writeDouble(covariance.getDate().durationFrom(start));
+        }
+
+        // lower triangular part columns
+        for (int i = 0; i < 6; ++i) {
+            for (int j = 0; j <= i; ++j) {
+                for (final StateCovariance covariance : covariances) {
+                    out.writeDouble(covariance.getMatrix().getEntry(i, j));
+                }
+            }
+        }
+
+    }
+
+    /** Open a binary ephemeris file, recognizing only predefined frames.
+     * <p>
+     * This method uses the {@link DataContext#getDefault() default data context}.
+     * </p>
+     * @param file file to open
+     * @return opened ephemeris file
+     * @exception IOException if file cannot be read
+     * @see #open(Path, Function)
+     */
+    @DefaultDataContext
+    public static BinaryEphemerisFile open(final Path file) throws IOException {
+        final Frames frames = DataContext.getDefault().getFrames();
+        return open(file, name -> {
+            for (final Predefined predefined : Predefined.values()) {
+                if (predefined.getName().equals(name)) {
+                    return frames.getFrame(predefined);
+                }
+            }
+            return null;
+        });
+    }
+
+    /** Open a binary ephemeris file.
+     * <p>
+     * Only the directory is read, coordinates and covariances are memory-mapped.
+     * </p>
+     * @param file file to open
+     * @param frameResolver resolver for frames names (must return null for unknown frames)
+     * @return opened ephemeris file
+     * @exception IOException if file cannot be read
+     */
+    public static BinaryEphemerisFile open(final Path file, final Function<String, Frame> frameResolver)
+        throws IOException {
+
+        final String name = file.toString();
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+
+            // header
+            final ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE);
+            readFully(channel, header, 0L, name);
+            final byte[] magic = new byte[MAGIC.length];
+            header.get(magic);
+            if (!Arrays.equals(MAGIC, magic)) {
+                throw new OrekitException(OrekitMessages.UNSUPPORTED_FILE_FORMAT, name);
+            }
+            final int version = header.getInt();
+            if (version != VERSION) {
+                throw new OrekitException(OrekitMessages.UNSUPPORTED_FILE_FORMAT_VERSION, version, name, VERSION);
+            }
+            final int directorySize = header.getInt();
+
+            // directory
+            final ByteBuffer directoryBuffer = ByteBuffer.allocate(directorySize);
+            readFully(channel, directoryBuffer, HEADER_SIZE, name);
+            final DataInputStream directory =
+                            new DataInputStream(new ByteArrayInputStream(directoryBuffer.array()));
+            final long dataStart = HEADER_SIZE + directorySize;
+
+            final Map<String, BinarySatelliteEphemeris> satellites = new LinkedHashMap<>();
+            try {
+                final int nbSatellites = directory.readInt();
+                for (int i = 0; i < nbSatellites; ++i) {
+                    final String id         = directory.readUTF();
+                    final double mu         = directory.readDouble();
+                    final int    nbSegments = directory.readInt();
+                    final List<BinaryEphemerisSegment> segments = new ArrayList<>(nbSegments);
+                    for (int j = 0; j < nbSegments; ++j) {
+
+                        final String frameName = directory.readUTF();
+                        final Frame  frame     = frameResolver.apply(frameName);
+                        if (frame == null) {
+                            throw new OrekitException(OrekitMessages.FRAME_NOT_ALLOWED, frameName);
+                        }
+                        final double       segmentMu   = directory.readDouble();
+                        final int          samples     = directory.readInt();
+                        final CartesianDerivativesFilter filter =
+                                        CartesianDerivativesFilter.getFilter(directory.readInt());
+                        final AbsoluteDate start       = readDate(directory);
+                        final AbsoluteDate stop        = readDate(directory);
+                        final int          count       = directory.readInt();
+                        final int          nbCov       = directory.readInt();
+                        final long         offset      = directory.readLong();
+
+                        final long size = DOUBLE_SIZE * (((long) count) * columns(filter) +
+                                                         ((long) nbCov) * COVARIANCE_COLUMNS);
+                        if (dataStart + offset + size > channel.size()) {
+                            throw new OrekitException(OrekitMessages.UNEXPECTED_END_OF_FILE, name);
+                        }
+                        final ByteBuffer data = channel.map(FileChannel.MapMode.READ_ONLY,
+                                                            dataStart + offset, size);
+                        segments.add(new BinaryEphemerisSegment(frame, segmentMu, samples, filter,
+                                                                start, stop, count, nbCov, data));
+
+                    }
+                    satellites.put(id, new BinarySatelliteEphemeris(id, mu, segments));
+                }
+            } catch (EOFException eofe) {
+                throw new OrekitException(eofe, OrekitMessages.UNEXPECTED_END_OF_FILE, name);
+            }
+
+            return new BinaryEphemerisFile(satellites);
+
+        }
+    }
+
+    /** Read bytes from a channel.
+     * @param channel channel to read
+     * @param buffer buffer to fill up (will be flipped at the end)
+     * @param position position in channel
+     * @param name name of the file (used for error messages)
+     * @exception IOException if channel cannot be read
+     */
+    private static void readFully(final FileChannel channel, final ByteBuffer buffer,
+                                  final long position, final String name)
+        throws IOException {
+        long p = position;
+        while (buffer.hasRemaining()) {
+            final int n = channel.read(buffer, p);
+            if (n < 0) {
+                throw new OrekitException(OrekitMessages.UNEXPECTED_END_OF_FILE, name);
+            }
+            p += n;
+        }
+        // the cast to Buffer ensures linking to the Java 8 method signature
+        ((Buffer) buffer).flip();
+    }
+
+    /** Read a date.
+     * @param in input stream
+     * @return date read
+     * @exception IOException if date cannot be read
+     */
+    private static AbsoluteDate readDate(final DataInputStream in) throws IOException {
+        final long seconds     = in.readLong();
+        final long attoSeconds = in.readLong();
+        return new AbsoluteDate(new TimeOffset(seconds, attoSeconds));
+    }
+
+    /** Provider for covariances to store along with ephemeris segments. */
+    @FunctionalInterface
+    public interface CovariancesProvider {
+
+        /** Get the covariances associated with one segment.
+         * @param satelliteId satellite identifier
+         * @param segment ephemeris segment
+         * @return Cartesian covariances expressed in segment frame, in chronological order
+         * (may be empty but not null)
+         */
+        List<StateCovariance> getCovariances(String satelliteId, EphemerisSegment<?> segment);
+
+    }
+
+    /** Ephemeris for one satellite in a binary ephemeris file. */
+    public static class BinarySatelliteEphemeris
+        implements SatelliteEphemeris<TimeStampedPVCoordinates, BinaryEphemerisSegment> {
+
+        /** Satellite identifier. */
+        private final String id;
+
+        /** Central attraction coefficient. */
+        private final double mu;
+
+        /** Segments. */
+        private final List<BinaryEphemerisSegment> segments;
+
+        /** Simple constructor.
+         * @param id satellite identifier
+         * @param mu central attraction coefficient
+         * @param segments segments
+         */
+        private BinarySatelliteEphemeris(final String id, final double mu,
+                                         final List<BinaryEphemerisSegment> segments) {
+            this.id       = id;
+            this.mu       = mu;
+            this.segments = Collections.unmodifiableList(segments);
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        public String getId() {
+            return id;
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        public double getMu() {
+            return mu;
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        public List<BinaryEphemerisSegment> getSegments() {
+            return segments;
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        public AbsoluteDate getStart() {
+            return segments.get(0).getStart();
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        public AbsoluteDate getStop() {
+            return segments.get(segments.size() - 1).getStop();
+        }
+
+    }
+
+    /** Ephemeris segment backed by a memory-mapped buffer. */
+    public static class BinaryEphemerisSegment implements EphemerisSegment<TimeStampedPVCoordinates> {
+
+        /** Reference frame. */
+        private final Frame frame;
+
+        /** Central attraction coefficient. */
+        private final double mu;
+
+        /** Number of interpolation samples. */
+        private final int interpolationSamples;
+
+        /** Available derivatives. */
+        private final CartesianDerivativesFilter filter;
+
+        /** Start date. */
+        private final AbsoluteDate start;
+
+        /** Stop date. */
+        private final AbsoluteDate stop;
+
+        /** Coordinates view. */
+        private final List<TimeStampedPVCoordinates> coordinates;
+
+        /** Covariances view. */
+        private final List<StateCovariance> covariances;
+
+        /** Simple constructor.
+         * @param frame reference frame
+         * @param mu central attraction coefficient
+         * @param interpolationSamples number of interpolation samples
+         * @param filter available derivatives
+         * @param start start date
+         * @param stop stop date
+         * @param count number of coordinates
+         * @param nbCov number of covariances
+         * @param data mapped data
+         */
+        private BinaryEphemerisSegment(final Frame frame, final double mu, final int interpolationSamples,
+                                       final CartesianDerivativesFilter filter,
+                                       final AbsoluteDate start, final AbsoluteDate stop,
+                                       final int count, final int nbCov, final ByteBuffer data) {
+            this.frame                = frame;
+            this.mu                   = mu;
+            this.interpolationSamples = interpolationSamples;
+            this.filter               = filter;
+            this.start                = start;
+            this.stop                 = stop;
+            this.coordinates          = new CoordinatesView(data, count);
+            this.covariances          = new CovariancesView(data, count * DOUBLE_SIZE * columns(filter), nbCov);
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        public double getMu() {
+            return mu;
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        public Frame getFrame() {
+            return frame;
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        public int getInterpolationSamples() {
+            return interpolationSamples;
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        public CartesianDerivativesFilter getAvailableDerivatives() {
+            return filter;
+        }
+
+        /** {@inheritDoc}
+         * <p>
+         * The returned list is a read-only view of the memory-mapped data,
+         * coordinates are built on the fly each time an element is accessed.
+         * </p>
+         */
+        @Override
+        public List<TimeStampedPVCoordinates> getCoordinates() {
+            return coordinates;
+        }
+
+        /** Get the covariances.
+         * <p>
+         * The returned list is a read-only view of the memory-mapped data,
+         * covariances are built on the fly each time an element is accessed.
+         * </p>
+         * @return Cartesian covariances expressed in {@link #getFrame() segment frame}
+         */
+        public List<StateCovariance> getCovariances() {
+            return covariances;
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        public AbsoluteDate getStart() {
+            return start;
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        public AbsoluteDate getStop() {
+            return stop;
+        }
+
+        /** Read-only view of coordinates columns. */
+        private class CoordinatesView extends AbstractList<TimeStampedPVCoordinates> implements RandomAccess {
+
+            /** Mapped data. */
+            private final ByteBuffer data;
+
+            /** Number of coordinates. */
+            private final int count;
+
+            /** Simple constructor.
+             * @param data mapped data
+             * @param count number of coordinates
+             */
+            CoordinatesView(final ByteBuffer data, final int count) {
+                this.data  = data;
+                this.count = count;
+            }
+
+            /** {@inheritDoc} */
+            @Override
+            public TimeStampedPVCoordinates get(final int index) {
+                if (index < 0 || index >= count) {
+                    throw new IndexOutOfBoundsException(Integer.toString(index));
+                }
+                final AbsoluteDate date = start.shiftedBy(data.getDouble(index * DOUBLE_SIZE));
+                final Vector3D position = vector(index, 1);
+                final Vector3D velocity = filter.getMaxOrder() > 0 ? vector(index, 4) : Vector3D.ZERO;
+                final Vector3D acceleration = filter.getMaxOrder() > 1 ? vector(index, 7) : Vector3D.ZERO;
+                return new TimeStampedPVCoordinates(date, position, velocity, acceleration);
+            }
+
+            /** Read a vector.
+             * @param index index of the coordinates
+             * @param column index of the first column of the vector
+             * @return vector read
+             */
+            private Vector3D vector(final int index, final int column) {
+                return new Vector3D(data.getDouble((column       * count + index) * DOUBLE_SIZE),
+                                    data.getDouble(((column + 1) * count + index) * DOUBLE_SIZE),
+                                    data.getDouble(((column + 2) * count + index) * DOUBLE_SIZE));
+            }
+
+            /** {@inheritDoc} */
+            @Override
+            public int size() {
+                return count;
+            }
+
+        }
+
+        /** Read-only view of covariances columns. */
+        private class CovariancesView extends AbstractList<StateCovariance> implements RandomAccess {
+
+            /** Mapped data. */
+            private final ByteBuffer data;
+
+            /** Offset of covariance columns in mapped data. */
+            private final int offset;
+
+            /** Number of covariances. */
+            private final int count;
+
+            /** Simple constructor.
+             * @param data mapped data
+             * @param offset offset of covariance columns in mapped data
+             * @param count number of covariances
+             */
+            CovariancesView(final ByteBuffer data, final int offset, final int count) {
+                this.data   = data;
+                this.offset = offset;
+                this.count  = count;
+            }
+
+            /** {@inheritDoc} */
+            @Override
+            public StateCovariance get(final int index) {
+                if (index < 0 || index >= count) {
+                    throw new IndexOutOfBoundsException(Integer.toString(index));
+                }
+                final AbsoluteDate date = start.shiftedBy(data.getDouble(offset + index * DOUBLE_SIZE));
+                final RealMatrix matrix = MatrixUtils.createRealMatrix(6, 6);
+                int column = 1;
+                for (int i = 0; i < 6; ++i) {
+                    for (int j = 0; j <= i; ++j) {
+                        final double c = data.getDouble(offset + (column++ * count + index) * DOUBLE_SIZE);
+                        matrix.setEntry(i, j, c);
+                        matrix.setEntry(j, i, c);
+                    }
+                }
+                return new StateCovariance(matrix, date, frame, OrbitType.CARTESIAN, PositionAngleType.MEAN);
+            }
+
+            /** {@inheritDoc} */
+            @Override
+            public int size() {
+                return count;
+            }
+
+        }
+
+    }
+
+}
@@ -78,12 +78,25 @@ public class RinexObservation extends RinexFile<RinexObservationHeader> {
      */
     public void addObservationDataSet(final ObservationDataSet observationsDataSet) {
 
-        final RinexObservationHeader header  = getHeader();
-        final AbsoluteDate           current = observationsDataSet.getDate();
+        checkDate(getHeader(),
+                  observations.isEmpty() ? null : observations.get(observations.size() - 1).getDate(),
+                  observationsDataSet.getDate());
+
+        observations.add(observationsDataSet);
+
+    }
+
+    /** Check an observation date is consistent with header and previous observation.
+     * @param header file header
+     * @param previous date of previous observation (null if there are no previous observations)
+     * @param current date of current observation
+     * @since 13.2
+     */
+    static void checkDate(final RinexObservationHeader header,
+                          final AbsoluteDate previous, final AbsoluteDate current) {
 
         // check interval from previous observation
-        if (!observations.isEmpty()) {
-            final AbsoluteDate previous   = observations.get(observations.size() - 1).getDate();
+        if (previous != null) {
             final double       factor     = current.durationFrom(previous) / header.getInterval();
             final double       acceptable = FastMath.max(0.0, FastMath.rint(factor));
             if (FastMath.abs(factor - acceptable) > 0.01) {
@@ -101,8 +114,6 @@ public class RinexObservation extends RinexFile<RinexObservationHeader> {
                                                      current, first, last);
         }
 
-        observations.add(observationsDataSet);
-
     }
 
     /** Extract the receiver clock model.
@@ -0,0 +1,484 @@
+/* Copyright 2002-2025 CS GROUP
+ * Licensed to CS GROUP (CS) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * CS licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.orekit.files.rinex.observation;
+
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.RandomAccess;
+
+import org.orekit.files.rinex.RinexFile;
+import org.orekit.gnss.ObservationType;
+import org.orekit.gnss.SatInSystem;
+import org.orekit.time.AbsoluteDate;
+
+/** Columnar container for Rinex observation file.
+ * <p>
+ * This container is an alternative to {@link RinexObservation} for large files.
+ * Instead of one {@link ObservationDataSet} and one {@link ObservationData} per
+ * satellite per epoch and per observable, it stores the observations in primitive
+ * arrays: for each satellite, one row per epoch at which the satellite was observed,
+ * and in each row one column per observable, with values as {@code double} and
+ * loss of lock indicators and signal strengths as {@code byte}.
+ * </p>
+ * <p>
+ * A {@link #getObservationDataSets() lazy view} is available for compatibility
+ * with code expecting {@link ObservationDataSet} instances; these instances are
+ * built on the fly upon access and are not cached.
+ * </p>
+ * @see RinexObservationParser#parseColumns(org.orekit.data.DataSource)
+ * @author Luc Maisonobe
+ * @since 13.2
+ */
+public class RinexObservationColumns extends RinexFile<RinexObservationHeader> {
+
+    /** Initial capacity for arrays. */
+    private static final int INITIAL_CAPACITY = 16;
+
+    /** Epochs dates. */
+    private AbsoluteDate[] epochs;
+
+    /** Event flags for each epoch. */
+    private int[] eventFlags;
+
+    /** Receiver clock offsets for each epoch. */
+    private double[] rcvrClkOffsets;
+
+    /** Number of epochs. */
+    private int nbEpochs;
+
+    /** Satellites, in order of first appearance. */
+    private final List<SatInSystem> satellites;
+
+    /** Columns for each satellite. */
+    private final Map<SatInSystem, SatelliteColumns> columns;
+
+    /** Satellites columns for each record (in file order). */
+    private SatelliteColumns[] recordColumns;
+
+    /** Row index for each record (in file order). */
+    private int[] recordRows;
+
+    /** Number of records. */
+    private int nbRecords;
+
+    /** Columns of the record being parsed. */
+    private SatelliteColumns current;
+
+    /** Simple constructor.
+     * @param header header
+     */
+    public RinexObservationColumns(final RinexObservationHeader header) {
+        super(header);
+        this.epochs         = new AbsoluteDate[INITIAL_CAPACITY];
+        this.eventFlags     = new int[INITIAL_CAPACITY];
+        this.rcvrClkOffsets = new double[INITIAL_CAPACITY];
+        this.nbEpochs       = 0;
+        this.satellites     = new ArrayList<>();
+        this.columns        = new HashMap<>();
+        this.recordColumns  = new SatelliteColumns[INITIAL_CAPACITY];
+        this.recordRows     = new int[INITIAL_CAPACITY];
+        this.nbRecords      = 0;
+        this.current        = null;
+    }
+
+    /** Start a new record, i.e. the observations of one satellite at one epoch.
+     * <p>
+     * A new epoch is started if {@code date} is not {@link AbsoluteDate#isEqualTo(
+     * org.orekit.time.TimeStamped) equal} to the date of the current epoch. Epochs must
+     * be added chronologically, within header date range, and separated by an integer
+     * multiple of the {@link RinexObservationHeader#getInterval() interval}, just as in
+     * {@link RinexObservation#addObservationDataSet(ObservationDataSet)}.
+     * </p>
+     * <p>
+     * The observations of the record are initialized as missing, they must be set
+     * afterward by calling {@link #setObservation(int, double, int, int)}.
+     * </p>
+     * @param satellite observed satellite
+     * @param types types of observations for this satellite
+     * @param date observation date
+     * @param eventFlag event flag
+     * @param rcvrClkOffset receiver clock offset
+     */
+    public void startRecord(final SatInSystem satellite, final List<ObservationType> types,
+                            final AbsoluteDate date, final int eventFlag, final double rcvrClkOffset) {
+
+        if (nbEpochs == 0 || !epochs[nbEpochs - 1].isEqualTo(date)) {
+            // this is a new epoch
+            RinexObservation.checkDate(getHeader(), nbEpochs == 0 ? null : epochs[nbEpochs - 1], date);
+            if (nbEpochs == epochs.length) {
+                epochs         = Arrays.copyOf(epochs,         2 * nbEpochs);
+                eventFlags     = Arrays.copyOf(eventFlags,     2 * nbEpochs);
+                rcvrClkOffsets = Arrays.copyOf(rcvrClkOffsets, 2 * nbEpochs);
+            }
+            epochs[nbEpochs]         = date;
+            eventFlags[nbEpochs]     = eventFlag;
+            rcvrClkOffsets[nbEpochs] = rcvrClkOffset;
+            ++nbEpochs;
+        }
+
+        current = columns.get(satellite);
+        if (current == null) {
+            // this is the first time we see this satellite
+            current = new SatelliteColumns(satellite, types);
+            satellites.add(satellite);
+            columns.put(satellite, current);
+        }
+
+        if (nbRecords == recordRows.length) {
+            recordColumns = Arrays.copyOf(recordColumns, 2 * nbRecords);
+            recordRows    = Arrays.copyOf(recordRows,    2 * nbRecords);
+        }
+        recordColumns[nbRecords] = current;
+        recordRows[nbRecords]    = current.addRow(nbEpochs - 1);
+        ++nbRecords;
+
+    }
+
+    /** Set one observation in the current record.
+     * @param typeIndex index of the observation type in the satellite types list
+     * @param value observed value
+     * @param lli loss of lock indicator
+     * @param signalStrength signal strength
+     * @see #startRecord(SatInSystem, List, AbsoluteDate, int, double)
+     */
+    public void setObservation(final int typeIndex, final double value,
+                               final int lli, final int signalStrength) {
+        current.set(current.nbRows - 1, typeIndex, value, lli, signalStrength);
+    }
+
+    /** Get the number of epochs.
+     * @return number of epochs
+     */
+    public int getNbEpochs() {
+        return nbEpochs;
+    }
+
+    /** Get the date of an epoch.
+     * @param epochIndex index of the epoch
+     * @return date of the epoch
+     */
+    public AbsoluteDate getEpoch(final int epochIndex) {
+        return epochs[checkEpochIndex(epochIndex)];
+    }
+
+    /** Get the event flag of an epoch.
+     * @param epochIndex index of the epoch
+     * @return event flag of the epoch
+     */
+    public int getEventFlag(final int epochIndex) {
+        return eventFlags[checkEpochIndex(epochIndex)];
+    }
+
+    /** Get the receiver clock offset of an epoch.
+     * @param epochIndex index of the epoch
+     * @return receiver clock offset of the epoch
+     */
+    public double getRcvrClkOffset(final int epochIndex) {
+        return rcvrClkOffsets[checkEpochIndex(epochIndex)];
+    }
+
+    /** Get the observed satellites.
+     * @return unmodifiable view of observed satellites, in order of first appearance
+     */
+    public List<SatInSystem> getSatellites() {
+        return Collections.unmodifiableList(satellites);
+    }
+
+    /** Get the types of observations for one satellite.
+     * @param satellite satellite
+     * @return types of observations for the satellite (empty if satellite was never observed)
+     */
+    public List<ObservationType> getObservationTypes(final SatInSystem satellite) {
+        final SatelliteColumns sc = columns.get(satellite);
+        return sc == null ? Collections.emptyList() : Collections.unmodifiableList(sc.types);
+    }
+
+    /** Get the indices of the epochs at which one satellite was observed.
+     * @param satellite satellite
+     * @return indices of epochs at which the satellite was observed, in increasing order
+     */
+    public int[] getEpochIndices(final SatInSystem satellite) {
+        final SatelliteColumns sc = columns.get(satellite);
+        return sc == null ? new int[0] : Arrays.copyOf(sc.epochIndices, sc.nbRows);
+    }
+
+    /** Get one observation.
+     * @param epochIndex index of the epoch
+     * @param satellite satellite
+     * @param type type of observation
+     * @return observed value, or NaN if satellite was not observed at this epoch
+     * or the observation was not available
+     */
+    public double getValue(final int epochIndex, final SatInSystem satellite, final ObservationType type) {
+        final SatelliteColumns sc = columns.get(satellite);
+        if (sc != null) {
+            final int row       = sc.row(checkEpochIndex(epochIndex));
+            final int typeIndex = sc.types.indexOf(type);
+            if (row >= 0 && typeIndex >= 0) {
+                return sc.values[row * sc.nbTypes + typeIndex];
+            }
+        }
+        return Double.NaN;
+    }
+
+    /** Get one loss of lock indicator.
+     * @param epochIndex index of the epoch
+     * @param satellite satellite
+     * @param type type of observation
+     * @return loss of lock indicator, or 0 if satellite was not observed at this epoch
+     * or the observation was not available
+     */
+    public int getLossOfLockIndicator(final int epochIndex, final SatInSystem satellite, final ObservationType type) {
+        final SatelliteColumns sc = columns.get(satellite);
+        if (sc != null) {
+            final int row       = sc.row(checkEpochIndex(epochIndex));
+            final int typeIndex = sc.types.indexOf(type);
+            if (row >= 0 && typeIndex >= 0) {
+                return sc.lli[row * sc.nbTypes + typeIndex];
+            }
+        }
+        return 0;
+    }
+
+    /** Get one signal strength.
+     * @param epochIndex index of the epoch
+     * @param satellite satellite
+     * @param type type of observation
+     * @return signal strength, or 0 if satellite was not observed at this epoch
+     * or the observation was not available
+     */
+    public int getSignalStrength(final int epochIndex, final SatInSystem satellite, final ObservationType type) {
+        final SatelliteColumns sc = columns.get(satellite);
+        if (sc != null) {
+            final int row       = sc.row(checkEpochIndex(epochIndex));
+            final int typeIndex = sc.types.indexOf(type);
+            if (row >= 0 && typeIndex >= 0) {
+                return sc.ssi[row * sc.nbTypes + typeIndex];
+            }
+        }
+        return 0;
+    }
+
+    /** Get the values of one observable for one satellite over all epochs.
+     * @param satellite satellite
+     * @param type type of observation
+     * @return array with one value per epoch, set to NaN at epochs
+     * where satellite was not observed or the observation was not available
+     */
+    public double[] getValues(final SatInSystem satellite, final ObservationType type) {
+        final double[] result = new double[nbEpochs];
+        Arrays.fill(result, Double.NaN);
+        final SatelliteColumns sc = columns.get(satellite);
+        if (sc != null) {
+            final int typeIndex = sc.types.indexOf(type);
+            if (typeIndex >= 0) {
+                for (int row = 0; row < sc.nbRows; ++row) {
+                    result[sc.epochIndices[row]] = sc.values[row * sc.nbTypes + typeIndex];
+                }
+            }
+        }
+        return result;
+    }
+
+    /** Get the loss of lock indicators of one observable for one satellite over all epochs.
+     * @param satellite satellite
+     * @param type type of observation
+     * @return array with one indicator per epoch, set to 0 at epochs
+     * where satellite was not observed or the observation was not available
+     */
+    public byte[] getLossOfLockIndicators(final SatInSystem satellite, final ObservationType type) {
+        final byte[] result = new byte[nbEpochs];
+        final SatelliteColumns sc = columns.get(satellite);
+        if (sc != null) {
+            final int typeIndex = sc.types.indexOf(type);
+            if (typeIndex >= 0) {
+                for (int row = 0; row < sc.nbRows; ++row) {
+                    result[sc.epochIndices[row]] = sc.lli[row * sc.nbTypes + typeIndex];
+                }
+            }
+        }
+        return result;
+    }
+
+    /** Get the signal strengths of one observable for one satellite over all epochs.
+     * @param satellite satellite
+     * @param type type of observation
+     * @return array with one signal strength per epoch, set to 0 at epochs
+     * where satellite was not observed or the observation was not available
+     */
+    public byte[] getSignalStrengths(final SatInSystem satellite, final ObservationType type) {
+        final byte[] result = new byte[nbEpochs];
+        final SatelliteColumns sc = columns.get(satellite);
+        if (sc != null) {
+            final int typeIndex = sc.types.indexOf(type);
+            if (typeIndex >= 0) {
+                for (int row = 0; row < sc.nbRows; ++row) {
+                    result[sc.epochIndices[row]] = sc.ssi[row * sc.nbTypes + typeIndex];
+                }
+            }
+        }
+        return result;
+    }
+
+    /** Get a lazy view of the observations as data sets.
+     * <p>
+     * The data sets are in file order, just as in {@link RinexObservation#getObservationDataSets()}.
+     * They are built on the fly each time an element is accessed.
+     * </p>
+     * @return lazy unmodifiable view of the observations
+     */
+    public List<ObservationDataSet> getObservationDataSets() {
+        return new DataSetsView();
+    }
+
+    /** Check an epoch index.
+     * @param epochIndex index of the epoch
+     * @return epochIndex
+     */
+    private int checkEpochIndex(final int epochIndex) {
+        if (epochIndex < 0 || epochIndex >= nbEpochs) {
+            throw new IndexOutOfBoundsException(Integer.toString(epochIndex));
+        }
+        return epochIndex;
+    }
+
+    /** Columns for one satellite. */
+    private static class SatelliteColumns {
+
+        /** Satellite. */
+        private final SatInSystem satellite;
+
+        /** Types of observations. */
+        private final List<ObservationType> types;
+
+        /** Number of types of observations. */
+        private final int nbTypes;
+
+        /** Epoch index for each row. */
+        private int[] epochIndices;
+
+        /** Observed values (row-major order). */
+        private double[] values;
+
+        /** Loss of lock indicators (row-major order). */
+        private byte[] lli;
+
+        /** Signal strengths (row-major order). */
+        private byte[] ssi;
+
+        /** Number of rows. */
+        private int nbRows;
+
+        /** Simple constructor.
+         * @param satellite satellite
+         * @param types types of observations
+         */
+        SatelliteColumns(final SatInSystem satellite, final List<ObservationType> types) {
+            this.satellite    = satellite;
+            this.types        = new ArrayList<>(types);
+            this.nbTypes      = types.size();
+            this.epochIndices = new int[INITIAL_CAPACITY];
+            this.values       = new double[INITIAL_CAPACITY * nbTypes];
+            this.lli          = new byte[INITIAL_CAPACITY * nbTypes];
+            this.ssi          = new byte[INITIAL_CAPACITY * nbTypes];
+            this.nbRows       = 0;
+            Arrays.fill(values, Double.NaN);
+        }
+
+        /** Add a row.
+         * @param epochIndex index of the epoch
+         * @return index of the added row
+         */
+        int addRow(final int epochIndex) {
+            if (nbRows == epochIndices.length) {
+                final int capacity = 2 * nbRows;
+                epochIndices = Arrays.copyOf(epochIndices, capacity);
+                values       = Arrays.copyOf(values, capacity * nbTypes);
+                lli          = Arrays.copyOf(lli,    capacity * nbTypes);
+                ssi          = Arrays.copyOf(ssi,    capacity * nbTypes);
+                Arrays.fill(values, nbRows * nbTypes, values.length, Double.NaN);
+            }
+            epochIndices[nbRows] = epochIndex;
+            return nbRows++;
+        }
+
+        /** Set one observation.
+         * @param row row index
+         * @param typeIndex index of the observation type
+         * @param value observed value
+         * @param lossOfLock loss of lock indicator
+         * @param signalStrength signal strength
+         */
+        void set(final int row, final int typeIndex, final double value,
+                 final int lossOfLock, final int signalStrength) {
+            final int index = row * nbTypes + typeIndex;
+            values[index] = value;
+            lli[index]    = (byte) lossOfLock;
+            ssi[index]    = (byte) signalStrength;
+        }
+
+        /** Find the row corresponding to an epoch.
+         * @param epochIndex index of the epoch
+         * @return row index, or a negative number if satellite was not observed at this epoch
+         */
+        int row(final int epochIndex) {
+            return Arrays.binarySearch(epochIndices, 0, nbRows, epochIndex);
+        }
+
+    }
+
+    /** Lazy view of observations as data sets. */
+    private class DataSetsView extends AbstractList<ObservationDataSet> implements RandomAccess {
+
+        /** {@inheritDoc} */
+        @Override
+        public ObservationDataSet get(final int index) {
+
+            if (index < 0 || index >= nbRecords) {
+                throw new IndexOutOfBoundsException(Integer.toString(index));
+            }
+
+            final SatelliteColumns sc    = recordColumns[index];
+            final int              row   = recordRows[index];
+            final int              epoch = sc.epochIndices[row];
+
+            final List<ObservationData> data = new ArrayList<>(sc.nbTypes);
+            for (int t = 0; t < sc.nbTypes; ++t) {
+                final int i = row * sc.nbTypes + t;
+                data.add(new ObservationData(sc.types.get(t), sc.values[i], sc.lli[i], sc.ssi[i]));
+            }
+
+            return new ObservationDataSet(sc.satellite, epochs[epoch],
+                                          eventFlags[epoch], rcvrClkOffsets[epoch],
+                                          data);
+
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        public int size() {
+            return nbRecords;
+        }
+
+    }
+
+}
@@ -37,6 +37,7 @@ import org.orekit.errors.OrekitException;
 import org.orekit.errors.OrekitMessages;
 import org.orekit.files.rinex.AppliedDCBS;
 import org.orekit.files.rinex.AppliedPCVS;
+import org.orekit.files.rinex.section.RinexComment;
 import org.orekit.files.rinex.section.RinexLabels;
 import org.orekit.files.rinex.utils.parsing.RinexUtils;
 import org.orekit.gnss.ObservationTimeScale;
@@ -84,6 +85,24 @@ public class RinexObservationParser {
     /** Maximum number of observations per line in Rinex 2 format. */
     private static final int MAX_OBS_PER_RINEX_2_LINE = 5;
 
+    /** Size of observation values fields.
+     * @since 13.2
+     */
+    private static final int VALUE_SIZE = 14;
+
+    /** Maximum number of digits for exact direct parsing of observation values.
+     * @since 13.2
+     */
+    private static final int MAX_EXACT_DIGITS = 15;
+
+    /** Exact powers of ten for direct parsing of observation values.
+     * @since 13.2
+     */
+    private static final double[] POWERS_OF_TEN = {
+        1.0e0, 1.0e1, 1.0e2, 1.0e3, 1.0e4, 1.0e5, 1.0e6, 1.0e7, 1.0e8,
+        1.0e9, 1.0e10, 1.0e11, 1.0e12, 1.0e13, 1.0e14, 1.0e15
+    };
+
     /** Pico seconds. */
     private static final Unit PICO_SECOND = Unit.parse("ps");
 
@@ -139,11 +158,42 @@ public class RinexObservationParser {
      * @return parsed observations file
      */
     public RinexObservation parse(final DataSource source) {
+        return parse(source, false).file;
+    }
+
+    /**
+     * Parse RINEX observations messages into primitive columns.
+     * <p>
+     * This method parses the same files as {@link #parse(DataSource)}, but the
+     * observations are stored directly in primitive arrays without building any
+     * intermediate {@link ObservationData} or {@link ObservationDataSet} instances,
+     * which reduces both parsing time and memory consumption for large files.
+     * </p>
+     * @param source source providing the data to parse
+     * @return parsed observations in columnar form
+     * @since 13.2
+     */
+    public RinexObservationColumns parseColumns(final DataSource source) {
+        final ParseInfo parseInfo = parse(source, true);
+        for (final RinexComment comment : parseInfo.file.getComments()) {
+            parseInfo.columns.addComment(comment);
+        }
+        return parseInfo.columns;
+    }
+
+    /**
+     * Parse RINEX observations messages.
+     * @param source source providing the data to parse
+     * @param columnar if true, observations are stored in columns rather than in data sets
+     * @return holder for parsed data
+     * @since 13.2
+     */
+    private ParseInfo parse(final DataSource source, final boolean columnar) {
 
         Iterable<LineParser> candidateParsers = Collections.singleton(LineParser.VERSION);
 
         // placeholders for parsed data
-        final ParseInfo parseInfo = new ParseInfo(source.getName());
+        final ParseInfo parseInfo = new ParseInfo(source.getName(), columnar);
 
         try (Reader reader = source.getOpener().openReaderOnce();
              BufferedReader br = new BufferedReader(reader)) {
@@ -175,7 +225,7 @@ public class RinexObservationParser {
             throw new OrekitException(ioe, LocalizedCoreFormats.SIMPLE_MESSAGE, ioe.getLocalizedMessage());
         }
 
-        return parseInfo.file;
+        return parseInfo;
 
     }
 
@@ -201,6 +251,11 @@ public class RinexObservationParser {
         /** Rinex file. */
         private final RinexObservation file;
 
+        /** Columnar storage for observations (null if observations are stored in data sets).
+         * @since 13.2
+         */
+        private final RinexObservationColumns columns;
+
         /** Date of the observation. */
         private AbsoluteDate tObs;
 
@@ -278,13 +333,15 @@ public class RinexObservationParser {
 
         /** Constructor, build the ParseInfo object.
          * @param name name of the data source
+         * @param columnar if true, observations are stored in columns rather than in data sets
          */
-        ParseInfo(final String name) {
+        ParseInfo(final String name, final boolean columnar) {
             // Initialize default values for fields
             this.name                   = name;
             this.timeScales             = RinexObservationParser.this.timeScales;
             this.timeScaleBuilder       = RinexObservationParser.this.timeScaleBuilder;
             this.file                   = new RinexObservation();
+            this.columns                = columnar ? new RinexObservationColumns(file.getHeader()) : null;
             this.lineNumber             = 0;
             this.tObs                   = AbsoluteDate.PAST_INFINITY;
             this.tFirstFixed            = false;
@@ -943,19 +1000,31 @@ public class RinexObservationParser {
                                         observationData = null;
                                     } else {
                                         // this is a regular observation line
-                                        final ObservationType type    = types.get(parseInfo.observations.size());
-                                        final double          scaling = getScaling(parseInfo, type, parseInfo.currentSystem);
-                                        observationData = new ObservationData(type,
-                                                                              scaling * RinexUtils.parseDouble(line, index, 14),
-                                                                              RinexUtils.parseInt(line, index + 14, 1),
-                                                                              RinexUtils.parseInt(line, index + 15, 1));
+                                        final int             typeIndex = parseInfo.observations.size();
+                                        final ObservationType type      = types.get(typeIndex);
+                                        final double          scaling   = getScaling(parseInfo, type, parseInfo.currentSystem);
+                                        final double          value     = scaling * parseValue(line, index);
+                                        final int             lli       = parseFlag(line, index + 14);
+                                        final int             ssi       = parseFlag(line, index + 15);
+                                        if (parseInfo.columns == null) {
+                                            observationData = new ObservationData(type, value, lli, ssi);
+                                        } else {
+                                            // columnar storage, no need to allocate observation data
+                                            if (typeIndex == 0) {
+                                                parseInfo.columns.startRecord(parseInfo.satObs.get(parseInfo.indexObsSat), types,
+                                                                              parseInfo.tObs, parseInfo.eventFlag,
+                                                                              parseInfo.rcvrClkOffset);
+                                            }
+                                            parseInfo.columns.setObservation(typeIndex, value, lli, ssi);
+                                            observationData = null;
+                                        }
                                     }
                                     parseInfo.observations.add(observationData);
                                 }
 
                                 if (parseInfo.observations.size() == types.size()) {
                                     // we have finished handling observations/cycle slips for one satellite
-                                    if (!parseInfo.cycleSlip) {
+                                    if (!parseInfo.cycleSlip && parseInfo.columns == null) {
                                         parseInfo.file.addObservationDataSet(new ObservationDataSet(parseInfo.satObs.get(parseInfo.indexObsSat),
                                                                                                     parseInfo.tObs,
                                                                                                     parseInfo.eventFlag,
@@ -974,11 +1043,25 @@ public class RinexObservationParser {
                             (line, parseInfo) -> {
                                 final SatInSystem sat = new SatInSystem(line.substring(0, 3));
                                 final List<ObservationType> types = parseInfo.file.getHeader().getTypeObs().get(sat.getSystem());
+                                final boolean ignored = parseInfo.specialRecord || parseInfo.cycleSlip;
+                                if (!ignored && parseInfo.columns != null) {
+                                    // columnar storage, no need to allocate observation data
+                                    parseInfo.columns.startRecord(sat, types, parseInfo.tObs,
+                                                                  parseInfo.eventFlag, parseInfo.rcvrClkOffset);
+                                    for (int typeIndex = 0, index = 3; typeIndex < types.size(); ++typeIndex, index += 16) {
+                                        final double scaling = getScaling(parseInfo, types.get(typeIndex), sat.getSystem());
+                                        parseInfo.columns.setObservation(typeIndex,
+                                                                         scaling * parseValue(line, index),
+                                                                         parseFlag(line, index + 14),
+                                                                         parseFlag(line, index + 15));
+                                    }
+                                    return;
+                                }
                                 for (int index = 3;
                                      parseInfo.observations.size() < types.size();
                                      index += 16) {
                                     final ObservationData observationData;
-                                    if (parseInfo.specialRecord || parseInfo.cycleSlip) {
+                                    if (ignored) {
                                         // we are in a special record (eventFlag < 6) or in a cycle slip data block (eventFlag = 6), we just ignore everything
                                         observationData = null;
                                     } else {
@@ -986,14 +1069,14 @@ public class RinexObservationParser {
                                         final ObservationType type    = types.get(parseInfo.observations.size());
                                         final double          scaling = getScaling(parseInfo, type, sat.getSystem());
                                         observationData = new ObservationData(type,
-                                                                              scaling * RinexUtils.parseDouble(line, index, 14),
-                                                                              RinexUtils.parseInt(line, index + 14, 1),
-                                                                              RinexUtils.parseInt(line, index + 15, 1));
+                                                                              scaling * parseValue(line, index),
+                                                                              parseFlag(line, index + 14),
+                                                                              parseFlag(line, index + 15));
                                     }
                                     parseInfo.observations.add(observationData);
                                 }
 
-                                if (!(parseInfo.specialRecord || parseInfo.cycleSlip)) {
+                                if (!ignored) {
                                     parseInfo.file.addObservationDataSet(new ObservationDataSet(sat,
                                                                                                 parseInfo.tObs,
                                                                                                 parseInfo.eventFlag,
@@ -1221,6 +1304,95 @@ public class RinexObservationParser {
             }
         }
 
+        /** Parse an observation value.
+         * <p>
+         * Observation values are fixed-point F14.3 fields. The common case of plain
+         * digits with an optional sign and decimal point is parsed directly from the
+         * line characters, which avoids creating intermediate strings. As the mantissa
+         * is limited to 15 digits, it is exactly representable and the single division
+         * by an exact power of ten is correctly rounded, hence the result is identical
+         * to {@link RinexUtils#parseDouble(String, int, int)}, which is used as a
+         * fallback for any other field layout.
+         * </p>
+         * @param line line to parse
+         * @param start start index of the field
+         * @return parsed value (NaN if field is blank or missing)
+         * @since 13.2
+         */
+        private static double parseValue(final String line, final int start) {
+
+            final int end = FastMath.min(line.length(), start + VALUE_SIZE);
+
+            // trim field
+            int first = start;
+            while (first < end && line.charAt(first) <= ' ') {
+                ++first;
+            }
+            if (first >= end) {
+                // blank or missing field
+                return Double.NaN;
+            }
+            int last = end;
+            while (line.charAt(last - 1) <= ' ') {
+                --last;
+            }
+
+            // sign
+            boolean negative = false;
+            if (line.charAt(first) == '-' || line.charAt(first) == '+') {
+                negative = line.charAt(first) == '-';
+                ++first;
+            }
+
+            // digits and decimal point
+            long mantissa       = 0L;
+            int  nbDigits       = 0;
+            int  fractionDigits = -1;
+            for (int i = first; i < last; ++i) {
+                final char c = line.charAt(i);
+                if (c >= '0' && c <= '9') {
+                    mantissa = mantissa * 10 + c - '0';
+                    ++nbDigits;
+                    if (fractionDigits >= 0) {
+                        ++fractionDigits;
+                    }
+                } else if (c == '.' && fractionDigits < 0) {
+                    fractionDigits = 0;
+                } else {
+                    // unusual layout (exponent, embedded spaces...)
+                    return RinexUtils.parseDouble(line, start, VALUE_SIZE);
+                }
+            }
+            if (nbDigits == 0 || nbDigits > MAX_EXACT_DIGITS) {
+                return RinexUtils.parseDouble(line, start, VALUE_SIZE);
+            }
+
+            final double abs = fractionDigits > 0 ? mantissa / POWERS_OF_TEN[fractionDigits] : mantissa;
+            return negative ? -abs : abs;
+
+        }
+
+        /** Parse a single-character flag (loss of lock indicator or signal strength).
+         * @param line line to parse
+         * @param index index of the flag
+         * @return parsed flag (0 if blank or missing)
+         * @since 13.2
+         */
+        private static int parseFlag(final String line, final int index) {
+            if (index >= line.length()) {
+                return 0;
+            }
+            final char c = line.charAt(index);
+            if (c >= '0' && c <= '9') {
+                return c - '0';
+            } else if (c <= ' ') {
+                return 0;
+            } else {
+                // let the general parser handle (and report) unusual characters
+                return RinexUtils.parseInt(line, index, 1);
+            }
+        }
+
         /** Get the scaling factor for an observation.
          * @param parseInfo holder for transient data
          * @param type type of observation
@@ -0,0 +1,152 @@
+/* Copyright 2002-2025 CS GROUP
+ * Licensed to CS GROUP (CS) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * CS licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.orekit.files.sp3;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.hipparchus.exception.LocalizedCoreFormats;
+import org.orekit.annotation.DefaultDataContext;
+import org.orekit.data.DataContext;
+import org.orekit.data.DataSource;
+import org.orekit.data.FiltersManager;
+import org.orekit.errors.OrekitException;
+import org.orekit.errors.OrekitMessages;
+import org.orekit.utils.ParallelLoop;
+
+/** Loader parsing several SP3 files in parallel and splicing them together.
+ * <p>
+ * Precise orbit reprocessing campaigns often use hundreds of daily SP3 files,
+ * most of them compressed. This loader parses them concurrently, each task
+ * handling one file at a time, including decompression through the relevant
+ * {@link org.orekit.data.DataFilter data filters}, and then {@link SP3#splice(java.util.Collection)
+ * splices} the parsed files in chronological order.
+ * </p>
+ * <p>
+ * The {@link SP3Parser parser} is shared between all tasks, which is safe as
+ * it keeps all parsing state in per-call structures.
+ * </p>
+ * @author Luc Maisonobe
+ * @since 13.2
+ */
+public class ParallelSP3Loader {
+
+    /** Parser for individual files. */
+    private final SP3Parser parser;
+
+    /** Manager for decompression filters. */
+    private final FiltersManager filtersManager;
+
+    /** Simple constructor.
+     * <p>
+     * This constructor uses a default {@link SP3Parser} and the filters
+     * manager from the {@link DataContext#getDefault() default data context}.
+     * </p>
+     * @see #ParallelSP3Loader(SP3Parser, FiltersManager)
+     */
+    @DefaultDataContext
+    public ParallelSP3Loader() {
+        this(new SP3Parser(), DataContext.getDefault().getDataProvidersManager().getFiltersManager());
+    }
+
+    /** Simple constructor.
+     * @param parser parser for individual files
+     * @param filtersManager manager for filters to apply to files (typically decompression)
+     */
+    public ParallelSP3Loader(final SP3Parser parser, final FiltersManager filtersManager) {
+        this.parser         = parser;
+        this.filtersManager = filtersManager;
+    }
+
+    /** Load all SP3 files from a directory.
+     * <p>
+     * Sub-directories are not explored.
+     * </p>
+     * @param directory directory containing the files
+     * @param namePattern pattern that files names must match to be loaded
+     * (for example {@code ".*\\.sp3(?:\\.gz|\\.Z)?"})
+     * @param executorService executor running the parsing tasks (will <em>not</em>
+     * be shut down by the loader)
+     * @param maxWorkers maximum number of threads working simultaneously, including the calling thread
+     * @return spliced SP3 file
+     * @exception IOException if directory cannot be read
+     */
+    public SP3 load(final Path directory, final Pattern namePattern,
+                    final ExecutorService executorService, final int maxWorkers)
+        throws IOException {
+
+        final List<DataSource> sources;
+        try (Stream<Path> files = Files.list(directory)) {
+            sources = files.
+                      filter(Files::isRegularFile).
+                      filter(path -> namePattern.matcher(path.getFileName().toString()).matches()).
+                      sorted().
+                      map(path -> new DataSource(path.toFile())).
+                      collect(Collectors.toList());
+        }
+
+        if (sources.isEmpty()) {
+            throw new OrekitException(OrekitMessages.NO_FILE_MATCHING_PATTERN,
+                                      directory, namePattern.pattern());
+        }
+
+        return load(sources, executorService, maxWorkers);
+
+    }
+
+    /** Load SP3 files.
+     * @param sources data sources for the files (in any order, filters are applied by the loader)
+     * @param executorService executor running the parsing tasks (will <em>not</em>
+     * be shut down by the loader)
+     * @param maxWorkers maximum number of threads working simultaneously, including the calling thread
+     * @return spliced SP3 file
+     */
+    public SP3 load(final List<DataSource> sources,
+                    final ExecutorService executorService, final int maxWorkers) {
+
+        if (maxWorkers < 1) {
+            throw new OrekitException(OrekitMessages.NOT_STRICTLY_POSITIVE, maxWorkers);
+        }
+
+        // each worker picks files until none remain
+        final SP3[] parsed = new SP3[sources.size()];
+        ParallelLoop.run(executorService, maxWorkers, parsed.length, k -> parsed[k] = parse(sources.get(k)));
+
+        return SP3.splice(Arrays.asList(parsed));
+
+    }
+
+    /** Parse one file.
+     * @param source data source for the file
+     * @return parsed file
+     */
+    private SP3 parse(final DataSource source) {
+        try {
+            return parser.parse(filtersManager.applyRelevantFilters(source));
+        } catch (IOException ioe) {
+            throw new OrekitException(ioe, LocalizedCoreFormats.SIMPLE_MESSAGE, ioe.getLocalizedMessage());
+        }
+    }
+
+}
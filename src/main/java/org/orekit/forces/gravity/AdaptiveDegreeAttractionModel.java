@@ -0,0 +1,367 @@
+/* Copyright 2002-2025 CS GROUP
+ * Licensed to CS GROUP (CS) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * CS licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.orekit.forces.gravity;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+import org.hipparchus.CalculusFieldElement;
+import org.hipparchus.exception.LocalizedCoreFormats;
+import org.hipparchus.geometry.euclidean.threed.FieldVector3D;
+import org.hipparchus.geometry.euclidean.threed.Vector3D;
+import org.hipparchus.util.FastMath;
+import org.orekit.errors.OrekitIllegalArgumentException;
+import org.orekit.forces.ForceModel;
+import org.orekit.forces.gravity.potential.NormalizedSphericalHarmonicsProvider;
+import org.orekit.forces.gravity.potential.TideSystem;
+import org.orekit.forces.gravity.potential.TideSystemProvider;
+import org.orekit.frames.Frame;
+import org.orekit.propagation.FieldSpacecraftState;
+import org.orekit.propagation.SpacecraftState;
+import org.orekit.time.AbsoluteDate;
+import org.orekit.utils.ParameterDriver;
+
+/** Gravity field force model with degree adapted to the distance to central body.
+ * <p>
+ * This model wraps {@link HolmesFeatherstoneAttractionModel} instances built on
+ * the same spherical harmonics provider, but truncated to lower degrees and orders.
+ * At each evaluation, the smallest degree for which the estimated truncation error
+ * is below a user-specified acceleration tolerance is selected, so satellites far
+ * from the central body (for example in geostationary orbit) do not spend time
+ * computing terms that are below noise level, whereas satellites in low Earth orbit
+ * still use the full field. The truncated order is the smallest between the truncated
+ * degree and the maximum order of the provider.
+ * </p>
+ * <p>
+ * The truncation error of degree d at radius r is estimated from the degree variances
+ * σ<sub>n</sub>² = ∑<sub>m</sub> (C̄<sub>n,m</sub>² + S̄<sub>n,m</sub>²) of the provider
+ * coefficients as ε(d, r) = μ/r² ∑<sub>n&gt;d</sub> (n+1) (a<sub>e</sub>/r)<sup>n</sup> σ<sub>n</sub>,
+ * which is the order of magnitude of the acceleration due to the neglected terms. Degree
+ * variances are computed once at construction, at the provider reference date (or J2000
+ * if the provider does not define a reference date).
+ * </p>
+ * <p>
+ * In order to avoid frequent switching between degrees when a satellite oscillates
+ * around a threshold radius (typically an eccentric orbit), a hysteresis is applied:
+ * the degree is increased as soon as the current radius requires it, but it is decreased
+ * only when the radius exceeds the threshold by a relative margin. The current degree
+ * is reset at {@link #init(SpacecraftState, AbsoluteDate) propagation initialization}.
+ * As this model holds a state, an instance should not be shared between propagators
+ * running concurrently.
+ * </p>
+ * <p>
+ * The degree used at last evaluation and the number of evaluations performed at each
+ * degree are available for monitoring purposes.
+ * </p>
+ * @see HolmesFeatherstoneAttractionModel
+ * @author Luc Maisonobe
+ * @since 13.2
+ */
+public class AdaptiveDegreeAttractionModel implements ForceModel, TideSystemProvider {
+
+    /** Central attraction scaling factor.
+     * <p>
+     * We use a power of 2 to avoid numeric noise introduction
+     * in the multiplications/divisions sequences.
+     * </p>
+     */
+    private static final double MU_SCALE = FastMath.scalb(1.0, 32);
+
+    /** Minimum degree. */
+    private static final int MIN_DEGREE = 2;
+
+    /** Driver for gravitational parameter. */
+    private final ParameterDriver gmParameterDriver;
+
+    /** Rotating body frame. */
+    private final Frame bodyFrame;
+
+    /** Provider for the full spherical harmonics. */
+    private final NormalizedSphericalHarmonicsProvider provider;
+
+    /** Acceleration tolerance. */
+    private final double tolerance;
+
+    /** Relative radius margin for decreasing degree. */
+    private final double hysteresis;
+
+    /** Square roots of degree variances. */
+    private final double[] sigma;
+
+    /** Truncated models, indexed by degree (lazily built). */
+    private final AtomicReferenceArray<HolmesFeatherstoneAttractionModel> models;
+
+    /** Number of evaluations at each degree. */
+    private final AtomicLongArray evaluations;
+
+    /** Current degree (0 if not set yet). */
+    private volatile int currentDegree;
+
+    /** Simple constructor.
+     * @param centralBodyFrame rotating body frame
+     * @param provider provider for the full spherical harmonics
+     * @param tolerance acceleration tolerance for truncation error (m/s²)
+     * @param hysteresis relative radius margin for decreasing degree (typically 0.01 to 0.05)
+     */
+    public AdaptiveDegreeAttractionModel(final Frame centralBodyFrame,
+                                         final NormalizedSphericalHarmonicsProvider provider,
+                                         final double tolerance, final double hysteresis) {
+
+        if (tolerance <= 0) {
+            throw new OrekitIllegalArgumentException(LocalizedCoreFormats.NUMBER_TOO_SMALL_BOUND_EXCLUDED,
+                                                     tolerance, 0);
+        }
+        if (hysteresis < 0) {
+            throw new OrekitIllegalArgumentException(LocalizedCoreFormats.NUMBER_TOO_SMALL, hysteresis, 0);
+        }
+
+        this.gmParameterDriver = new ParameterDriver(NewtonianAttraction.CENTRAL_ATTRACTION_COEFFICIENT,
+                                                     provider.getMu(), MU_SCALE, 0.0, Double.POSITIVE_INFINITY);
+        this.bodyFrame         = centralBodyFrame;
+        this.provider          = provider;
+        this.tolerance         = tolerance;
+        this.hysteresis        = hysteresis;
+
+        // degree variances
+        final int degree = provider.getMaxDegree();
+        final AbsoluteDate reference = provider.getReferenceDate() == null ?
+                                       AbsoluteDate.ARBITRARY_EPOCH : provider.getReferenceDate();
+        final NormalizedSphericalHarmonicsProvider.NormalizedSphericalHarmonics harmonics =
+                        provider.onDate(reference);
+        this.sigma = new double[degree + 1];
+        for (int n = MIN_DEGREE; n <= degree; ++n) {
+            double sum = 0;
+            for (int m = 0; m <= FastMath.min(n, provider.getMaxOrder()); ++m) {
+                final double c = harmonics.getNormalizedCnm(n, m);
+                final double s = harmonics.getNormalizedSnm(n, m);
+                sum += c * c + s * s;
+            }
+            sigma[n] = FastMath.sqrt(sum);
+        }
+
+        this.models        = new AtomicReferenceArray<>(degree + 1);
+        this.evaluations   = new AtomicLongArray(degree + 1);
+        this.currentDegree = 0;
+
+    }
+
+    /** Get the acceleration tolerance.
+     * @return acceleration tolerance for truncation error (m/s²)
+     */
+    public double getTolerance() {
+        return tolerance;
+    }
+
+    /** Get the relative radius margin for decreasing degree.
+     * @return relative radius margin for decreasing degree
+     */
+    public double getHysteresis() {
+        return hysteresis;
+    }
+
+    /** Get the degree used at last evaluation.
+     * @return degree used at last evaluation (0 if no evaluation has been performed
+     * since last initialization)
+     */
+    public int getCurrentDegree() {
+        return currentDegree;
+    }
+
+    /** Get the number of evaluations performed at each degree.
+     * @return array containing at index n the number of evaluations
+     * performed with degree n since construction
+     */
+    public long[] getEvaluationsPerDegree() {
+        final long[] copy = new long[evaluations.length()];
+        for (int n = 0; n < copy.length; ++n) {
+            copy[n] = evaluations.get(n);
+        }
+        return copy;
+    }
+
+    /** Estimate the truncation error.
+     * @param degree truncation degree
+     * @param r radius
+     * @return estimated acceleration due to terms with degree larger than {@code degree}
+     */
+    public double estimateTruncationError(final int degree, final double r) {
+        final double aOr   = provider.getAe() / r;
+        double       aOrN  = FastMath.pow(aOr, sigma.length - 1);
+        double       error = 0;
+        for (int n = sigma.length - 1; n > degree; --n) {
+            error += (n + 1) * aOrN * sigma[n];
+            aOrN  /= aOr;
+        }
+        return error * provider.getMu() / (r * r);
+    }
+
+    /** Get the smallest degree such that truncation error is below tolerance.
+     * @param r radius
+     * @return smallest degree such that truncation error is below tolerance
+     */
+    public int requiredDegree(final double r) {
+        final double aOr   = provider.getAe() / r;
+        final double limit = tolerance * r * r / provider.getMu();
+        double       aOrN  = FastMath.pow(aOr, sigma.length - 1);
+        double       error = 0;
+        for (int n = sigma.length - 1; n > MIN_DEGREE; --n) {
+            error += (n + 1) * aOrN * sigma[n];
+            aOrN  /= aOr;
+            if (error > limit) {
+                // we cannot truncate at degree n - 1
+                return n;
+            }
+        }
+        return FastMath.min(MIN_DEGREE, sigma.length - 1);
+    }
+
+    /** Select the degree to use for an evaluation, updating current degree.
+     * @param r radius
+     * @return selected degree
+     */
+    private int selectDegree(final double r) {
+        final int required = requiredDegree(r);
+        int degree = currentDegree;
+        if (required > degree) {
+            // increase degree immediately
+            degree = required;
+        } else if (required < degree) {
+            // decrease degree only when we are far enough from threshold
+            degree = FastMath.max(required, requiredDegree(r * (1 - hysteresis)));
+        }
+        currentDegree = degree;
+        evaluations.incrementAndGet(degree);
+        return degree;
+    }
+
+    /** Get the model truncated at specified degree.
+     * @param degree truncation degree
+     * @return truncated model
+     */
+    private HolmesFeatherstoneAttractionModel getModel(final int degree) {
+        HolmesFeatherstoneAttractionModel model = models.get(degree);
+        if (model == null) {
+            model = new HolmesFeatherstoneAttractionModel(bodyFrame, new TruncatedProvider(provider, degree));
+            if (!models.compareAndSet(degree, null, model)) {
+                model = models.get(degree);
+            }
+        }
+        return model;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public TideSystem getTideSystem() {
+        return provider.getTideSystem();
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public boolean dependsOnPositionOnly() {
+        return true;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void init(final SpacecraftState initialState, final AbsoluteDate target) {
+        currentDegree = 0;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public Vector3D acceleration(final SpacecraftState s, final double[] parameters) {
+        return getModel(selectDegree(s.getPosition().getNorm())).acceleration(s, parameters);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public <T extends CalculusFieldElement<T>> FieldVector3D<T> acceleration(final FieldSpacecraftState<T> s,
+                                                                         final T[] parameters) {
+        return getModel(selectDegree(s.getPosition().getNorm().getReal())).acceleration(s, parameters);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public List<ParameterDriver> getParametersDrivers() {
+        return Collections.singletonList(gmParameterDriver);
+    }
+
+    /** Provider truncating another provider. */
+    private static class TruncatedProvider implements NormalizedSphericalHarmonicsProvider {
+
+        /** Underlying provider. */
+        private final NormalizedSphericalHarmonicsProvider full;
+
+        /** Truncation degree. */
+        private final int degree;
+
+        /** Simple constructor.
+         * @param full underlying provider
+         * @param degree truncation degree
+         */
+        TruncatedProvider(final NormalizedSphericalHarmonicsProvider full, final int degree) {
+            this.full   = full;
+            this.degree = degree;
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        public int getMaxDegree() {
+            return degree;
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        public int getMaxOrder() {
+            return FastMath.min(degree, full.getMaxOrder());
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        public double getMu() {
+            return full.getMu();
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        public double getAe() {
+            return full.getAe();
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        public AbsoluteDate getReferenceDate() {
+            return full.getReferenceDate();
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        public TideSystem getTideSystem() {
+            return full.getTideSystem();
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        public NormalizedSphericalHarmonics onDate(final AbsoluteDate date) {
+            return full.onDate(date);
+        }
+
+    }
+
+}
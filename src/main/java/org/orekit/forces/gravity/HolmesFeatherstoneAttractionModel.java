@@ -23,6 +23,7 @@ import java.util.List;
 import org.hipparchus.CalculusFieldElement;
 import org.hipparchus.analysis.differentiation.DerivativeStructure;
 import org.hipparchus.analysis.differentiation.Gradient;
+import org.hipparchus.exception.LocalizedCoreFormats;
 import org.hipparchus.geometry.euclidean.threed.FieldVector3D;
 import org.hipparchus.geometry.euclidean.threed.SphericalCoordinates;
 import org.hipparchus.geometry.euclidean.threed.Vector3D;
@@ -30,6 +31,7 @@ import org.hipparchus.linear.Array2DRowRealMatrix;
 import org.hipparchus.linear.RealMatrix;
 import org.hipparchus.util.FastMath;
 import org.hipparchus.util.MathArrays;
+import org.orekit.errors.OrekitIllegalArgumentException;
 import org.orekit.forces.ForceModel;
 import org.orekit.forces.gravity.potential.NormalizedSphericalHarmonicsProvider;
 import org.orekit.forces.gravity.potential.NormalizedSphericalHarmonicsProvider.NormalizedSphericalHarmonics;
@@ -88,6 +90,9 @@ public class HolmesFeatherstoneAttractionModel implements ForceModel, TideSystem
      */
     private static final double MU_SCALE = FastMath.scalb(1.0, 32);
 
+    /** Number of positions processed together in batch evaluation. */
+    private static final int BATCH_BLOCK_SIZE = 64;
+
     /** Driver for gravitational parameter. */
     private final ParameterDriver gmParameterDriver;
 
@@ -392,6 +397,256 @@ public class HolmesFeatherstoneAttractionModel implements ForceModel, TideSystem
 
     }
 
+    /** Compute the gradient of the non-central part of the gravity field for many positions.
+     * <p>
+     * This method gives the same results as calling {@link #gradient(AbsoluteDate, Vector3D, double)}
+     * for each position, but it is faster when many objects are evaluated at the same date.
+     * The spherical harmonics coefficients are retrieved only once, and the recursions are
+     * performed for blocks of positions at once, with the position index in the innermost
+     * loops, so the just-in-time compiler can vectorize them.
+     * </p>
+     * @param date current date
+     * @param positions positions at which gravity field is desired in body frame,
+     * as a flat array {x₀, y₀, z₀, x₁, y₁, z₁, …}
+     * @param mu central attraction coefficient to use
+     * @param gradients array where to store gradients of the non-central part of the gravity
+     * field, using the same layout as {@code positions}
+     * @since 13.2
+     */
+    public void gradient(final AbsoluteDate date, final double[] positions, final double mu,
+                         final double[] gradients) {
+
+        // safety checks
+        final int nbPositions = positions.length / 3;
+        if (positions.length != 3 * nbPositions) {
+            // the array must hold only complete positions
+            throw new OrekitIllegalArgumentException(LocalizedCoreFormats.DIMENSIONS_MISMATCH,
+                                                     positions.length, 3 * nbPositions);
+        }
+        if (gradients.length != positions.length) {
+            throw new OrekitIllegalArgumentException(LocalizedCoreFormats.DIMENSIONS_MISMATCH,
+                                                     gradients.length, positions.length);
+        }
+
+        final int degree = provider.getMaxDegree();
+        final int order  = provider.getMaxOrder();
+        final NormalizedSphericalHarmonics harmonics = provider.onDate(date);
+
+        // retrieve the coefficients once, in the order they will be used
+        final int size = (order + 1) * (degree + 1);
+        final double[] snm = new double[size];
+        final double[] cnm = new double[size];
+        int cIndex = 0;
+        for (int m = order; m >= 0; --m) {
+            for (int n = FastMath.max(2, m); n <= degree; ++n) {
+                snm[cIndex] = harmonics.getNormalizedSnm(n, m);
+                cnm[cIndex] = harmonics.getNormalizedCnm(n, m);
+                ++cIndex;
+            }
+        }
+
+        // process positions by blocks
+        final BatchWorkspace workspace = new BatchWorkspace(degree, order,
+                                                            FastMath.min(nbPositions, BATCH_BLOCK_SIZE));
+        for (int start = 0; start < nbPositions; start += BATCH_BLOCK_SIZE) {
+            gradientBlock(degree, order, snm, cnm, mu, positions, gradients, start,
+                          FastMath.min(BATCH_BLOCK_SIZE, nbPositions - start), workspace);
+        }
+
+    }
+
+    /** Compute the gradient of the non-central part of the gravity field for one block of positions.
+     * <p>
+     * All arrays in the workspace are stored with the position index varying fastest.
+     * The sequence of floating point operations for each position is exactly the same
+     * as in {@link #gradient(AbsoluteDate, Vector3D, double)}.
+     * </p>
+     * @param degree max degree
+     * @param order max order
+     * @param snm flattened S<sub>n,m</sub> coefficients
+     * @param cnm flattened C<sub>n,m</sub> coefficients
+     * @param mu central attraction coefficient to use
+     * @param positions positions at which gravity field is desired in body frame
+     * @param gradients array where to store gradients
+     * @param start index of the first position of the block
+     * @param nb number of positions in the block
+     * @param ws workspace
+     */
+    private void gradientBlock(final int degree, final int order, final double[] snm, final double[] cnm,
+                               final double mu, final double[] positions, final double[] gradients,
+                               final int start, final int nb, final BatchWorkspace ws) {
+
+        // compute polar coordinates, distance powers and longitude cosines/sines
+        for (int k = 0; k < nb; ++k) {
+            final double x    = positions[3 * (start + k)];
+            final double y    = positions[3 * (start + k) + 1];
+            final double z    = positions[3 * (start + k) + 2];
+            final double x2   = x * x;
+            final double y2   = y * y;
+            final double z2   = z * z;
+            final double r2   = x2 + y2 + z2;
+            final double r    = FastMath.sqrt (r2);
+            final double rho2 = x2 + y2;
+            final double rho  = FastMath.sqrt(rho2);
+            ws.r[k]   = r;
+            ws.t[k]   = z / r;
+            ws.u[k]   = rho / r;
+            ws.u2[k]  = ws.u[k] * ws.u[k];
+            ws.tOu[k] = z / rho;
+
+            // same recursions as createDistancePowersArray and createCosSinArrays,
+            // but storing directly in the workspace to avoid per-position allocations
+            ws.aOrN[k] = 1;
+            if (degree > 0) {
+                ws.aOrN[nb + k] = provider.getAe() / r;
+            }
+            for (int n = 2; n <= degree; ++n) {
+                final int p = n / 2;
+                final int q = n - p;
+                ws.aOrN[n * nb + k] = ws.aOrN[p * nb + k] * ws.aOrN[q * nb + k];
+            }
+            ws.cosLambda[k] = 1;
+            ws.sinLambda[k] = 0;
+            if (order > 0) {
+                ws.cosLambda[nb + k] = x / rho;
+                ws.sinLambda[nb + k] = y / rho;
+                for (int m = 2; m <= order; ++m) {
+                    final int p = m / 2;
+                    final int q = m - p;
+                    ws.cosLambda[m * nb + k] = ws.cosLambda[p * nb + k] * ws.cosLambda[q * nb + k] -
+                                               ws.sinLambda[p * nb + k] * ws.sinLambda[q * nb + k];
+                    ws.sinLambda[m * nb + k] = ws.sinLambda[p * nb + k] * ws.cosLambda[q * nb + k] +
+                                               ws.cosLambda[p * nb + k] * ws.sinLambda[q * nb + k];
+                }
+            }
+
+            ws.value[k]     = 0;
+            ws.gradient0[k] = 0;
+            ws.gradient1[k] = 0;
+            ws.gradient2[k] = 0;
+        }
+
+        // outer summation over order
+        double[] pnm0Plus2 = ws.pnm0Plus2;
+        double[] pnm0Plus1 = ws.pnm0Plus1;
+        double[] pnm0      = ws.pnm0;
+        final double[] pnm1 = ws.pnm1;
+        int index  = 0;
+        int cIndex = 0;
+        for (int m = degree; m >= 0; --m) {
+
+            // compute tesseral terms with derivatives (equations 27 and 30 of the paper)
+            final int n0 = FastMath.max(2, m);
+            if (n0 == m) {
+                for (int k = 0; k < nb; ++k) {
+                    pnm0[m * nb + k] = sectorial[m];
+                    pnm1[m * nb + k] = m * ws.tOu[k] * pnm0[m * nb + k];
+                }
+            }
+            int localIndex = index;
+            for (int n = n0 == m ? m + 1 : n0; n <= degree; ++n) {
+                final double g = gnmOj[localIndex];
+                final double h = hnmOj[localIndex];
+                final double e = enm[localIndex];
+                final int    o = n * nb;
+                for (int k = 0; k < nb; ++k) {
+                    pnm0[o + k] = g * ws.t[k] * pnm0Plus1[o + k] - h * ws.u2[k] * pnm0Plus2[o + k];
+                    pnm1[o + k] = m * ws.tOu[k] * pnm0[o + k] - e * ws.u[k] * pnm0Plus1[o + k];
+                }
+                ++localIndex;
+            }
+            index = localIndex;
+
+            if (m <= order) {
+                // compute contribution of current order to field (equation 5 of the paper)
+
+                // inner summation over degree, for fixed order
+                for (int k = 0; k < nb; ++k) {
+                    ws.sumDegreeS[k]        = 0;
+                    ws.sumDegreeC[k]        = 0;
+                    ws.dSumDegreeSdR[k]     = 0;
+                    ws.dSumDegreeCdR[k]     = 0;
+                    ws.dSumDegreeSdTheta[k] = 0;
+                    ws.dSumDegreeCdTheta[k] = 0;
+                }
+                for (int n = n0; n <= degree; ++n) {
+                    final double sNM = snm[cIndex];
+                    final double cNM = cnm[cIndex];
+                    final int    o   = n * nb;
+                    for (int k = 0; k < nb; ++k) {
+                        final double qSnm  = ws.aOrN[o + k] * sNM;
+                        final double qCnm  = ws.aOrN[o + k] * cNM;
+                        final double nOr   = n / ws.r[k];
+                        final double s0    = pnm0[o + k] * qSnm;
+                        final double c0    = pnm0[o + k] * qCnm;
+                        final double s1    = pnm1[o + k] * qSnm;
+                        final double c1    = pnm1[o + k] * qCnm;
+                        ws.sumDegreeS[k]        += s0;
+                        ws.sumDegreeC[k]        += c0;
+                        ws.dSumDegreeSdR[k]     -= nOr * s0;
+                        ws.dSumDegreeCdR[k]     -= nOr * c0;
+                        ws.dSumDegreeSdTheta[k] += s1;
+                        ws.dSumDegreeCdTheta[k] += c1;
+                    }
+                    ++cIndex;
+                }
+
+                // contribution to outer summation over order
+                final int o = m * nb;
+                for (int k = 0; k < nb; ++k) {
+                    final double sML = ws.sinLambda[o + k];
+                    final double cML = ws.cosLambda[o + k];
+                    final double u   = ws.u[k];
+                    ws.value[k]     = ws.value[k]     * u + sML * ws.sumDegreeS[k]        + cML * ws.sumDegreeC[k];
+                    ws.gradient0[k] = ws.gradient0[k] * u + sML * ws.dSumDegreeSdR[k]     + cML * ws.dSumDegreeCdR[k];
+                    ws.gradient1[k] = ws.gradient1[k] * u + m * (cML * ws.sumDegreeS[k] - sML * ws.sumDegreeC[k]);
+                    ws.gradient2[k] = ws.gradient2[k] * u + sML * ws.dSumDegreeSdTheta[k] + cML * ws.dSumDegreeCdTheta[k];
+                }
+
+            }
+
+            // rotate the recursion arrays
+            final double[] tmp = pnm0Plus2;
+            pnm0Plus2 = pnm0Plus1;
+            pnm0Plus1 = pnm0;
+            pnm0      = tmp;
+
+        }
+
+        for (int k = 0; k < nb; ++k) {
+
+            // scale back
+            double       value = FastMath.scalb(ws.value[k],     SCALING);
+            final double g0    = FastMath.scalb(ws.gradient0[k], SCALING);
+            final double g1    = FastMath.scalb(ws.gradient1[k], SCALING);
+            final double g2    = FastMath.scalb(ws.gradient2[k], SCALING);
+
+            // apply the global mu/r factor
+            final double r    = ws.r[k];
+            final double muOr = mu / r;
+            value            *= muOr;
+            final double gR   = muOr * g0 - value / r;
+            final double gL   = g1 * muOr;
+            final double gP   = g2 * muOr;
+
+            // convert gradient from spherical to Cartesian, using the same
+            // Jacobian as SphericalCoordinates.toCartesianGradient
+            final int    offset = 3 * (start + k);
+            final double x      = positions[offset];
+            final double y      = positions[offset + 1];
+            final double z      = positions[offset + 2];
+            final double rho2   = x * x + y * y;
+            final double rho    = FastMath.sqrt(rho2);
+            final double r2     = rho2 + z * z;
+            final double rhoR2  = rho * r2;
+            gradients[offset]     = gR * (x / r) + gL * (-y / rho2) + gP * (x * z / rhoR2);
+            gradients[offset + 1] = gR * (y / r) + gL * (x / rho2)  + gP * (y * z / rhoR2);
+            gradients[offset + 2] = gR * (z / r)                    + gP * (-rho / r2);
+
+        }
+
+    }
+
     /** Compute the gradient of the non-central part of the gravity field.
      * @param date current date
      * @param position position at which gravity field is desired in body frame
@@ -687,6 +942,111 @@ public class HolmesFeatherstoneAttractionModel implements ForceModel, TideSystem
 
     }
 
+    /** Workspace for batch evaluation.
+     * <p>
+     * All arrays are stored with the position index varying fastest.
+     * </p>
+     */
+    private static class BatchWorkspace {
+
+        /** Radii. */
+        private final double[] r;
+
+        /** Cosines of polar angles. */
+        private final double[] t;
+
+        /** Sines of polar angles. */
+        private final double[] u;
+
+        /** Squared sines of polar angles. */
+        private final double[] u2;
+
+        /** Ratios t/u. */
+        private final double[] tOu;
+
+        /** Distance powers (a/r)<sup>n</sup>. */
+        private final double[] aOrN;
+
+        /** Longitude cosines cos(m &times; λ). */
+        private final double[] cosLambda;
+
+        /** Longitude sines sin(m &times; λ). */
+        private final double[] sinLambda;
+
+        /** Scaled P<sub>n,m+2</sub>/u<sup>m+2</sup>. */
+        private final double[] pnm0Plus2;
+
+        /** Scaled P<sub>n,m+1</sub>/u<sup>m+1</sup>. */
+        private final double[] pnm0Plus1;
+
+        /** Scaled P<sub>n,m</sub>/u<sup>m</sup>. */
+        private final double[] pnm0;
+
+        /** Scaled dP<sub>n,m</sub>/u<sup>m</sup>. */
+        private final double[] pnm1;
+
+        /** Inner sums for S<sub>n,m</sub> terms. */
+        private final double[] sumDegreeS;
+
+        /** Inner sums for C<sub>n,m</sub> terms. */
+        private final double[] sumDegreeC;
+
+        /** Inner sums for S<sub>n,m</sub> terms radial derivatives. */
+        private final double[] dSumDegreeSdR;
+
+        /** Inner sums for C<sub>n,m</sub> terms radial derivatives. */
+        private final double[] dSumDegreeCdR;
+
+        /** Inner sums for S<sub>n,m</sub> terms polar derivatives. */
+        private final double[] dSumDegreeSdTheta;
+
+        /** Inner sums for C<sub>n,m</sub> terms polar derivatives. */
+        private final double[] dSumDegreeCdTheta;
+
+        /** Scaled values. */
+        private final double[] value;
+
+        /** Scaled radial gradients. */
+        private final double[] gradient0;
+
+        /** Scaled longitude gradients. */
+        private final double[] gradient1;
+
+        /** Scaled polar gradients. */
+        private final double[] gradient2;
+
+        /** Simple constructor.
+         * @param degree max degree
+         * @param order max order
+         * @param blockSize maximum number of positions in a block
+         */
+        BatchWorkspace(final int degree, final int order, final int blockSize) {
+            r                 = new double[blockSize];
+            t                 = new double[blockSize];
+            u                 = new double[blockSize];
+            u2                = new double[blockSize];
+            tOu               = new double[blockSize];
+            aOrN              = new double[(degree + 1) * blockSize];
+            cosLambda         = new double[(order + 1) * blockSize];
+            sinLambda         = new double[(order + 1) * blockSize];
+            pnm0Plus2         = new double[(degree + 1) * blockSize];
+            pnm0Plus1         = new double[(degree + 1) * blockSize];
+            pnm0              = new double[(degree + 1) * blockSize];
+            pnm1              = new double[(degree + 1) * blockSize];
+            sumDegreeS        = new double[blockSize];
+            sumDegreeC        = new double[blockSize];
+            dSumDegreeSdR     = new double[blockSize];
+            dSumDegreeCdR     = new double[blockSize];
+            dSumDegreeSdTheta = new double[blockSize];
+            dSumDegreeCdTheta = new double[blockSize];
+            value             = new double[blockSize];
+            gradient0         = new double[blockSize];
+            gradient1         = new double[blockSize];
+            gradient2         = new double[blockSize];
+        }
+
+    }
+
     /** Container for gradient and Hessian. */
     private static class GradientHessian {
 
@@ -16,10 +16,14 @@
  */
 package org.orekit.frames;
 
+import org.hipparchus.exception.LocalizedCoreFormats;
+import org.orekit.errors.OrekitIllegalArgumentException;
 import org.orekit.time.AbsoluteDate;
 
 import java.util.LinkedHashMap;
 import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
 import java.util.concurrent.locks.ReentrantLock;
 import java.util.function.Function;
 
@@ -30,6 +34,15 @@ import java.util.function.Function;
  * transform building.
  * </p>
  * <p>
+ * The cache may be split into several independent stripes, each one
+ * with its own lock and its own LRU maps. Each thread is bound to one
+ * stripe (threads are distributed in a round-robin fashion), so threads
+ * bound to different stripes never contend with each other. This is
+ * intended for multi-threaded applications where many threads convert
+ * states between the same frames at different dates. With only one stripe
+ * (which is the default), all threads share the same LRU maps.
+ * </p>
+ * <p>
  * This class is thread-safe.
  * </p>
  * @author Luc Maisonobe
@@ -43,7 +56,7 @@ public class CachedTransformProvider {
     /** Destination frame. */
     private final Frame destination;
 
-    /** Number of transforms kept in the date-based cache. */
+    /** Number of transforms kept in the date-based cache (per stripe). */
     private final int cacheSize;
 
     /** Generator for full transforms. */
@@ -55,19 +68,25 @@ public class CachedTransformProvider {
     /** Generator for static transforms. */
     private final Function<AbsoluteDate, StaticTransform> staticGenerator;
 
-    /** Lock for concurrent access. */
-    private final ReentrantLock lock;
+    /** Independent cache stripes. */
+    private final Stripe[] stripes;
 
-    /** Transforms LRU cache. */
-    private final Map<AbsoluteDate, Transform> fullCache;
+    /** Stripe bound to each thread (null if there is only one stripe). */
+    private final ThreadLocal<Stripe> threadStripe;
 
-    /** Transforms LRU cache. */
-    private final Map<AbsoluteDate, KinematicTransform> kinematicCache;
+    /** Counter for round-robin binding of threads to stripes. */
+    private final AtomicInteger nextStripe;
 
-    /** Transforms LRU cache. */
-    private final Map<AbsoluteDate, StaticTransform> staticCache;
+    /** Number of cache hits. */
+    private final LongAdder hits;
+
+    /** Number of cache misses. */
+    private final LongAdder misses;
 
     /** Simple constructor.
+     * <p>
+     * This constructor builds a cache with only one stripe shared by all threads.
+     * </p>
      * @param origin             origin frame
      * @param destination        destination frame
      * @param fullGenerator      generator for full transforms
@@ -80,6 +99,28 @@ public class CachedTransformProvider {
                                    final Function<AbsoluteDate, KinematicTransform> kinematicGenerator,
                                    final Function<AbsoluteDate, StaticTransform> staticGenerator,
                                    final int cacheSize) {
+        this(origin, destination, fullGenerator, kinematicGenerator, staticGenerator, cacheSize, 1);
+    }
+
+    /** Simple constructor.
+     * @param origin             origin frame
+     * @param destination        destination frame
+     * @param fullGenerator      generator for full transforms
+     * @param kinematicGenerator generator for kinematic transforms
+     * @param staticGenerator    generator for static transforms
+     * @param cacheSize          number of transforms kept in the date-based cache of each stripe
+     * @param nbStripes          number of independent cache stripes (must be strictly positive)
+     * @since 13.2
+     */
+    public CachedTransformProvider(final Frame origin, final Frame destination,
+                                   final Function<AbsoluteDate, Transform> fullGenerator,
+                                   final Function<AbsoluteDate, KinematicTransform> kinematicGenerator,
+                                   final Function<AbsoluteDate, StaticTransform> staticGenerator,
+                                   final int cacheSize, final int nbStripes) {
+
+        if (nbStripes < 1) {
+            throw new OrekitIllegalArgumentException(LocalizedCoreFormats.NUMBER_TOO_SMALL, nbStripes, 1);
+        }
 
         this.origin             = origin;
         this.destination        = destination;
@@ -87,34 +128,16 @@ public class CachedTransformProvider {
         this.fullGenerator      = fullGenerator;
         this.kinematicGenerator = kinematicGenerator;
         this.staticGenerator    = staticGenerator;
-        this.lock               = new ReentrantLock();
-
-        // cache for full transforms
-        this.fullCache = new LinkedHashMap<AbsoluteDate, Transform>(cacheSize, 0.75f, true) {
-            /** {@inheritDoc} */
-            @Override
-            protected boolean removeEldestEntry(final Map.Entry<AbsoluteDate, Transform> eldest) {
-                return size() > cacheSize;
-            }
-        };
-
-        // cache for kinematic transforms
-        this.kinematicCache = new LinkedHashMap<AbsoluteDate, KinematicTransform>(cacheSize, 0.75f, true) {
-            /** {@inheritDoc} */
-            @Override
-            protected boolean removeEldestEntry(final Map.Entry<AbsoluteDate, KinematicTransform> eldest) {
-                return size() > cacheSize;
-            }
-        };
-
-        // cache for static transforms
-        this.staticCache = new LinkedHashMap<AbsoluteDate, StaticTransform>(cacheSize, 0.75f, true) {
-            /** {@inheritDoc} */
-            @Override
-            protected boolean removeEldestEntry(final Map.Entry<AbsoluteDate, StaticTransform> eldest) {
-                return size() > cacheSize;
-            }
-        };
+        this.stripes            = new Stripe[nbStripes];
+        for (int i = 0; i < nbStripes; ++i) {
+            stripes[i] = new Stripe();
+        }
+        this.nextStripe         = new AtomicInteger();
+        this.threadStripe       = nbStripes == 1 ?
+                                  null :
+                                  ThreadLocal.withInitial(() -> stripes[nextStripe.getAndIncrement() % stripes.length]);
+        this.hits               = new LongAdder();
+        this.misses             = new LongAdder();
 
     }
 
@@ -133,22 +156,47 @@ public class CachedTransformProvider {
     }
 
     /** Get the nmber of transforms kept in the date-based cache.
-     * @return nmber of transforms kept in the date-based cache
+     * @return nmber of transforms kept in the date-based cache (per stripe)
      */
     public int getCacheSize() {
         return cacheSize;
     }
 
+    /** Get the number of independent cache stripes.
+     * @return number of independent cache stripes
+     * @since 13.2
+     */
+    public int getStripes() {
+        return stripes.length;
+    }
+
+    /** Get the number of cache hits.
+     * @return number of calls that were served from the cache
+     * @since 13.2
+     */
+    public long getHits() {
+        return hits.sum();
+    }
+
+    /** Get the number of cache misses.
+     * @return number of calls that required generating a transform
+     * @since 13.2
+     */
+    public long getMisses() {
+        return misses.sum();
+    }
+
     /** Get the {@link Transform} corresponding to specified date.
      * @param date current date
      * @return transform at specified date
      */
     public Transform getTransform(final AbsoluteDate date) {
-        lock.lock();
+        final Stripe stripe = selectStripe();
+        stripe.lock.lock();
         try {
-            return fullCache.computeIfAbsent(date, fullGenerator);
+            return getOrGenerate(stripe.fullCache, date, fullGenerator);
         } finally {
-            lock.unlock();
+            stripe.lock.unlock();
         }
     }
 
@@ -157,11 +205,12 @@ public class CachedTransformProvider {
      * @return transform at specified date
      */
     public KinematicTransform getKinematicTransform(final AbsoluteDate date) {
-        lock.lock();
+        final Stripe stripe = selectStripe();
+        stripe.lock.lock();
         try {
-            return kinematicCache.computeIfAbsent(date, kinematicGenerator);
+            return getOrGenerate(stripe.kinematicCache, date, kinematicGenerator);
         } finally {
-            lock.unlock();
+            stripe.lock.unlock();
         }
     }
 
@@ -170,12 +219,95 @@ public class CachedTransformProvider {
      * @return transform at specified date
      */
     public StaticTransform getStaticTransform(final AbsoluteDate date) {
-        lock.lock();
+        final Stripe stripe = selectStripe();
+        stripe.lock.lock();
         try {
-            return staticCache.computeIfAbsent(date, staticGenerator);
+            return getOrGenerate(stripe.staticCache, date, staticGenerator);
         } finally {
-            lock.unlock();
+            stripe.lock.unlock();
         }
     }
 
+    /** Select the stripe bound to current thread.
+     * @return stripe bound to current thread
+     */
+    private Stripe selectStripe() {
+        return threadStripe == null ? stripes[0] : threadStripe.get();
+    }
+
+    /** Get a transform from a cache, generating it if needed.
+     * <p>
+     * The lock of the stripe owning the cache must be held when calling this method.
+     * </p>
+     * @param <T> type of the transform
+     * @param cache LRU cache
+     * @param date current date
+     * @param generator generator for missing transforms
+     * @return transform at specified date
+     */
+    private <T> T getOrGenerate(final Map<AbsoluteDate, T> cache, final AbsoluteDate date,
+                                final Function<AbsoluteDate, T> generator) {
+        final T cached = cache.get(date);
+        if (cached != null) {
+            hits.increment();
+            return cached;
+        }
+        misses.increment();
+        final T generated = generator.apply(date);
+        cache.put(date, generated);
+        return generated;
+    }
+
+    /** Independent part of the cache. */
+    private class Stripe {
+
+        /** Lock for concurrent access. */
+        private final ReentrantLock lock;
+
+        /** Transforms LRU cache. */
+        private final Map<AbsoluteDate, Transform> fullCache;
+
+        /** Transforms LRU cache. */
+        private final Map<AbsoluteDate, KinematicTransform> kinematicCache;
+
+        /** Transforms LRU cache. */
+        private final Map<AbsoluteDate, StaticTransform> staticCache;
+
+        /** Simple constructor.
+         */
+        Stripe() {
+
+            this.lock = new ReentrantLock();
+
+            // cache for full transforms
+            this.fullCache = new LinkedHashMap<AbsoluteDate, Transform>(cacheSize, 0.75f, true) {
+                /** {@inheritDoc} */
+                @Override
+                protected boolean removeEldestEntry(final Map.Entry<AbsoluteDate, Transform> eldest) {
+                    return size() > cacheSize;
+                }
+            };
+
+            // cache for kinematic transforms
+            this.kinematicCache = new LinkedHashMap<AbsoluteDate, KinematicTransform>(cacheSize, 0.75f, true) {
+                /** {@inheritDoc} */
+                @Override
+                protected boolean removeEldestEntry(final Map.Entry<AbsoluteDate, KinematicTransform> eldest) {
+                    return size() > cacheSize;
+                }
+            };
+
+            // cache for static transforms
+            this.staticCache = new LinkedHashMap<AbsoluteDate, StaticTransform>(cacheSize, 0.75f, true) {
+                /** {@inheritDoc} */
+                @Override
+                protected boolean removeEldestEntry(final Map.Entry<AbsoluteDate, StaticTransform> eldest) {
+                    return size() > cacheSize;
+                }
+            };
+
+        }
+
+    }
+
 }
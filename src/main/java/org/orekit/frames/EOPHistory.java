@@ -42,7 +42,6 @@ import org.orekit.time.TimeScales;
 import org.orekit.time.TimeStamped;
 import org.orekit.time.TimeVectorFunction;
 import org.orekit.utils.Constants;
-import org.orekit.utils.GenericTimeStampedCache;
 import org.orekit.utils.IERSConventions;
 import org.orekit.utils.ImmutableTimeStampedCache;
 import org.orekit.utils.OrekitConfiguration;
@@ -951,7 +950,7 @@ public class EOPHistory {
             this.step            = 60 * 60;
             this.tidalCorrection = tidalCorrection;
             this.cache           =
-                    new GenericTimeStampedCache<>(8,
+                    OrekitConfiguration.getTimeStampedCacheFactory().createCache(8,
                             OrekitConfiguration.getCacheSlotsNumber(),
                             Constants.JULIAN_DAY * 30,
                             Constants.JULIAN_DAY,
@@ -330,6 +330,27 @@ public class Frame {
         peerCache.setPeerCaching(peer, cacheSize);
     }
 
+    /** Associate this frame to a peer, caching transforms in independent stripes.
+     * <p>
+     * This method is similar to {@link #setPeerCaching(Frame, int)}, but the cache
+     * used for {@link AbsoluteDate regular dates} is split into {@code nbStripes}
+     * independent stripes, each one with its own lock. Each thread is bound
+     * to one stripe, so threads bound to different stripes never wait for each
+     * other. This is intended for heavily multi-threaded applications that convert
+     * many states between the same frames at different dates. The price to pay
+     * is that a transform computed by one thread is not available to threads
+     * bound to other stripes. Caches for {@link FieldAbsoluteDate field dates}
+     * are not striped.
+     * </p>
+     * @param peer peer frame (null to clear the cache)
+     * @param cacheSize number of transforms kept in the date-based cache of each stripe
+     * @param nbStripes number of independent cache stripes (typically the number of threads)
+     * @since 13.2
+     */
+    public void setPeerCaching(final Frame peer, final int cacheSize, final int nbStripes) {
+        peerCache.setPeerCaching(peer, cacheSize, nbStripes);
+    }
+
     /** Get the peer associated to this frame.
      * @return peer associated with this frame, null if not peered at all
      * @since 13.0.3
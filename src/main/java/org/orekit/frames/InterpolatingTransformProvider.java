@@ -30,6 +30,9 @@ import org.orekit.time.FieldAbsoluteDate;
 import org.orekit.utils.AngularDerivativesFilter;
 import org.orekit.utils.CartesianDerivativesFilter;
 import org.orekit.utils.GenericTimeStampedCache;
+import org.orekit.utils.OrekitConfiguration;
+import org.orekit.utils.TimeStampedCache;
+import org.orekit.utils.TimeStampedCacheFactory;
 
 /** Transform provider using thread-safe interpolation on transforms sample.
  * <p>
@@ -57,8 +60,20 @@ public class InterpolatingTransformProvider implements TransformProvider {
     /** Grid points time step. */
     private final double step;
 
+    /** Maximum number of independent cached time slots. */
+    private final int maxSlots;
+
+    /** Maximum duration span in seconds of one slot. */
+    private final double maxSpan;
+
+    /** Time interval above which a new slot is created. */
+    private final double newSlotInterval;
+
+    /** Factory for caches. */
+    private final transient TimeStampedCacheFactory cacheFactory;
+
     /** Cache for sample points. */
-    private final transient GenericTimeStampedCache<Transform> cache;
+    private final transient TimeStampedCache<Transform> cache;
 
     /** Field caches for sample points. */
     // we use Object as the value of fieldCaches because despite numerous attempts,
@@ -79,6 +94,7 @@ public class InterpolatingTransformProvider implements TransformProvider {
      * @param newSlotInterval time interval above which a new slot is created
      * in the {@link GenericTimeStampedCache time-stamped cache}
      * @since 9.1
+     * @see OrekitConfiguration#setTimeStampedCacheFactory(TimeStampedCacheFactory)
      */
     public InterpolatingTransformProvider(final TransformProvider rawProvider,
                                           final CartesianDerivativesFilter cFilter,
@@ -88,8 +104,12 @@ public class InterpolatingTransformProvider implements TransformProvider {
         this.rawProvider = rawProvider;
         this.cFilter     = cFilter;
         this.aFilter     = aFilter;
-        this.step        = step;
-        this.cache       = new GenericTimeStampedCache<>(gridPoints, maxSlots, maxSpan, newSlotInterval,
+        this.step            = step;
+        this.maxSlots        = maxSlots;
+        this.maxSpan         = maxSpan;
+        this.newSlotInterval = newSlotInterval;
+        this.cacheFactory    = OrekitConfiguration.getTimeStampedCacheFactory();
+        this.cache           = cacheFactory.createCache(gridPoints, maxSlots, maxSpan, newSlotInterval,
                 new TransformGenerator(gridPoints,
                         rawProvider,
                         step));
@@ -131,14 +151,14 @@ public class InterpolatingTransformProvider implements TransformProvider {
     @Override
     public <T extends CalculusFieldElement<T>> FieldTransform<T> getTransform(final FieldAbsoluteDate<T> date) {
         @SuppressWarnings("unchecked")
-        GenericTimeStampedCache<FieldTransform<T>> fieldCache =
-            (GenericTimeStampedCache<FieldTransform<T>>) fieldCaches.get(date.getField());
+        TimeStampedCache<FieldTransform<T>> fieldCache =
+            (TimeStampedCache<FieldTransform<T>>) fieldCaches.get(date.getField());
         if (fieldCache == null) {
             fieldCache =
-                    new GenericTimeStampedCache<>(cache.getMaxNeighborsSize(),
-                            cache.getMaxSlots(),
-                            cache.getMaxSpan(),
-                            cache.getNewSlotQuantumGap(),
+                    cacheFactory.createCache(cache.getMaxNeighborsSize(),
+                            maxSlots,
+                            maxSpan,
+                            newSlotInterval,
                             new FieldTransformGenerator<>(date.getField(),
                                     cache.getMaxNeighborsSize(),
                                     rawProvider,
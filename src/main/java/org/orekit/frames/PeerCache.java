@@ -23,12 +23,14 @@ import org.orekit.time.FieldAbsoluteDate;
 
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.concurrent.locks.ReentrantLock;
 import java.util.function.Function;
 
 /** Cache for frame transforms.
  * <p>
- * This class is thread-safe.
+ * This class is thread-safe. The peering is published as one immutable object
+ * through a volatile field, so frames conversions never acquire any lock, only
+ * changes of peering are serialized.
  * </p>
  * @author Luc Maisonobe
  * @since 13.1
@@ -38,23 +40,19 @@ class PeerCache {
     /** Origin frame. */
     private final Frame origin;
 
-    /** Cache for transforms with peer frame. */
-    private volatile CachedTransformProvider cache;
+    /** Current peering (null if not peered). */
+    private volatile Peering peering;
 
-    /** Lock for peer frame cache. */
-    private final ReentrantReadWriteLock lock;
-
-    /** Cache for transforms with peer frame. */
-    private volatile Map<Field<? extends CalculusFieldElement<?>>, FieldCachedTransformProvider<?>> fieldCaches;
+    /** Lock for peering changes. */
+    private final ReentrantLock lock;
 
     /** create an instance not associated with any peer.
      * @param origin origin frame
      */
     PeerCache(final Frame origin) {
-        this.origin      = origin;
-        this.cache       = null;
-        this.fieldCaches = null;
-        this.lock        = new ReentrantReadWriteLock();
+        this.origin  = origin;
+        this.peering = null;
+        this.lock    = new ReentrantLock();
     }
 
     /** Associate a cache with a peer frame, caching transforms.
@@ -76,23 +74,34 @@ class PeerCache {
      * @param cacheSize number of transforms kept in the date-based cache
      */
     public void setPeerCaching(final Frame peer, final int cacheSize) {
+        setPeerCaching(peer, cacheSize, 1);
+    }
 
-        lock.writeLock().lock();
-        try {
+    /** Associate a striped cache with a peer frame, caching transforms.
+     * <p>
+     * This method is similar to {@link #setPeerCaching(Frame, int)}, but the cache
+     * for regular dates is split into several independent stripes, each thread
+     * being bound to one stripe.
+     * </p>
+     * @param peer peer frame (if null, cache is cleared)
+     * @param cacheSize number of transforms kept in the date-based cache of each stripe
+     * @param nbStripes number of independent cache stripes
+     * @since 13.2
+     * @see CachedTransformProvider
+     */
+    public void setPeerCaching(final Frame peer, final int cacheSize, final int nbStripes) {
 
+        lock.lock();
+        try {
             if (peer == null) {
                 // clear peering
-                cache       = null;
-                fieldCaches = null;
+                peering = null;
+            } else {
+                // caching for regular dates, caching for field dates will be populated on the fly
+                peering = new Peering(createCache(peer, cacheSize, nbStripes));
             }
-
-            // caching for regular dates
-            cache = createCache(peer, cacheSize);
-
-            // caching for field dates
-            fieldCaches = new ConcurrentHashMap<>();
         } finally {
-            lock.writeLock().unlock();
+            lock.unlock();
         }
 
     }
@@ -101,12 +110,8 @@ class PeerCache {
      * @return peer associated with this frame, null if not peered at all
      */
     Frame getPeer() {
-        lock.readLock().lock();
-        try {
-            return cache == null ? null : cache.getDestination();
-        } finally {
-            lock.readLock().unlock();
-        }
+        final Peering current = peering;
+        return current == null ? null : current.cache.getDestination();
     }
 
     /** Get the cached transform provider associated with this destination.
@@ -114,15 +119,11 @@ class PeerCache {
      * @return cached transform provider, or null if destination is not the instance peer
      */
     CachedTransformProvider getCachedTransformProvider(final Frame destination) {
-        lock.readLock().lock();
-        try {
-            if (cache == null || cache.getDestination() != destination) {
-                return null;
-            } else {
-                return cache;
-            }
-        } finally {
-            lock.readLock().unlock();
+        final Peering current = peering;
+        if (current == null || current.cache.getDestination() != destination) {
+            return null;
+        } else {
+            return current.cache;
         }
     }
 
@@ -135,31 +136,29 @@ class PeerCache {
     @SuppressWarnings("unchecked")
     <T extends CalculusFieldElement<T>> FieldCachedTransformProvider<T> getCachedTransformProvider(final Frame destination,
                                                                                                    final Field<T> field) {
-        lock.readLock().lock();
-        try {
-            if (cache == null || cache.getDestination() != destination) {
-                return null;
-            } else {
-                @SuppressWarnings("unchedked")
-                final FieldCachedTransformProvider<T> tp =
-                        (FieldCachedTransformProvider<T>) fieldCaches.computeIfAbsent(field,
-                                                                                      f -> createCache(destination,
-                                                                                                       cache.getCacheSize(),
-                                                                                                       field));
-                return tp;
+        final Peering current = peering;
+        if (current == null || current.cache.getDestination() != destination) {
+            return null;
+        } else {
+            FieldCachedTransformProvider<?> tp = current.fieldCaches.get(field);
+            if (tp == null) {
+                tp = current.fieldCaches.computeIfAbsent(field,
+                                                         f -> createCache(destination,
+                                                                          current.cache.getCacheSize(),
+                                                                          field));
             }
-        } finally {
-            lock.readLock().unlock();
+            return (FieldCachedTransformProvider<T>) tp;
         }
     }
 
     /** Create cache.
      * @param peer peer frame
      * @param cacheSize number of transforms kept in the date-based cache
+     * @param nbStripes number of independent cache stripes
      * @return built cache
      * @since 13.0.3
      */
-    private CachedTransformProvider createCache(final Frame peer, final int cacheSize) {
+    private CachedTransformProvider createCache(final Frame peer, final int cacheSize, final int nbStripes) {
         final Function<AbsoluteDate, Transform> fullGenerator =
                 date -> origin.getTransformTo(peer,
                                               Transform.IDENTITY,
@@ -180,7 +179,7 @@ class PeerCache {
                                               StaticTransform::getInverse);
         return new CachedTransformProvider(origin, peer,
                                            fullGenerator, kinematicGenerator, staticGenerator,
-                                           cacheSize);
+                                           cacheSize, nbStripes);
     }
 
     /** Create field cache.
@@ -216,4 +215,23 @@ class PeerCache {
                                                   cacheSize);
     }
 
+    /** Association with a peer frame, published as a whole. */
+    private static class Peering {
+
+        /** Cache for transforms with peer frame. */
+        private final CachedTransformProvider cache;
+
+        /** Caches for field transforms with peer frame. */
+        private final Map<Field<? extends CalculusFieldElement<?>>, FieldCachedTransformProvider<?>> fieldCaches;
+
+        /** Simple constructor.
+         * @param cache cache for transforms with peer frame
+         */
+        Peering(final CachedTransformProvider cache) {
+            this.cache       = cache;
+            this.fieldCaches = new ConcurrentHashMap<>();
+        }
+
+    }
+
 }
@@ -0,0 +1,323 @@
+/* Copyright 2002-2025 CS GROUP
+ * Licensed to CS GROUP (CS) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * CS licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.orekit.frames;
+
+import java.io.IOException;
+import java.nio.Buffer;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.hipparchus.CalculusFieldElement;
+import org.hipparchus.exception.LocalizedCoreFormats;
+import org.hipparchus.geometry.euclidean.threed.Rotation;
+import org.hipparchus.geometry.euclidean.threed.Vector3D;
+import org.hipparchus.util.FastMath;
+import org.orekit.errors.OrekitException;
+import org.orekit.errors.OrekitIllegalArgumentException;
+import org.orekit.errors.OrekitMessages;
+import org.orekit.time.AbsoluteDate;
+import org.orekit.time.FieldAbsoluteDate;
+import org.orekit.time.TimeOffset;
+import org.orekit.utils.AngularCoordinates;
+import org.orekit.utils.AngularDerivativesFilter;
+import org.orekit.utils.CartesianDerivativesFilter;
+
+/** Transform provider using a precomputed table of rotations stored in a memory-mapped file.
+ * <p>
+ * This provider is intended for pure rotation chains that are expensive to evaluate,
+ * typically the IAU-2006 precession-nutation and Earth rotation chain between
+ * {@link FramesFactory#getGCRF() GCRF} and {@link FramesFactory#getITRF(org.orekit.utils.IERSConventions,
+ * boolean) ITRF}. The table is generated once by {@link #write(TransformProvider, AbsoluteDate,
+ * AbsoluteDate, double, int, Path)}, which samples the raw provider on a regular grid and stores
+ * the rotation quaternions in a compact binary file. The file is then
+ * {@link #load(Path) memory-mapped} at run time, so building the provider does not evaluate
+ * any series, and each call to {@link #getTransform(AbsoluteDate)} is a table lookup followed
+ * by a Hermite interpolation of a few neighboring entries.
+ * </p>
+ * <p>
+ * Only the rotational part of the raw transforms is stored, translations are ignored.
+ * Rotation rates and accelerations are not stored either, they are recovered from the
+ * derivatives of the interpolating polynomial. This is more accurate than interpolating
+ * with the raw rates, because the rates computed by the Earth frames chain ignore the
+ * slow precession-nutation terms and are therefore not fully consistent with the rotations.
+ * </p>
+ * <p>
+ * The accuracy of the interpolation depends on the grid step and on the number of
+ * interpolation points. When generating the table, the interpolated rotation is checked
+ * against the raw provider at the middle of each grid interval (where interpolation error
+ * is the largest) and the maximum angular error found is stored in the file. It is available
+ * as {@link #getMaxError()} and is a close estimate of the accuracy with respect to the
+ * sampled raw provider (errors at other dates may exceed it by a few percents). As
+ * an example, for the IERS 2010 GCRF to ITRF chain, with 8 interpolation points the error
+ * is about 7×10⁻¹³ radians for a 30 minutes step (i.e. below 0.01 mm at Earth surface)
+ * and about 8×10⁻¹¹ radians for a 1 hour step. With only 4 interpolation points and a
+ * 10 minutes step, it is about 4×10⁻¹¹ radians.
+ * </p>
+ * <p>
+ * This class is thread-safe.
+ * </p>
+ * @see InterpolatingTransformProvider
+ * @author Luc Maisonobe
+ * @since 13.2
+ */
+public class PrecomputedTransformProvider implements TransformProvider {
+
+    /** Magic header identifying the file format. */
+    private static final byte[] MAGIC = "ORKTRTAB".getBytes(StandardCharsets.US_ASCII);
+
+    /** Supported format version. */
+    private static final int VERSION = 1;
+
+    /** Size of the header in bytes. */
+    private static final int HEADER_SIZE = 56;
+
+    /** Number of doubles per entry (quaternion). */
+    private static final int ENTRY_DOUBLES = 4;
+
+    /** Size of one entry in bytes. */
+    private static final int ENTRY_SIZE = ENTRY_DOUBLES * Double.BYTES;
+
+    /** Mapped data. */
+    private final ByteBuffer buffer;
+
+    /** Number of interpolation points. */
+    private final int interpolationPoints;
+
+    /** Number of entries. */
+    private final int count;
+
+    /** Date of the first entry. */
+    private final AbsoluteDate start;
+
+    /** Date of the last entry. */
+    private final AbsoluteDate end;
+
+    /** Grid step. */
+    private final double step;
+
+    /** Maximum interpolation error found at generation time. */
+    private final double maxError;
+
+    /** Private constructor.
+     * @param name name of the file (used for error messages)
+     * @param buffer mapped data
+     */
+    private PrecomputedTransformProvider(final String name, final ByteBuffer buffer) {
+
+        if (buffer.capacity() < HEADER_SIZE) {
+            throw new OrekitException(OrekitMessages.UNEXPECTED_END_OF_FILE, name);
+        }
+        final byte[] magic = new byte[MAGIC.length];
+        for (int i = 0; i < magic.length; ++i) {
+            magic[i] = buffer.get(i);
+        }
+        if (!Arrays.equals(MAGIC, magic)) {
+            throw new OrekitException(OrekitMessages.UNSUPPORTED_FILE_FORMAT, name);
+        }
+        final int version = buffer.getInt(8);
+        if (version != VERSION) {
+            throw new OrekitException(OrekitMessages.UNSUPPORTED_FILE_FORMAT_VERSION, version, name, VERSION);
+        }
+
+        this.buffer              = buffer;
+        this.interpolationPoints = buffer.getInt(12);
+        this.count               = buffer.getInt(16);
+        this.start               = new AbsoluteDate(new TimeOffset(buffer.getLong(24), buffer.getLong(32)));
+        this.step                = buffer.getDouble(40);
+        this.maxError            = buffer.getDouble(48);
+        this.end                 = start.shiftedBy((count - 1) * step);
+        if (buffer.capacity() < HEADER_SIZE + ((long) count) * ENTRY_SIZE) {
+            throw new OrekitException(OrekitMessages.UNEXPECTED_END_OF_FILE, name);
+        }
+
+    }
+
+    /** Sample a raw provider and write the precomputed table to a file.
+     * <p>
+     * The raw provider is evaluated once at each grid point between {@code start}
+     * and {@code end} (the last grid point may be slightly after {@code end}),
+     * and once at the middle of each grid interval in order to estimate the
+     * interpolation error.
+     * </p>
+     * @param rawProvider provider for raw (non-interpolated) transforms
+     * @param start start date of the table
+     * @param end end date of the table
+     * @param step grid step
+     * @param interpolationPoints number of points to use in interpolation (at least 2)
+     * @param file file to write
+     * @return maximum interpolation error found (radians)
+     * @exception IOException if file cannot be written
+     */
+    public static double write(final TransformProvider rawProvider,
+                               final AbsoluteDate start, final AbsoluteDate end, final double step,
+                               final int interpolationPoints, final Path file)
+        throws IOException {
+
+        // safety checks
+        if (step <= 0) {
+            throw new OrekitIllegalArgumentException(LocalizedCoreFormats.NUMBER_TOO_SMALL_BOUND_EXCLUDED, step, 0);
+        }
+        if (interpolationPoints < 2) {
+            throw new OrekitIllegalArgumentException(LocalizedCoreFormats.NUMBER_TOO_SMALL, interpolationPoints, 2);
+        }
+        final int count = FastMath.max(interpolationPoints,
+                                       1 + (int) FastMath.ceil(end.durationFrom(start) / step));
+
+        // sample the raw provider
+        final ByteBuffer data = ByteBuffer.allocate(HEADER_SIZE + count * ENTRY_SIZE);
+        data.put(MAGIC);
+        data.putInt(VERSION);
+        data.putInt(interpolationPoints);
+        data.putInt(count);
+        data.putInt(0);
+        data.putLong(start.getSeconds());
+        data.putLong(start.getAttoSeconds());
+        data.putDouble(step);
+        data.putDouble(Double.NaN);
+        for (int i = 0; i < count; ++i) {
+            final Rotation r = rawProvider.getTransform(start.shiftedBy(i * step)).getRotation();
+            data.putDouble(r.getQ0());
+            data.putDouble(r.getQ1());
+            data.putDouble(r.getQ2());
+            data.putDouble(r.getQ3());
+        }
+
+        // estimate interpolation error at the middle of grid intervals
+        final PrecomputedTransformProvider provider = new PrecomputedTransformProvider(file.toString(), data);
+        double error = 0;
+        for (int i = 0; i < count - 1; ++i) {
+            final AbsoluteDate middle       = start.shiftedBy((i + 0.5) * step);
+            final Rotation     raw          = rawProvider.getTransform(middle).getRotation();
+            final Rotation     interpolated = provider.getTransform(middle).getRotation();
+            error = FastMath.max(error, Rotation.distance(raw, interpolated));
+        }
+        data.putDouble(48, error);
+
+        // write the file (the cast to Buffer ensures linking to the Java 8 method signature)
+        ((Buffer) data).rewind();
+        try (FileChannel channel = FileChannel.open(file,
+                                                    StandardOpenOption.CREATE,
+                                                    StandardOpenOption.TRUNCATE_EXISTING,
+                                                    StandardOpenOption.WRITE)) {
+            while (data.hasRemaining()) {
+                channel.write(data);
+            }
+        }
+
+        return error;
+
+    }
+
+    /** Load a precomputed table by memory-mapping a file.
+     * @param file file containing the table, as written by {@link #write(TransformProvider,
+     * AbsoluteDate, AbsoluteDate, double, int, Path)}
+     * @return provider using the mapped table
+     * @exception IOException if file cannot be mapped
+     */
+    public static PrecomputedTransformProvider load(final Path file) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            return new PrecomputedTransformProvider(file.toString(),
+                                                    channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size()));
+        }
+    }
+
+    /** Get the date of the first table entry.
+     * @return date of the first table entry
+     */
+    public AbsoluteDate getStart() {
+        return start;
+    }
+
+    /** Get the date of the last table entry.
+     * @return date of the last table entry
+     */
+    public AbsoluteDate getEnd() {
+        return end;
+    }
+
+    /** Get the grid step.
+     * @return grid step
+     */
+    public double getStep() {
+        return step;
+    }
+
+    /** Get the number of table entries.
+     * @return number of table entries
+     */
+    public int getCount() {
+        return count;
+    }
+
+    /** Get the number of interpolation points.
+     * @return number of interpolation points
+     */
+    public int getInterpolationPoints() {
+        return interpolationPoints;
+    }
+
+    /** Get the maximum interpolation error found when the table was generated.
+     * @return maximum angular error in radians between interpolated
+     * and raw rotations at the middle of grid intervals
+     */
+    public double getMaxError() {
+        return maxError;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public Transform getTransform(final AbsoluteDate date) {
+
+        final double dt = date.durationFrom(start);
+        if (dt < 0 || date.isAfter(end)) {
+            throw new OrekitException(OrekitMessages.OUT_OF_RANGE_DATE, date, start, end);
+        }
+
+        // select the entries surrounding the date
+        final int first = FastMath.max(0,
+                                       FastMath.min(count - interpolationPoints,
+                                                    (int) FastMath.floor(dt / step) - (interpolationPoints - 1) / 2));
+        final List<Transform> sample = new ArrayList<>(interpolationPoints);
+        for (int i = first; i < first + interpolationPoints; ++i) {
+            final int offset = HEADER_SIZE + i * ENTRY_SIZE;
+            final Rotation r = new Rotation(buffer.getDouble(offset),
+                                            buffer.getDouble(offset +     Double.BYTES),
+                                            buffer.getDouble(offset + 2 * Double.BYTES),
+                                            buffer.getDouble(offset + 3 * Double.BYTES),
+                                            false);
+            sample.add(new Transform(start.shiftedBy(i * step), new AngularCoordinates(r, Vector3D.ZERO)));
+        }
+
+        // interpolate to specified date
+        return Transform.interpolate(date, CartesianDerivativesFilter.USE_P, AngularDerivativesFilter.USE_R, sample);
+
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public <T extends CalculusFieldElement<T>> FieldTransform<T> getTransform(final FieldAbsoluteDate<T> date) {
+        final AbsoluteDate aDate = date.toAbsoluteDate();
+        return new FieldTransform<>(date.getField(), getTransform(aDate)).shiftedBy(date.durationFrom(aDate));
+    }
+
+}
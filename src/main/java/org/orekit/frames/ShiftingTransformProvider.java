@@ -28,6 +28,9 @@ import org.orekit.time.FieldAbsoluteDate;
 import org.orekit.utils.AngularDerivativesFilter;
 import org.orekit.utils.CartesianDerivativesFilter;
 import org.orekit.utils.GenericTimeStampedCache;
+import org.orekit.utils.OrekitConfiguration;
+import org.orekit.utils.TimeStampedCache;
+import org.orekit.utils.TimeStampedCacheFactory;
 
 /** Transform provider using thread-safe shifts on transforms sample.
  * <p>
@@ -43,8 +46,20 @@ public class ShiftingTransformProvider implements TransformProvider {
     /** First level cache. */
     private final InterpolatingTransformProvider interpolatingProvider;
 
+    /** Maximum number of independent cached time slots. */
+    private final int maxSlots;
+
+    /** Maximum duration span in seconds of one slot. */
+    private final double maxSpan;
+
+    /** Time interval above which a new slot is created. */
+    private final double newSlotInterval;
+
+    /** Factory for caches. */
+    private final transient TimeStampedCacheFactory cacheFactory;
+
     /** Cache for sample points. */
-    private final transient GenericTimeStampedCache<Transform> cache;
+    private final transient TimeStampedCache<Transform> cache;
 
     /** Field caches for sample points. */
     // we use Object as the value of fieldCaches because despite numerous attempts,
@@ -65,6 +80,7 @@ public class ShiftingTransformProvider implements TransformProvider {
      * @param newSlotInterval time interval above which a new slot is created
      * in the {@link GenericTimeStampedCache time-stamped cache}
      * @since 9.1
+     * @see OrekitConfiguration#setTimeStampedCacheFactory(TimeStampedCacheFactory)
      */
     public ShiftingTransformProvider(final TransformProvider rawProvider,
                                      final CartesianDerivativesFilter cFilter,
@@ -88,7 +104,11 @@ public class ShiftingTransformProvider implements TransformProvider {
     private ShiftingTransformProvider(final InterpolatingTransformProvider interpolatingProvider,
                                      final int maxSlots, final double maxSpan, final double newSlotInterval) {
         this.interpolatingProvider = interpolatingProvider;
-        this.cache = new GenericTimeStampedCache<>(2, maxSlots, maxSpan, newSlotInterval,
+        this.maxSlots              = maxSlots;
+        this.maxSpan               = maxSpan;
+        this.newSlotInterval       = newSlotInterval;
+        this.cacheFactory          = OrekitConfiguration.getTimeStampedCacheFactory();
+        this.cache = cacheFactory.createCache(2, maxSlots, maxSpan, newSlotInterval,
                 new TransformGenerator(2,
                         interpolatingProvider,
                         interpolatingProvider.getStep()));
@@ -138,14 +158,14 @@ public class ShiftingTransformProvider implements TransformProvider {
     /** {@inheritDoc} */
     public <T extends CalculusFieldElement<T>> FieldTransform<T> getTransform(final FieldAbsoluteDate<T> date) {
         @SuppressWarnings("unchecked")
-        GenericTimeStampedCache<FieldTransform<T>> fieldCache =
-            (GenericTimeStampedCache<FieldTransform<T>>) fieldCaches.get(date.getField());
+        TimeStampedCache<FieldTransform<T>> fieldCache =
+            (TimeStampedCache<FieldTransform<T>>) fieldCaches.get(date.getField());
         if (fieldCache == null) {
             fieldCache =
-                    new GenericTimeStampedCache<>(cache.getMaxNeighborsSize(),
-                            cache.getMaxSlots(),
-                            cache.getMaxSpan(),
-                            cache.getNewSlotQuantumGap(),
+                    cacheFactory.createCache(cache.getMaxNeighborsSize(),
+                            maxSlots,
+                            maxSpan,
+                            newSlotInterval,
                             new FieldTransformGenerator<>(date.getField(),
                                     cache.getMaxNeighborsSize(),
                                     interpolatingProvider,
@@ -165,14 +185,14 @@ public class ShiftingTransformProvider implements TransformProvider {
     @Override
     public <T extends CalculusFieldElement<T>> FieldStaticTransform<T> getStaticTransform(final FieldAbsoluteDate<T> date) {
         @SuppressWarnings("unchecked")
-        GenericTimeStampedCache<FieldTransform<T>> fieldCache =
-            (GenericTimeStampedCache<FieldTransform<T>>) fieldCaches.get(date.getField());
+        TimeStampedCache<FieldTransform<T>> fieldCache =
+            (TimeStampedCache<FieldTransform<T>>) fieldCaches.get(date.getField());
         if (fieldCache == null) {
             fieldCache =
-                    new GenericTimeStampedCache<>(cache.getMaxNeighborsSize(),
-                            cache.getMaxSlots(),
-                            cache.getMaxSpan(),
-                            cache.getNewSlotQuantumGap(),
+                    cacheFactory.createCache(cache.getMaxNeighborsSize(),
+                            maxSlots,
+                            maxSpan,
+                            newSlotInterval,
                             new FieldTransformGenerator<>(date.getField(),
                                     cache.getMaxNeighborsSize(),
                                     interpolatingProvider,
@@ -0,0 +1,254 @@
+/* Copyright 2002-2025 CS GROUP
+ * Licensed to CS GROUP (CS) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * CS licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.orekit.propagation;
+
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.hipparchus.analysis.UnivariateFunction;
+import org.hipparchus.analysis.solvers.AllowedSolution;
+import org.hipparchus.analysis.solvers.BracketedUnivariateSolver;
+import org.hipparchus.analysis.solvers.BracketingNthOrderBrentSolver;
+import org.hipparchus.util.FastMath;
+import org.orekit.errors.OrekitException;
+import org.orekit.errors.OrekitMessages;
+import org.orekit.propagation.events.EventDetectionSettings;
+import org.orekit.propagation.events.MultiSatEventDetector;
+import org.orekit.propagation.sampling.MultiSatStepHandler;
+import org.orekit.propagation.sampling.OrekitStepInterpolator;
+import org.orekit.time.AbsoluteDate;
+
+/** Global step handler detecting multi-satellite events before delegating to another handler.
+ * <p>
+ * Events are searched on each synchronized global step, by sampling the switching
+ * function according to the max check interval and locating roots using the
+ * interpolators of all propagators. They are reported to the handlers of the detectors
+ * in chronological order for each detector, before the global step itself is handled.
+ * </p>
+ * <p>
+ * Satellites states are interpolated lazily, only for the satellites a detector
+ * actually uses, and the states at sampling dates are shared between all detectors
+ * during one global step.
+ * </p>
+ * @author Luc Maisonobe
+ * @since 13.2
+ */
+class MultiSatEventsMonitor implements MultiSatStepHandler {
+
+    /** Underlying global handler. */
+    private final MultiSatStepHandler delegate;
+
+    /** Detectors states. */
+    private final List<DetectorState> states;
+
+    /** Lazily interpolated states at sampling dates of current global step, shared between detectors. */
+    private final Map<AbsoluteDate, LazyStates> samples;
+
+    /** Simple constructor.
+     * @param detectors multi-satellite events detectors
+     * @param delegate underlying global handler
+     */
+    MultiSatEventsMonitor(final List<MultiSatEventDetector> detectors, final MultiSatStepHandler delegate) {
+        this.delegate = delegate;
+        this.states   = new ArrayList<>(detectors.size());
+        this.samples  = new HashMap<>();
+        for (final MultiSatEventDetector detector : detectors) {
+            states.add(new DetectorState(detector));
+        }
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void init(final List<SpacecraftState> states0, final AbsoluteDate t) {
+        for (final DetectorState state : states) {
+            state.init(states0, t);
+        }
+        delegate.init(states0, t);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void handleStep(final List<OrekitStepInterpolator> interpolators) {
+        try {
+            for (final DetectorState state : states) {
+                state.evaluateStep(interpolators);
+            }
+        } finally {
+            // interpolators are only valid for the current global step
+            samples.clear();
+        }
+        delegate.handleStep(interpolators);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void finish(final List<SpacecraftState> finalStates) {
+        delegate.finish(finalStates);
+    }
+
+    /** Get the shared states at a sampling date.
+     * @param interpolators interpolators for all satellites
+     * @param date sampling date
+     * @return lazily interpolated states
+     */
+    private LazyStates sample(final List<OrekitStepInterpolator> interpolators, final AbsoluteDate date) {
+        return samples.computeIfAbsent(date, d -> new LazyStates(interpolators, d));
+    }
+
+    /** Local class for states interpolated only when a detector needs them. */
+    private static class LazyStates extends AbstractList<SpacecraftState> {
+
+        /** Interpolators for all satellites. */
+        private final List<OrekitStepInterpolator> interpolators;
+
+        /** Interpolation date. */
+        private final AbsoluteDate date;
+
+        /** Already interpolated states (null for satellites not interpolated yet). */
+        private final SpacecraftState[] interpolated;
+
+        /** Simple constructor.
+         * @param interpolators interpolators for all satellites
+         * @param date interpolation date
+         */
+        LazyStates(final List<OrekitStepInterpolator> interpolators, final AbsoluteDate date) {
+            this.interpolators = interpolators;
+            this.date          = date;
+            this.interpolated  = new SpacecraftState[interpolators.size()];
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        public SpacecraftState get(final int index) {
+            if (interpolated[index] == null) {
+                interpolated[index] = interpolators.get(index).getInterpolatedState(date);
+            }
+            return interpolated[index];
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        public int size() {
+            return interpolated.length;
+        }
+
+        /** Get all states, as handlers may keep them after the step is over.
+         * @return interpolated states for all satellites
+         */
+        List<SpacecraftState> complete() {
+            return new ArrayList<>(this);
+        }
+
+    }
+
+    /** Local class for the search state of one detector. */
+    private class DetectorState {
+
+        /** Monitored detector. */
+        private final MultiSatEventDetector detector;
+
+        /** Date of last evaluation. */
+        private AbsoluteDate lastT;
+
+        /** Value of switching function at last evaluation. */
+        private double lastG;
+
+        /** Simple constructor.
+         * @param detector monitored detector
+         */
+        DetectorState(final MultiSatEventDetector detector) {
+            this.detector = detector;
+        }
+
+        /** Initialize search.
+         * @param states0 initial states
+         * @param t target date
+         */
+        void init(final List<SpacecraftState> states0, final AbsoluteDate t) {
+            detector.init(states0, t);
+            lastT = states0.get(0).getDate();
+            lastG = detector.g(states0);
+        }
+
+        /** Search events in one global step.
+         * @param interpolators interpolators for all satellites, restricted to global step
+         */
+        void evaluateStep(final List<OrekitStepInterpolator> interpolators) {
+
+            final EventDetectionSettings settings = detector.getDetectionSettings();
+            final boolean      forward  = interpolators.get(0).isForward();
+            final AbsoluteDate end      = interpolators.get(0).getCurrentState().getDate();
+            final double       dt       = end.durationFrom(lastT);
+            if (FastMath.abs(dt) < settings.getThreshold()) {
+                // step too small, wait until next one
+                return;
+            }
+
+            // split the step according to max check interval
+            final AbsoluteDate start    = lastT;
+            final double       maxCheck = settings.getMaxCheckInterval().
+                                          currentInterval(sample(interpolators, start).get(0), forward);
+            final int          n        = FastMath.max(1, (int) FastMath.ceil(FastMath.abs(dt) / maxCheck));
+            for (int i = 1; i <= n; ++i) {
+                final AbsoluteDate tb      = i == n ? end : start.shiftedBy(i * dt / n);
+                final LazyStates   statesB = sample(interpolators, tb);
+                final double       gb      = detector.g(statesB);
+                if (lastG < 0 && gb >= 0 || lastG > 0 && gb <= 0) {
+                    // there is a sign change, the event occurs in [lastT, tb]
+                    final List<SpacecraftState> eventStates =
+                                    gb == 0 ? statesB.complete() : findRoot(interpolators, tb, gb);
+                    detector.getHandler().eventOccurred(eventStates, detector, gb > lastG);
+                }
+                lastT = tb;
+                lastG = gb;
+            }
+
+        }
+
+        /** Locate a root of the switching function.
+         * @param interpolators interpolators for all satellites
+         * @param tb end of the bracketing interval (start is {@link #lastT})
+         * @param gb value of the switching function at interval end
+         * @return states at root
+         */
+        private List<SpacecraftState> findRoot(final List<OrekitStepInterpolator> interpolators,
+                                               final AbsoluteDate tb, final double gb) {
+            final EventDetectionSettings settings = detector.getDetectionSettings();
+            final AbsoluteDate           ta       = lastT;
+            final double                 dtb      = tb.durationFrom(ta);
+            final BracketedUnivariateSolver<UnivariateFunction> solver =
+                            new BracketingNthOrderBrentSolver(0, settings.getThreshold(), 0, 5);
+            final UnivariateFunction f = x -> detector.g(new LazyStates(interpolators, ta.shiftedBy(x)));
+            try {
+                final double root = solver.solve(settings.getMaxIterationCount(), f,
+                                                  FastMath.min(0, dtb), FastMath.max(0, dtb),
+                                                  AllowedSolution.ANY_SIDE);
+                return new LazyStates(interpolators, ta.shiftedBy(root)).complete();
+                // CHECKSTYLE: stop IllegalCatch check
+            } catch (RuntimeException e) {
+                // CHECKSTYLE: resume IllegalCatch check
+                throw new OrekitException(e, OrekitMessages.FIND_ROOT,
+                                          detector, ta, lastG, tb, gb, ta, lastG);
+            }
+        }
+
+    }
+
+}
@@ -29,6 +29,8 @@ import java.util.concurrent.TimeUnit;
 import org.hipparchus.exception.LocalizedCoreFormats;
 import org.hipparchus.util.FastMath;
 import org.orekit.errors.OrekitException;
+import org.orekit.errors.OrekitMessages;
+import org.orekit.propagation.events.MultiSatEventDetector;
 import org.orekit.propagation.sampling.MultiSatFixedStepHandler;
 import org.orekit.propagation.sampling.MultiSatStepHandler;
 import org.orekit.propagation.sampling.MultisatStepNormalizer;
@@ -36,6 +38,7 @@ import org.orekit.propagation.sampling.OrekitStepHandler;
 import org.orekit.propagation.sampling.OrekitStepInterpolator;
 import org.orekit.propagation.sampling.StepHandlerMultiplexer;
 import org.orekit.time.AbsoluteDate;
+import org.orekit.utils.ParallelLoop;
 
 /** This class provides a way to propagate simultaneously several orbits.
  *
@@ -86,16 +89,46 @@ import org.orekit.time.AbsoluteDate;
  * reach the end.
  * </p>
  * <p>
- * This class does <em>not</em> provide multi-satellite events. As events
- * may truncate steps and even reset state, all events (including multi-satellite
- * events) are handled at a very low level within each propagators and cannot be
- * managed from outside by the parallelizer. For accurate handling of multi-satellite
- * events, the event detector should be registered <em>within</em> the propagator
- * of one satellite and have access to an independent propagator (typically an
- * analytical propagator or an ephemeris) of the other satellite. As the embedded
- * propagator will be called by the detector which itself is called by the first
- * propagator, it should really be a dedicated propagator and should not also
- * appear as one of the parallelized propagators, otherwise conflicts will appear here.
+ * Regular events that may truncate steps and even reset state are handled at a very
+ * low level within each propagators and cannot be managed from outside by the parallelizer.
+ * For multi-satellite events that must stop propagation or reset state, the event detector
+ * should be registered <em>within</em> the propagator of one satellite and have access to
+ * an independent propagator (typically an analytical propagator or an ephemeris) of the
+ * other satellite. As the embedded propagator will be called by the detector which itself
+ * is called by the first propagator, it should really be a dedicated propagator and should
+ * not also appear as one of the parallelized propagators, otherwise conflicts will appear here.
+ * </p>
+ * <p>
+ * Multi-satellite events that only need to be observed (for example close approaches or
+ * inter-satellite visibility throughout a constellation) can be detected directly by the
+ * parallelizer, using {@link MultiSatEventDetector multi-satellite detectors} registered
+ * with {@link #addEventDetector(MultiSatEventDetector)}. Their switching functions depend
+ * on the states of all satellites, they are evaluated on the synchronized global steps with
+ * root finding using the interpolators of all propagators, and their handlers are called
+ * before the global step handler sees the step containing the events.
+ * </p>
+ * <p>
+ * Two threading modes are available. The historical mode, selected by the constructors
+ * that do not take an {@link ExecutorService}, creates one thread per propagator and keeps
+ * all propagators alive during the whole propagation, each one being parked at the end
+ * of its current step until the global handler has consumed it. This mode does not scale
+ * to large catalogs as it creates as many platform threads as there are propagators.
+ * </p>
+ * <p>
+ * The bounded mode, selected by the constructors that take an {@link ExecutorService},
+ * splits the propagation time range into synchronization slabs. For each slab, at most
+ * {@code maxWorkers} threads (the calling thread and tasks submitted to the caller-supplied
+ * executor) pick the next pending propagator from a shared counter, propagate it up to the
+ * slab end while recording its steps, and pick another propagator until none remain. Worker
+ * threads therefore never wait for each other: once all propagators have reached the
+ * slab end, the recorded steps are merged into synchronized global steps by the calling
+ * thread exactly as in the historical mode. The executor is not shut down by the
+ * parallelizer, so it can be shared between several runs, and may be a virtual-threads
+ * executor. As each propagator is restarted at each slab boundary, the step handlers
+ * registered directly within the propagators see one {@code init}/{@code finish} pair per
+ * slab, and integrators restart with their initial step size. Setting the slab duration
+ * to {@code Double.POSITIVE_INFINITY} avoids any restart, at the expense of recording
+ * all steps of the full propagation before the global handler is called.
  * </p>
  * @author Luc Maisonobe
  * @since 9.0
@@ -112,6 +145,18 @@ public class PropagatorsParallelizer {
     /** Global step handler. */
     private final MultiSatStepHandler globalHandler;
 
+    /** Executor service for bounded mode (null in thread-per-propagator mode). */
+    private final ExecutorService executorService;
+
+    /** Maximum number of threads working simultaneously in bounded mode. */
+    private final int maxWorkers;
+
+    /** Duration of synchronization slabs in bounded mode (s). */
+    private final double slabDuration;
+
+    /** Multi-satellite events detectors. */
+    private final List<MultiSatEventDetector> detectors;
+
     /** Simple constructor.
      * @param propagators list of propagators to use
      * @param globalHandler global handler for managing all spacecrafts
@@ -119,8 +164,12 @@ public class PropagatorsParallelizer {
      */
     public PropagatorsParallelizer(final List<Propagator> propagators,
                                    final MultiSatStepHandler globalHandler) {
-        this.propagators = propagators;
-        this.globalHandler = globalHandler;
+        this.propagators     = propagators;
+        this.globalHandler   = globalHandler;
+        this.executorService = null;
+        this.maxWorkers      = propagators.size();
+        this.slabDuration    = Double.POSITIVE_INFINITY;
+        this.detectors       = new ArrayList<>();
     }
 
     /** Simple constructor.
@@ -133,8 +182,64 @@ public class PropagatorsParallelizer {
     public PropagatorsParallelizer(final List<Propagator> propagators,
                                    final double h,
                                    final MultiSatFixedStepHandler globalHandler) {
-        this.propagators   = propagators;
-        this.globalHandler = new MultisatStepNormalizer(h, globalHandler);
+        this.propagators     = propagators;
+        this.globalHandler   = new MultisatStepNormalizer(h, globalHandler);
+        this.executorService = null;
+        this.maxWorkers      = propagators.size();
+        this.slabDuration    = Double.POSITIVE_INFINITY;
+        this.detectors       = new ArrayList<>();
+    }
+
+    /** Constructor for bounded mode.
+     * @param propagators list of propagators to use
+     * @param globalHandler global handler for managing all spacecrafts
+     * simultaneously
+     * @param executorService executor running the propagators (will <em>not</em>
+     * be shut down by the parallelizer)
+     * @param maxWorkers maximum number of threads working simultaneously, including the calling thread
+     * @param slabDuration duration of synchronization slabs (s), may be
+     * {@code Double.POSITIVE_INFINITY} to never restart propagators
+     * @since 13.2
+     */
+    public PropagatorsParallelizer(final List<Propagator> propagators,
+                                   final MultiSatStepHandler globalHandler,
+                                   final ExecutorService executorService,
+                                   final int maxWorkers,
+                                   final double slabDuration) {
+        if (maxWorkers < 1) {
+            throw new OrekitException(OrekitMessages.NOT_STRICTLY_POSITIVE, maxWorkers);
+        }
+        if (!(slabDuration > 0)) {
+            throw new OrekitException(OrekitMessages.NOT_STRICTLY_POSITIVE, slabDuration);
+        }
+        this.propagators     = propagators;
+        this.globalHandler   = globalHandler;
+        this.executorService = executorService;
+        this.maxWorkers      = maxWorkers;
+        this.slabDuration    = slabDuration;
+        this.detectors       = new ArrayList<>();
+    }
+
+    /** Constructor for bounded mode.
+     * @param propagators list of propagators to use
+     * @param h fixed time step (sign is not used)
+     * @param globalHandler global handler for managing all spacecrafts
+     * simultaneously
+     * @param executorService executor running the propagators (will <em>not</em>
+     * be shut down by the parallelizer)
+     * @param maxWorkers maximum number of threads working simultaneously, including the calling thread
+     * @param slabDuration duration of synchronization slabs (s), may be
+     * {@code Double.POSITIVE_INFINITY} to never restart propagators
+     * @since 13.2
+     */
+    public PropagatorsParallelizer(final List<Propagator> propagators,
+                                   final double h,
+                                   final MultiSatFixedStepHandler globalHandler,
+                                   final ExecutorService executorService,
+                                   final int maxWorkers,
+                                   final double slabDuration) {
+        this(propagators, new MultisatStepNormalizer(h, globalHandler),
+             executorService, maxWorkers, slabDuration);
     }
 
     /** Get an unmodifiable list of the underlying mono-satellite propagators.
@@ -144,6 +249,35 @@ public class PropagatorsParallelizer {
         return Collections.unmodifiableList(propagators);
     }
 
+    /** Add a multi-satellite event detector.
+     * @param detector multi-satellite event detector to add
+     * @see #clearEventDetectors()
+     * @see #getEventDetectors()
+     * @since 13.2
+     */
+    public void addEventDetector(final MultiSatEventDetector detector) {
+        detectors.add(detector);
+    }
+
+    /** Get all the multi-satellite events detectors that have been added.
+     * @return an unmodifiable list of multi-satellite events detectors
+     * @see #addEventDetector(MultiSatEventDetector)
+     * @see #clearEventDetectors()
+     * @since 13.2
+     */
+    public List<MultiSatEventDetector> getEventDetectors() {
+        return Collections.unmodifiableList(detectors);
+    }
+
+    /** Remove all multi-satellite events detectors.
+     * @see #addEventDetector(MultiSatEventDetector)
+     * @see #getEventDetectors()
+     * @since 13.2
+     */
+    public void clearEventDetectors() {
+        detectors.clear();
+    }
+
     /** Propagate from a start date towards a target date.
      * @param start start date from which orbit state should be propagated
      * @param target target date to which orbit state should be propagated
@@ -151,19 +285,28 @@ public class PropagatorsParallelizer {
      */
     public List<SpacecraftState> propagate(final AbsoluteDate start, final AbsoluteDate target) {
 
+        // set up events detection if needed
+        final MultiSatStepHandler handler = detectors.isEmpty() ?
+                                            globalHandler :
+                                            new MultiSatEventsMonitor(detectors, globalHandler);
+
+        if (executorService != null) {
+            return propagateBounded(start, target, handler);
+        }
+
         if (propagators.size() == 1) {
             // special handling when only one propagator is used
-            propagators.get(0).getMultiplexer().add(new SinglePropagatorHandler(globalHandler));
+            propagators.get(0).getMultiplexer().add(new SinglePropagatorHandler(handler));
             return Collections.singletonList(propagators.get(0).propagate(start, target));
         }
 
         final double sign = FastMath.copySign(1.0, target.durationFrom(start));
 
         // start all propagators in concurrent threads
-        final ExecutorService            executorService = Executors.newFixedThreadPool(propagators.size());
-        final List<PropagatorMonitoring> monitors        = new ArrayList<>(propagators.size());
+        final ExecutorService            threads  = Executors.newFixedThreadPool(propagators.size());
+        final List<PropagatorMonitoring> monitors = new ArrayList<>(propagators.size());
         for (final Propagator propagator : propagators) {
-            final PropagatorMonitoring monitor = new PropagatorMonitoring(propagator, start, target, executorService);
+            final PropagatorMonitoring monitor = new PropagatorMonitoring(propagator, start, target, threads);
             monitor.waitFirstStepCompletion();
             monitors.add(monitor);
         }
@@ -174,7 +317,7 @@ public class PropagatorsParallelizer {
         for (final PropagatorMonitoring monitor : monitors) {
             initialStates.add(monitor.parameters.initialState);
         }
-        globalHandler.init(initialStates, target);
+        handler.init(initialStates, target);
         for (boolean isLast = false; !isLast;) {
 
             // select the earliest ending propagator, according to propagation direction
@@ -201,7 +344,7 @@ public class PropagatorsParallelizer {
             for (final PropagatorMonitoring monitor : monitors) {
                 interpolators.add(monitor.restricted);
             }
-            globalHandler.handleStep(interpolators);
+            handler.handleStep(interpolators);
 
             if (selected.parameters.finalState == null) {
                 // step handler can still provide new results
@@ -227,7 +370,7 @@ public class PropagatorsParallelizer {
         }
 
         // stop all remaining propagators
-        executorService.shutdownNow();
+        threads.shutdownNow();
 
         // extract the final states
         final List<SpacecraftState> finalStates = new ArrayList<>(monitors.size());
@@ -246,12 +389,130 @@ public class PropagatorsParallelizer {
             }
         }
 
-        globalHandler.finish(finalStates);
+        handler.finish(finalStates);
 
         return finalStates;
 
     }
 
+    /** Propagate from a start date towards a target date, using bounded mode.
+     * @param start start date from which orbit state should be propagated
+     * @param target target date to which orbit state should be propagated
+     * @param handler global handler (including events detection)
+     * @return propagated states
+     */
+    private List<SpacecraftState> propagateBounded(final AbsoluteDate start, final AbsoluteDate target,
+                                                   final MultiSatStepHandler handler) {
+
+        final double sign = FastMath.copySign(1.0, target.durationFrom(start));
+
+        // set up steps recorders
+        final List<StepsRecorder> recorders = new ArrayList<>(propagators.size());
+        for (final Propagator propagator : propagators) {
+            recorders.add(new StepsRecorder(propagator));
+        }
+
+        AbsoluteDate          slabStart     = start;
+        AbsoluteDate          previousDate  = start;
+        List<SpacecraftState> finalStates   = null;
+        boolean               initialized   = false;
+        while (finalStates == null) {
+
+            // propagate all propagators up to the end of current slab
+            final AbsoluteDate slabEnd = FastMath.abs(target.durationFrom(slabStart)) <= slabDuration ?
+                                         target : slabStart.shiftedBy(sign * slabDuration);
+            runSlab(recorders, slabStart, slabEnd);
+
+            if (!initialized) {
+                final List<SpacecraftState> initialStates = new ArrayList<>(recorders.size());
+                for (final StepsRecorder recorder : recorders) {
+                    initialStates.add(recorder.initialState);
+                }
+                handler.init(initialStates, target);
+                initialized = true;
+            }
+
+            // merge recorded steps into synchronized global steps
+            for (final StepsRecorder recorder : recorders) {
+                recorder.next = 0;
+            }
+            boolean slabCompleted = false;
+            while (!slabCompleted && finalStates == null) {
+
+                // select the earliest ending propagator, according to propagation direction
+                StepsRecorder selected        = null;
+                AbsoluteDate  selectedStepEnd = null;
+                for (final StepsRecorder recorder : recorders) {
+                    if (recorder.next >= recorder.steps.size()) {
+                        // this propagator did not provide any step (zero-length propagation)
+                        selected        = recorder;
+                        selectedStepEnd = previousDate;
+                        break;
+                    }
+                    final AbsoluteDate stepEnd = recorder.currentStep().getCurrentState().getDate();
+                    if (selected == null || sign * selectedStepEnd.durationFrom(stepEnd) > 0) {
+                        selected        = recorder;
+                        selectedStepEnd = stepEnd;
+                    }
+                }
+
+                if (selected.next < selected.steps.size()) {
+
+                    // restrict steps to a common time range
+                    final List<OrekitStepInterpolator> interpolators = new ArrayList<>(recorders.size());
+                    for (final StepsRecorder recorder : recorders) {
+                        final OrekitStepInterpolator interpolator  = recorder.currentStep();
+                        final SpacecraftState        previousState = interpolator.getInterpolatedState(previousDate);
+                        final SpacecraftState        currentState  = interpolator.getInterpolatedState(selectedStepEnd);
+                        interpolators.add(interpolator.restrictStep(previousState, currentState));
+                    }
+
+                    // handle all states at once
+                    handler.handleStep(interpolators);
+                    previousDate = selectedStepEnd;
+                    ++selected.next;
+
+                }
+
+                if (selected.next >= selected.steps.size()) {
+                    if (selected.hasStoppedEarly(sign) || slabEnd.isEqualTo(target)) {
+                        // this was the last step
+                        finalStates = new ArrayList<>(recorders.size());
+                        for (final StepsRecorder recorder : recorders) {
+                            finalStates.add(recorder.finalState(previousDate));
+                        }
+                    } else {
+                        // all propagators have reached the slab end
+                        slabCompleted = true;
+                    }
+                }
+
+            }
+
+            slabStart = slabEnd;
+
+        }
+
+        handler.finish(finalStates);
+
+        return finalStates;
+
+    }
+
+    /** Run all propagators over one synchronization slab.
+     * @param recorders steps recorders for all propagators
+     * @param slabStart slab start
+     * @param slabEnd slab end
+     */
+    private void runSlab(final List<StepsRecorder> recorders,
+                         final AbsoluteDate slabStart, final AbsoluteDate slabEnd) {
+
+        // each worker picks pending propagators until none remain
+        ParallelLoop.run(executorService, maxWorkers, recorders.size(),
+                         index -> recorders.get(index).propagate(slabStart, slabEnd));
+
+    }
+
     /** Local exception to stop propagators. */
     private static class PropagatorStoppingException extends OrekitException {
 
@@ -351,6 +612,103 @@ public class PropagatorsParallelizer {
 
     }
 
+    /** Local class for recording the steps of one propagator during a synchronization slab. */
+    private static class StepsRecorder implements OrekitStepHandler {
+
+        /** Managed propagator. */
+        private final Propagator propagator;
+
+        /** Steps recorded during current slab. */
+        private final List<OrekitStepInterpolator> steps;
+
+        /** Initial state of the first slab. */
+        private SpacecraftState initialState;
+
+        /** State returned at the end of current slab. */
+        private SpacecraftState slabFinalState;
+
+        /** Expected end of current slab. */
+        private AbsoluteDate slabEnd;
+
+        /** Index of the next step to merge. */
+        private int next;
+
+        /** Simple constructor.
+         * @param propagator managed propagator
+         */
+        StepsRecorder(final Propagator propagator) {
+            this.propagator = propagator;
+            this.steps      = new ArrayList<>();
+
+            // remove former instances of recorders from step handlers multiplexer
+            final StepHandlerMultiplexer multiplexer = propagator.getMultiplexer();
+            final List<OrekitStepHandler> existing = new ArrayList<>();
+            for (final OrekitStepHandler handler : multiplexer.getHandlers()) {
+                if (handler instanceof StepsRecorder) {
+                    existing.add(handler);
+                }
+            }
+            for (final OrekitStepHandler handler : existing) {
+                multiplexer.remove(handler);
+            }
+            multiplexer.add(this);
+
+        }
+
+        /** Propagate over one slab.
+         * @param start slab start
+         * @param end slab end
+         */
+        void propagate(final AbsoluteDate start, final AbsoluteDate end) {
+            slabEnd        = end;
+            slabFinalState = propagator.propagate(start, end);
+        }
+
+        /** Get the step to merge.
+         * @return step to merge
+         */
+        OrekitStepInterpolator currentStep() {
+            return steps.get(next);
+        }
+
+        /** Check if propagator stopped before reaching slab end.
+         * @param sign propagation direction
+         * @return true if propagator stopped before reaching slab end
+         */
+        boolean hasStoppedEarly(final double sign) {
+            return sign * slabEnd.durationFrom(slabFinalState.getDate()) > 0;
+        }
+
+        /** Get the final state.
+         * @param date date of the last global step end
+         * @return final state
+         */
+        SpacecraftState finalState(final AbsoluteDate date) {
+            if (slabFinalState.getDate().isEqualTo(date) || steps.isEmpty()) {
+                return slabFinalState;
+            }
+            // this propagator went farther than the global propagation,
+            // we retrieve the final state from the last merged interpolator
+            return steps.get(FastMath.min(next, steps.size() - 1)).getInterpolatedState(date);
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        public void init(final SpacecraftState s0, final AbsoluteDate t) {
+            if (initialState == null) {
+                initialState = s0;
+            }
+            steps.clear();
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        public void handleStep(final OrekitStepInterpolator interpolator) {
+            steps.add(interpolator);
+        }
+
+    }
+
     /** Container for parameters passed by propagators to step handlers. */
     private static class ParametersContainer {
 
@@ -0,0 +1,661 @@
+/* Copyright 2002-2025 CS GROUP
+ * Licensed to CS GROUP (CS) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * CS licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.orekit.propagation.analytical;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+import org.hipparchus.exception.LocalizedCoreFormats;
+import org.hipparchus.geometry.euclidean.threed.Vector3D;
+import org.hipparchus.linear.RealMatrix;
+import org.hipparchus.util.FastMath;
+import org.orekit.attitudes.FrameAlignedProvider;
+import org.orekit.data.DataSource;
+import org.orekit.errors.OrekitException;
+import org.orekit.errors.OrekitIllegalArgumentException;
+import org.orekit.errors.OrekitMessages;
+import org.orekit.frames.Frame;
+import org.orekit.orbits.CartesianOrbit;
+import org.orekit.orbits.Orbit;
+import org.orekit.propagation.AbstractMatricesHarvester;
+import org.orekit.propagation.BoundedPropagator;
+import org.orekit.propagation.SpacecraftState;
+import org.orekit.time.AbsoluteDate;
+import org.orekit.time.TimeOffset;
+import org.orekit.utils.DoubleArrayDictionary;
+import org.orekit.utils.TimeStampedPVCoordinates;
+
+/** Compact ephemeris based on piecewise Chebyshev polynomials.
+ * <p>
+ * This ephemeris is built by {@link #fit(BoundedPropagator, int, double, double) fitting}
+ * Chebyshev polynomials on the output of any {@link BoundedPropagator}, for example
+ * an integrated ephemeris from a long high-fidelity numerical propagation. Only
+ * the polynomials coefficients are kept in memory, so the ephemeris is much more
+ * compact than the dense output of the integrator, and it can be {@link
+ * #write(OutputStream) written} to and {@link #read(DataSource, Frame) read} from
+ * a binary stream.
+ * </p>
+ * <p>
+ * The validity range is split into cells of equal duration. Each cell is split
+ * into 2<sup>k</sup> segments of equal duration, where the level k is selected
+ * independently for each cell as the smallest one for which the position fitted
+ * on all segments of the cell is within the specified tolerance. This allows
+ * short segments to be used only where needed (near perigee, or around maneuvers)
+ * while retaining a constant time segment lookup. Within each segment, the
+ * Cartesian position and the mass are represented by Chebyshev polynomials,
+ * velocity and acceleration are the derivatives of the position polynomials.
+ * </p>
+ * <p>
+ * Positions, velocities and accelerations are given in the frame of the fitted
+ * propagator. Attitude is computed by the attitude provider, which by default
+ * is aligned with this frame. Additional data from the fitted propagator are
+ * not preserved.
+ * </p>
+ * @author Luc Maisonobe
+ * @since 13.2
+ */
+public class ChebyshevEphemeris extends AbstractAnalyticalPropagator implements BoundedPropagator {
+
+    /** Magic header identifying the binary format. */
+    private static final byte[] MAGIC = "ORKCHEPH".getBytes(StandardCharsets.US_ASCII);
+
+    /** Supported format version. */
+    private static final int VERSION = 1;
+
+    /** Number of fitted components (position and mass). */
+    private static final int COMPONENTS = 4;
+
+    /** Maximum subdivision level of cells. */
+    private static final int MAX_LEVEL = 16;
+
+    /** Start date. */
+    private final AbsoluteDate minDate;
+
+    /** End date. */
+    private final AbsoluteDate maxDate;
+
+    /** Frame in which positions are given. */
+    private final Frame frame;
+
+    /** Central attraction coefficient. */
+    private final double mu;
+
+    /** Degree of the Chebyshev polynomials. */
+    private final int degree;
+
+    /** Duration of the cells. */
+    private final double cellDuration;
+
+    /** Index of the first segment of each cell. */
+    private final int[] cellFirst;
+
+    /** Subdivision level of each cell. */
+    private final int[] cellLevel;
+
+    /** Chebyshev coefficients (COMPONENTS * (degree + 1) per segment). */
+    private final double[] coefficients;
+
+    /** Maximum position error found at fitting time. */
+    private final double maxError;
+
+    /** Private constructor.
+     * @param minDate start date
+     * @param maxDate end date
+     * @param frame frame in which positions are given
+     * @param mu central attraction coefficient
+     * @param degree degree of the Chebyshev polynomials
+     * @param cellDuration duration of the cells
+     * @param cellFirst index of the first segment of each cell
+     * @param cellLevel subdivision level of each cell
+     * @param coefficients Chebyshev coefficients
+     * @param maxError maximum position error found at fitting time
+     */
+    private ChebyshevEphemeris(final AbsoluteDate minDate, final AbsoluteDate maxDate,
+                               final Frame frame, final double mu, final int degree,
+                               final double cellDuration, final int[] cellFirst, final int[] cellLevel,
+                               final double[] coefficients, final double maxError) {
+        super(FrameAlignedProvider.of(frame));
+        this.minDate      = minDate;
+        this.maxDate      = maxDate;
+        this.frame        = frame;
+        this.mu           = mu;
+        this.degree       = degree;
+        this.cellDuration = cellDuration;
+        this.cellFirst    = cellFirst;
+        this.cellLevel    = cellLevel;
+        this.coefficients = coefficients;
+        this.maxError     = maxError;
+        super.resetInitialState(getInitialState());
+    }
+
+    /** Fit a Chebyshev ephemeris on a bounded propagator.
+     * <p>
+     * The propagator is evaluated at the Chebyshev nodes of each segment, and
+     * the fitted position is checked against the propagator at the extrema of
+     * the Chebyshev polynomial of next degree (which include the segments
+     * boundaries), where interpolation error is the largest. Cells whose
+     * segments do not meet the tolerance are split again, up to 2<sup>16</sup>
+     * segments per cell. As check points are where the interpolation error is the
+     * largest, the {@link #getMaxError() maximum error} found at fitting time is a
+     * close estimate of the accuracy with respect to the fitted propagator (errors
+     * at other dates may exceed it by a few percents). Velocity and acceleration are
+     * less accurate than position, as they are derivatives of the fitted polynomials.
+     * </p>
+     * <p>
+     * The states of the fitted propagator must be defined by orbits.
+     * </p>
+     * @param propagator propagator to fit
+     * @param degree degree of the Chebyshev polynomials (at least 1)
+     * @param maxSegmentDuration maximum duration of the segments (s)
+     * @param tolerance position tolerance (m)
+     * @return fitted ephemeris
+     */
+    public static ChebyshevEphemeris fit(final BoundedPropagator propagator, final int degree,
+                                         final double maxSegmentDuration, final double tolerance) {
+
+        // safety checks
+        if (degree < 1) {
+            throw new OrekitIllegalArgumentException(LocalizedCoreFormats.NUMBER_TOO_SMALL, degree, 1);
+        }
+        if (maxSegmentDuration <= 0) {
+            throw new OrekitIllegalArgumentException(LocalizedCoreFormats.NUMBER_TOO_SMALL_BOUND_EXCLUDED,
+                                                     maxSegmentDuration, 0);
+        }
+        if (tolerance <= 0) {
+            throw new OrekitIllegalArgumentException(LocalizedCoreFormats.NUMBER_TOO_SMALL_BOUND_EXCLUDED,
+                                                     tolerance, 0);
+        }
+
+        final AbsoluteDate minDate  = propagator.getMinDate();
+        final AbsoluteDate maxDate  = propagator.getMaxDate();
+        final Frame        frame    = propagator.getFrame();
+        final double       span     = maxDate.durationFrom(minDate);
+        final int          nbCells  = FastMath.max(1, (int) FastMath.ceil(span / maxSegmentDuration));
+        final double       duration = span / nbCells;
+        final int          n        = degree + 1;
+        final Fitter       fitter   = new Fitter(propagator, frame, degree);
+
+        final int[] cellFirst = new int[nbCells];
+        final int[] cellLevel = new int[nbCells];
+        double[]    coeffs    = new double[nbCells * COMPONENTS * n];
+        int         nbSegments = 0;
+        double      maxError   = 0;
+        for (int cell = 0; cell < nbCells; ++cell) {
+            final AbsoluteDate cellStart = minDate.shiftedBy(cell * duration);
+            for (int level = 0; level <= MAX_LEVEL; ++level) {
+
+                // try to fit all segments of the cell at current level
+                final int      count  = 1 << level;
+                final double   h      = duration / count;
+                final double[] fitted = new double[count * COMPONENTS * n];
+                double         error  = 0;
+                for (int k = 0; k < count && error <= tolerance; ++k) {
+                    error = FastMath.max(error,
+                                         fitter.fitSegment(cellStart.shiftedBy(k * h), h, fitted, k * COMPONENTS * n));
+                }
+
+                if (error <= tolerance) {
+                    // the cell is fitted, store its segments
+                    if ((nbSegments + count) * COMPONENTS * n > coeffs.length) {
+                        coeffs = Arrays.copyOf(coeffs,
+                                               FastMath.max(2 * coeffs.length, (nbSegments + count) * COMPONENTS * n));
+                    }
+                    System.arraycopy(fitted, 0, coeffs, nbSegments * COMPONENTS * n, fitted.length);
+                    cellFirst[cell] = nbSegments;
+                    cellLevel[cell] = level;
+                    nbSegments     += count;
+                    maxError        = FastMath.max(maxError, error);
+                    break;
+                } else if (level == MAX_LEVEL) {
+                    throw new OrekitException(LocalizedCoreFormats.CONVERGENCE_FAILED);
+                }
+
+            }
+        }
+
+        final SpacecraftState first = propagator.getInitialState();
+        return new ChebyshevEphemeris(minDate, maxDate, frame, first.getOrbit().getMu(), degree, duration,
+                                      cellFirst, cellLevel,
+                                      Arrays.copyOf(coeffs, nbSegments * COMPONENTS * n), maxError);
+
+    }
+
+    /** Write the ephemeris to a binary stream.
+     * <p>
+     * The frame itself is not written, only its name, which is checked
+     * when the ephemeris is {@link #read(DataSource, Frame) read} back.
+     * The stream is not closed by this method.
+     * </p>
+     * @param out output stream
+     * @exception IOException if ephemeris cannot be written
+     */
+    public void write(final OutputStream out) throws IOException {
+        final DataOutputStream data = new DataOutputStream(out);
+        data.write(MAGIC);
+        data.writeInt(VERSION);
+        data.writeUTF(frame.getName());
+        data.writeLong(minDate.getSeconds());
+        data.writeLong(minDate.getAttoSeconds());
+        data.writeLong(maxDate.getSeconds());
+        data.writeLong(maxDate.getAttoSeconds());
+        data.writeDouble(mu);
+        data.writeInt(degree);
+        data.writeDouble(cellDuration);
+        data.writeDouble(maxError);
+        data.writeInt(cellFirst.length);
+        for (int cell = 0; cell < cellFirst.length; ++cell) {
+            data.writeInt(cellFirst[cell]);
+            data.writeInt(cellLevel[cell]);
+        }
+        data.writeInt(coefficients.length);
+        for (final double c : coefficients) {
+            data.writeDouble(c);
+        }
+        data.flush();
+    }
+
+    /** Read an ephemeris from a binary data source.
+     * @param source data source, containing data as written by {@link #write(OutputStream)}
+     * @param frame frame in which positions are given (its name must match
+     * the one of the frame used when the ephemeris was fitted)
+     * @return ephemeris read
+     * @exception IOException if ephemeris cannot be read
+     */
+    public static ChebyshevEphemeris read(final DataSource source, final Frame frame) throws IOException {
+        try (InputStream in = source.getOpener().openStreamOnce()) {
+            return read(in, source.getName(), frame);
+        }
+    }
+
+    /** Read an ephemeris from a binary stream.
+     * <p>
+     * The stream is not closed by this method.
+     * </p>
+     * @param in input stream, as written by {@link #write(OutputStream)}
+     * @param name name of the stream (for error messages)
+     * @param frame frame in which positions are given (its name must match
+     * the one of the frame used when the ephemeris was fitted)
+     * @return ephemeris read
+     * @exception IOException if ephemeris cannot be read
+     */
+    public static ChebyshevEphemeris read(final InputStream in, final String name, final Frame frame)
+        throws IOException {
+        final DataInputStream data = new DataInputStream(in);
+        try {
+
+            final byte[] magic = new byte[MAGIC.length];
+            data.readFully(magic);
+            if (!Arrays.equals(MAGIC, magic)) {
+                throw new OrekitException(OrekitMessages.UNSUPPORTED_FILE_FORMAT, name);
+            }
+            final int version = data.readInt();
+            if (version != VERSION) {
+                throw new OrekitException(OrekitMessages.UNSUPPORTED_FILE_FORMAT_VERSION, version, name, VERSION);
+            }
+            final String frameName = data.readUTF();
+            if (!frameName.equals(frame.getName())) {
+                throw new OrekitException(OrekitMessages.FRAMES_MISMATCH, frame.getName(), frameName);
+            }
+
+            final AbsoluteDate minDate  = new AbsoluteDate(new TimeOffset(data.readLong(), data.readLong()));
+            final AbsoluteDate maxDate  = new AbsoluteDate(new TimeOffset(data.readLong(), data.readLong()));
+            final double       mu       = data.readDouble();
+            final int          degree   = data.readInt();
+            final double       duration = data.readDouble();
+            final double       maxError = data.readDouble();
+            final int[] cellFirst = new int[data.readInt()];
+            final int[] cellLevel = new int[cellFirst.length];
+            for (int cell = 0; cell < cellFirst.length; ++cell) {
+                cellFirst[cell] = data.readInt();
+                cellLevel[cell] = data.readInt();
+            }
+            final double[] coefficients = new double[data.readInt()];
+            for (int i = 0; i < coefficients.length; ++i) {
+                coefficients[i] = data.readDouble();
+            }
+
+            return new ChebyshevEphemeris(minDate, maxDate, frame, mu, degree, duration,
+                                          cellFirst, cellLevel, coefficients, maxError);
+
+        } catch (EOFException eofe) {
+            throw new OrekitException(eofe, OrekitMessages.UNEXPECTED_END_OF_FILE, name);
+        }
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public AbsoluteDate getMinDate() {
+        return minDate;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public AbsoluteDate getMaxDate() {
+        return maxDate;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public Frame getFrame() {
+        return frame;
+    }
+
+    /** Get the degree of the Chebyshev polynomials.
+     * @return degree of the Chebyshev polynomials
+     */
+    public int getDegree() {
+        return degree;
+    }
+
+    /** Get the number of cells.
+     * @return number of cells
+     */
+    public int getNbCells() {
+        return cellFirst.length;
+    }
+
+    /** Get the total number of segments.
+     * @return total number of segments
+     */
+    public int getNbSegments() {
+        return coefficients.length / (COMPONENTS * (degree + 1));
+    }
+
+    /** Get the maximum position error found when the ephemeris was fitted.
+     * @return maximum position error (m) between fitted and reference positions
+     * at check points
+     */
+    public double getMaxError() {
+        return maxError;
+    }
+
+    /** Evaluate the fitted polynomials at a date.
+     * @param date date
+     * @param withPosition if false, only mass is computed (and order is ignored)
+     * @param order highest derivation order to compute (0, 1 or 2)
+     * @return position (and velocity and acceleration if requested) in ephemeris
+     * frame, followed by mass
+     */
+    private double[] evaluate(final AbsoluteDate date, final boolean withPosition, final int order) {
+
+        // check range
+        final double dt = date.durationFrom(minDate);
+        if (dt < 0) {
+            throw new OrekitException(OrekitMessages.OUT_OF_RANGE_EPHEMERIDES_DATE_BEFORE,
+                                      date, minDate, maxDate, -dt);
+        } else if (date.isAfter(maxDate)) {
+            throw new OrekitException(OrekitMessages.OUT_OF_RANGE_EPHEMERIDES_DATE_AFTER,
+                                      date, minDate, maxDate, date.durationFrom(maxDate));
+        }
+
+        // locate segment
+        final int    cell   = FastMath.min(cellFirst.length - 1, (int) FastMath.floor(dt / cellDuration));
+        final int    count  = 1 << cellLevel[cell];
+        final double h      = cellDuration / count;
+        final double inCell = dt - cell * cellDuration;
+        final int    k      = FastMath.max(0, FastMath.min(count - 1, (int) FastMath.floor(inCell / h)));
+        final double x      = 2 * (inCell - k * h) / h - 1;
+        final int    n      = degree + 1;
+        final int    base   = (cellFirst[cell] + k) * COMPONENTS * n;
+
+        // evaluate Chebyshev polynomials and their derivatives
+        final double[] t  = new double[n];
+        final double[] d  = withPosition && order > 0 ? new double[n] : null;
+        final double[] d2 = withPosition && order > 1 ? new double[n] : null;
+        chebyshev(x, t, d, d2);
+
+        // combine with coefficients
+        final double   dxdt   = 2 / h;
+        final double[] result = new double[withPosition ? 3 * (order + 1) + 1 : 1];
+        if (withPosition) {
+            for (int c = 0; c < 3; ++c) {
+                result[c] = combine(coefficients, base + c * n, t);
+                if (order > 0) {
+                    result[3 + c] = dxdt * combine(coefficients, base + c * n, d);
+                }
+                if (order > 1) {
+                    result[6 + c] = dxdt * dxdt * combine(coefficients, base + c * n, d2);
+                }
+            }
+        }
+        result[result.length - 1] = combine(coefficients, base + 3 * n, t);
+
+        return result;
+
+    }
+
+    /** Compute Chebyshev polynomials and their derivatives.
+     * @param x normalized abscissa, in [-1; 1]
+     * @param t array where to store T<sub>j</sub>(x)
+     * @param d array where to store T'<sub>j</sub>(x) (null if not needed)
+     * @param d2 array where to store T''<sub>j</sub>(x) (null if not needed)
+     */
+    private static void chebyshev(final double x, final double[] t, final double[] d, final double[] d2) {
+        final double twoX = 2 * x;
+        for (int j = 0; j < t.length; ++j) {
+            if (j == 0) {
+                t[0] = 1;
+            } else if (j == 1) {
+                t[1] = x;
+            } else {
+                t[j] = twoX * t[j - 1] - t[j - 2];
+            }
+            if (d != null) {
+                if (j < 2) {
+                    d[j] = j;
+                } else {
+                    d[j] = 2 * t[j - 1] + twoX * d[j - 1] - d[j - 2];
+                }
+                if (d2 != null) {
+                    d2[j] = j < 2 ? 0 : 4 * d[j - 1] + twoX * d2[j - 1] - d2[j - 2];
+                }
+            }
+        }
+    }
+
+    /** Combine Chebyshev coefficients and polynomials values.
+     * @param coeffs array containing the coefficients
+     * @param offset offset of the first coefficient
+     * @param t polynomials values
+     * @return Σ c<sub>j</sub> T<sub>j</sub>
+     */
+    private static double combine(final double[] coeffs, final int offset, final double[] t) {
+        // sum from higher degree terms, which are the smallest
+        double sum = 0;
+        for (int j = t.length - 1; j >= 0; --j) {
+            sum += coeffs[offset + j] * t[j];
+        }
+        return sum;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public Orbit propagateOrbit(final AbsoluteDate date) {
+        final double[] pva = evaluate(date, true, 2);
+        return new CartesianOrbit(new TimeStampedPVCoordinates(date,
+                                                               new Vector3D(pva[0], pva[1], pva[2]),
+                                                               new Vector3D(pva[3], pva[4], pva[5]),
+                                                               new Vector3D(pva[6], pva[7], pva[8])),
+                                  frame, mu);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    protected double getMass(final AbsoluteDate date) {
+        return evaluate(date, false, 0)[0];
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public Vector3D getPosition(final AbsoluteDate date, final Frame outputFrame) {
+        final double[] p = evaluate(date, true, 0);
+        final Vector3D position = new Vector3D(p[0], p[1], p[2]);
+        return outputFrame == frame ? position : frame.getStaticTransformTo(outputFrame, date).transformPosition(position);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void resetInitialState(final SpacecraftState state) {
+        throw new OrekitException(OrekitMessages.NON_RESETABLE_STATE);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    protected void resetIntermediateState(final SpacecraftState state, final boolean forward) {
+        throw new OrekitException(OrekitMessages.NON_RESETABLE_STATE);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public SpacecraftState getInitialState() {
+        return basicPropagate(getMinDate());
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    protected AbstractMatricesHarvester createHarvester(final String stmName, final RealMatrix initialStm,
+                                                        final DoubleArrayDictionary initialJacobianColumns) {
+        // there are no matrices to harvest from a fitted ephemeris
+        return null;
+    }
+
+    /** Fitter for one segment. */
+    private static class Fitter {
+
+        /** Propagator to fit. */
+        private final BoundedPropagator propagator;
+
+        /** Frame in which positions are fitted. */
+        private final Frame frame;
+
+        /** Chebyshev nodes. */
+        private final double[] nodes;
+
+        /** Chebyshev polynomials at nodes, T<sub>j</sub>(x<sub>k</sub>) is stored in tNodes[j][k]. */
+        private final double[][] tNodes;
+
+        /** Chebyshev polynomials at check points. */
+        private final double[][] tChecks;
+
+        /** Check points. */
+        private final double[] checks;
+
+        /** Sampled values at nodes. */
+        private final double[][] values;
+
+        /** Simple constructor.
+         * @param propagator propagator to fit
+         * @param frame frame in which positions are fitted
+         * @param degree degree of the Chebyshev polynomials
+         */
+        Fitter(final BoundedPropagator propagator, final Frame frame, final int degree) {
+            final int n = degree + 1;
+            this.propagator = propagator;
+            this.frame      = frame;
+            this.nodes      = new double[n];
+            this.tNodes     = new double[n][n];
+            this.checks     = new double[n + 1];
+            this.tChecks    = new double[n + 1][n];
+            this.values     = new double[COMPONENTS][n];
+            final double[] t = new double[n];
+            for (int k = 0; k < n; ++k) {
+                // Chebyshev-Gauss nodes, roots of Tₙ
+                nodes[k] = FastMath.cos(FastMath.PI * (k + 0.5) / n);
+                chebyshev(nodes[k], t, null, null);
+                for (int j = 0; j < n; ++j) {
+                    tNodes[j][k] = t[j];
+                }
+            }
+            for (int m = 0; m <= n; ++m) {
+                // extrema of Tₙ, interleaved with nodes and including segment boundaries
+                checks[m] = FastMath.cos(FastMath.PI * m / n);
+                chebyshev(checks[m], tChecks[m], null, null);
+            }
+        }
+
+        /** Fit one segment.
+         * @param start segment start
+         * @param h segment duration
+         * @param out array where to store coefficients
+         * @param offset offset of the first coefficient in the array
+         * @return maximum position error at check points
+         */
+        double fitSegment(final AbsoluteDate start, final double h, final double[] out, final int offset) {
+
+            final int n = nodes.length;
+
+            // sample propagator at nodes
+            for (int k = 0; k < n; ++k) {
+                final SpacecraftState state    = sample(start, h, nodes[k]);
+                final Vector3D        position = state.getPosition(frame);
+                values[0][k] = position.getX();
+                values[1][k] = position.getY();
+                values[2][k] = position.getZ();
+                values[3][k] = state.getMass();
+            }
+
+            // compute coefficients by discrete orthogonality at Chebyshev-Gauss nodes
+            for (int c = 0; c < COMPONENTS; ++c) {
+                for (int j = 0; j < n; ++j) {
+                    double sum = 0;
+                    for (int k = 0; k < n; ++k) {
+                        sum += values[c][k] * tNodes[j][k];
+                    }
+                    out[offset + c * n + j] = (j == 0 ? 1.0 : 2.0) * sum / n;
+                }
+            }
+
+            // check fitted positions
+            double error = 0;
+            for (int m = 0; m < checks.length; ++m) {
+                final Vector3D reference = sample(start, h, checks[m]).getPosition(frame);
+                final Vector3D fitted    = new Vector3D(combine(out, offset,         tChecks[m]),
+                                                        combine(out, offset + n,     tChecks[m]),
+                                                        combine(out, offset + 2 * n, tChecks[m]));
+                error = FastMath.max(error, Vector3D.distance(reference, fitted));
+            }
+
+            return error;
+
+        }
+
+        /** Sample the propagator.
+         * @param start segment start
+         * @param h segment duration
+         * @param x normalized abscissa in [-1; 1]
+         * @return sampled state
+         */
+        private SpacecraftState sample(final AbsoluteDate start, final double h, final double x) {
+            AbsoluteDate date = start.shiftedBy(0.5 * (x + 1) * h);
+            // avoid spurious out of range errors due to rounding at the end points
+            if (date.isBefore(propagator.getMinDate())) {
+                date = propagator.getMinDate();
+            } else if (date.isAfter(propagator.getMaxDate())) {
+                date = propagator.getMaxDate();
+            }
+            return propagator.propagate(date);
+        }
+
+    }
+
+}
@@ -19,6 +19,7 @@ package org.orekit.propagation.analytical;
 import org.hipparchus.exception.LocalizedCoreFormats;
 import org.hipparchus.exception.MathIllegalArgumentException;
 import org.hipparchus.linear.RealMatrix;
+import org.hipparchus.util.FastMath;
 import org.orekit.attitudes.Attitude;
 import org.orekit.attitudes.AttitudeProvider;
 import org.orekit.attitudes.FrameAlignedProvider;
@@ -26,6 +27,7 @@ import org.orekit.errors.OrekitException;
 import org.orekit.errors.OrekitIllegalArgumentException;
 import org.orekit.errors.OrekitIllegalStateException;
 import org.orekit.errors.OrekitMessages;
+import org.orekit.errors.TimeStampedCacheException;
 import org.orekit.frames.Frame;
 import org.orekit.orbits.Orbit;
 import org.orekit.propagation.AbstractMatricesHarvester;
@@ -39,6 +41,7 @@ import org.orekit.time.TimeInterpolator;
 import org.orekit.time.TimeStampedPair;
 import org.orekit.utils.DoubleArrayDictionary;
 import org.orekit.utils.ImmutableTimeStampedCache;
+import org.orekit.utils.PVCoordinates;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -83,6 +86,11 @@ public class Ephemeris extends AbstractAnalyticalPropagator implements BoundedPr
     /** Flag defining if states are defined using an orbit or an absolute position-velocity-acceleration. */
     private final transient boolean statesAreOrbitDefined;
 
+    /** Primitive sample for bulk position-velocity interpolation (lazily built).
+     * @since 13.2
+     */
+    private transient volatile PVSample pvSample;
+
     /**
      * Legacy constructor with tabulated states and default Hermite interpolation.
      * <p>
@@ -478,4 +486,260 @@ public class Ephemeris extends AbstractAnalyticalPropagator implements BoundedPr
         return Optional.ofNullable(covarianceInterpolator);
     }
 
+    /** Interpolate positions and velocities on a regular time grid.
+     * <p>
+     * This method is intended for bulk evaluations (visualization, screening...)
+     * where only position and velocity are needed. It avoids building full
+     * {@link SpacecraftState} instances: it performs a single forward sweep
+     * over the sample and reuses the interpolation polynomials for all dates
+     * that share the same neighbors.
+     * </p>
+     * <p>
+     * Position and velocity are computed by Hermite interpolation of the
+     * Cartesian position, velocity and acceleration of the tabulated states
+     * in the ephemeris {@link #getFrame() frame}, using the same number of
+     * neighbors and extrapolation threshold as the {@link #getStateInterpolator()
+     * state interpolator}. The results are the same as the ones from {@link
+     * #propagate(AbsoluteDate)} (up to numerical noise) only when the state
+     * interpolator itself interpolates Cartesian coordinates, which is the case
+     * with default interpolators for states defined by Cartesian orbits or by
+     * absolute position-velocity-acceleration.
+     * </p>
+     * @param start first date of the grid
+     * @param step grid step (s)
+     * @param count number of dates in the grid
+     * @param positions array where to store positions (m), 3 elements per date
+     * @param velocities array where to store velocities (m/s), 3 elements per date
+     * @see #interpolatePV(AbsoluteDate[], double[], double[])
+     * @since 13.2
+     */
+    public void interpolatePV(final AbsoluteDate start, final double step, final int count,
+                              final double[] positions, final double[] velocities) {
+        final PVSweep sweep = new PVSweep(count, positions, velocities);
+        final double  t0    = start.durationFrom(minDate);
+        for (int j = 0; j < count; ++j) {
+            sweep.interpolate(j, t0 + j * step);
+        }
+    }
+
+    /** Interpolate positions and velocities at specified dates.
+     * <p>
+     * This method is intended for bulk evaluations (visualization, screening...)
+     * where only position and velocity are needed. It avoids building full
+     * {@link SpacecraftState} instances: it performs a single forward sweep
+     * over the sample and reuses the interpolation polynomials for all dates
+     * that share the same neighbors. Dates should therefore be sorted in
+     * chronological order; unsorted dates are supported but are slower.
+     * </p>
+     * <p>
+     * Position and velocity are computed by Hermite interpolation of the
+     * Cartesian position, velocity and acceleration of the tabulated states
+     * in the ephemeris {@link #getFrame() frame}, using the same number of
+     * neighbors and extrapolation threshold as the {@link #getStateInterpolator()
+     * state interpolator}. The results are the same as the ones from {@link
+     * #propagate(AbsoluteDate)} (up to numerical noise) only when the state
+     * interpolator itself interpolates Cartesian coordinates, which is the case
+     * with default interpolators for states defined by Cartesian orbits or by
+     * absolute position-velocity-acceleration.
+     * </p>
+     * @param dates interpolation dates
+     * @param positions array where to store positions (m), 3 elements per date
+     * @param velocities array where to store velocities (m/s), 3 elements per date
+     * @see #interpolatePV(AbsoluteDate, double, int, double[], double[])
+     * @since 13.2
+     */
+    public void interpolatePV(final AbsoluteDate[] dates, final double[] positions, final double[] velocities) {
+        final PVSweep sweep = new PVSweep(dates.length, positions, velocities);
+        for (int j = 0; j < dates.length; ++j) {
+            sweep.interpolate(j, dates[j].durationFrom(minDate));
+        }
+    }
+
+    /** Get the primitive sample for bulk position-velocity interpolation.
+     * @return primitive sample
+     */
+    private PVSample getPVSample() {
+        PVSample sample = pvSample;
+        if (sample == null) {
+            // building the sample twice in case of concurrent calls is harmless
+            sample   = new PVSample(statesCache.getAll());
+            pvSample = sample;
+        }
+        return sample;
+    }
+
+    /** Primitive sample for bulk position-velocity interpolation. */
+    private class PVSample {
+
+        /** Sample dates, as offsets from ephemeris first date. */
+        private final double[] t;
+
+        /** Position, velocity and acceleration (9 elements per sample point). */
+        private final double[] pva;
+
+        /** Simple constructor.
+         * @param states tabulated states
+         */
+        PVSample(final List<SpacecraftState> states) {
+            t   = new double[states.size()];
+            pva = new double[9 * states.size()];
+            for (int i = 0; i < t.length; ++i) {
+                final SpacecraftState state = states.get(i);
+                final PVCoordinates   pv    = state.getPVCoordinates(frame);
+                t[i] = state.getDate().durationFrom(minDate);
+                System.arraycopy(pv.getPosition().toArray(),     0, pva, 9 * i,     3);
+                System.arraycopy(pv.getVelocity().toArray(),     0, pva, 9 * i + 3, 3);
+                System.arraycopy(pv.getAcceleration().toArray(), 0, pva, 9 * i + 6, 3);
+            }
+        }
+
+    }
+
+    /** Forward sweep over the sample for bulk position-velocity interpolation. */
+    private class PVSweep {
+
+        /** Primitive sample. */
+        private final PVSample sample;
+
+        /** Number of neighbors used for interpolation. */
+        private final int nbPoints;
+
+        /** Extrapolation threshold. */
+        private final double threshold;
+
+        /** Array where to store positions. */
+        private final double[] positions;
+
+        /** Array where to store velocities. */
+        private final double[] velocities;
+
+        /** Interpolation nodes (each neighbor appears 3 times), relative to first neighbor. */
+        private final double[] z;
+
+        /** Newton form coefficients of Hermite polynomials for the three coordinates. */
+        private final double[][] coefficients;
+
+        /** Index of the last sample point at or before the current central date. */
+        private int index;
+
+        /** Index of the first neighbor of the current interpolation window. */
+        private int first;
+
+        /** Simple constructor.
+         * @param count number of interpolation dates
+         * @param positions array where to store positions (m)
+         * @param velocities array where to store velocities (m/s)
+         */
+        PVSweep(final int count, final double[] positions, final double[] velocities) {
+
+            final int required = 3 * count;
+            if (positions.length < required) {
+                throw new OrekitIllegalArgumentException(LocalizedCoreFormats.DIMENSIONS_MISMATCH,
+                                                         positions.length, required);
+            }
+            if (velocities.length < required) {
+                throw new OrekitIllegalArgumentException(LocalizedCoreFormats.DIMENSIONS_MISMATCH,
+                                                         velocities.length, required);
+            }
+
+            this.sample       = getPVSample();
+            this.nbPoints     = stateInterpolator.getNbInterpolationPoints();
+            this.threshold    = stateInterpolator.getExtrapolationThreshold();
+            this.positions    = positions;
+            this.velocities   = velocities;
+            this.z            = new double[3 * nbPoints];
+            this.coefficients = new double[3][3 * nbPoints];
+            this.index        = 0;
+            this.first        = -1;
+
+        }
+
+        /** Interpolate position-velocity at one date.
+         * @param j index of the date
+         * @param dt date, as an offset from ephemeris first date
+         */
+        void interpolate(final int j, final double dt) {
+
+            // check range, taking extrapolation threshold into account
+            final double[] t    = sample.t;
+            final int      n    = t.length;
+            final double   tMax = t[n - 1];
+            if (dt < -threshold) {
+                throw new TimeStampedCacheException(OrekitMessages.UNABLE_TO_GENERATE_NEW_DATA_BEFORE,
+                                                    minDate, minDate.shiftedBy(dt), -dt);
+            } else if (dt > tMax + threshold) {
+                throw new TimeStampedCacheException(OrekitMessages.UNABLE_TO_GENERATE_NEW_DATA_AFTER,
+                                                    maxDate, minDate.shiftedBy(dt), dt - tMax);
+            }
+            final double central = FastMath.max(0.0, FastMath.min(dt, tMax));
+
+            // move the sample index, forward for chronologically sorted dates
+            while (index + 1 < n && t[index + 1] <= central) {
+                ++index;
+            }
+            while (index > 0 && t[index] > central) {
+                --index;
+            }
+
+            // select neighbors the same way as the states cache does
+            final int end   = FastMath.min(n, FastMath.max(0, index - (nbPoints - 1) / 2) + nbPoints);
+            final int start = end - nbPoints;
+            if (start != first) {
+                first = start;
+                updateCoefficients();
+            }
+
+            // evaluate Newton form of the polynomials and their derivatives
+            final double x = dt - t[first];
+            final int    m = z.length;
+            for (int c = 0; c < 3; ++c) {
+                final double[] q     = coefficients[c];
+                double         value = q[m - 1];
+                double         deriv = 0.0;
+                for (int i = m - 2; i >= 0; --i) {
+                    final double dx = x - z[i];
+                    deriv = deriv * dx + value;
+                    value = value * dx + q[i];
+                }
+                positions[3 * j + c]  = value;
+                velocities[3 * j + c] = deriv;
+            }
+
+        }
+
+        /** Update the Hermite polynomials coefficients for the current neighbors.
+         */
+        private void updateCoefficients() {
+
+            final int m = z.length;
+            for (int i = 0; i < m; ++i) {
+                z[i] = sample.t[first + i / 3] - sample.t[first];
+            }
+
+            for (int c = 0; c < 3; ++c) {
+
+                // divided differences table, computed in place
+                // (each node is repeated 3 times, with position, velocity and acceleration)
+                final double[] q = coefficients[c];
+                for (int i = 0; i < m; ++i) {
+                    q[i] = sample.pva[9 * (first + i / 3) + c];
+                }
+                for (int k = 1; k < m; ++k) {
+                    for (int i = m - 1; i >= k; --i) {
+                        if (i / 3 == (i - k) / 3) {
+                            // repeated node, use derivative divided by k!
+                            final int offset = 9 * (first + i / 3) + 3 * k + c;
+                            q[i] = k == 1 ? sample.pva[offset] : 0.5 * sample.pva[offset];
+                        } else {
+                            q[i] = (q[i] - q[i - 1]) / (z[i] - z[i - k]);
+                        }
+                    }
+                }
+
+            }
+
+        }
+
+    }
+
 }
@@ -0,0 +1,279 @@
+/* Copyright 2002-2025 CS GROUP
+ * Licensed to CS GROUP (CS) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * CS licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.orekit.propagation.analytical.tle;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+
+import org.hipparchus.exception.LocalizedCoreFormats;
+import org.hipparchus.util.FastMath;
+import org.orekit.annotation.DefaultDataContext;
+import org.orekit.attitudes.FrameAlignedProvider;
+import org.orekit.data.DataContext;
+import org.orekit.errors.OrekitException;
+import org.orekit.errors.OrekitIllegalArgumentException;
+import org.orekit.errors.OrekitMessages;
+import org.orekit.frames.Frame;
+import org.orekit.propagation.Propagator;
+import org.orekit.time.AbsoluteDate;
+import org.orekit.utils.ParallelLoop;
+
+/** Batch propagator for whole catalogs of TLE.
+ * <p>
+ * This class propagates many TLE at many dates at once, storing the resulting
+ * positions and velocities in caller-provided primitive arrays, in the TLE
+ * {@link TLEPropagator#getFrame() TEME frame}. The SGP4/SDP4 initialization
+ * terms of all objects are computed once at construction and no {@link
+ * org.orekit.propagation.SpacecraftState SpacecraftState}, {@link
+ * org.orekit.orbits.Orbit Orbit} or {@link org.orekit.utils.PVCoordinates
+ * PVCoordinates} is built for the samples. The results are exactly the
+ * same as the ones that would be obtained by calling {@link
+ * TLEPropagator#getPVCoordinates(AbsoluteDate)} on a propagator built by
+ * {@link TLEPropagator#selectExtrapolator(TLE, Frame)} for each TLE.
+ * </p>
+ * <p>
+ * The output arrays are object-major: for object index {@code k}, date index
+ * {@code j} and {@code n} dates, the components of the position are stored at
+ * indices {@code 3 * (k * n + j)}, {@code 3 * (k * n + j) + 1} and {@code 3 * (k * n + j) + 2}
+ * and the same indices are used for velocity. The arrays must therefore have at
+ * least {@code 3 * nbObjects * nbDates} elements.
+ * </p>
+ * <p>
+ * Propagation can be split across several threads using a caller-supplied
+ * {@link ExecutorService}, each worker processing blocks of objects. Each
+ * object is always handled by one thread at a time, but the instance itself
+ * is <em>not</em> thread-safe: two batch propagations must not be run
+ * concurrently on the same instance.
+ * </p>
+ * @author Luc Maisonobe
+ * @since 13.2
+ */
+public class TLEBatchPropagator {
+
+    /** Maximum number of objects handled by a worker before picking another block. */
+    private static final int BLOCK_SIZE = 64;
+
+    /** Underlying TLE. */
+    private final List<TLE> tles;
+
+    /** Per-object propagators, holding SGP4/SDP4 initialization terms. */
+    private final TLEPropagator[] propagators;
+
+    /** TLE epochs. */
+    private final AbsoluteDate[] epochs;
+
+    /** TEME frame. */
+    private final Frame teme;
+
+    /** Build a batch propagator.
+     *
+     * <p>This constructor uses the {@link DataContext#getDefault() default data context}.
+     *
+     * @param tles catalog of TLE to propagate
+     * @see #TLEBatchPropagator(List, Frame)
+     */
+    @DefaultDataContext
+    public TLEBatchPropagator(final List<TLE> tles) {
+        this(tles, DataContext.getDefault().getFrames().getTEME());
+    }
+
+    /** Build a batch propagator.
+     * @param tles catalog of TLE to propagate
+     * @param teme TEME frame
+     */
+    public TLEBatchPropagator(final List<TLE> tles, final Frame teme) {
+        this.tles        = new ArrayList<>(tles);
+        this.propagators = new TLEPropagator[tles.size()];
+        this.epochs      = new AbsoluteDate[tles.size()];
+        this.teme        = teme;
+        for (int k = 0; k < propagators.length; ++k) {
+            final TLE tle = tles.get(k);
+            propagators[k] = TLEPropagator.selectExtrapolator(tle, FrameAlignedProvider.of(teme),
+                                                              Propagator.DEFAULT_MASS, teme);
+            epochs[k]      = tle.getDate();
+        }
+    }
+
+    /** Get the propagated TLE.
+     * @return unmodifiable list of propagated TLE
+     */
+    public List<TLE> getTLEs() {
+        return Collections.unmodifiableList(tles);
+    }
+
+    /** Get the number of objects.
+     * @return number of objects
+     */
+    public int getNbObjects() {
+        return propagators.length;
+    }
+
+    /** Get the frame in which positions and velocities are computed.
+     * @return TEME frame
+     */
+    public Frame getFrame() {
+        return teme;
+    }
+
+    /** Propagate all objects on a regular time grid, in the calling thread.
+     * @param start first date of the grid
+     * @param step grid step (s)
+     * @param count number of dates in the grid
+     * @param positions array where to store positions (m)
+     * @param velocities array where to store velocities (m/s)
+     */
+    public void propagate(final AbsoluteDate start, final double step, final int count,
+                          final double[] positions, final double[] velocities) {
+        propagate(buildGrid(start, step, count), positions, velocities);
+    }
+
+    /** Propagate all objects on a regular time grid, using several threads.
+     * @param start first date of the grid
+     * @param step grid step (s)
+     * @param count number of dates in the grid
+     * @param positions array where to store positions (m)
+     * @param velocities array where to store velocities (m/s)
+     * @param executorService executor running the computation (will <em>not</em>
+     * be shut down by the batch propagator)
+     * @param maxWorkers maximum number of threads working simultaneously, including the calling thread
+     */
+    public void propagate(final AbsoluteDate start, final double step, final int count,
+                          final double[] positions, final double[] velocities,
+                          final ExecutorService executorService, final int maxWorkers) {
+        propagate(buildGrid(start, step, count), positions, velocities, executorService, maxWorkers);
+    }
+
+    /** Propagate all objects at specified dates, in the calling thread.
+     * @param dates propagation dates
+     * @param positions array where to store positions (m)
+     * @param velocities array where to store velocities (m/s)
+     */
+    public void propagate(final AbsoluteDate[] dates,
+                          final double[] positions, final double[] velocities) {
+        final Grid grid = new Grid(dates, positions, velocities);
+        for (int k = 0; k < propagators.length; ++k) {
+            propagateObject(k, grid);
+        }
+    }
+
+    /** Propagate all objects at specified dates, using several threads.
+     * @param dates propagation dates
+     * @param positions array where to store positions (m)
+     * @param velocities array where to store velocities (m/s)
+     * @param executorService executor running the computation (will <em>not</em>
+     * be shut down by the batch propagator)
+     * @param maxWorkers maximum number of threads working simultaneously, including the calling thread
+     */
+    public void propagate(final AbsoluteDate[] dates,
+                          final double[] positions, final double[] velocities,
+                          final ExecutorService executorService, final int maxWorkers) {
+
+        if (maxWorkers < 1) {
+            throw new OrekitException(OrekitMessages.NOT_STRICTLY_POSITIVE, maxWorkers);
+        }
+        final Grid grid = new Grid(dates, positions, velocities);
+
+        // each worker picks blocks of objects until none remain
+        // (small catalogs use smaller blocks so all workers get a share of the load)
+        final int blockSize = FastMath.max(1, FastMath.min(BLOCK_SIZE, propagators.length / (4 * maxWorkers)));
+        final int nbBlocks  = (propagators.length + blockSize - 1) / blockSize;
+        ParallelLoop.run(executorService, maxWorkers, nbBlocks, block -> {
+            final int end = FastMath.min(propagators.length, (block + 1) * blockSize);
+            for (int k = block * blockSize; k < end; ++k) {
+                propagateObject(k, grid);
+            }
+        });
+
+    }
+
+    /** Propagate one object at all grid dates.
+     * @param k index of the object
+     * @param grid propagation grid
+     */
+    private void propagateObject(final int k, final Grid grid) {
+        final TLEPropagator propagator = propagators[k];
+        final int           n          = grid.dates.length;
+        for (int j = 0; j < n; ++j) {
+            final int index = 3 * (k * n + j);
+            propagator.getPVCoordinates(grid.minutesSinceEpoch(j, k),
+                                        grid.positions, index, grid.velocities, index);
+        }
+    }
+
+    /** Build a regular grid of dates.
+     * @param start first date of the grid
+     * @param step grid step (s)
+     * @param count number of dates in the grid
+     * @return grid dates
+     */
+    private static AbsoluteDate[] buildGrid(final AbsoluteDate start, final double step, final int count) {
+        final AbsoluteDate[] dates = new AbsoluteDate[count];
+        for (int j = 0; j < count; ++j) {
+            dates[j] = start.shiftedBy(j * step);
+        }
+        return dates;
+    }
+
+    /** Container for propagation dates and output arrays. */
+    private class Grid {
+
+        /** Propagation dates. */
+        private final AbsoluteDate[] dates;
+
+        /** Array where to store positions. */
+        private final double[] positions;
+
+        /** Array where to store velocities. */
+        private final double[] velocities;
+
+        /** Simple constructor.
+         * @param dates propagation dates
+         * @param positions array where to store positions (m)
+         * @param velocities array where to store velocities (m/s)
+         */
+        Grid(final AbsoluteDate[] dates, final double[] positions, final double[] velocities) {
+
+            final int required = 3 * propagators.length * dates.length;
+            if (positions.length < required) {
+                throw new OrekitIllegalArgumentException(LocalizedCoreFormats.DIMENSIONS_MISMATCH,
+                                                         positions.length, required);
+            }
+            if (velocities.length < required) {
+                throw new OrekitIllegalArgumentException(LocalizedCoreFormats.DIMENSIONS_MISMATCH,
+                                                         velocities.length, required);
+            }
+
+            this.dates      = dates.clone();
+            this.positions  = positions;
+            this.velocities = velocities;
+
+        }
+
+        /** Compute the time elapsed since TLE epoch.
+         * @param j index of the date
+         * @param k index of the object
+         * @return time elapsed since TLE epoch (min)
+         */
+        double minutesSinceEpoch(final int j, final int k) {
+            return dates[j].durationFrom(epochs[k]) / 60.0;
+        }
+
+    }
+
+}
@@ -325,6 +325,25 @@ public abstract class TLEPropagator extends AbstractAnalyticalPropagator {
         return computePVCoordinates();
     }
 
+    /** Get the extrapolated position and velocity from an initial TLE, without intermediate objects.
+     * <p>
+     * This method gives exactly the same results as {@link #getPVCoordinates(AbsoluteDate)},
+     * it only avoids building the {@link PVCoordinates} object.
+     * </p>
+     * @param tSince time offset from TLE epoch (min)
+     * @param position array where to store position (m)
+     * @param positionOffset index of the first position component in the array
+     * @param velocity array where to store velocity (m/s)
+     * @param velocityOffset index of the first velocity component in the array
+     * @since 13.2
+     */
+    void getPVCoordinates(final double tSince,
+                          final double[] position, final int positionOffset,
+                          final double[] velocity, final int velocityOffset) {
+        sxpPropagate(tSince);
+        computePVCoordinates(position, positionOffset, velocity, velocityOffset);
+    }
+
     /** Computation of the first commons parameters.
      */
     private void initializeCommons() {
@@ -422,6 +441,21 @@ public abstract class TLEPropagator extends AbstractAnalyticalPropagator {
      * @return the computed PVCoordinates.
      */
     private PVCoordinates computePVCoordinates() {
+        final double[] pv = new double[6];
+        computePVCoordinates(pv, 0, pv, 3);
+        return new PVCoordinates(new Vector3D(pv[0], pv[1], pv[2]),
+                                 new Vector3D(pv[3], pv[4], pv[5]));
+    }
+
+    /** Retrieves the position and velocity into caller-provided arrays.
+     * @param position array where to store position (m)
+     * @param positionOffset index of the first position component in the array
+     * @param velocity array where to store velocity (m/s)
+     * @param velocityOffset index of the first velocity component in the array
+     * @since 13.2
+     */
+    void computePVCoordinates(final double[] position, final int positionOffset,
+                              final double[] velocity, final int velocityOffset) {
 
         // Sine and cosine of final perigee argument
         final SinCos scOmega = FastMath.sinCos(omega);
@@ -526,7 +560,9 @@ public abstract class TLEPropagator extends AbstractAnalyticalPropagator {
 
         // Position and velocity
         final double cr = 1000 * rk * TLEConstants.EARTH_RADIUS;
-        final Vector3D pos = new Vector3D(cr * ux, cr * uy, cr * uz);
+        position[positionOffset]     = cr * ux;
+        position[positionOffset + 1] = cr * uy;
+        position[positionOffset + 2] = cr * uz;
 
         final double rdot   = TLEConstants.XKE * FastMath.sqrt(a) * esinE / r;
         final double rfdot  = TLEConstants.XKE * FastMath.sqrt(pl) / r;
@@ -538,11 +574,9 @@ public abstract class TLEPropagator extends AbstractAnalyticalPropagator {
         final double vz     = sinik * cosuk;
 
         final double cv = 1000.0 * TLEConstants.EARTH_RADIUS / 60.0;
-        final Vector3D vel = new Vector3D(cv * (rdotk * ux + rfdotk * vx),
-                                          cv * (rdotk * uy + rfdotk * vy),
-                                          cv * (rdotk * uz + rfdotk * vz));
-
-        return new PVCoordinates(pos, vel);
+        velocity[velocityOffset]     = cv * (rdotk * ux + rfdotk * vx);
+        velocity[velocityOffset + 1] = cv * (rdotk * uy + rfdotk * vy);
+        velocity[velocityOffset + 2] = cv * (rdotk * uz + rfdotk * vz);
 
     }
 
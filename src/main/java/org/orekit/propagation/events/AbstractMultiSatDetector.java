@@ -0,0 +1,88 @@
+/* Copyright 2002-2025 CS GROUP
+ * Licensed to CS GROUP (CS) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * CS licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.orekit.propagation.events;
+
+import org.hipparchus.exception.LocalizedCoreFormats;
+import org.orekit.errors.OrekitIllegalArgumentException;
+import org.orekit.propagation.events.handlers.MultiSatEventHandler;
+
+/** Base class for multi-satellite events detectors between two satellites.
+ * @author Luc Maisonobe
+ * @since 13.2
+ */
+public abstract class AbstractMultiSatDetector implements MultiSatEventDetector {
+
+    /** Index of the first satellite. */
+    private final int first;
+
+    /** Index of the second satellite. */
+    private final int second;
+
+    /** Detection settings. */
+    private final EventDetectionSettings detectionSettings;
+
+    /** Event handler. */
+    private final MultiSatEventHandler handler;
+
+    /** Simple constructor.
+     * @param first index of the first satellite in the parallelizer
+     * @param second index of the second satellite in the parallelizer
+     * @param detectionSettings detection settings
+     * @param handler event handler
+     */
+    protected AbstractMultiSatDetector(final int first, final int second,
+                                       final EventDetectionSettings detectionSettings,
+                                       final MultiSatEventHandler handler) {
+        if (first < 0) {
+            throw new OrekitIllegalArgumentException(LocalizedCoreFormats.NUMBER_TOO_SMALL, first, 0);
+        }
+        if (second < 0) {
+            throw new OrekitIllegalArgumentException(LocalizedCoreFormats.NUMBER_TOO_SMALL, second, 0);
+        }
+        this.first             = first;
+        this.second            = second;
+        this.detectionSettings = detectionSettings;
+        this.handler           = handler;
+    }
+
+    /** Get the index of the first satellite.
+     * @return index of the first satellite
+     */
+    public int getFirst() {
+        return first;
+    }
+
+    /** Get the index of the second satellite.
+     * @return index of the second satellite
+     */
+    public int getSecond() {
+        return second;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public EventDetectionSettings getDetectionSettings() {
+        return detectionSettings;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public MultiSatEventHandler getHandler() {
+        return handler;
+    }
+
+}
@@ -33,6 +33,7 @@ import org.orekit.propagation.SpacecraftState;
 import org.orekit.propagation.events.handlers.EventHandler;
 import org.orekit.propagation.sampling.OrekitStepInterpolator;
 import org.orekit.time.AbsoluteDate;
+import org.orekit.time.DateAccumulator;
 
 /** This class handles the state for one {@link EventDetector
  * event detector} during integration steps.
@@ -103,6 +104,11 @@ public class EventState<T extends EventDetector> {
      */
     private boolean increasing;
 
+    /** Accumulator for allocation-free intermediate dates.
+     * @since 13.2
+     */
+    private final DateAccumulator accumulator;
+
     /** Simple constructor.
      * @param detector monitored event detector
      */
@@ -123,6 +129,7 @@ public class EventState<T extends EventDetector> {
         earliestTimeConsidered = null;
         afterEvent             = null;
         afterG                 = Double.NaN;
+        accumulator            = new DateAccumulator(AbsoluteDate.ARBITRARY_EPOCH);
 
     }
 
@@ -560,21 +567,20 @@ public class EventState<T extends EventDetector> {
      * will be rounded to be before the true value of t + delta.
      */
     private AbsoluteDate shiftedBy(final AbsoluteDate t, final double delta) {
+        // only the final date is built, intermediate checks are allocation-free
+        accumulator.reset(t);
         if (forward) {
-            final AbsoluteDate ret = t.shiftedBy(delta);
-            if (ret.durationFrom(t) > delta) {
-                return ret.shiftedBy(-Precision.EPSILON);
-            } else {
-                return ret;
+            accumulator.shiftBy(delta);
+            if (accumulator.durationFrom(t) > delta) {
+                accumulator.shiftBy(-Precision.EPSILON);
             }
         } else {
-            final AbsoluteDate ret = t.shiftedBy(-delta);
-            if (t.durationFrom(ret) > delta) {
-                return ret.shiftedBy(+Precision.EPSILON);
-            } else {
-                return ret;
+            accumulator.shiftBy(-delta);
+            if (-accumulator.durationFrom(t) > delta) {
+                accumulator.shiftBy(+Precision.EPSILON);
             }
         }
+        return accumulator.toAbsoluteDate();
     }
 
     /**
@@ -0,0 +1,100 @@
+/* Copyright 2002-2025 CS GROUP
+ * Licensed to CS GROUP (CS) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * CS licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.orekit.propagation.events;
+
+import java.util.List;
+
+import org.orekit.bodies.GeodeticPoint;
+import org.orekit.bodies.OneAxisEllipsoid;
+import org.orekit.frames.Frame;
+import org.orekit.propagation.SpacecraftState;
+import org.orekit.propagation.events.handlers.MultiSatEventHandler;
+
+/** Multi-satellite detector for direct view between two satellites.
+ * <p>
+ * This is the multi-satellite counterpart of {@link InterSatDirectViewDetector}: the
+ * switching function is the altitude of the lowest point along the line of sight
+ * minus a skimming altitude, it is positive when satellites are in direct view.
+ * Visibility starts correspond to increasing events and visibility ends to
+ * decreasing events.
+ * </p>
+ * @author Luc Maisonobe
+ * @since 13.2
+ */
+public class MultiSatDirectViewDetector extends AbstractMultiSatDetector {
+
+    /** Central body. */
+    private final OneAxisEllipsoid body;
+
+    /** Skimming altitude. */
+    private final double skimmingAltitude;
+
+    /** Build a detector with default detection settings.
+     * @param body central body
+     * @param skimmingAltitude skimming altitude (m)
+     * @param first index of the first satellite in the parallelizer
+     * @param second index of the second satellite in the parallelizer
+     * @param handler event handler
+     */
+    public MultiSatDirectViewDetector(final OneAxisEllipsoid body, final double skimmingAltitude,
+                                      final int first, final int second,
+                                      final MultiSatEventHandler handler) {
+        this(body, skimmingAltitude, first, second,
+             EventDetectionSettings.getDefaultEventDetectionSettings(), handler);
+    }
+
+    /** Build a detector.
+     * @param body central body
+     * @param skimmingAltitude skimming altitude (m)
+     * @param first index of the first satellite in the parallelizer
+     * @param second index of the second satellite in the parallelizer
+     * @param detectionSettings detection settings
+     * @param handler event handler
+     */
+    public MultiSatDirectViewDetector(final OneAxisEllipsoid body, final double skimmingAltitude,
+                                      final int first, final int second,
+                                      final EventDetectionSettings detectionSettings,
+                                      final MultiSatEventHandler handler) {
+        super(first, second, detectionSettings, handler);
+        this.body             = body;
+        this.skimmingAltitude = skimmingAltitude;
+    }
+
+    /** Get the central body.
+     * @return central body
+     */
+    public OneAxisEllipsoid getCentralBody() {
+        return body;
+    }
+
+    /** Get the skimming altitude.
+     * @return skimming altitude (m)
+     */
+    public double getSkimmingAltitude() {
+        return skimmingAltitude;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public double g(final List<SpacecraftState> states) {
+        final Frame         frame  = body.getBodyFrame();
+        final GeodeticPoint lowest = body.lowestAltitudeIntermediate(states.get(getFirst()).getPosition(frame),
+                                                                     states.get(getSecond()).getPosition(frame));
+        return lowest.getAltitude() - skimmingAltitude;
+    }
+
+}
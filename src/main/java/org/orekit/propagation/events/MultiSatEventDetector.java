@@ -0,0 +1,72 @@
+/* Copyright 2002-2025 CS GROUP
+ * Licensed to CS GROUP (CS) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * CS licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.orekit.propagation.events;
+
+import java.util.List;
+
+import org.orekit.propagation.SpacecraftState;
+import org.orekit.propagation.events.handlers.MultiSatEventHandler;
+import org.orekit.time.AbsoluteDate;
+
+/** Interface for multi-satellite events detectors.
+ * <p>
+ * Multi-satellite events detectors are the counterpart of {@link EventDetector} for
+ * switching functions that depend on the states of several satellites propagated
+ * together by a {@link org.orekit.propagation.PropagatorsParallelizer PropagatorsParallelizer}.
+ * They are registered in the parallelizer itself and evaluated on its synchronized
+ * global steps, with root finding using the interpolators of all propagators.
+ * </p>
+ * @see org.orekit.propagation.PropagatorsParallelizer#addEventDetector(MultiSatEventDetector)
+ * @author Luc Maisonobe
+ * @since 13.2
+ */
+public interface MultiSatEventDetector {
+
+    /** Initialize event detector at the start of a propagation.
+     * <p>
+     * The default implementation initializes the handler.
+     * </p>
+     * @param states0 initial states, one for each satellite in the same order
+     * as the propagators in the parallelizer
+     * @param t target time for the propagation
+     */
+    default void init(final List<SpacecraftState> states0, final AbsoluteDate t) {
+        getHandler().init(states0, t, this);
+    }
+
+    /** Compute the value of the switching function.
+     * @param states current states, one for each satellite in the same order
+     * as the propagators in the parallelizer
+     * @return value of the switching function
+     */
+    double g(List<SpacecraftState> states);
+
+    /** Get the detection settings.
+     * <p>
+     * The {@link EventDetectionSettings#getMaxCheckInterval() max check interval}
+     * is evaluated using the state of the first satellite.
+     * </p>
+     * @return detection settings
+     */
+    EventDetectionSettings getDetectionSettings();
+
+    /** Get the handler.
+     * @return event handler to call at event occurrences
+     */
+    MultiSatEventHandler getHandler();
+
+}
@@ -0,0 +1,80 @@
+/* Copyright 2002-2025 CS GROUP
+ * Licensed to CS GROUP (CS) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * CS licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.orekit.propagation.events;
+
+import java.util.List;
+
+import org.hipparchus.geometry.euclidean.threed.Vector3D;
+import org.orekit.frames.Frame;
+import org.orekit.propagation.SpacecraftState;
+import org.orekit.propagation.events.handlers.MultiSatEventHandler;
+import org.orekit.utils.PVCoordinates;
+
+/** Multi-satellite detector for extremum approach between two satellites.
+ * <p>
+ * This is the multi-satellite counterpart of {@link ExtremumApproachDetector}: the
+ * switching function is the dot product of relative position and relative velocity,
+ * so closest approaches correspond to increasing events and farthest approaches to
+ * decreasing events. Registering one instance for each pair of satellites in a
+ * {@link org.orekit.propagation.PropagatorsParallelizer PropagatorsParallelizer}
+ * allows to find constellation-wide close approaches in one pass.
+ * </p>
+ * @author Luc Maisonobe
+ * @since 13.2
+ */
+public class MultiSatExtremumApproachDetector extends AbstractMultiSatDetector {
+
+    /** Build a detector with default detection settings.
+     * @param first index of the first satellite in the parallelizer
+     * @param second index of the second satellite in the parallelizer
+     * @param handler event handler
+     */
+    public MultiSatExtremumApproachDetector(final int first, final int second,
+                                            final MultiSatEventHandler handler) {
+        this(first, second, EventDetectionSettings.getDefaultEventDetectionSettings(), handler);
+    }
+
+    /** Build a detector.
+     * @param first index of the first satellite in the parallelizer
+     * @param second index of the second satellite in the parallelizer
+     * @param detectionSettings detection settings
+     * @param handler event handler
+     */
+    public MultiSatExtremumApproachDetector(final int first, final int second,
+                                            final EventDetectionSettings detectionSettings,
+                                            final MultiSatEventHandler handler) {
+        super(first, second, detectionSettings, handler);
+    }
+
+    /** Compute the relative position and velocity of second satellite with respect to first satellite.
+     * @param states states of all satellites
+     * @return relative position and velocity, in the frame of the first satellite
+     */
+    public PVCoordinates computeDeltaPV(final List<SpacecraftState> states) {
+        final SpacecraftState s1    = states.get(getFirst());
+        final Frame           frame = s1.getFrame();
+        return new PVCoordinates(s1.getPVCoordinates(), states.get(getSecond()).getPVCoordinates(frame));
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public double g(final List<SpacecraftState> states) {
+        final PVCoordinates deltaPV = computeDeltaPV(states);
+        return Vector3D.dotProduct(deltaPV.getPosition(), deltaPV.getVelocity());
+    }
+
+}
@@ -0,0 +1,58 @@
+/* Copyright 2002-2025 CS GROUP
+ * Licensed to CS GROUP (CS) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * CS licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.orekit.propagation.events.handlers;
+
+import java.util.List;
+
+import org.orekit.propagation.SpacecraftState;
+import org.orekit.propagation.events.MultiSatEventDetector;
+import org.orekit.time.AbsoluteDate;
+
+/** An interface defining how to handle multi-satellite events.
+ * <p>
+ * Multi-satellite events are detected by {@link org.orekit.propagation.PropagatorsParallelizer
+ * PropagatorsParallelizer} on the synchronized global steps, after all propagators have
+ * computed their own steps. They are therefore only <em>observed</em>: contrary to
+ * {@link EventHandler}, there are no actions to stop propagation or reset states.
+ * </p>
+ * @author Luc Maisonobe
+ * @since 13.2
+ */
+@FunctionalInterface
+public interface MultiSatEventHandler {
+
+    /** Initialize event handler at the start of a propagation.
+     * <p>
+     * The default implementation does nothing
+     * </p>
+     * @param states0 initial states, one for each satellite
+     * @param target target date for the propagation
+     * @param detector event detector related to the event handler
+     */
+    default void init(final List<SpacecraftState> states0, final AbsoluteDate target,
+                      final MultiSatEventDetector detector) {
+        // nothing by default
+    }
+
+    /** Handle an event.
+     * @param states states of all satellites at event time
+     * @param detector detector that found the event
+     * @param increasing if true, the switching function increases at event time
+     */
+    void eventOccurred(List<SpacecraftState> states, MultiSatEventDetector detector, boolean increasing);
+
+}
@@ -23,6 +23,7 @@ import java.util.Collections;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
+import java.util.concurrent.ExecutorService;
 
 import org.hipparchus.linear.RealMatrix;
 import org.hipparchus.ode.ODEIntegrator;
@@ -64,6 +65,7 @@ import org.orekit.time.AbsoluteDate;
 import org.orekit.utils.DataDictionary;
 import org.orekit.utils.DoubleArrayDictionary;
 import org.orekit.utils.PVCoordinates;
+import org.orekit.utils.ParallelLoop;
 import org.orekit.utils.ParameterDriver;
 import org.orekit.utils.ParameterDriversList;
 import org.orekit.utils.ParameterDriversList.DelegatingDriver;
@@ -166,6 +168,16 @@ public class DSSTPropagator extends AbstractIntegratedPropagator {
     /** Generator for the interpolation grid. */
     private InterpolationGrid interpolationgrid;
 
+    /** Executor for concurrent short periodic terms update (null for serial update).
+     * @since 13.2
+     */
+    private ExecutorService shortPeriodTermsExecutor;
+
+    /** Maximum number of force models updated simultaneously.
+     * @since 13.2
+     */
+    private int shortPeriodTermsWorkers;
+
     /**
      * Same as {@link org.orekit.propagation.AbstractPropagator#harvester} but with the
      * more specific type. Saved to avoid a cast.
@@ -540,6 +552,35 @@ public class DSSTPropagator extends AbstractIntegratedPropagator {
         interpolationgrid = new MaxGapInterpolationGrid(maxGap);
     }
 
+    /** Set up concurrent update of the short periodic terms.
+     * <p>
+     * By default, when propagating osculating elements, the short periodic
+     * coefficients of all force models are updated serially at each step.
+     * When an executor is set, the force models are updated concurrently, the
+     * calling thread taking part in the work. As each force model only updates
+     * its own coefficients, the results are the same as with serial update.
+     * Force models (and the models they rely on, like atmosphere or attitude)
+     * must be safe to use concurrently when this mode is used.
+     * </p>
+     * <p>
+     * This setting is independent from {@link
+     * org.orekit.propagation.semianalytical.dsst.forces.AbstractGaussianContribution#setParallelShortPeriodTerms(ExecutorService, int)
+     * the concurrent update} of Gaussian contributions coefficients, the same
+     * executor can be used for both.
+     * </p>
+     * @param executor executor running the updates (will <em>not</em>
+     * be shut down by the propagator), null for serial update
+     * @param workers maximum number of force models updated simultaneously
+     * @since 13.2
+     */
+    public void setParallelShortPeriodTerms(final ExecutorService executor, final int workers) {
+        if (executor != null && workers < 1) {
+            throw new OrekitException(OrekitMessages.NOT_STRICTLY_POSITIVE, workers);
+        }
+        this.shortPeriodTermsExecutor = executor;
+        this.shortPeriodTermsWorkers  = workers;
+    }
+
     /** Add a force model to the global perturbation model.
      *  <p>
      *  If this method is not called at all,
@@ -1272,9 +1313,10 @@ public class DSSTPropagator extends AbstractIntegratedPropagator {
             }
 
             // Compute short periodic coefficients for this step
-            for (DSSTForceModel forceModel : forceModels) {
+            ParallelLoop.run(shortPeriodTermsExecutor, shortPeriodTermsWorkers, forceModels.size(), k -> {
+                final DSSTForceModel forceModel = forceModels.get(k);
                 forceModel.updateShortPeriodTerms(forceModel.getParametersAllValues(), meanStates);
-            }
+            });
         }
     }
 }
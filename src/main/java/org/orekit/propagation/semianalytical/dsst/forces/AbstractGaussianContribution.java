@@ -31,6 +31,8 @@ import org.hipparchus.util.SinCos;
 import org.orekit.attitudes.Attitude;
 import org.orekit.attitudes.AttitudeProvider;
 import org.orekit.attitudes.FieldAttitude;
+import org.orekit.errors.OrekitException;
+import org.orekit.errors.OrekitMessages;
 import org.orekit.forces.ForceModel;
 import org.orekit.orbits.EquinoctialOrbit;
 import org.orekit.orbits.FieldEquinoctialOrbit;
@@ -50,6 +52,7 @@ import org.orekit.propagation.semianalytical.dsst.utilities.ShortPeriodicsInterp
 import org.orekit.time.AbsoluteDate;
 import org.orekit.time.FieldAbsoluteDate;
 import org.orekit.utils.FieldTimeSpanMap;
+import org.orekit.utils.ParallelLoop;
 import org.orekit.utils.ParameterDriver;
 import org.orekit.utils.TimeSpanMap;
 
@@ -60,6 +63,7 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ExecutorService;
 
 /**
  * Common handling of {@link DSSTForceModel} methods for Gaussian contributions
@@ -163,6 +167,16 @@ public abstract class AbstractGaussianContribution implements DSSTForceModel {
     /** Driver for gravitational parameter. */
     private final ParameterDriver gmParameterDriver;
 
+    /** Executor for concurrent short periodic coefficients computation (null for serial computation).
+     * @since 13.2
+     */
+    private ExecutorService executorService;
+
+    /** Maximum number of grid points processed simultaneously.
+     * @since 13.2
+     */
+    private int maxWorkers;
+
     /**
      * Build a new instance.
      * @param coefficientsKeyPrefix prefix for coefficients keys
@@ -476,6 +490,34 @@ public abstract class AbstractGaussianContribution implements DSSTForceModel {
         return maxDiff;
     }
 
+    /** Set up concurrent computation of the short periodic coefficients.
+     * <p>
+     * By default, the Fourier coefficients at all interpolation grid points
+     * of a step are computed serially. When an executor is set, they are computed
+     * concurrently, each grid point running its own quadratures, the calling thread
+     * taking part in the work. The coefficients are stored in grid points order,
+     * so the results are the same as with serial computation. The underlying
+     * force model, and the models it relies on (atmosphere, attitude...), must
+     * be safe to use concurrently when this mode is used.
+     * </p>
+     * <p>
+     * The same executor can be used for {@link
+     * org.orekit.propagation.semianalytical.dsst.DSSTPropagator#setParallelShortPeriodTerms(ExecutorService, int)
+     * concurrent update} of force models in the propagator.
+     * </p>
+     * @param executor executor running the computations (will <em>not</em>
+     * be shut down by the force model), null for serial computation
+     * @param workers maximum number of grid points processed simultaneously
+     * @since 13.2
+     */
+    public void setParallelShortPeriodTerms(final ExecutorService executor, final int workers) {
+        if (executor != null && workers < 1) {
+            throw new OrekitException(OrekitMessages.NOT_STRICTLY_POSITIVE, workers);
+        }
+        this.executorService = executor;
+        this.maxWorkers      = workers;
+    }
+
     /** {@inheritDoc} */
     @Override
     public void registerAttitudeProvider(final AttitudeProvider provider) {
@@ -487,29 +529,38 @@ public abstract class AbstractGaussianContribution implements DSSTForceModel {
     public void updateShortPeriodTerms(final double[] parameters, final SpacecraftState... meanStates) {
 
         final Slot slot = gaussianSPCoefs.createSlot(meanStates);
-        for (final SpacecraftState meanState : meanStates) {
+
+        // compute the Fourier coefficients at all grid points, possibly concurrently
+        final double[]                  meanMotions = new double[meanStates.length];
+        final double[]                  smas        = new double[meanStates.length];
+        final FourierCjSjCoefficients[] fourierCjSj = new FourierCjSjCoefficients[meanStates.length];
+        final UijVijCoefficients[]      uijvij      = new UijVijCoefficients[meanStates.length];
+        ParallelLoop.run(executorService, maxWorkers, meanStates.length, i -> {
 
             // Auxiliary elements related to the current orbit
-            final AuxiliaryElements auxiliaryElements = new AuxiliaryElements(meanState.getOrbit(), I);
+            final AuxiliaryElements auxiliaryElements = new AuxiliaryElements(meanStates[i].getOrbit(), I);
 
             // Container of attributes
             // Extract the proper parameters valid for the corresponding meanState date from the input array
             final double[] extractedParameters = this.extractParameters(parameters, auxiliaryElements.getDate());
             final AbstractGaussianContributionContext context = initializeStep(auxiliaryElements, extractedParameters);
+            meanMotions[i] = context.getMeanMotion();
+            smas[i]        = auxiliaryElements.getSma();
 
             // Compute rhoj and sigmaj
             final double[][] currentRhoSigmaj = computeRhoSigmaCoefficients(auxiliaryElements);
 
             // Generate the Cij and Sij coefficients
-            final FourierCjSjCoefficients fourierCjSj = new FourierCjSjCoefficients(meanState, JMAX, auxiliaryElements,
-                                                                                    extractedParameters);
+            fourierCjSj[i] = new FourierCjSjCoefficients(meanStates[i], JMAX, auxiliaryElements, extractedParameters);
 
             // Generate the Uij and Vij coefficients
-            final UijVijCoefficients uijvij = new UijVijCoefficients(currentRhoSigmaj, fourierCjSj, JMAX);
+            uijvij[i] = new UijVijCoefficients(currentRhoSigmaj, fourierCjSj[i], JMAX);
 
-            gaussianSPCoefs.computeCoefficients(meanState, slot, fourierCjSj, uijvij, context.getMeanMotion(),
-                    auxiliaryElements.getSma());
+        });
 
+        // store the coefficients, in grid points order
+        for (int i = 0; i < meanStates.length; ++i) {
+            gaussianSPCoefs.computeCoefficients(meanStates[i], slot, fourierCjSj[i], uijvij[i], meanMotions[i], smas[i]);
         }
 
     }
@@ -942,6 +993,11 @@ public abstract class AbstractGaussianContribution implements DSSTForceModel {
         /** Drivers for solar radiation and atmospheric drag forces. */
         private final double[] parameters;
 
+        /** Cache for the elements derivatives at quadrature nodes (null in mean mode).
+         * @since 13.2
+         */
+        private final Map<Double, double[]> derivativesCache;
+
         /**
          * Build a new instance.
          * @param state      current state information: date, kinematics, attitude
@@ -968,23 +1024,83 @@ public abstract class AbstractGaussianContribution implements DSSTForceModel {
             final Orbit fixedOrbit = OrbitType.EQUINOCTIAL.mapArrayToOrbit(stateVector, null, positionAngleType,
                     state.getDate(), context.getMu(), state.getFrame());
             this.state = new SpacecraftState(fixedOrbit, state.getAttitude()).withMass(state.getMass());
+            this.derivativesCache = meanMode ? null : new HashMap<>();
+        }
+
+        /** Build a new instance sharing state and derivatives cache with another instance.
+         * @param other instance to share state and derivatives cache with
+         * @param j     the j index
+         * @since 13.2
+         */
+        private IntegrableFunction(final IntegrableFunction other, final int j) {
+            this.meanMode          = other.meanMode;
+            this.j                 = j;
+            this.parameters        = other.parameters;
+            this.auxiliaryElements = other.auxiliaryElements;
+            this.context           = other.context;
+            this.state             = other.state;
+            this.derivativesCache  = other.derivativesCache;
         }
 
         /** {@inheritDoc} */
-        @SuppressWarnings("checkstyle:FinalLocalVariable")
         @Override
         public double[] value(final double x) {
 
+            final SinCos scL  = FastMath.sinCos(x);
+            final double cosL = scL.cos();
+            final double sinL = scL.sin();
+
+            // the elements derivatives do not depend on j, they are computed only once per node
+            double[] deriv = derivativesCache == null ? null : derivativesCache.get(x);
+            if (deriv == null) {
+                deriv = computeDerivatives(x, cosL, sinL);
+                if (derivativesCache != null) {
+                    derivativesCache.put(x, deriv);
+                }
+            }
+
+            // Compute mean elements rates
+            final double[] val;
+            if (meanMode) {
+                final double roa  = auxiliaryElements.getB() * auxiliaryElements.getB() / (1. + auxiliaryElements.getH() * sinL + auxiliaryElements.getK() * cosL);
+                final double roa2 = roa * roa;
+                val = new double[6];
+                for (int i = 0; i < 6; i++) {
+                    // da<sub>i</sub>/dt
+                    val[i] = roa2 * deriv[i];
+                }
+            } else {
+                val = new double[12];
+                //Compute cos(j*L) and sin(j*L);
+                final SinCos scjL  = FastMath.sinCos(j * x);
+                final double cosjL = j == 1 ? cosL : scjL.cos();
+                final double sinjL = j == 1 ? sinL : scjL.sin();
+
+                for (int i = 0; i < 6; i++) {
+                    // da<sub>i</sub>/dv * cos(jL)
+                    val[i] = cosjL * deriv[i];
+                    // da<sub>i</sub>/dv * sin(jL)
+                    val[i + 6] = sinjL * deriv[i];
+                }
+            }
+            return val;
+        }
+
+        /** Compute the derivatives of the elements by the speed, multiplied by the acceleration.
+         * @param x    true longitude
+         * @param cosL cosine of true longitude
+         * @param sinL sine of true longitude
+         * @return derivatives of the elements by the speed, multiplied by the acceleration
+         * @since 13.2
+         */
+        private double[] computeDerivatives(final double x, final double cosL, final double sinL) {
+
             // Compute the time difference from the true longitude difference
             final double shiftedLm = trueToMean(x);
             final double dLm = shiftedLm - auxiliaryElements.getLM();
             final double dt = dLm / context.getMeanMotion();
 
-            final SinCos scL  = FastMath.sinCos(x);
-            final double cosL = scL.cos();
-            final double sinL = scL.sin();
-            final double roa  = auxiliaryElements.getB() * auxiliaryElements.getB() / (1. + auxiliaryElements.getH() * sinL + auxiliaryElements.getK() * cosL);
-            final double roa2 = roa * roa;
+            final double roa = auxiliaryElements.getB() * auxiliaryElements.getB() / (1. + auxiliaryElements.getH() * sinL + auxiliaryElements.getK() * cosL);
             final double r = auxiliaryElements.getSma() * roa;
             final double X = r * cosL;
             final double Y = r * sinL;
@@ -1036,29 +1152,8 @@ public abstract class AbstractGaussianContribution implements DSSTForceModel {
             // dλ/dv
             deriv[5] = getLoV(X, Y, Xdot, Ydot).dotProduct(acc);
 
-            // Compute mean elements rates
-            final double[] val;
-            if (meanMode) {
-                val = new double[6];
-                for (int i = 0; i < 6; i++) {
-                    // da<sub>i</sub>/dt
-                    val[i] = roa2 * deriv[i];
-                }
-            } else {
-                val = new double[12];
-                //Compute cos(j*L) and sin(j*L);
-                final SinCos scjL  = FastMath.sinCos(j * x);
-                final double cosjL = j == 1 ? cosL : scjL.cos();
-                final double sinjL = j == 1 ? sinL : scjL.sin();
+            return deriv;
 
-                for (int i = 0; i < 6; i++) {
-                    // da<sub>i</sub>/dv * cos(jL)
-                    val[i] = cosjL * deriv[i];
-                    // da<sub>i</sub>/dv * sin(jL)
-                    val[i + 6] = sinjL * deriv[i];
-                }
-            }
-            return val;
         }
 
         /**
@@ -1638,10 +1733,13 @@ public abstract class AbstractGaussianContribution implements DSSTForceModel {
                 // Compute 1 / PI
                 final double ooPI = 1 / FastMath.PI;
 
+                // the functions for all values of j share the derivatives computed at quadrature nodes
+                final IntegrableFunction function = new IntegrableFunction(state, false, 0, parameters);
+
                 // loop through all values of j
                 for (int j = 0; j <= jMax; j++) {
                     final double[] curentCoefficients = integrator
-                            .integrate(new IntegrableFunction(state, false, j, parameters), ll[0], ll[1]);
+                            .integrate(new IntegrableFunction(function, j), ll[0], ll[1]);
 
                     // divide by PI and set the values for the coefficients
                     for (int i = 0; i < 6; i++) {
@@ -35,10 +35,15 @@ import java.util.concurrent.ConcurrentSkipListMap;
 public class CoefficientsFactory {
 
     /** Internal storage of the polynomial values. Reused for further computation. */
-    private static SortedMap<NSKey, Double> VNS = new ConcurrentSkipListMap<>();
+    private static final SortedMap<NSKey, Double> VNS = new ConcurrentSkipListMap<>();
 
-    /** Last computed order for V<sub>ns</sub> coefficients. */
-    private static int         LAST_VNS_ORDER = 2;
+    /** Last computed order for V<sub>ns</sub> coefficients.
+     * <p>
+     * This field is written only once all coefficients up to the new order
+     * have been stored, so readers seeing the new order also see the coefficients.
+     * </p>
+     */
+    private static volatile int LAST_VNS_ORDER = 2;
 
     /** Static initialization for the V<sub>ns</sub> coefficient. */
     static {
@@ -204,11 +209,14 @@ public class CoefficientsFactory {
     }
 
     /** Compute the V<sub>n,s</sub> coefficients from 2.8.2-(1)(2).
+     * <p>
+     * This method is thread-safe.
+     * </p>
      * @param order Order of the computation. Computation will be done from 0 to order -1
      * @return Map of the V<sub>n, s</sub> coefficients
      * @since 11.3.3
      */
-    public static SortedMap<NSKey, Double> computeVns(final int order) {
+    public static synchronized SortedMap<NSKey, Double> computeVns(final int order) {
 
         if (order > LAST_VNS_ORDER) {
             // Compute coefficient
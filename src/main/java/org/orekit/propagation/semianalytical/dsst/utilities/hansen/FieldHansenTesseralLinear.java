@@ -24,7 +24,6 @@ import org.hipparchus.analysis.differentiation.FieldGradient;
 import org.hipparchus.analysis.polynomials.PolynomialFunction;
 import org.hipparchus.util.FastMath;
 import org.hipparchus.util.MathArrays;
-import org.orekit.propagation.semianalytical.dsst.utilities.NewcombOperators;
 
 /**
  * Hansen coefficients K(t,n,s) for t!=0 and n &lt; 0.
@@ -108,12 +107,11 @@ public class FieldHansenTesseralLinear <T extends CalculusFieldElement<T>> {
         hansenRoot = MathArrays.buildArray(field, numSlices, 4);
         hansenDerivRoot = MathArrays.buildArray(field, numSlices, 4);
         if (size > 0) {
-            mpvec = new PolynomialFunction[size][];
-            mpvecDeriv = new PolynomialFunction[size][];
-
-            // Prepare the database of the associated polynomials
-            HansenUtilities.generateTesseralPolynomials(N0, Nmin, offset, SLICE, j, s,
-                                                        mpvec, mpvecDeriv);
+            // retrieve the database of the associated polynomials
+            final HansenCoefficientsCache.Polynomials polynomials =
+                            HansenCoefficientsCache.getTesseralPolynomials(nMax, s, j, n0);
+            mpvec      = polynomials.getMpvec();
+            mpvecDeriv = polynomials.getMpvecDeriv();
         }
 
     }
@@ -253,15 +251,6 @@ public class FieldHansenTesseralLinear <T extends CalculusFieldElement<T>> {
         /** -n-1 coefficient. */
         private final int mnm1;
 
-        /** s coefficient. */
-        private final int s;
-
-        /** j coefficient. */
-        private final int j;
-
-        /** Max power in e² for the Newcomb's series expansion. */
-        private final int maxNewcomb;
-
         /** Polynomial representing the serie. */
         private final PolynomialFunction polynomial;
 
@@ -277,10 +266,7 @@ public class FieldHansenTesseralLinear <T extends CalculusFieldElement<T>> {
         FieldHansenCoefficientsBySeries(final int mnm1, final int s,
                                           final int j, final int maxHansen, final Field<T> field) {
             this.mnm1 = mnm1;
-            this.s = s;
-            this.j = j;
-            this.maxNewcomb = maxHansen;
-            this.polynomial = generatePolynomial();
+            this.polynomial = HansenCoefficientsCache.getSeriesPolynomial(mnm1, s, j, maxHansen);
         }
 
         /** Computes the value of Hansen kernel and its derivative at e².
@@ -305,32 +291,6 @@ public class FieldHansenTesseralLinear <T extends CalculusFieldElement<T>> {
                             add(FastMath.pow(chi2, -mnm1 - 1).multiply(serie.getPartialDerivative(0)).divide(chi));
             return new FieldGradient<>(value, derivative);
         }
-
-        /** Generate the serie expansion in e².
-         * <p>
-         * Generate the series expansion in e² used in the formulation
-         * of the Hansen kernel (see Danielson 2.7.3-10):
-         * &Sigma; Y<sup>ns</sup><sub>α+a,α+b</sub>
-         * *e<sup>2α</sup>
-         * </p>
-         * @return polynomial representing the power serie expansion
-         */
-        private PolynomialFunction generatePolynomial() {
-            // Initialization
-            final int aHT = FastMath.max(j - s, 0);
-            final int bHT = FastMath.max(s - j, 0);
-
-            final double[] coefficients = new double[maxNewcomb + 1];
-
-            //Loop for getting the Newcomb operators
-            for (int alphaHT = 0; alphaHT <= maxNewcomb; alphaHT++) {
-                coefficients[alphaHT] =
-                        NewcombOperators.getValue(alphaHT + aHT, alphaHT + bHT, mnm1, s);
-            }
-
-            //Creation of the polynomial
-            return new PolynomialFunction(coefficients);
-        }
     }
 
 }
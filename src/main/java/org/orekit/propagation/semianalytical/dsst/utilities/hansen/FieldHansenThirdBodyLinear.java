@@ -94,19 +94,16 @@ public class FieldHansenThirdBodyLinear <T extends CalculusFieldElement<T>> {
         this.twosp3 = 2 * s + 3;
         this.two2sp1dfosp2f = 2 * this.twosp1dfosp2f;
 
-        // initialization of structures for stored data
-        mpvec = new PolynomialFunction[nMax + 1][];
-        mpvecDeriv = new PolynomialFunction[nMax + 1][];
+        // retrieve the database of the associated polynomials
+        final HansenCoefficientsCache.Polynomials polynomials = HansenCoefficientsCache.getThirdBodyPolynomials(nMax, s);
+        mpvec      = polynomials.getMpvec();
+        mpvecDeriv = polynomials.getMpvecDeriv();
 
         this.numSlices  = FastMath.max(1, (nMax - s + SLICE - 2) / SLICE);
 
         hansenRoot      = MathArrays.buildArray(field, numSlices, 2);
         hansenDerivRoot = MathArrays.buildArray(field, numSlices, 2);
 
-        // Prepare the database of the associated polynomials
-        HansenUtilities.generateThirdBodyPolynomials(s, nMax, SLICE, s,
-                                                     mpvec, mpvecDeriv);
-
     }
 
     /**
@@ -88,8 +88,6 @@ public class FieldHansenZonalLinear <T extends CalculusFieldElement<T>> {
      */
     public FieldHansenZonalLinear(final int nMax, final int s, final Field<T> field) {
         //Initialize fields
-        final int Nmin = -nMax - 1;
-        final int N0 = -(s + 2);
         this.offset = nMax + 1;
         this.s = s;
         this.twots = FastMath.pow(2., s);
@@ -97,19 +95,16 @@ public class FieldHansenZonalLinear <T extends CalculusFieldElement<T>> {
         this.twosp1 = this.twos + 1;
         this.twosp1otwots = (double) this.twosp1 / this.twots;
 
-        // prepare structures for stored data
-        final int size = nMax - s - 1;
-        mpvec      = new PolynomialFunction[size][];
-        mpvecDeriv = new PolynomialFunction[size][];
+        // retrieve the data base of associated polynomials
+        final HansenCoefficientsCache.Polynomials polynomials = HansenCoefficientsCache.getZonalPolynomials(nMax, s);
+        mpvec      = polynomials.getMpvec();
+        mpvecDeriv = polynomials.getMpvecDeriv();
 
+        final int size = nMax - s - 1;
         this.numSlices  = FastMath.max((int) FastMath.ceil(((double) size) / SLICE), 1);
         hansenRoot      = MathArrays.buildArray(field, numSlices, 2);
         hansenDerivRoot = MathArrays.buildArray(field, numSlices, 2);
 
-        // Prepare the data base of associated polynomials
-        HansenUtilities.generateZonalPolynomials(N0, Nmin, offset, SLICE, s,
-                                                 mpvec, mpvecDeriv);
-
     }
 
     /**
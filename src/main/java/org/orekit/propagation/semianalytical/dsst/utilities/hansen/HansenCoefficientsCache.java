@@ -0,0 +1,227 @@
+/* Copyright 2002-2025 CS GROUP
+ * Licensed to CS GROUP (CS) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * CS licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.orekit.propagation.semianalytical.dsst.utilities.hansen;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.hipparchus.analysis.polynomials.PolynomialFunction;
+import org.hipparchus.util.FastMath;
+import org.orekit.propagation.semianalytical.dsst.utilities.NewcombOperators;
+
+/** JVM-wide cache for the polynomials used to compute Hansen coefficients.
+ * <p>
+ * The polynomials associated with the linear transformations of Petre's paper
+ * and the power series in e² built from modified Newcomb operators only depend
+ * on integer indices, not on the orbit. They are therefore computed once and
+ * shared by all {@link HansenZonalLinear}, {@link HansenTesseralLinear},
+ * {@link HansenThirdBodyLinear} instances (and their field counterparts), so
+ * running many DSST propagations in the same JVM does not redo the same
+ * combinatorial work at each propagation start.
+ * </p>
+ * <p>
+ * Cached polynomials are immutable and the arrays returned are shared, they
+ * must not be modified by callers. This class is thread-safe.
+ * </p>
+ * @author Luc Maisonobe
+ * @since 13.2
+ */
+public class HansenCoefficientsCache {
+
+    /** Kind of polynomials for zonal Hansen coefficients. */
+    private static final int ZONAL = 0;
+
+    /** Kind of polynomials for tesseral Hansen coefficients. */
+    private static final int TESSERAL = 1;
+
+    /** Kind of polynomials for third body Hansen coefficients. */
+    private static final int THIRD_BODY = 2;
+
+    /** Kind of polynomials for tesseral Hansen coefficients series. */
+    private static final int SERIES = 3;
+
+    /** Number of coefficients that are computed with a set of roots. */
+    private static final int SLICE = 10;
+
+    /** Cached linear transformations polynomials. */
+    private static final Map<Key, Polynomials> POLYNOMIALS = new ConcurrentHashMap<>();
+
+    /** Cached series polynomials. */
+    private static final Map<Key, PolynomialFunction> SERIES_POLYNOMIALS = new ConcurrentHashMap<>();
+
+    /** Private constructor for a utility class.
+     */
+    private HansenCoefficientsCache() {
+        // nothing to do
+    }
+
+    /** Get the polynomials for zonal Hansen coefficients K₀<sup>-n-1,s</sup>.
+     * @param nMax the maximum (absolute) value of n coefficient
+     * @param s s coefficient
+     * @return polynomials for zonal Hansen coefficients
+     */
+    public static Polynomials getZonalPolynomials(final int nMax, final int s) {
+        return POLYNOMIALS.computeIfAbsent(new Key(ZONAL, nMax, s, 0, 0), k -> {
+            final int size = nMax - s - 1;
+            final Polynomials polynomials = new Polynomials(size);
+            HansenUtilities.generateZonalPolynomials(-(s + 2), -nMax - 1, nMax + 1, SLICE, s,
+                                                     polynomials.mpvec, polynomials.mpvecDeriv);
+            return polynomials;
+        });
+    }
+
+    /** Get the polynomials for tesseral Hansen coefficients K<sub>j</sub><sup>-n-1,s</sup>.
+     * @param nMax the maximum (absolute) value of n parameter
+     * @param s s parameter
+     * @param j j parameter
+     * @param n0 the minimum (absolute) value of n
+     * @return polynomials for tesseral Hansen coefficients
+     */
+    public static Polynomials getTesseralPolynomials(final int nMax, final int s, final int j, final int n0) {
+        return POLYNOMIALS.computeIfAbsent(new Key(TESSERAL, nMax, s, j, n0), k -> {
+            final int size = nMax - n0 - 3;
+            final Polynomials polynomials = new Polynomials(size);
+            HansenUtilities.generateTesseralPolynomials(-n0 - 4, -nMax - 1, nMax + 1, SLICE, j, s,
+                                                        polynomials.mpvec, polynomials.mpvecDeriv);
+            return polynomials;
+        });
+    }
+
+    /** Get the polynomials for third body Hansen coefficients K₀<sup>n,s</sup>.
+     * @param nMax the maximum value of n
+     * @param s the value of s
+     * @return polynomials for third body Hansen coefficients
+     */
+    public static Polynomials getThirdBodyPolynomials(final int nMax, final int s) {
+        return POLYNOMIALS.computeIfAbsent(new Key(THIRD_BODY, nMax, s, 0, 0), k -> {
+            final Polynomials polynomials = new Polynomials(nMax + 1);
+            HansenUtilities.generateThirdBodyPolynomials(s, nMax, SLICE, s,
+                                                         polynomials.mpvec, polynomials.mpvecDeriv);
+            return polynomials;
+        });
+    }
+
+    /** Get the series expansion in e² used in the Hansen kernel.
+     * <p>
+     * The series is Σ Y<sup>ns</sup><sub>α+a,α+b</sub> e<sup>2α</sup>,
+     * see Danielson 2.7.3-10.
+     * </p>
+     * @param mnm1 -n-1 value
+     * @param s s value
+     * @param j j value
+     * @param maxHansen max power of e² in series expansion
+     * @return polynomial representing the power series expansion
+     */
+    public static PolynomialFunction getSeriesPolynomial(final int mnm1, final int s, final int j,
+                                                         final int maxHansen) {
+        return SERIES_POLYNOMIALS.computeIfAbsent(new Key(SERIES, mnm1, s, j, maxHansen), k -> {
+            final int aHT = FastMath.max(j - s, 0);
+            final int bHT = FastMath.max(s - j, 0);
+            final double[] coefficients = new double[maxHansen + 1];
+            for (int alphaHT = 0; alphaHT <= maxHansen; alphaHT++) {
+                coefficients[alphaHT] = NewcombOperators.getValue(alphaHT + aHT, alphaHT + bHT, mnm1, s);
+            }
+            return new PolynomialFunction(coefficients);
+        });
+    }
+
+    /** Get the number of cached entries.
+     * @return number of cached entries
+     */
+    public static int size() {
+        return POLYNOMIALS.size() + SERIES_POLYNOMIALS.size();
+    }
+
+    /** Clear the cache.
+     * <p>
+     * Instances that already retrieved polynomials keep their references,
+     * only new requests will trigger a new computation.
+     * </p>
+     */
+    public static void clear() {
+        POLYNOMIALS.clear();
+        SERIES_POLYNOMIALS.clear();
+    }
+
+    /** Container for the polynomials associated with a linear transformation. */
+    public static class Polynomials {
+
+        /** First vector of polynomials associated to Hansen coefficients and derivatives. */
+        private final PolynomialFunction[][] mpvec;
+
+        /** Second vector of polynomials associated only to derivatives. */
+        private final PolynomialFunction[][] mpvecDeriv;
+
+        /** Simple constructor.
+         * @param size number of polynomials vectors
+         */
+        private Polynomials(final int size) {
+            this.mpvec      = new PolynomialFunction[size][];
+            this.mpvecDeriv = new PolynomialFunction[size][];
+        }
+
+        /** Get the first vector of polynomials associated to Hansen coefficients and derivatives.
+         * @return first vector of polynomials (shared array, must not be modified)
+         */
+        public PolynomialFunction[][] getMpvec() {
+            return mpvec;
+        }
+
+        /** Get the second vector of polynomials associated only to derivatives.
+         * @return second vector of polynomials (shared array, must not be modified)
+         */
+        public PolynomialFunction[][] getMpvecDeriv() {
+            return mpvecDeriv;
+        }
+
+    }
+
+    /** Key for cached polynomials. */
+    private static class Key {
+
+        /** Indices. */
+        private final int[] indices;
+
+        /** Simple constructor.
+         * @param kind kind of polynomials
+         * @param i1 first index
+         * @param i2 second index
+         * @param i3 third index
+         * @param i4 fourth index
+         */
+        Key(final int kind, final int i1, final int i2, final int i3, final int i4) {
+            this.indices = new int[] {
+                kind, i1, i2, i3, i4
+            };
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        public boolean equals(final Object other) {
+            return other instanceof Key && Arrays.equals(indices, ((Key) other).indices);
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        public int hashCode() {
+            return Arrays.hashCode(indices);
+        }
+
+    }
+
+}
@@ -482,7 +482,7 @@ public class AbsoluteDate
      * @see #durationFrom(AbsoluteDate)
      */
     public AbsoluteDate(final AbsoluteDate since, final double elapsedDuration) {
-        this(since, new TimeOffset(elapsedDuration));
+        super(since, elapsedDuration);
     }
 
     /** Build an instance from an elapsed duration since another instant.
@@ -579,6 +579,15 @@ public class AbsoluteDate
         super(offset);
     }
 
+    /** Build a date from its components.
+     * @param seconds seconds part since reference epoch 2000-01-01T12:00:00 TAI
+     * @param attoSeconds attoseconds part since reference epoch 2000-01-01T12:00:00 TAI
+     * @since 13.2
+     */
+    AbsoluteDate(final long seconds, final long attoSeconds) {
+        super(seconds, attoSeconds);
+    }
+
     /** Build an instance from a CCSDS Unsegmented Time Code (CUC).
      * <p>
      * CCSDS Unsegmented Time Code is defined in the blue book:
@@ -948,7 +957,7 @@ public class AbsoluteDate
      * @see #AbsoluteDate(AbsoluteDate, double)
      */
     public double durationFrom(final AbsoluteDate instant) {
-        return accurateDurationFrom(instant).toDouble();
+        return subtractAsDouble(instant);
     }
 
     /** Compute the physically elapsed duration between two instants.
@@ -0,0 +1,234 @@
+/* Copyright 2002-2025 CS GROUP
+ * Licensed to CS GROUP (CS) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * CS licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.orekit.time;
+
+import org.hipparchus.exception.LocalizedCoreFormats;
+import org.orekit.errors.OrekitIllegalArgumentException;
+
+/** Mutable date, for allocation-free arithmetic in hot loops.
+ * <p>
+ * {@link AbsoluteDate} instances are immutable, so each call to {@link
+ * AbsoluteDate#shiftedBy(double) shiftedBy} creates a new instance. This is
+ * the right design for dates that are stored or shared, but it generates
+ * lots of short-lived objects in loops that only need intermediate dates
+ * to compute durations or comparisons. This class holds the same seconds and
+ * attoseconds components as {@link TimeOffset} in mutable primitive fields,
+ * with the same accuracy and the same rounding as {@link AbsoluteDate}, so
+ * {@code new DateAccumulator(date).shiftBy(dt).toAbsoluteDate()} is exactly
+ * {@code date.shiftedBy(dt)}. Only the final result, if any, needs to be
+ * converted back to an {@link AbsoluteDate}.
+ * </p>
+ * <p>
+ * Instances of this class are <em>not</em> thread-safe.
+ * </p>
+ * @author Luc Maisonobe
+ * @since 13.2
+ */
+public class DateAccumulator {
+
+    /** Seconds part (normalized), ignored if {@link #special} is not null. */
+    private long seconds;
+
+    /** Attoseconds part (normalized), ignored if {@link #special} is not null. */
+    private long attoSeconds;
+
+    /** Current value if not finite, null for finite values. */
+    private TimeOffset special;
+
+    /** Simple constructor.
+     * @param date initial date
+     */
+    public DateAccumulator(final TimeOffset date) {
+        reset(date);
+    }
+
+    /** Reset the accumulator to a date.
+     * @param date date to reset to
+     * @return this accumulator
+     */
+    public DateAccumulator reset(final TimeOffset date) {
+        if (date.isFinite()) {
+            seconds     = TimeOffset.normalizedSeconds(date.getSeconds(), date.getAttoSeconds());
+            attoSeconds = TimeOffset.normalizedAttoSeconds(date.getAttoSeconds());
+            special     = null;
+        } else {
+            special     = date;
+        }
+        return this;
+    }
+
+    /** Shift the accumulator in place.
+     * @param dt time shift in seconds
+     * @return this accumulator
+     * @see AbsoluteDate#shiftedBy(double)
+     */
+    public DateAccumulator shiftBy(final double dt) {
+        if (special == null && dt >= Long.MIN_VALUE && dt <= Long.MAX_VALUE) {
+            // regular case
+            final long a = attoSeconds + TimeOffset.fractionalAttoSeconds(dt);
+            seconds     = TimeOffset.normalizedSeconds(seconds + TimeOffset.wholeSeconds(dt), a);
+            attoSeconds = TimeOffset.normalizedAttoSeconds(a);
+        } else {
+            special     = new TimeOffset(toTimeOffset(), dt);
+        }
+        return this;
+    }
+
+    /** Shift the accumulator in place.
+     * @param dt time shift
+     * @return this accumulator
+     * @see AbsoluteDate#shiftedBy(TimeOffset)
+     */
+    public DateAccumulator shiftBy(final TimeOffset dt) {
+        if (special == null && dt.isFinite()) {
+            // regular case
+            final long a = attoSeconds + dt.getAttoSeconds();
+            seconds     = TimeOffset.normalizedSeconds(seconds + dt.getSeconds(), a);
+            attoSeconds = TimeOffset.normalizedAttoSeconds(a);
+        } else {
+            special     = toTimeOffset().add(dt);
+        }
+        return this;
+    }
+
+    /** Compute the physically elapsed duration between accumulator and a date.
+     * @param date date to subtract from the accumulator
+     * @return offset in seconds between accumulator and date (positive
+     * if accumulator is posterior to date)
+     * @see AbsoluteDate#durationFrom(AbsoluteDate)
+     */
+    public double durationFrom(final TimeOffset date) {
+        if (special == null && date.isFinite()) {
+            // regular case
+            final long a = attoSeconds - date.getAttoSeconds();
+            return TimeOffset.toDouble(TimeOffset.normalizedSeconds(seconds - date.getSeconds(), a),
+                                       TimeOffset.normalizedAttoSeconds(a));
+        } else {
+            return toTimeOffset().subtractAsDouble(date);
+        }
+    }
+
+    /** Compare accumulator with a date.
+     * @param date date to compare accumulator with
+     * @return a negative integer, zero, or a positive integer as accumulator
+     * is before, simultaneous, or after date
+     * @see AbsoluteDate#compareTo(TimeOffset)
+     */
+    public int compareTo(final TimeOffset date) {
+        if (special == null && date.isFinite()) {
+            // regular case
+            final long a = date.getAttoSeconds();
+            final long s = TimeOffset.normalizedSeconds(date.getSeconds(), a);
+            return seconds == s ?
+                   Long.compare(attoSeconds, TimeOffset.normalizedAttoSeconds(a)) :
+                   Long.compare(seconds, s);
+        } else {
+            return toTimeOffset().compareTo(date);
+        }
+    }
+
+    /** Check if the accumulator holds a finite date.
+     * @return true if accumulator holds a finite date
+     */
+    public boolean isFinite() {
+        return special == null;
+    }
+
+    /** Get the normalized seconds part of the accumulator.
+     * @return normalized seconds part of the accumulator
+     * @see TimeOffset#getSeconds()
+     */
+    public long getSeconds() {
+        return special == null ? seconds : special.getSeconds();
+    }
+
+    /** Get the normalized attoseconds part of the accumulator.
+     * @return normalized attoseconds part of the accumulator
+     * @see TimeOffset#getAttoSeconds()
+     */
+    public long getAttoSeconds() {
+        return special == null ? attoSeconds : special.getAttoSeconds();
+    }
+
+    /** Convert the accumulator to a time offset.
+     * @return time offset corresponding to current accumulator value
+     */
+    public TimeOffset toTimeOffset() {
+        return special == null ? new TimeOffset(seconds, attoSeconds) : special;
+    }
+
+    /** Convert the accumulator to an absolute date.
+     * @return absolute date corresponding to current accumulator value
+     */
+    public AbsoluteDate toAbsoluteDate() {
+        if (special == null) {
+            return new AbsoluteDate(seconds, attoSeconds);
+        } else {
+            return special instanceof AbsoluteDate ? (AbsoluteDate) special : new AbsoluteDate(special);
+        }
+    }
+
+    /** Compute durations of several dates with respect to a reference, without allocation.
+     * @param dates dates to compare with reference
+     * @param reference reference date
+     * @param durations placeholder where to store {@code dates[i].durationFrom(reference)}
+     * (must have the same length as {@code dates})
+     * @see AbsoluteDate#durationFrom(AbsoluteDate)
+     */
+    public static void durationsFrom(final TimeOffset[] dates, final TimeOffset reference,
+                                     final double[] durations) {
+        if (durations.length != dates.length) {
+            throw new OrekitIllegalArgumentException(LocalizedCoreFormats.DIMENSIONS_MISMATCH,
+                                                     durations.length, dates.length);
+        }
+        for (int i = 0; i < dates.length; ++i) {
+            durations[i] = dates[i].subtractAsDouble(reference);
+        }
+    }
+
+    /** Compute several shifts of a reference date, without allocation.
+     * <p>
+     * The shifted dates are stored as normalized primitive components, they
+     * can be converted back to {@link AbsoluteDate} instances if needed using
+     * {@code reset(reference).shiftBy(dt[i]).toAbsoluteDate()}.
+     * </p>
+     * @param reference reference date
+     * @param dt time shifts in seconds
+     * @param seconds placeholder where to store the seconds parts of shifted dates
+     * (must have the same length as {@code dt})
+     * @param attoSeconds placeholder where to store the attoseconds parts of shifted dates
+     * (must have the same length as {@code dt})
+     */
+    public static void shiftedBy(final TimeOffset reference, final double[] dt,
+                                 final long[] seconds, final long[] attoSeconds) {
+        if (seconds.length != dt.length) {
+            throw new OrekitIllegalArgumentException(LocalizedCoreFormats.DIMENSIONS_MISMATCH,
+                                                     seconds.length, dt.length);
+        }
+        if (attoSeconds.length != dt.length) {
+            throw new OrekitIllegalArgumentException(LocalizedCoreFormats.DIMENSIONS_MISMATCH,
+                                                     attoSeconds.length, dt.length);
+        }
+        final DateAccumulator accumulator = new DateAccumulator(reference);
+        for (int i = 0; i < dt.length; ++i) {
+            accumulator.reset(reference).shiftBy(dt[i]);
+            seconds[i]     = accumulator.getSeconds();
+            attoSeconds[i] = accumulator.getAttoSeconds();
+        }
+    }
+
+}
@@ -256,6 +256,30 @@ public class TimeOffset
         }
     }
 
+    /**
+     * Build a time by shifting another time.
+     * <p>
+     * This constructor gives the same result as {@code time.add(new TimeOffset(dt))}
+     * but does not allocate any intermediate object for finite values.
+     * </p>
+     * @param time base time
+     * @param dt shift to apply to base time (s)
+     * @since 13.2
+     */
+    public TimeOffset(final TimeOffset time, final double dt) {
+        if (time.attoSeconds >= 0L && dt >= Long.MIN_VALUE && dt <= Long.MAX_VALUE) {
+            // regular case, both base time and shift are finite
+            final long a = time.attoSeconds + fractionalAttoSeconds(dt);
+            seconds     = normalizedSeconds(time.seconds + wholeSeconds(dt), a);
+            attoSeconds = normalizedAttoSeconds(a);
+        } else {
+            // special values
+            final TimeOffset sum = time.add(new TimeOffset(dt));
+            seconds     = sum.seconds;
+            attoSeconds = sum.attoSeconds;
+        }
+    }
+
     /**
      * Multiplicative constructor.
      * <p>
@@ -533,6 +557,26 @@ public class TimeOffset
         return runningSum.normalize();
     }
 
+    /** Compute the difference between the instance and another time, as a double.
+     * <p>
+     * This method gives the same result as {@code subtract(t).toDouble()}
+     * but does not allocate any intermediate object for finite values.
+     * </p>
+     * @param t time to subtract
+     * @return this-t, in seconds
+     * @since 13.2
+     */
+    public double subtractAsDouble(final TimeOffset t) {
+        if (attoSeconds < 0 || t.attoSeconds < 0) {
+            // special values
+            return subtract(t).toDouble();
+        } else {
+            // regular subtraction between two finite times
+            final long a = attoSeconds - t.attoSeconds;
+            return toDouble(normalizedSeconds(seconds - t.seconds, a), normalizedAttoSeconds(a));
+        }
+    }
+
     /** Build a time by subtracting one time from the instance.
      * @param t time to subtract
      * @return this-t
@@ -730,22 +774,95 @@ public class TimeOffset
     public double toDouble() {
         if (isFinite()) {
             // regular value
-            long closeSeconds      = seconds;
-            long signedAttoSeconds = attoSeconds;
-            if (attoSeconds > ATTOS_IN_HALF_SECOND) {
-                // we are closer to next second than to previous one
-                // take this into account in the computation
-                // in order to avoid losing precision
-                closeSeconds++;
-                signedAttoSeconds -= ATTOS_IN_SECOND;
-            }
-            return closeSeconds + ((double) signedAttoSeconds) / ATTOS_IN_SECOND;
+            return toDouble(seconds, attoSeconds);
         } else {
             // special values
             return isNaN() ? Double.NaN : FastMath.copySign(Double.POSITIVE_INFINITY, seconds);
         }
     }
 
+    /** Collapse normalized finite components into a single double.
+     * @param seconds normalized seconds part
+     * @param attoSeconds normalized attoseconds part
+     * @return time as a single double
+     * @since 13.2
+     */
+    static double toDouble(final long seconds, final long attoSeconds) {
+        long closeSeconds      = seconds;
+        long signedAttoSeconds = attoSeconds;
+        if (attoSeconds > ATTOS_IN_HALF_SECOND) {
+            // we are closer to next second than to previous one
+            // take this into account in the computation
+            // in order to avoid losing precision
+            closeSeconds++;
+            signedAttoSeconds -= ATTOS_IN_SECOND;
+        }
+        return closeSeconds + ((double) signedAttoSeconds) / ATTOS_IN_SECOND;
+    }
+
+    /** Get the whole seconds part of a finite shift.
+     * @param dt shift (s), must be between {@code Long.MIN_VALUE} and {@code Long.MAX_VALUE}
+     * @return whole seconds part of the shift, rounded to nearest integer
+     * @see #fractionalAttoSeconds(double)
+     * @since 13.2
+     */
+    static long wholeSeconds(final double dt) {
+        return (long) FastMath.rint(dt);
+    }
+
+    /** Get the fractional part of a finite shift, in attoseconds.
+     * @param dt shift (s), must be between {@code Long.MIN_VALUE} and {@code Long.MAX_VALUE}
+     * @return fractional part of the shift, between -0.5s and +0.5s, in attoseconds
+     * @see #wholeSeconds(double)
+     * @since 13.2
+     */
+    static long fractionalAttoSeconds(final double dt) {
+        return FastMath.round((dt - FastMath.rint(dt)) * ATTOS_IN_SECOND);
+    }
+
+    /** Normalize seconds part of finite components.
+     * <p>
+     * The attoseconds part must be between {@code -1000000000000000000L} (included)
+     * and {@code 2000000000000000000L} (excluded), which is always the case
+     * when adding or subtracting two normalized attoseconds parts.
+     * </p>
+     * @param seconds seconds part
+     * @param attoSeconds attoseconds part, before normalization
+     * @return normalized seconds part
+     * @see #normalizedAttoSeconds(long)
+     * @since 13.2
+     */
+    static long normalizedSeconds(final long seconds, final long attoSeconds) {
+        if (attoSeconds < 0L) {
+            return seconds - 1L;
+        } else if (attoSeconds >= ATTOS_IN_SECOND) {
+            return seconds + 1L;
+        } else {
+            return seconds;
+        }
+    }
+
+    /** Normalize attoseconds part of finite components.
+     * <p>
+     * The attoseconds part must be between {@code -1000000000000000000L} (included)
+     * and {@code 2000000000000000000L} (excluded), which is always the case
+     * when adding or subtracting two normalized attoseconds parts.
+     * </p>
+     * @param attoSeconds attoseconds part, before normalization
+     * @return normalized attoseconds part
+     * @see #normalizedSeconds(long, long)
+     * @since 13.2
+     */
+    static long normalizedAttoSeconds(final long attoSeconds) {
+        if (attoSeconds < 0L) {
+            return attoSeconds + ATTOS_IN_SECOND;
+        } else if (attoSeconds >= ATTOS_IN_SECOND) {
+            return attoSeconds - ATTOS_IN_SECOND;
+        } else {
+            return attoSeconds;
+        }
+    }
+
     /** Parse a string to produce an accurate split time.
      * <p>
      * This method is more accurate than parsing the string as a double and then
@@ -0,0 +1,805 @@
+/* Copyright 2002-2025 CS GROUP
+ * Licensed to CS GROUP (CS) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * CS licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.orekit.utils;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.stream.Stream;
+
+import org.hipparchus.exception.LocalizedCoreFormats;
+import org.hipparchus.util.FastMath;
+import org.orekit.errors.OrekitException;
+import org.orekit.errors.OrekitIllegalArgumentException;
+import org.orekit.errors.OrekitIllegalStateException;
+import org.orekit.errors.OrekitMessages;
+import org.orekit.errors.TimeStampedCacheException;
+import org.orekit.time.AbsoluteDate;
+import org.orekit.time.TimeStamped;
+
+/** Thread-safe cache for {@link TimeStamped time-stamped} data with a lock-free read path.
+ * <p>
+ * This class is a drop-in alternative to {@link GenericTimeStampedCache}, with the same
+ * configuration parameters and the same slots management policy. The difference lies
+ * in the way concurrent accesses are handled. Here, the entries of all slots are immutable
+ * snapshots and the list of slots itself is an immutable array published through an atomic
+ * reference. When the entries needed by a call to {@link #getNeighbors(AbsoluteDate, int)}
+ * are already cached, the call reads the current snapshot and never acquires any lock, it
+ * only updates the calls counter and marks the slot used as accessed (which is needed
+ * to evict the least recently used slot when the maximum number of slots is reached). Access
+ * marks are counted in cache updates rather than in time, so a slot hit many times between two
+ * updates is written only once and reads do not contend on a shared cache line. When
+ * new entries must be generated, the calling thread acquires a lock (so the {@link
+ * TimeStampedGenerator generator} is still called by one thread at a time), builds new
+ * snapshots by copying the affected slot, and publishes them. Threads reading the previous
+ * snapshot at the same time are not disturbed.
+ * </p>
+ * <p>
+ * This cache is well suited for read-mostly workloads with many threads, like frames
+ * transforms or ephemerides lookups. As slot growth implies copying the slot, it is
+ * less suited than {@link GenericTimeStampedCache} for configurations where misses are
+ * frequent.
+ * </p>
+ * @param <T> Type of the cached data.
+ * @see GenericTimeStampedCache
+ * @see TimeStampedCacheFactory
+ * @author Luc Maisonobe
+ * @since 13.2
+ */
+public class LockFreeTimeStampedCache<T extends TimeStamped> implements TimeStampedCache<T> {
+
+    /** Quantum step. */
+    private static final double QUANTUM_STEP = 1.0e-6;
+
+    /** Reference date for indexing. */
+    private final AtomicReference<AbsoluteDate> reference;
+
+    /** Maximum number of independent cached time slots. */
+    private final int maxSlots;
+
+    /** Maximum duration span in seconds of one slot. */
+    private final double maxSpan;
+
+    /** Quantum gap above which a new slot is created instead of extending an existing one. */
+    private final long newSlotQuantumGap;
+
+    /** Generator to use for yet non-cached data. */
+    private final TimeStampedGenerator<T> generator;
+
+    /** Overriding mean step. */
+    private final double overridingMeanStep;
+
+    /** Maximum number of entries in a neighbors array. */
+    private final int maxNeighborsSize;
+
+    /** Current snapshot of independent time slots cached. */
+    private final AtomicReference<List<Slot>> slots;
+
+    /** Number of calls to the getNeighbors method. */
+    private final LongAdder getNeighborsCalls;
+
+    /** Number of calls to the generate method. */
+    private final LongAdder generateCalls;
+
+    /** Number of evictions. */
+    private final LongAdder evictions;
+
+    /** Lock for cache updates (never acquired when entries are already cached). */
+    private final ReentrantLock updateLock;
+
+    /** Access epoch, incremented after each cache update (only written while holding {@link #updateLock}). */
+    private final AtomicLong accessEpoch;
+
+    /** Simple constructor.
+     * @param maxNeighborsSize maximum size of the arrays to be returned by {@link
+     * #getNeighbors(AbsoluteDate, int)}, must be at least 2
+     * @param maxSlots maximum number of independent cached time slots
+     * @param maxSpan maximum duration span in seconds of one slot
+     * (can be set to {@code Double.POSITIVE_INFINITY} if desired)
+     * @param newSlotInterval time interval above which a new slot is created
+     * instead of extending an existing one
+     * @param generator generator to use for yet non-existent data
+     */
+    public LockFreeTimeStampedCache(final int maxNeighborsSize, final int maxSlots, final double maxSpan,
+                                    final double newSlotInterval, final TimeStampedGenerator<T> generator) {
+        this(maxNeighborsSize, maxSlots, maxSpan, newSlotInterval, generator, Double.NaN);
+    }
+
+    /** Simple constructor with overriding minimum step.
+     * @param maxNeighborsSize maximum size of the arrays to be returned by {@link
+     * #getNeighbors(AbsoluteDate, int)}, must be at least 2
+     * @param maxSlots maximum number of independent cached time slots
+     * @param maxSpan maximum duration span in seconds of one slot
+     * (can be set to {@code Double.POSITIVE_INFINITY} if desired)
+     * @param newSlotInterval time interval above which a new slot is created
+     * instead of extending an existing one
+     * @param generator generator to use for yet non-existent data
+     * @param overridingMeanStep overriding mean step designed for non-homogeneous tabulated values. To be used for example
+     *                    when caching monthly tabulated values. Use {@code Double.NaN} otherwise.
+     * @throws OrekitIllegalArgumentException if :
+     * <ul>
+     *     <li>neighbors size &lt; 2 </li>
+     *     <li>maximum allowed number of slots &lt; 1</li>
+     *     <li>minimum step ≤ 0 </li>
+     * </ul>
+     */
+    public LockFreeTimeStampedCache(final int maxNeighborsSize, final int maxSlots, final double maxSpan,
+                                    final double newSlotInterval, final TimeStampedGenerator<T> generator,
+                                    final double overridingMeanStep) {
+
+        // safety check
+        if (maxSlots < 1) {
+            throw new OrekitIllegalArgumentException(LocalizedCoreFormats.NUMBER_TOO_SMALL, maxSlots, 1);
+        }
+        if (overridingMeanStep <= 0) {
+            throw new OrekitIllegalArgumentException(LocalizedCoreFormats.NUMBER_TOO_SMALL_BOUND_EXCLUDED,
+                                                     overridingMeanStep, 0);
+        }
+        if (maxNeighborsSize < 2) {
+            throw new OrekitIllegalArgumentException(OrekitMessages.NOT_ENOUGH_CACHED_NEIGHBORS, maxNeighborsSize, 2);
+        }
+
+        this.reference          = new AtomicReference<>();
+        this.maxSlots           = maxSlots;
+        this.maxSpan            = maxSpan;
+        this.newSlotQuantumGap  = FastMath.round(newSlotInterval / QUANTUM_STEP);
+        this.generator          = generator;
+        this.overridingMeanStep = overridingMeanStep;
+        this.maxNeighborsSize   = maxNeighborsSize;
+        this.slots              = new AtomicReference<>(Collections.emptyList());
+        this.getNeighborsCalls  = new LongAdder();
+        this.generateCalls      = new LongAdder();
+        this.evictions          = new LongAdder();
+        this.updateLock         = new ReentrantLock();
+        this.accessEpoch        = new AtomicLong();
+
+    }
+
+    /** Get the generator.
+     * @return generator
+     */
+    public TimeStampedGenerator<T> getGenerator() {
+        return generator;
+    }
+
+    /** Get the maximum number of independent cached time slots.
+     * @return maximum number of independent cached time slots
+     */
+    public int getMaxSlots() {
+        return maxSlots;
+    }
+
+    /** Get the maximum duration span in seconds of one slot.
+     * @return maximum duration span in seconds of one slot
+     */
+    public double getMaxSpan() {
+        return maxSpan;
+    }
+
+    /** Get quantum gap above which a new slot is created instead of extending an existing one.
+     * <p>
+     * The quantum gap is the {@code newSlotInterval} value provided at construction
+     * rounded to the nearest quantum step used internally by the cache.
+     * </p>
+     * @return quantum gap in seconds
+     */
+    public double getNewSlotQuantumGap() {
+        return newSlotQuantumGap * QUANTUM_STEP;
+    }
+
+    /** Get the number of calls to the {@link #getNeighbors(AbsoluteDate)} method.
+     * <p>
+     * This number of calls is used as a reference to interpret {@link #getGenerateCalls()}.
+     * </p>
+     * @return number of calls to the {@link #getNeighbors(AbsoluteDate)} method
+     * @see #getGenerateCalls()
+     */
+    public int getGetNeighborsCalls() {
+        return getNeighborsCalls.intValue();
+    }
+
+    /** Get the number of calls to the generate method.
+     * <p>
+     * This number of calls is related to the number of cache misses and may
+     * be used to tune the cache configuration. Each cache miss implies at
+     * least one call is performed, but may require several calls if the new
+     * date is far offset from the existing cache, depending on the number of
+     * elements and step between elements in the arrays returned by the generator.
+     * </p>
+     * @return number of calls to the generate method
+     * @see #getGetNeighborsCalls()
+     */
+    public int getGenerateCalls() {
+        return generateCalls.intValue();
+    }
+
+    /** Get the number of slots evictions.
+     * <p>
+     * This number should remain small when the max number of slots is sufficient
+     * with respect to the number of concurrent requests to the cache. If it
+     * increases too much, then the cache configuration is probably bad and cache
+     * does not really improve things (in this case, the {@link #getGenerateCalls()
+     * number of calls to the generate method} will probably increase too.
+     * </p>
+     * @return number of slots evictions
+     */
+    public int getSlotsEvictions() {
+        return evictions.intValue();
+    }
+
+    /** Get the number of slots in use.
+     * @return number of slots in use
+     */
+    public int getSlots() {
+        return slots.get().size();
+    }
+
+    /** Get the total number of entries cached.
+     * @return total number of entries cached
+     */
+    public int getEntries() {
+        int entries = 0;
+        for (final Slot slot : slots.get()) {
+            entries += slot.getEntries();
+        }
+        return entries;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public T getEarliest() throws IllegalStateException {
+        final List<Slot> current = slots.get();
+        if (current.isEmpty()) {
+            throw new OrekitIllegalStateException(OrekitMessages.NO_CACHED_ENTRIES);
+        }
+        return current.get(0).getEarliest();
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public T getLatest() throws IllegalStateException {
+        final List<Slot> current = slots.get();
+        if (current.isEmpty()) {
+            throw new OrekitIllegalStateException(OrekitMessages.NO_CACHED_ENTRIES);
+        }
+        return current.get(current.size() - 1).getLatest();
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public int getMaxNeighborsSize() {
+        return maxNeighborsSize;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public Stream<T> getNeighbors(final AbsoluteDate central, final int n) {
+
+        if (n > maxNeighborsSize) {
+            throw new OrekitException(OrekitMessages.NOT_ENOUGH_DATA, maxNeighborsSize);
+        }
+
+        getNeighborsCalls.increment();
+        final long dateQuantum = quantum(central);
+
+        // lock-free path, using the current snapshot
+        final List<Slot> current = slots.get();
+        if (!current.isEmpty()) {
+            final Slot slot = current.get(slotIndex(current, dateQuantum));
+            if (slot.covers(dateQuantum)) {
+                final int firstNeighbor = slot.entryIndex(dateQuantum) - (n - 1) / 2;
+                if (firstNeighbor >= 0 && firstNeighbor + n <= slot.getEntries()) {
+                    slot.updateLastAccess(accessEpoch.get());
+                    return slot.getNeighbors(firstNeighbor, n);
+                }
+            }
+        }
+
+        // the cache must be updated
+        updateLock.lock();
+        try {
+            return updateAndGetNeighbors(central, dateQuantum, n);
+        } finally {
+            updateLock.unlock();
+        }
+
+    }
+
+    /** Convert a date to a rough global quantum.
+     * @param date date to convert
+     * @return quantum corresponding to the date
+     */
+    private long quantum(final AbsoluteDate date) {
+        AbsoluteDate ref = reference.get();
+        if (ref == null) {
+            reference.compareAndSet(null, date);
+            ref = reference.get();
+        }
+        return FastMath.round(date.durationFrom(ref) / QUANTUM_STEP);
+    }
+
+    /** Update cache and get the entries surrounding a central date.
+     * <p>
+     * We own the update lock while calling this method.
+     * </p>
+     * @param central central date
+     * @param dateQuantum global quantum of the date
+     * @param n number of neighbors
+     * @return stream of cached entries surrounding the specified date
+     */
+    private Stream<T> updateAndGetNeighbors(final AbsoluteDate central, final long dateQuantum, final int n) {
+
+        // check slots again as another thread may have changed
+        // the snapshot while we were waiting for the lock
+        final List<Slot> current = slots.get();
+        int index = current.isEmpty() ? 0 : slotIndex(current, dateQuantum);
+        Slot slot;
+        if (current.isEmpty() || !current.get(index).covers(dateQuantum)) {
+
+            // no existing slot is suitable, we need to create a new one
+            final List<Slot> updated = new ArrayList<>(current);
+            if (!updated.isEmpty() &&
+                updated.get(index).getLatestQuantum() < dateQuantum - newSlotQuantumGap) {
+                ++index;
+            }
+
+            if (updated.size() >= maxSlots) {
+                // we must prevent exceeding allowed max
+
+                // select the least recently accessed slot for eviction
+                int evict = 0;
+                for (int i = 0; i < updated.size(); ++i) {
+                    if (updated.get(i).getLastAccess() < updated.get(evict).getLastAccess()) {
+                        evict = i;
+                    }
+                }
+
+                // evict the selected slot
+                evictions.increment();
+                updated.remove(evict);
+
+                if (evict < index) {
+                    // adjust index of created slot as it was shifted by the eviction
+                    index--;
+                }
+            }
+
+            slot = createSlot(central);
+            updated.add(index, slot);
+            publish(updated);
+
+        } else {
+            slot = current.get(index);
+        }
+
+        int firstNeighbor = slot.entryIndex(dateQuantum) - (n - 1) / 2;
+        while (firstNeighbor < 0 || firstNeighbor + n > slot.getEntries()) {
+            // the slot is not balanced around the desired date, we can try to generate new data
+
+            // estimate which data we need to be generated
+            final double step = slot.getMeanStep();
+            final AbsoluteDate existingDate;
+            final AbsoluteDate generationDate;
+            final boolean simplyRebalance;
+            if (firstNeighbor < 0) {
+                existingDate    = slot.getEarliest().getDate();
+                generationDate  = existingDate.shiftedBy(step * firstNeighbor);
+                simplyRebalance = existingDate.compareTo(central) <= 0;
+            } else {
+                existingDate    = slot.getLatest().getDate();
+                generationDate  = existingDate.shiftedBy(step * (firstNeighbor + n - slot.getEntries()));
+                simplyRebalance = existingDate.compareTo(central) >= 0;
+            }
+            generateCalls.increment();
+
+            // generate data and add it to a new version of the slot
+            try {
+                slot = firstNeighbor < 0 ?
+                       slot.insertAtStart(generateAndCheck(existingDate, generationDate), central) :
+                       slot.appendAtEnd(generateAndCheck(existingDate, generationDate), central);
+            } catch (TimeStampedCacheException tce) {
+                if (simplyRebalance) {
+                    // we were simply trying to rebalance an unbalanced interval near slot end
+                    // we failed, but the central date is already covered by the existing (unbalanced) data
+                    // so we ignore the exception and stop the loop, we will continue with what we have
+                    break;
+                } else {
+                    throw tce;
+                }
+            }
+
+            // publish the new version of the slot
+            final List<Slot> updated = new ArrayList<>(slots.get());
+            updated.set(index, slot);
+            publish(updated);
+
+            firstNeighbor = slot.entryIndex(dateQuantum) - (n - 1) / 2;
+
+        }
+
+        if (firstNeighbor + n > slot.getEntries()) {
+            // we end up with a non-balanced neighborhood,
+            // adjust the start point to fit within the cache
+            firstNeighbor = slot.getEntries() - n;
+        }
+        if (firstNeighbor < 0) {
+            firstNeighbor = 0;
+        }
+        // mark the slot and start a new epoch, so slots accessed after
+        // this update are considered more recent than this one
+        slot.updateLastAccess(accessEpoch.getAndIncrement());
+        return slot.getNeighbors(firstNeighbor, n);
+
+    }
+
+    /** Publish a new snapshot of the slots.
+     * @param updated updated slots
+     */
+    private void publish(final List<Slot> updated) {
+        slots.set(Collections.unmodifiableList(updated));
+    }
+
+    /** Get the index of the slot in which a date could be cached.
+     * @param current current snapshot of slots (must not be empty)
+     * @param dateQuantum quantum of the date to search for
+     * @return the slot in which the date could be cached
+     */
+    private int slotIndex(final List<Slot> current, final long dateQuantum) {
+
+        int  iInf = 0;
+        final long qInf = current.get(iInf).getEarliestQuantum();
+        int  iSup = current.size() - 1;
+        final long qSup = current.get(iSup).getLatestQuantum();
+        while (iSup - iInf > 0) {
+            final int iInterp = (int) ((iInf * (qSup - dateQuantum) + iSup * (dateQuantum - qInf)) / (qSup - qInf));
+            final int iMed    = FastMath.max(iInf, FastMath.min(iInterp, iSup));
+            final Slot slot   = current.get(iMed);
+            if (dateQuantum < slot.getEarliestQuantum()) {
+                iSup = iMed - 1;
+            } else if (dateQuantum > slot.getLatestQuantum()) {
+                iInf = FastMath.min(iSup, iMed + 1);
+            } else {
+                return iMed;
+            }
+        }
+
+        return iInf;
+
+    }
+
+    /** Create a new slot.
+     * <p>
+     * We own the update lock while calling this method.
+     * </p>
+     * @param date central date for initial entries to insert in the slot
+     * @return new slot
+     */
+    private Slot createSlot(final AbsoluteDate date) {
+
+        // set up first entries
+        generateCalls.increment();
+        Slot slot = new Slot(generateAndCheck(null, date));
+
+        while (slot.getEntries() < maxNeighborsSize) {
+            // we need to generate more entries
+
+            final AbsoluteDate entry0 = slot.getEarliest().getDate();
+            final AbsoluteDate entryN = slot.getLatest().getDate();
+            generateCalls.increment();
+
+            if (entryN.durationFrom(date) <= date.durationFrom(entry0)) {
+                // generate additional point at the end of the slot
+                final AbsoluteDate generationDate =
+                                entryN.shiftedBy(slot.getMeanStep() * (maxNeighborsSize - slot.getEntries()));
+                slot = slot.appendAtEnd(generateAndCheck(entryN, generationDate), date);
+            } else {
+                // generate additional point at the start of the slot
+                final AbsoluteDate generationDate =
+                                entry0.shiftedBy(-slot.getMeanStep() * (maxNeighborsSize - slot.getEntries()));
+                slot = slot.insertAtStart(generateAndCheck(entry0, generationDate), date);
+            }
+
+        }
+
+        return slot;
+
+    }
+
+    /** Generate entries and check ordering.
+     * @param existingDate date of the closest already existing entry (may be null)
+     * @param date date that must be covered by the range of the generated array
+     * @return chronologically sorted list of generated entries
+     */
+    private List<T> generateAndCheck(final AbsoluteDate existingDate, final AbsoluteDate date) {
+        final List<T> entries = generator.generate(existingDate, date);
+        if (entries.isEmpty()) {
+            throw new TimeStampedCacheException(OrekitMessages.NO_DATA_GENERATED, date);
+        }
+        for (int i = 1; i < entries.size(); ++i) {
+            final AbsoluteDate previous = entries.get(i - 1).getDate();
+            final AbsoluteDate current = entries.get(i).getDate();
+            if (current.compareTo(previous) < 0) {
+                throw new TimeStampedCacheException(OrekitMessages.NON_CHRONOLOGICALLY_SORTED_ENTRIES,
+                        previous, current, previous.durationFrom(current));
+            }
+        }
+        return entries;
+    }
+
+    /** Immutable time slot. */
+    private final class Slot {
+
+        /** Cached time-stamped entries. */
+        private final List<T> data;
+
+        /** Global quanta of the entries. */
+        private final long[] quanta;
+
+        /** Access epoch of last access (shared by all versions of the same slot). */
+        private final AtomicLong lastAccess;
+
+        /** Simple constructor.
+         * @param initialData initial entries (must be non-empty)
+         */
+        Slot(final List<T> initialData) {
+            this.data       = new ArrayList<>(initialData);
+            this.quanta     = new long[initialData.size()];
+            this.lastAccess = new AtomicLong(accessEpoch.get());
+            for (int i = 0; i < quanta.length; ++i) {
+                quanta[i] = quantum(data.get(i).getDate());
+            }
+        }
+
+        /** Constructor for updated versions of a slot.
+         * @param data cached entries
+         * @param quanta global quanta of the entries
+         * @param lastAccess access epoch of last access (shared by all versions of the same slot)
+         */
+        Slot(final List<T> data, final long[] quanta, final AtomicLong lastAccess) {
+            this.data       = data;
+            this.quanta     = quanta;
+            this.lastAccess = lastAccess;
+        }
+
+        /** Get the earliest entry contained in the slot.
+         * @return earliest entry contained in the slot
+         */
+        public T getEarliest() {
+            return data.get(0);
+        }
+
+        /** Get the quantum of the earliest date contained in the slot.
+         * @return quantum of the earliest date contained in the slot
+         */
+        public long getEarliestQuantum() {
+            return quanta[0];
+        }
+
+        /** Get the latest entry contained in the slot.
+         * @return latest entry contained in the slot
+         */
+        public T getLatest() {
+            return data.get(data.size() - 1);
+        }
+
+        /** Get the quantum of the latest date contained in the slot.
+         * @return quantum of the latest date contained in the slot
+         */
+        public long getLatestQuantum() {
+            return quanta[quanta.length - 1];
+        }
+
+        /** Get the number of entries contained in the slot.
+         * @return number of entries contained in the slot
+         */
+        public int getEntries() {
+            return data.size();
+        }
+
+        /** Get access epoch of last access to slot.
+         * @return access epoch of last access to slot
+         */
+        public long getLastAccess() {
+            return lastAccess.get();
+        }
+
+        /** Update access epoch of last access to slot.
+         * <p>
+         * The shared value is written only if it changes, i.e. at most once per
+         * slot between two cache updates, so frequent hits on the same slot only read it.
+         * </p>
+         * @param epoch current access epoch
+         */
+        public void updateLastAccess(final long epoch) {
+            if (lastAccess.get() < epoch) {
+                lastAccess.lazySet(epoch);
+            }
+        }
+
+        /** Check if a date can be served by this slot.
+         * @param dateQuantum global quantum of the date
+         * @return true if date is close enough to slot to be served by it
+         */
+        public boolean covers(final long dateQuantum) {
+            return getEarliestQuantum() <= dateQuantum + newSlotQuantumGap &&
+                   getLatestQuantum()   >= dateQuantum - newSlotQuantumGap;
+        }
+
+        /** Get the mean step between entries.
+         * <p>
+         * If an overriding mean step has been defined at construction, then it will be returned instead.
+         * @return mean step between entries (or an arbitrary non-null value
+         * if there are fewer than 2 entries)
+         */
+        public double getMeanStep() {
+            if (data.size() < 2) {
+                return 1.0;
+            } else {
+                if (!Double.isNaN(overridingMeanStep)) {
+                    return overridingMeanStep;
+                } else {
+                    return getLatest().getDate().durationFrom(getEarliest().getDate()) / (data.size() - 1);
+                }
+            }
+        }
+
+        /** Get a range of entries.
+         * @param firstNeighbor index of the first entry
+         * @param n number of entries
+         * @return stream of entries
+         */
+        public Stream<T> getNeighbors(final int firstNeighbor, final int n) {
+            return data.subList(firstNeighbor, firstNeighbor + n).stream();
+        }
+
+        /** Get the index of the entry corresponding to a date.
+         * @param dateQuantum global quantum of the date
+         * @return index in the array such that entry[index] is before
+         * date and entry[index + 1] is after date (or they are at array boundaries)
+         */
+        public int entryIndex(final long dateQuantum) {
+
+            if (dateQuantum < getEarliestQuantum()) {
+                // date if before the first entry
+                return -1;
+            } else if (dateQuantum > getLatestQuantum()) {
+                // date is after the last entry
+                return data.size();
+            } else {
+
+                // within a continuous slot, entries are expected to be roughly linear
+                int  iInf = 0;
+                final long qInf = quanta[iInf];
+                int  iSup = quanta.length - 1;
+                final long qSup = quanta[iSup];
+                while (iSup - iInf > 0) {
+                    final int iInterp = (int) ((iInf * (qSup - dateQuantum) + iSup * (dateQuantum - qInf)) / (qSup - qInf));
+                    final int iMed    = FastMath.max(iInf + 1, FastMath.min(iInterp, iSup));
+                    if (dateQuantum < quanta[iMed]) {
+                        iSup = iMed - 1;
+                    } else if (dateQuantum > quanta[iMed]) {
+                        iInf = iMed;
+                    } else {
+                        return iMed;
+                    }
+                }
+
+                return iInf;
+
+            }
+
+        }
+
+        /** Build a new version of the slot with data inserted at slot start.
+         * @param generated generated data to insert
+         * @param requestedDate use for the error message.
+         * @return new version of the slot
+         */
+        public Slot insertAtStart(final List<T> generated, final AbsoluteDate requestedDate) {
+
+            // find the generated entries that are before existing ones
+            final long q0 = getEarliestQuantum();
+            final long[] generatedQuanta = new long[generated.size()];
+            int inserted = 0;
+            while (inserted < generated.size()) {
+                final long quantum = quantum(generated.get(inserted).getDate());
+                if (quantum < q0) {
+                    generatedQuanta[inserted++] = quantum;
+                } else {
+                    break;
+                }
+            }
+
+            if (inserted == 0) {
+                final AbsoluteDate earliest = getEarliest().getDate();
+                throw new TimeStampedCacheException(
+                        OrekitMessages.UNABLE_TO_GENERATE_NEW_DATA_BEFORE,
+                        earliest, requestedDate, earliest.durationFrom(requestedDate));
+            }
+
+            // evict excess data at end
+            final AbsoluteDate t0   = generated.get(0).getDate();
+            int                kept = data.size();
+            while (inserted + kept > maxNeighborsSize &&
+                   data.get(kept - 1).getDate().durationFrom(t0) > maxSpan) {
+                --kept;
+            }
+
+            final List<T> newData   = new ArrayList<>(inserted + kept);
+            final long[]  newQuanta = new long[inserted + kept];
+            newData.addAll(generated.subList(0, inserted));
+            newData.addAll(data.subList(0, kept));
+            System.arraycopy(generatedQuanta, 0, newQuanta, 0, inserted);
+            System.arraycopy(quanta, 0, newQuanta, inserted, kept);
+            return new Slot(newData, newQuanta, lastAccess);
+
+        }
+
+        /** Build a new version of the slot with data appended at slot end.
+         * @param generated generated data to append
+         * @param requestedDate use for error message.
+         * @return new version of the slot
+         */
+        public Slot appendAtEnd(final List<T> generated, final AbsoluteDate requestedDate) {
+
+            // find the generated entries that are after existing ones
+            final long qn = getLatestQuantum();
+            final long[] generatedQuanta = new long[generated.size()];
+            int start = generated.size();
+            while (start > 0) {
+                final long quantum = quantum(generated.get(start - 1).getDate());
+                if (quantum > qn) {
+                    generatedQuanta[--start] = quantum;
+                } else {
+                    break;
+                }
+            }
+            final int appended = generated.size() - start;
+
+            if (appended == 0) {
+                final AbsoluteDate latest = getLatest().getDate();
+                throw new TimeStampedCacheException(
+                        OrekitMessages.UNABLE_TO_GENERATE_NEW_DATA_AFTER,
+                        latest, requestedDate, requestedDate.durationFrom(latest));
+            }
+
+            // evict excess data at start
+            final AbsoluteDate tn      = generated.get(generated.size() - 1).getDate();
+            int                removed = 0;
+            while (data.size() - removed + appended > maxNeighborsSize &&
+                   tn.durationFrom(data.get(removed).getDate()) > maxSpan) {
+                ++removed;
+            }
+
+            final int     kept      = data.size() - removed;
+            final List<T> newData   = new ArrayList<>(kept + appended);
+            final long[]  newQuanta = Arrays.copyOfRange(quanta, removed, kept + appended + removed);
+            newData.addAll(data.subList(removed, data.size()));
+            newData.addAll(generated.subList(start, generated.size()));
+            System.arraycopy(generatedQuanta, start, newQuanta, kept, appended);
+            return new Slot(newData, newQuanta, lastAccess);
+
+        }
+
+    }
+
+}
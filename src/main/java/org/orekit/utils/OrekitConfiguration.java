@@ -29,8 +29,12 @@ public class OrekitConfiguration {
     /** Number of slots to use in caches. */
     private static int CACHE_SLOTS_NUMBER;
 
+    /** Factory for time-stamped caches. */
+    private static TimeStampedCacheFactory CACHE_FACTORY;
+
     static {
         CACHE_SLOTS_NUMBER = 100;
+        CACHE_FACTORY      = TimeStampedCacheFactory.GENERIC;
     }
 
     /** Private constructor.
@@ -55,6 +59,29 @@ public class OrekitConfiguration {
         return CACHE_SLOTS_NUMBER;
     }
 
+    /** Set the factory to use for time-stamped caches.
+     * <p>
+     * The factory is used by frames transform providers, Earth Orientation
+     * Parameters tidal corrections and JPL ephemerides. It only applies to caches built after
+     * the call, caches already built are not changed. The default factory
+     * is {@link TimeStampedCacheFactory#GENERIC}, applications with many threads
+     * sharing the same frames may use {@link TimeStampedCacheFactory#LOCK_FREE}.
+     * </p>
+     * @param factory factory to use for time-stamped caches
+     * @since 13.2
+     */
+    public static void setTimeStampedCacheFactory(final TimeStampedCacheFactory factory) {
+        OrekitConfiguration.CACHE_FACTORY = factory;
+    }
+
+    /** Get the factory to use for time-stamped caches.
+     * @return factory to use for time-stamped caches
+     * @since 13.2
+     */
+    public static TimeStampedCacheFactory getTimeStampedCacheFactory() {
+        return CACHE_FACTORY;
+    }
+
     /**
      * Get Orekit version.
      * <p>
@@ -0,0 +1,196 @@
+/* Copyright 2002-2025 CS GROUP
+ * Licensed to CS GROUP (CS) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * CS licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.orekit.utils;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.IntConsumer;
+
+import org.hipparchus.exception.LocalizedCoreFormats;
+import org.hipparchus.util.FastMath;
+import org.orekit.errors.OrekitException;
+
+/** Loop over indices with iterations run concurrently.
+ * <p>
+ * The calling thread takes part in the loop: it submits at most {@code maxWorkers - 1}
+ * tasks to the executor, then processes indices itself until none remain. Tasks that
+ * did not start by then are cancelled, and the ones that did start are waited for.
+ * This implies loops can be nested using the same executor without risking a deadlock,
+ * even if all the threads of the executor are busy running outer iterations.
+ * </p>
+ * <p>
+ * The order in which iterations are processed is not specified, so the loop body
+ * must store its results at the iteration index if ordering matters.
+ * </p>
+ * <p>
+ * If one iteration fails, no new iterations are started, tasks that did not start
+ * are cancelled and the ones that did start are waited for before the error is
+ * propagated to the caller, so no iteration is still running when this method returns.
+ * When iterations are run concurrently, the failure is handled the same way regardless
+ * of the thread that ran the failing iteration: an {@link OrekitException} is propagated
+ * as is, an {@link Error} is propagated as is, and other exceptions are wrapped in an
+ * {@link OrekitException}. When iterations are run serially, the failure is propagated as is.
+ * </p>
+ * @author Luc Maisonobe
+ * @since 13.2
+ */
+public class ParallelLoop {
+
+    /** Private constructor for a utility class.
+     */
+    private ParallelLoop() {
+        // nothing to do
+    }
+
+    /** Run a loop over indices from 0 (included) to n (excluded).
+     * @param executor executor running the iterations (if null, iterations are run
+     * serially, in increasing indices order, in the calling thread)
+     * @param maxWorkers maximum number of threads running iterations simultaneously,
+     * including the calling thread
+     * @param n number of iterations
+     * @param body loop body, called with the iteration index
+     */
+    public static void run(final ExecutorService executor, final int maxWorkers,
+                           final int n, final IntConsumer body) {
+
+        if (executor == null || maxWorkers < 2 || n < 2) {
+            // serial loop
+            for (int i = 0; i < n; ++i) {
+                body.accept(i);
+            }
+            return;
+        }
+
+        // each worker picks indices until none remain,
+        // a failing worker prevents all workers from picking new indices
+        final AtomicInteger next   = new AtomicInteger(0);
+        final Runnable      worker = () -> {
+            boolean done = false;
+            try {
+                for (int i = next.getAndIncrement(); i < n; i = next.getAndIncrement()) {
+                    body.accept(i);
+                }
+                done = true;
+            } finally {
+                if (!done) {
+                    next.set(n);
+                }
+            }
+        };
+        final int                 nbTasks = FastMath.min(maxWorkers, n) - 1;
+        final List<AtomicBoolean> started = new ArrayList<>(nbTasks);
+        final List<Future<?>>     futures = new ArrayList<>(nbTasks);
+        for (int i = 0; i < nbTasks; ++i) {
+            final AtomicBoolean flag = new AtomicBoolean(false);
+            started.add(flag);
+            futures.add(executor.submit(() -> {
+                if (flag.compareAndSet(false, true)) {
+                    worker.run();
+                }
+            }));
+        }
+
+        boolean completed   = false;
+        boolean interrupted = false;
+        try {
+
+            // the calling thread also works
+            try {
+                worker.run();
+                // CHECKSTYLE: stop IllegalCatch check
+            } catch (RuntimeException re) {
+                // CHECKSTYLE: resume IllegalCatch check
+                throw wrap(re);
+            }
+
+            // wait for the tasks that did start, prevent the other ones from starting
+            for (int i = 0; i < nbTasks; ++i) {
+                if (started.get(i).compareAndSet(false, true)) {
+                    futures.get(i).cancel(false);
+                } else {
+                    futures.get(i).get();
+                }
+            }
+            completed = true;
+
+        } catch (InterruptedException ie) {
+            interrupted = true;
+            for (final Future<?> future : futures) {
+                future.cancel(true);
+            }
+            Thread.currentThread().interrupt();
+            throw new OrekitException(ie, LocalizedCoreFormats.SIMPLE_MESSAGE, ie.getLocalizedMessage());
+        } catch (ExecutionException ee) {
+            if (ee.getCause() instanceof Error) {
+                throw (Error) ee.getCause();
+            }
+            throw wrap(ee.getCause());
+        } finally {
+            if (!completed) {
+                // something failed, prevent remaining iterations from being run
+                next.set(n);
+                for (int i = 0; i < nbTasks; ++i) {
+                    if (started.get(i).compareAndSet(false, true)) {
+                        futures.get(i).cancel(false);
+                    } else if (!interrupted) {
+                        interrupted = !waitForTermination(futures.get(i));
+                    }
+                }
+            }
+        }
+
+    }
+
+    /** Wrap an iteration failure.
+     * @param cause failure of the iteration
+     * @return exception to propagate to the caller
+     */
+    private static OrekitException wrap(final Throwable cause) {
+        if (cause instanceof OrekitException) {
+            // propagate the original exception
+            return (OrekitException) cause;
+        } else {
+            return new OrekitException(cause, LocalizedCoreFormats.SIMPLE_MESSAGE, cause.getLocalizedMessage());
+        }
+    }
+
+    /** Wait for a task termination after another task failed.
+     * <p>
+     * Errors from the task are ignored, as the error that triggered
+     * the wait is the one that will be propagated.
+     * </p>
+     * @param future task to wait for
+     * @return false if waiting was interrupted
+     */
+    private static boolean waitForTermination(final Future<?> future) {
+        try {
+            future.get();
+        } catch (ExecutionException ee) {
+            // ignored, another error is already being propagated
+        } catch (InterruptedException ie) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+        return true;
+    }
+
+}
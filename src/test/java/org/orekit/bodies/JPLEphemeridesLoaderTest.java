@@ -27,7 +27,9 @@ import org.orekit.frames.FramesFactory;
 import org.orekit.time.AbsoluteDate;
 import org.orekit.time.TimeScalesFactory;
 import org.orekit.utils.Constants;
+import org.orekit.utils.OrekitConfiguration;
 import org.orekit.utils.PVCoordinates;
+import org.orekit.utils.TimeStampedCacheFactory;
 
 import java.io.IOException;
 
@@ -156,6 +158,33 @@ public class JPLEphemeridesLoaderTest {
                         1382400.0);
     }
 
+    @Test
+    void testLockFreeCache() {
+        Utils.setDataRoot("regular-data/de405-ephemerides");
+        final AbsoluteDate t0      = new AbsoluteDate(1969, 7, 17, 10, 43, 23.4, TimeScalesFactory.getTT());
+        final Frame        eme2000 = FramesFactory.getEME2000();
+        final CelestialBody reference =
+                new JPLEphemeridesLoader(JPLEphemeridesLoader.DEFAULT_DE_SUPPORTED_NAMES,
+                                         JPLEphemeridesLoader.EphemerisType.MOON).
+                loadCelestialBody(CelestialBodyFactory.MOON);
+        final TimeStampedCacheFactory previous = OrekitConfiguration.getTimeStampedCacheFactory();
+        try {
+            OrekitConfiguration.setTimeStampedCacheFactory(TimeStampedCacheFactory.LOCK_FREE);
+            final CelestialBody lockFree =
+                    new JPLEphemeridesLoader(JPLEphemeridesLoader.DEFAULT_DE_SUPPORTED_NAMES,
+                                             JPLEphemeridesLoader.EphemerisType.MOON).
+                    loadCelestialBody(CelestialBodyFactory.MOON);
+            for (double dt = 0; dt < 30 * Constants.JULIAN_DAY; dt += 3600) {
+                final AbsoluteDate date = t0.shiftedBy(dt);
+                Assertions.assertEquals(0.0,
+                                        reference.getPosition(date, eme2000).distance(lockFree.getPosition(date, eme2000)),
+                                        0.0);
+            }
+        } finally {
+            OrekitConfiguration.setTimeStampedCacheFactory(previous);
+        }
+    }
+
     @Test
     void testDummyEarth() {
         Utils.setDataRoot("regular-data/de405-ephemerides");
@@ -0,0 +1,297 @@
+/* Copyright 2002-2025 CS GROUP
+ * Licensed to CS GROUP (CS) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * CS licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.orekit.data;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.orekit.Utils;
+import org.orekit.errors.OrekitException;
+import org.orekit.errors.OrekitMessages;
+import org.orekit.files.rinex.HatanakaCompressFilter;
+import org.orekit.files.rinex.observation.ObservationData;
+import org.orekit.files.rinex.observation.ObservationDataSet;
+import org.orekit.files.rinex.observation.RinexObservation;
+import org.orekit.files.rinex.observation.RinexObservationParser;
+
+public class PipelinedFilterTest {
+
+    private ExecutorService executor;
+
+    @BeforeEach
+    public void setUp() {
+        Utils.setDataRoot("regular-data");
+        executor = Executors.newCachedThreadPool();
+    }
+
+    @AfterEach
+    public void tearDown() throws InterruptedException {
+        executor.shutdownNow();
+        Assertions.assertTrue(executor.awaitTermination(10, TimeUnit.SECONDS));
+    }
+
+    @Test
+    public void testGzipHatanaka() throws IOException {
+        final String name = "rinex/GANP00SVK_R_20151890000_01H_10M_MO.crx.gz";
+        checkSameParsing(name, new GzipFilter(), PipelinedFilter.DEFAULT_CHUNK_SIZE, PipelinedFilter.DEFAULT_CAPACITY);
+        checkSameParsing(name, new GzipFilter(), 17, 1);
+    }
+
+    @Test
+    public void testUnixCompressHatanaka() throws IOException {
+        checkSameParsing("rinex/bogi1210.09d.Z", new UnixCompressFilter(), 1000, 2);
+    }
+
+    @Test
+    public void testSingleBytesReads() throws IOException {
+        final String name = "rinex/ZIMM00CHE_R_20190320000_15M_30S_MO.crx.gz";
+        final byte[] reference = readAll(new GzipFilter().filter(raw(name)).getOpener().openStreamOnce());
+        final DataSource pipelined = new PipelinedFilter(new GzipFilter(), executor, 5, 3).filter(raw(name));
+        Assertions.assertTrue(pipelined.getOpener().rawDataIsBinary());
+        final ByteArrayOutputStream bos = new ByteArrayOutputStream();
+        try (InputStream is = pipelined.getOpener().openStreamOnce()) {
+            Assertions.assertEquals(0, is.read(new byte[4], 0, 0));
+            for (int b = is.read(); b >= 0; b = is.read()) {
+                bos.write(b);
+            }
+            Assertions.assertEquals(-1, is.read());
+            Assertions.assertEquals(-1, is.read(new byte[4], 0, 4));
+        }
+        Assertions.assertArrayEquals(reference, bos.toByteArray());
+    }
+
+    @Test
+    public void testNotApplicable() throws IOException {
+        final DataSource original = raw("rinex/aaaa0000.00o");
+        Assertions.assertSame(original, new PipelinedFilter(new GzipFilter(), executor).filter(original));
+    }
+
+    @Test
+    public void testErrorInFilter() throws IOException {
+        final DataSource pipelined =
+                        new PipelinedFilter(new HatanakaCompressFilter(), executor).
+                        filter(raw("rinex/truncateA_U_20190320000_15M_30S_MO.crx"));
+        try (Reader r = pipelined.getOpener().openReaderOnce();
+             BufferedReader br = new BufferedReader(r)) {
+            for (String line = br.readLine(); line != null; line = br.readLine()) {
+                // nothing to do here
+            }
+            Assertions.fail("an exception should have been thrown");
+        } catch (OrekitException oe) {
+            Assertions.assertEquals(OrekitMessages.UNEXPECTED_END_OF_FILE, oe.getSpecifier());
+        }
+    }
+
+    @Test
+    public void testErrorInUpstream() throws IOException {
+        final DataSource failing = new DataSource("failing.gz", () -> new InputStream() {
+            public int read() throws IOException {
+                throw new IOException("boo!");
+            }
+        });
+        final DataSource pipelined = new PipelinedFilter(new TruncatingFilter(2), executor).
+                                     filter(new PipelinedFilter(new GzipFilter(), executor).filter(failing));
+        try (Reader r = pipelined.getOpener().openReaderOnce()) {
+            r.read(new char[10]);
+            Assertions.fail("an exception should have been thrown");
+        } catch (IOException ioe) {
+            Assertions.assertEquals("boo!", ioe.getMessage());
+        }
+    }
+
+    @Test
+    public void testHatanakaChunksOccupancy() throws IOException {
+        final String name      = "rinex/DJIG00DJI_R_20191820000_01D_30S_MO.crx.gz";
+        final int    chunkSize = 4096;
+
+        final StringBuilder reference = new StringBuilder();
+        try (Reader r = new HatanakaCompressFilter().filter(new GzipFilter().filter(raw(name))).getOpener().openReaderOnce()) {
+            final char[] buffer = new char[chunkSize];
+            for (int n = r.read(buffer); n >= 0; n = r.read(buffer)) {
+                reference.append(buffer, 0, n);
+            }
+        }
+
+        // the Hatanaka filter provides one line at a time, chunks must nevertheless be filled up
+        final DataSource pipelined = new PipelinedFilter(new HatanakaCompressFilter(), executor, chunkSize, 4).
+                                     filter(new GzipFilter().filter(raw(name)));
+        final StringBuilder content = new StringBuilder();
+        int nbChunks  = 0;
+        int lastChunk = -1;
+        try (Reader r = pipelined.getOpener().openReaderOnce()) {
+            final char[] buffer = new char[chunkSize];
+            for (int n = r.read(buffer); n >= 0; n = r.read(buffer)) {
+                if (lastChunk >= 0) {
+                    // only the last chunk may be partially filled
+                    Assertions.assertEquals(chunkSize, lastChunk);
+                }
+                content.append(buffer, 0, n);
+                lastChunk = n;
+                ++nbChunks;
+            }
+        }
+
+        Assertions.assertEquals((reference.length() + chunkSize - 1) / chunkSize, nbChunks);
+        Assertions.assertEquals(reference.toString(), content.toString());
+
+    }
+
+    @Test
+    public void testDataBeforeError() throws IOException {
+        final byte[] partial = "data read before failure".getBytes(StandardCharsets.UTF_8);
+        final DataFilter failing = original -> new DataSource(original.getName(), () -> new InputStream() {
+            private int index;
+            public int read() throws IOException {
+                if (index < partial.length) {
+                    return partial[index++];
+                }
+                throw new IOException("boo!");
+            }
+        });
+        final DataSource pipelined = new PipelinedFilter(failing, executor, 64, 2).filter(raw("rinex/aaaa0000.00o"));
+        final ByteArrayOutputStream bos = new ByteArrayOutputStream();
+        try (InputStream is = pipelined.getOpener().openStreamOnce()) {
+            final byte[] buffer = new byte[16];
+            for (int n = is.read(buffer); n >= 0; n = is.read(buffer)) {
+                bos.write(buffer, 0, n);
+            }
+            Assertions.fail("an exception should have been thrown");
+        } catch (IOException ioe) {
+            Assertions.assertEquals("boo!", ioe.getMessage());
+        }
+
+        // the data read before the failure must have been delivered, as with the sequential filter
+        Assertions.assertArrayEquals(partial, bos.toByteArray());
+
+    }
+
+    @Test
+    public void testErrorNotException() throws IOException {
+        // the filtered stream fails only when read, i.e. in the producer thread
+        final DataFilter failing = original -> new DataSource(original.getName(), () -> new InputStream() {
+            public int read() {
+                throw new InternalError("boo!");
+            }
+        });
+        final DataSource pipelined = new PipelinedFilter(failing, executor).filter(raw("rinex/aaaa0000.00o"));
+        final InternalError error =
+            Assertions.assertTimeoutPreemptively(Duration.ofSeconds(10),
+                                                 () -> Assertions.assertThrows(InternalError.class,
+                                                                               () -> readAll(pipelined.getOpener().openStreamOnce())));
+        Assertions.assertEquals("boo!", error.getMessage());
+    }
+
+    @Test
+    public void testEarlyClose() throws IOException, InterruptedException {
+        final String name = "rinex/DJIG00DJI_R_20191820000_01D_30S_MO.crx.gz";
+        final FiltersManager manager = new FiltersManager();
+        manager.addFilter(new PipelinedFilter(new GzipFilter(), executor, 64, 1));
+        manager.addFilter(new PipelinedFilter(new HatanakaCompressFilter(), executor, 64, 1));
+        try (Reader r = manager.applyRelevantFilters(raw(name)).getOpener().openReaderOnce();
+             BufferedReader br = new BufferedReader(r)) {
+            Assertions.assertTrue(br.readLine().startsWith("     3.0"));
+        }
+
+        // both stages should stop once the consumer has been closed
+        executor.shutdown();
+        Assertions.assertTrue(executor.awaitTermination(10, TimeUnit.SECONDS));
+
+    }
+
+    @Test
+    public void testWrongParameters() {
+        try {
+            new PipelinedFilter(new GzipFilter(), executor, 0, 1);
+            Assertions.fail("an exception should have been thrown");
+        } catch (OrekitException oe) {
+            Assertions.assertEquals(OrekitMessages.NOT_STRICTLY_POSITIVE, oe.getSpecifier());
+            Assertions.assertEquals(0, oe.getParts()[0]);
+        }
+        try {
+            new PipelinedFilter(new GzipFilter(), executor, 1, -1);
+            Assertions.fail("an exception should have been thrown");
+        } catch (OrekitException oe) {
+            Assertions.assertEquals(OrekitMessages.NOT_STRICTLY_POSITIVE, oe.getSpecifier());
+            Assertions.assertEquals(-1, oe.getParts()[0]);
+        }
+    }
+
+    private void checkSameParsing(final String name, final DataFilter decompression,
+                                  final int chunkSize, final int capacity)
+        throws IOException {
+
+        final FiltersManager sequential = new FiltersManager();
+        sequential.addFilter(decompression);
+        sequential.addFilter(new HatanakaCompressFilter());
+
+        final FiltersManager pipelined = new FiltersManager();
+        pipelined.addFilter(new PipelinedFilter(decompression, executor, chunkSize, capacity));
+        pipelined.addFilter(new PipelinedFilter(new HatanakaCompressFilter(), executor, chunkSize, capacity));
+
+        final RinexObservationParser parser    = new RinexObservationParser();
+        final RinexObservation       reference = parser.parse(sequential.applyRelevantFilters(raw(name)));
+        final RinexObservation       parsed    = parser.parse(pipelined.applyRelevantFilters(raw(name)));
+
+        Assertions.assertEquals(reference.getHeader().getMarkerName(), parsed.getHeader().getMarkerName());
+        final List<ObservationDataSet> expected = reference.getObservationDataSets();
+        final List<ObservationDataSet> actual   = parsed.getObservationDataSets();
+        Assertions.assertEquals(expected.size(), actual.size());
+        for (int i = 0; i < expected.size(); ++i) {
+            Assertions.assertEquals(expected.get(i).getSatellite(), actual.get(i).getSatellite());
+            Assertions.assertEquals(0.0, actual.get(i).getDate().durationFrom(expected.get(i).getDate()), 1.0e-15);
+            final List<ObservationData> e = expected.get(i).getObservationData();
+            final List<ObservationData> a = actual.get(i).getObservationData();
+            Assertions.assertEquals(e.size(), a.size());
+            for (int j = 0; j < e.size(); ++j) {
+                Assertions.assertEquals(e.get(j).getObservationType(), a.get(j).getObservationType());
+                Assertions.assertEquals(Double.doubleToRawLongBits(e.get(j).getValue()),
+                                        Double.doubleToRawLongBits(a.get(j).getValue()));
+            }
+        }
+
+    }
+
+    private byte[] readAll(final InputStream is) throws IOException {
+        try (InputStream in = is) {
+            final ByteArrayOutputStream bos = new ByteArrayOutputStream();
+            final byte[] buffer = new byte[4096];
+            for (int n = in.read(buffer); n >= 0; n = in.read(buffer)) {
+                bos.write(buffer, 0, n);
+            }
+            return bos.toByteArray();
+        }
+    }
+
+    private DataSource raw(final String name) {
+        return new DataSource(name.substring(name.indexOf('/') + 1),
+                              () -> Utils.class.getClassLoader().getResourceAsStream(name));
+    }
+
+}
@@ -32,7 +32,7 @@ public class OrekitMessagesTest {
 
     @Test
     public void testMessageNumber() {
-        Assertions.assertEquals(316, OrekitMessages.values().length);
+        Assertions.assertEquals(317, OrekitMessages.values().length);
     }
 
     @Test
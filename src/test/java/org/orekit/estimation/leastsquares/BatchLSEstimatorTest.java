@@ -18,9 +18,16 @@ package org.orekit.estimation.leastsquares;
 
 import org.hipparchus.exception.LocalizedCoreFormats;
 import org.hipparchus.geometry.euclidean.threed.Vector3D;
+import org.hipparchus.linear.MatrixUtils;
 import org.hipparchus.linear.RealMatrix;
+import org.hipparchus.optim.nonlinear.vector.leastsquares.GaussNewtonOptimizer;
+import org.hipparchus.optim.nonlinear.vector.leastsquares.LeastSquaresBuilder;
+import org.hipparchus.optim.nonlinear.vector.leastsquares.LeastSquaresOptimizer;
+import org.hipparchus.optim.nonlinear.vector.leastsquares.LeastSquaresOptimizer.Optimum;
+import org.hipparchus.optim.nonlinear.vector.leastsquares.LeastSquaresProblem;
 import org.hipparchus.optim.nonlinear.vector.leastsquares.LeastSquaresProblem.Evaluation;
 import org.hipparchus.optim.nonlinear.vector.leastsquares.LevenbergMarquardtOptimizer;
+import org.hipparchus.util.Pair;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 import org.orekit.attitudes.LofOffset;
@@ -34,6 +41,7 @@ import org.orekit.estimation.measurements.EstimationsProvider;
 import org.orekit.estimation.measurements.GroundStation;
 import org.orekit.estimation.measurements.InterSatellitesRangeMeasurementCreator;
 import org.orekit.estimation.measurements.MultiplexedMeasurement;
+import org.orekit.estimation.measurements.ObservableSatellite;
 import org.orekit.estimation.measurements.ObservedMeasurement;
 import org.orekit.estimation.measurements.PVMeasurementCreator;
 import org.orekit.estimation.measurements.Range;
@@ -63,6 +71,8 @@ import org.orekit.utils.TimeStampedPVCoordinates;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.stream.IntStream;
 
 class BatchLSEstimatorTest {
@@ -1019,6 +1029,215 @@ class BatchLSEstimatorTest {
                                      0.0, 5.1e-7);
     }
 
+    /**
+     * Perfect range measurements with a biased start, evaluated in parallel
+     */
+    @Test
+    void testParallelMeasurementsEvaluation() {
+
+        // batch sizes not dividing the number of measurements, so final flush is exercised
+        final Optimum serial = fitRanges(null, 0, 0);
+        final ExecutorService executorService = Executors.newFixedThreadPool(4);
+        try {
+            for (final int batchSize : new int[] { 1, 7, 1000 }) {
+                final Optimum parallel = fitRanges(executorService, 4, batchSize);
+                Assertions.assertEquals(serial.getIterations(),  parallel.getIterations());
+                Assertions.assertEquals(serial.getEvaluations(), parallel.getEvaluations());
+                Assertions.assertEquals(serial.getRMS(),         parallel.getRMS(), 0.0);
+                Assertions.assertArrayEquals(serial.getPoint().toArray(), parallel.getPoint().toArray(), 0.0);
+                final RealMatrix sJ = serial.getJacobian();
+                final RealMatrix pJ = parallel.getJacobian();
+                for (int i = 0; i < sJ.getRowDimension(); ++i) {
+                    Assertions.assertArrayEquals(sJ.getRow(i), pJ.getRow(i), 0.0);
+                }
+            }
+        } finally {
+            executorService.shutdownNow();
+        }
+
+    }
+
+    @Test
+    void testParallelMeasurementsEvaluationWrongSettings() {
+        Context context = EstimationTestUtils.eccentricContext("regular-data:potential:tides");
+        final NumericalPropagatorBuilder propagatorBuilder =
+                        context.createBuilder(OrbitType.KEPLERIAN, PositionAngleType.TRUE, true,
+                                              1.0e-6, 60.0, 1.0);
+        final BatchLSEstimator estimator = new BatchLSEstimator(new LevenbergMarquardtOptimizer(),
+                                                                propagatorBuilder);
+        final ExecutorService executorService = Executors.newSingleThreadExecutor();
+        try {
+            estimator.setParallelMeasurementsEvaluation(executorService, 0, 10);
+            Assertions.fail("an exception should have been thrown");
+        } catch (OrekitException oe) {
+            Assertions.assertEquals(OrekitMessages.NOT_STRICTLY_POSITIVE, oe.getSpecifier());
+            Assertions.assertEquals(0, oe.getParts()[0]);
+        }
+        try {
+            estimator.setParallelMeasurementsEvaluation(executorService, 2, -1);
+            Assertions.fail("an exception should have been thrown");
+        } catch (OrekitException oe) {
+            Assertions.assertEquals(OrekitMessages.NOT_STRICTLY_POSITIVE, oe.getSpecifier());
+            Assertions.assertEquals(-1, oe.getParts()[0]);
+        } finally {
+            executorService.shutdownNow();
+        }
+        // settings are ignored when reverting to serial evaluation
+        estimator.setParallelMeasurementsEvaluation(null, 0, 0);
+    }
+
+    /**
+     * Two independent satellites sharing an estimated station position
+     */
+    @Test
+    void testBlockSparseGaussNewton() {
+
+        final BatchLSEstimator dense  = fitTwoSatellites(new GaussNewtonOptimizer());
+        final BatchLSEstimator sparse = fitTwoSatellites(new BlockSparseGaussNewtonOptimizer());
+
+        final Optimum denseOptimum  = dense.getOptimum();
+        final Optimum sparseOptimum = sparse.getOptimum();
+        Assertions.assertEquals(denseOptimum.getIterations(), sparseOptimum.getIterations());
+        Assertions.assertEquals(denseOptimum.getRMS(), sparseOptimum.getRMS(), 1.0e-10);
+        Assertions.assertEquals(0.0,
+                                denseOptimum.getPoint().subtract(sparseOptimum.getPoint()).getLInfNorm(),
+                                1.0e-8);
+
+        final RealMatrix denseCovariances  = dense.getPhysicalCovariances(1.0e-10);
+        final RealMatrix sparseCovariances = sparse.getPhysicalCovariances(1.0e-10);
+        Assertions.assertEquals(0.0,
+                                denseCovariances.subtract(sparseCovariances).getNorm1(),
+                                1.0e-6 * denseCovariances.getNorm1());
+
+        // Jacobian is never allocated in block-sparse mode
+        try {
+            sparseOptimum.getJacobian();
+            Assertions.fail("an exception should have been thrown");
+        } catch (OrekitException oe) {
+            Assertions.assertEquals(LocalizedCoreFormats.UNSUPPORTED_OPERATION, oe.getSpecifier());
+        }
+
+    }
+
+    @Test
+    void testBlockSparseGaussNewtonForeignProblem() {
+        final LeastSquaresProblem problem =
+                        new LeastSquaresBuilder().
+                        model(point -> new Pair<>(point, MatrixUtils.createRealIdentityMatrix(point.getDimension()))).
+                        target(new double[] { 1.0, 2.0 }).
+                        start(new double[] { 0.0, 0.0 }).
+                        checker((iteration, previous, current) -> true).
+                        maxEvaluations(10).
+                        maxIterations(10).
+                        build();
+        try {
+            new BlockSparseGaussNewtonOptimizer().optimize(problem);
+            Assertions.fail("an exception should have been thrown");
+        } catch (OrekitException oe) {
+            Assertions.assertEquals(LocalizedCoreFormats.UNSUPPORTED_OPERATION, oe.getSpecifier());
+        }
+    }
+
+    private BatchLSEstimator fitTwoSatellites(final LeastSquaresOptimizer optimizer) {
+
+        Context context = EstimationTestUtils.eccentricContext("regular-data:potential:tides");
+
+        final NumericalPropagatorBuilder propagatorBuilder1 =
+                        context.createBuilder(OrbitType.KEPLERIAN, PositionAngleType.TRUE, true,
+                                              1.0e-6, 60.0, 1.0e-3);
+        final NumericalPropagatorBuilder propagatorBuilder2 =
+                        context.createBuilder(OrbitType.KEPLERIAN, PositionAngleType.TRUE, true,
+                                              1.0e-6, 60.0, 1.0e-3);
+
+        // second satellite on a close orbit
+        final TimeStampedPVCoordinates original = context.initialOrbit.getPVCoordinates();
+        final Orbit closeOrbit = new CartesianOrbit(new TimeStampedPVCoordinates(context.initialOrbit.getDate(),
+                                                                                 original.getPosition().add(new Vector3D(1000, 2000, 3000)),
+                                                                                 original.getVelocity().add(new Vector3D(-0.03, 0.01, 0.02))),
+                                                    context.initialOrbit.getFrame(),
+                                                    context.initialOrbit.getMu());
+        propagatorBuilder2.resetOrbit(closeOrbit);
+
+        // create perfect range measurements for both satellites
+        final List<ObservedMeasurement<?>> r1 =
+                        EstimationTestUtils.createMeasurements(EstimationTestUtils.createPropagator(context.initialOrbit,
+                                                                                                    propagatorBuilder1),
+                                                               new TwoWayRangeMeasurementCreator(context),
+                                                               1.0, 3.0, 300.0);
+        final List<ObservedMeasurement<?>> r2 = new ArrayList<>();
+        final ObservableSatellite satellite2 = new ObservableSatellite(1);
+        for (final ObservedMeasurement<?> m : EstimationTestUtils.createMeasurements(EstimationTestUtils.createPropagator(closeOrbit,
+                                                                                                                          propagatorBuilder2),
+                                                                                     new TwoWayRangeMeasurementCreator(context),
+                                                                                     1.0, 3.0, 300.0)) {
+            final Range range = (Range) m;
+            r2.add(new Range(range.getStation(), range.isTwoWay(), range.getDate(),
+                             range.getObservedValue()[0], range.getTheoreticalStandardDeviation()[0],
+                             range.getBaseWeight()[0], satellite2));
+        }
+
+        // the position of one station is shared by both satellites
+        final GroundStation station = context.stations.get(0);
+        station.getEastOffsetDriver().setSelected(true);
+        station.getNorthOffsetDriver().setSelected(true);
+
+        // create orbit estimator
+        final BatchLSEstimator estimator = new BatchLSEstimator(optimizer,
+                                                                propagatorBuilder1,
+                                                                propagatorBuilder2);
+        r1.forEach(estimator::addMeasurement);
+        r2.forEach(estimator::addMeasurement);
+        estimator.setParametersConvergenceThreshold(1.0e-3);
+        estimator.setMaxIterations(10);
+        estimator.setMaxEvaluations(20);
+
+        // biased start
+        final ParameterDriver aDriver = estimator.getOrbitalParametersDrivers(true).getDrivers().get(0);
+        aDriver.setValue(aDriver.getValue() + 1.2);
+        station.getEastOffsetDriver().setValue(0.5);
+
+        estimator.estimate();
+        Assertions.assertEquals(0.0, station.getEastOffsetDriver().getValue(), 1.0e-3);
+        Assertions.assertEquals(0.0, station.getNorthOffsetDriver().getValue(), 1.0e-3);
+
+        return estimator;
+
+    }
+
+    private Optimum fitRanges(final ExecutorService executorService, final int maxWorkers, final int batchSize) {
+
+        Context context = EstimationTestUtils.eccentricContext("regular-data:potential:tides");
+
+        final NumericalPropagatorBuilder propagatorBuilder =
+                        context.createBuilder(OrbitType.KEPLERIAN, PositionAngleType.TRUE, true,
+                                              1.0e-6, 60.0, 1.0);
+
+        // create perfect range measurements
+        final Propagator propagator = EstimationTestUtils.createPropagator(context.initialOrbit,
+                                                                           propagatorBuilder);
+        final List<ObservedMeasurement<?>> measurements =
+                        EstimationTestUtils.createMeasurements(propagator,
+                                                               new TwoWayRangeMeasurementCreator(context),
+                                                               1.0, 3.0, 300.0);
+
+        // create orbit estimator
+        final BatchLSEstimator estimator = new BatchLSEstimator(new LevenbergMarquardtOptimizer(),
+                                                                propagatorBuilder);
+        measurements.forEach(estimator::addMeasurement);
+        estimator.setParametersConvergenceThreshold(1.0e-2);
+        estimator.setMaxIterations(10);
+        estimator.setMaxEvaluations(20);
+        estimator.setParallelMeasurementsEvaluation(executorService, maxWorkers, batchSize);
+
+        ParameterDriver aDriver = estimator.getOrbitalParametersDrivers(true).getDrivers().get(0);
+        aDriver.setValue(aDriver.getValue() + 1.2);
+
+        estimator.estimate();
+        Assertions.assertEquals(measurements.size(), estimator.getLastEstimations().size());
+        return estimator.getOptimum();
+
+    }
+
     /**
      * Perfect range and range rate measurements with a perfect start
      */
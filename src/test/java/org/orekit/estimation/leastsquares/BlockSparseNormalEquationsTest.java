@@ -0,0 +1,153 @@
+/* Copyright 2002-2025 CS GROUP
+ * Licensed to CS GROUP (CS) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * CS licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.orekit.estimation.leastsquares;
+
+import org.hipparchus.linear.Array2DRowRealMatrix;
+import org.hipparchus.linear.ArrayRealVector;
+import org.hipparchus.linear.QRDecomposition;
+import org.hipparchus.linear.RealMatrix;
+import org.hipparchus.linear.RealVector;
+import org.hipparchus.random.RandomGenerator;
+import org.hipparchus.random.Well19937a;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.orekit.errors.OrekitInternalError;
+
+class BlockSparseNormalEquationsTest {
+
+    @Test
+    void testArrowStructure() {
+        // columns: 3 for block 0, 2 global, 4 for block 1, 1 global
+        final int[] blocks = { 0, 0, 0, -1, -1, 1, 1, 1, 1, -1 };
+        doTestRandom(blocks, 2, 3, 0x1f2d3a4b5c6d7e8fL);
+    }
+
+    @Test
+    void testNoGlobal() {
+        final int[] blocks = { 1, 0, 1, 0, 2, 2 };
+        doTestRandom(blocks, 3, 2, 0x3a4b5c6d7e8f9a0bL);
+    }
+
+    @Test
+    void testGlobalOnly() {
+        final int[] blocks = { -1, -1, -1, -1 };
+        doTestRandom(blocks, 0, 2, 0x5c6d7e8f9a0b1c2dL);
+    }
+
+    @Test
+    void testClear() {
+        final int[] blocks = { 0, 0, -1 };
+        final BlockSparseNormalEquations normal = new BlockSparseNormalEquations(blocks, 1, 1);
+        normal.setEntry(0, 0, 1.0);
+        normal.setEntry(0, 1, 2.0);
+        normal.setEntry(0, 2, 3.0);
+        normal.accumulateMeasurement(new double[] { 1.0 });
+        Assertions.assertEquals(4.0, normal.getNormalMatrix().getEntry(1, 1), 1.0e-15);
+        normal.clear();
+        Assertions.assertEquals(0.0, normal.getNormalMatrix().getNorm1(), 1.0e-15);
+    }
+
+    @Test
+    void testSnapshot() {
+        final int[] blocks = { 0, 0, -1 };
+        final BlockSparseNormalEquations normal = new BlockSparseNormalEquations(blocks, 1, 1);
+        normal.setEntry(0, 0, 1.0);
+        normal.setEntry(0, 1, 2.0);
+        normal.setEntry(0, 2, 3.0);
+        normal.accumulateMeasurement(new double[] { 1.0 });
+        normal.setEntry(0, 0, 4.0);
+        normal.setEntry(0, 1, 1.0);
+        normal.setEntry(0, 2, 2.0);
+        normal.accumulateMeasurement(new double[] { 2.0 });
+        normal.setEntry(0, 0, 1.0);
+        normal.setEntry(0, 1, 1.0);
+        normal.setEntry(0, 2, 5.0);
+        normal.accumulateMeasurement(new double[] { 3.0 });
+        final RealMatrix matrix   = normal.getNormalMatrix();
+        final RealVector solution = normal.solve();
+
+        // the snapshot is not affected by changes in the original normal equations
+        final BlockSparseNormalEquations snapshot = normal.snapshot();
+        Assertions.assertEquals(normal.getSumOfSquares(), snapshot.getSumOfSquares(), 0.0);
+        Assertions.assertEquals(normal.getNbRows(),       snapshot.getNbRows());
+        normal.clear();
+        Assertions.assertEquals(0.0, snapshot.getNormalMatrix().subtract(matrix).getNorm1(), 0.0);
+        Assertions.assertEquals(0.0, snapshot.solve().subtract(solution).getLInfNorm(), 0.0);
+        Assertions.assertEquals(0.0, normal.getNormalMatrix().getNorm1(), 1.0e-15);
+    }
+
+    @Test
+    void testInconsistentBlocks() {
+        final int[] blocks = { 0, 1 };
+        final BlockSparseNormalEquations normal = new BlockSparseNormalEquations(blocks, 2, 1);
+        normal.setEntry(0, 0, 1.0);
+        normal.setEntry(0, 1, 1.0);
+        Assertions.assertThrows(OrekitInternalError.class,
+                                () -> normal.accumulateMeasurement(new double[] { 1.0 }));
+    }
+
+    private void doTestRandom(final int[] blocks, final int nbBlocks, final int maxDimension, final long seed) {
+
+        final RandomGenerator random = new Well19937a(seed);
+        final int n = blocks.length;
+        final BlockSparseNormalEquations normal = new BlockSparseNormalEquations(blocks, nbBlocks, maxDimension);
+        Assertions.assertEquals(nbBlocks, normal.getNbBlocks());
+
+        // reference dense normal equations
+        final RealMatrix jTj = new Array2DRowRealMatrix(n, n);
+        final RealVector jTr = new ArrayRealVector(n);
+
+        for (int m = 0; m < 500; ++m) {
+
+            // each measurement sees global parameters and one block only
+            final int      block     = nbBlocks == 0 ? -1 : random.nextInt(nbBlocks);
+            final int      dimension = 1 + random.nextInt(maxDimension);
+            final double[] residuals = new double[dimension];
+            final double[][] rows    = new double[dimension][n];
+            for (int i = 0; i < dimension; ++i) {
+                residuals[i] = random.nextGaussian();
+                for (int j = 0; j < n; ++j) {
+                    if (blocks[j] == -1 || blocks[j] == block) {
+                        // split some entries in two parts to check accumulation within a row
+                        final double v = random.nextGaussian();
+                        normal.setEntry(i, j, 0.25 * v);
+                        normal.addToEntry(i, j, 0.75 * v);
+                        rows[i][j] = v;
+                    }
+                }
+            }
+            normal.accumulateMeasurement(residuals);
+
+            final RealMatrix jm = new Array2DRowRealMatrix(rows, false);
+            jTj.setSubMatrix(jTj.add(jm.transposeMultiply(jm)).getData(), 0, 0);
+            jTr.setSubVector(0, jTr.add(jm.preMultiply(new ArrayRealVector(residuals))));
+
+        }
+
+        final RealMatrix assembled = normal.getNormalMatrix();
+        Assertions.assertEquals(0.0, assembled.subtract(jTj).getNorm1(), 1.0e-10 * jTj.getNorm1());
+
+        final RealVector reference = new QRDecomposition(jTj).getSolver().solve(jTr);
+        final RealVector solution  = normal.solve();
+        Assertions.assertEquals(0.0, solution.subtract(reference).getLInfNorm(), 1.0e-12 * reference.getLInfNorm());
+
+        // normal equations are preserved by solving
+        Assertions.assertEquals(0.0, normal.solve().subtract(solution).getLInfNorm(), 0.0);
+
+    }
+
+}
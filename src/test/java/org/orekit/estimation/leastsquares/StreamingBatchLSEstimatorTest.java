@@ -0,0 +1,220 @@
+/* Copyright 2002-2025 CS GROUP
+ * Licensed to CS GROUP (CS) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * CS licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.orekit.estimation.leastsquares;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+
+import org.hipparchus.exception.LocalizedCoreFormats;
+import org.hipparchus.linear.ArrayRealVector;
+import org.hipparchus.linear.MatrixUtils;
+import org.hipparchus.linear.RealMatrix;
+import org.hipparchus.linear.RealVector;
+import org.hipparchus.optim.nonlinear.vector.leastsquares.GaussNewtonOptimizer;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.orekit.errors.OrekitException;
+import org.orekit.errors.OrekitMessages;
+import org.orekit.estimation.Context;
+import org.orekit.estimation.EstimationTestUtils;
+import org.orekit.estimation.measurements.ObservedMeasurement;
+import org.orekit.estimation.measurements.Range;
+import org.orekit.estimation.measurements.TwoWayRangeMeasurementCreator;
+import org.orekit.estimation.measurements.modifiers.OutlierFilter;
+import org.orekit.orbits.Orbit;
+import org.orekit.orbits.OrbitType;
+import org.orekit.orbits.PositionAngleType;
+import org.orekit.propagation.Propagator;
+import org.orekit.propagation.conversion.NumericalPropagatorBuilder;
+import org.orekit.utils.ParameterDriver;
+import org.orekit.utils.ParameterDriversList.DelegatingDriver;
+
+class StreamingBatchLSEstimatorTest {
+
+    @Test
+    void testSameAsBatch() {
+
+        final Context context = EstimationTestUtils.eccentricContext("regular-data:potential:tides");
+        final List<ObservedMeasurement<?>> measurements = createRanges(context);
+
+        // reference: regular batch least squares
+        final NumericalPropagatorBuilder batchBuilder = createBuilder(context);
+        final BatchLSEstimator batch = new BatchLSEstimator(new GaussNewtonOptimizer(), batchBuilder);
+        measurements.forEach(batch::addMeasurement);
+        batch.setParametersConvergenceThreshold(1.0e-3);
+        batch.setMaxIterations(10);
+        batch.setMaxEvaluations(20);
+        bias(batch.getOrbitalParametersDrivers(true).getDrivers().get(0));
+        final Orbit batchOrbit = batch.estimate()[0].getInitialState().getOrbit();
+
+        // streaming estimation
+        final NumericalPropagatorBuilder streamingBuilder = createBuilder(context);
+        final CountingSource source = new CountingSource(measurements);
+        final StreamingBatchLSEstimator streaming = new StreamingBatchLSEstimator(source, streamingBuilder);
+        streaming.setParametersConvergenceThreshold(1.0e-3);
+        streaming.setMaxIterations(10);
+        bias(streaming.getOrbitalParametersDrivers(true).getDrivers().get(0));
+        final Orbit streamingOrbit = streaming.estimate()[0].getInitialState().getOrbit();
+
+        // one preliminary pass, then one pass per iteration
+        Assertions.assertEquals(streaming.getIterationsCount() + 1, source.passes);
+        Assertions.assertEquals(measurements.size(), streaming.getUsedMeasurementsCount());
+        Assertions.assertEquals(0, streaming.getRejectedMeasurementsCount());
+        Assertions.assertTrue(streaming.getRMS() < 1.0e-2);
+
+        Assertions.assertEquals(0.0,
+                                batchOrbit.getPosition().distance(streamingOrbit.getPosition()),
+                                1.0e-3);
+        Assertions.assertEquals(0.0,
+                                context.initialOrbit.getPosition().distance(streamingOrbit.getPosition()),
+                                1.0e-2);
+
+        final RealMatrix batchCovariances     = batch.getPhysicalCovariances(1.0e-10);
+        final RealMatrix streamingCovariances = streaming.getPhysicalCovariances(1.0e-10);
+        Assertions.assertEquals(0.0,
+                                batchCovariances.subtract(streamingCovariances).getNorm1(),
+                                1.0e-5 * batchCovariances.getNorm1());
+
+    }
+
+    @Test
+    void testOutlier() {
+
+        final Context context = EstimationTestUtils.eccentricContext("regular-data:potential:tides");
+        final List<ObservedMeasurement<?>> measurements = new ArrayList<>();
+        final int corruptedIndex = 10;
+        int index = 0;
+        for (final ObservedMeasurement<?> m : createRanges(context)) {
+            final Range range = (Range) m;
+            final double offset = index++ == corruptedIndex ? 1000.0 : 0.0;
+            final Range copy = new Range(range.getStation(), range.isTwoWay(), range.getDate(),
+                                         range.getObservedValue()[0] + offset,
+                                         range.getTheoreticalStandardDeviation()[0],
+                                         range.getBaseWeight()[0], range.getSatellites().get(0));
+            copy.addModifier(new OutlierFilter<>(1, 50.0));
+            measurements.add(copy);
+        }
+
+        final StreamingBatchLSEstimator streaming =
+                        new StreamingBatchLSEstimator(new CountingSource(measurements), createBuilder(context));
+        streaming.setParametersConvergenceThreshold(1.0e-3);
+        streaming.setMaxIterations(10);
+        final Orbit orbit = streaming.estimate()[0].getInitialState().getOrbit();
+
+        Assertions.assertEquals(measurements.size() - 1, streaming.getUsedMeasurementsCount());
+        Assertions.assertEquals(1, streaming.getRejectedMeasurementsCount());
+        Assertions.assertEquals(0.0, context.initialOrbit.getPosition().distance(orbit.getPosition()), 1.0e-2);
+
+    }
+
+    @Test
+    void testAPriori() {
+
+        final Context context = EstimationTestUtils.eccentricContext("regular-data:potential:tides");
+        final StreamingBatchLSEstimator streaming =
+                        new StreamingBatchLSEstimator(new CountingSource(createRanges(context)), createBuilder(context));
+
+        // very tight a priori on a biased state
+        final List<DelegatingDriver> drivers = streaming.getOrbitalParametersDrivers(true).getDrivers();
+        bias(drivers.get(0));
+        final RealVector aPriori = new ArrayRealVector(drivers.size());
+        for (int i = 0; i < drivers.size(); ++i) {
+            aPriori.setEntry(i, drivers.get(i).getNormalizedValue(null));
+        }
+        streaming.setAPrioriData(aPriori, MatrixUtils.createRealIdentityMatrix(drivers.size()).scalarMultiply(1.0e-12));
+        streaming.estimate();
+        Assertions.assertEquals(context.initialOrbit.getA() + 1.2, drivers.get(0).getValue(), 1.0e-4);
+
+        // wrong dimension
+        streaming.setAPrioriData(new ArrayRealVector(2), MatrixUtils.createRealIdentityMatrix(2));
+        try {
+            streaming.estimate();
+            Assertions.fail("an exception should have been thrown");
+        } catch (OrekitException oe) {
+            Assertions.assertEquals(LocalizedCoreFormats.DIMENSIONS_MISMATCH, oe.getSpecifier());
+        }
+
+    }
+
+    @Test
+    void testNonChronological() {
+        final Context context = EstimationTestUtils.eccentricContext("regular-data:potential:tides");
+        final List<ObservedMeasurement<?>> measurements = createRanges(context);
+        Collections.swap(measurements, 3, 4);
+        final StreamingBatchLSEstimator streaming =
+                        new StreamingBatchLSEstimator(new CountingSource(measurements), createBuilder(context));
+        try {
+            streaming.estimate();
+            Assertions.fail("an exception should have been thrown");
+        } catch (OrekitException oe) {
+            Assertions.assertEquals(OrekitMessages.NON_CHRONOLOGICAL_DATES_FOR_OBSERVATIONS, oe.getSpecifier());
+        }
+    }
+
+    @Test
+    void testNoMeasurements() {
+        final Context context = EstimationTestUtils.eccentricContext("regular-data:potential:tides");
+        final StreamingBatchLSEstimator streaming =
+                        new StreamingBatchLSEstimator(new CountingSource(Collections.emptyList()), createBuilder(context));
+        try {
+            streaming.estimate();
+            Assertions.fail("an exception should have been thrown");
+        } catch (OrekitException oe) {
+            Assertions.assertEquals(LocalizedCoreFormats.NO_DATA, oe.getSpecifier());
+        }
+    }
+
+    private NumericalPropagatorBuilder createBuilder(final Context context) {
+        return context.createBuilder(OrbitType.KEPLERIAN, PositionAngleType.TRUE, true,
+                                     1.0e-6, 60.0, 1.0);
+    }
+
+    private List<ObservedMeasurement<?>> createRanges(final Context context) {
+        final Propagator propagator = EstimationTestUtils.createPropagator(context.initialOrbit,
+                                                                           createBuilder(context));
+        return EstimationTestUtils.createMeasurements(propagator,
+                                                      new TwoWayRangeMeasurementCreator(context),
+                                                      1.0, 3.0, 300.0);
+    }
+
+    private void bias(final ParameterDriver aDriver) {
+        Assertions.assertEquals("a", aDriver.getName());
+        aDriver.setValue(aDriver.getValue() + 1.2);
+    }
+
+    /** Measurements source counting the passes. */
+    private static class CountingSource implements Iterable<ObservedMeasurement<?>> {
+
+        private final List<ObservedMeasurement<?>> measurements;
+        private int passes;
+
+        CountingSource(final List<ObservedMeasurement<?>> measurements) {
+            this.measurements = measurements;
+            this.passes       = 0;
+        }
+
+        @Override
+        public Iterator<ObservedMeasurement<?>> iterator() {
+            ++passes;
+            return measurements.iterator();
+        }
+
+    }
+
+}
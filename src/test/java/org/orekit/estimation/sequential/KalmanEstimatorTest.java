@@ -25,6 +25,7 @@ import java.util.List;
 import org.hipparchus.geometry.euclidean.threed.Vector3D;
 import org.hipparchus.linear.MatrixUtils;
 import org.hipparchus.linear.RealMatrix;
+import org.hipparchus.util.FastMath;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 import org.orekit.attitudes.LofOffset;
@@ -1124,6 +1125,92 @@ class KalmanEstimatorTest {
                                            expectedSigmasVel, sigmaVelEps);
     }
 
+    @Test
+    void testSquareRootFilter() {
+
+        // Create context
+        Context context = EstimationTestUtils.eccentricContext("regular-data:potential:tides");
+
+        // Create perfect range and az/el measurements
+        final NumericalPropagatorBuilder measPropagatorBuilder =
+                        context.createBuilder(OrbitType.KEPLERIAN, PositionAngleType.TRUE, true,
+                                              1.e-6, 60., 1.);
+        final List<ObservedMeasurement<?>> measurements = new ArrayList<>();
+        measurements.addAll(EstimationTestUtils.createMeasurements(EstimationTestUtils.createPropagator(context.initialOrbit,
+                                                                                                        measPropagatorBuilder),
+                                                                   new TwoWayRangeMeasurementCreator(context),
+                                                                   0.0, 4.0, 300.0));
+        measurements.addAll(EstimationTestUtils.createMeasurements(EstimationTestUtils.createPropagator(context.initialOrbit,
+                                                                                                        measPropagatorBuilder),
+                                                                   new AngularAzElMeasurementCreator(context),
+                                                                   0.0, 4.0, 500.0));
+        measurements.sort(Comparator.naturalOrder());
+
+        final KalmanEstimation[] estimations = new KalmanEstimation[2];
+        final KalmanEstimator regular    = filterRangeAndAzEl(context, measurements, false,
+                                                              estimation -> estimations[0] = estimation);
+        final KalmanEstimator squareRoot = filterRangeAndAzEl(context, measurements, true,
+                                                              estimation -> estimations[1] = estimation);
+
+        // both filters are mathematically equivalent
+        final RealMatrix regularP    = regular.getPhysicalEstimatedCovarianceMatrix();
+        final RealMatrix squareRootP = squareRoot.getPhysicalEstimatedCovarianceMatrix();
+        for (int i = 0; i < 6; ++i) {
+            Assertions.assertEquals(regular.getPhysicalEstimatedState().getEntry(i),
+                                    squareRoot.getPhysicalEstimatedState().getEntry(i),
+                                    1.0e-5 * FastMath.sqrt(regularP.getEntry(i, i)));
+            for (int j = 0; j < 6; ++j) {
+                final double sigmaIJ = FastMath.sqrt(regularP.getEntry(i, i) * regularP.getEntry(j, j));
+                Assertions.assertEquals(regularP.getEntry(i, j), squareRootP.getEntry(i, j), 1.0e-6 * sigmaIJ);
+            }
+        }
+
+        // intermediate matrices are available
+        final RealMatrix regularK    = estimations[0].getPhysicalKalmanGain();
+        final RealMatrix squareRootK = estimations[1].getPhysicalKalmanGain();
+        Assertions.assertEquals(0.0, regularK.subtract(squareRootK).getNorm1(), 1.0e-6 * regularK.getNorm1());
+        final RealMatrix regularS    = estimations[0].getPhysicalInnovationCovarianceMatrix();
+        final RealMatrix squareRootS = estimations[1].getPhysicalInnovationCovarianceMatrix();
+        Assertions.assertEquals(0.0, regularS.subtract(squareRootS).getNorm1(), 1.0e-6 * regularS.getNorm1());
+
+    }
+
+    /** Filter range and az/el measurements starting from a biased orbit.
+     * @param context context
+     * @param measurements measurements to filter
+     * @param squareRoot if true, use a square-root filter
+     * @param observer observer for the filter
+     * @return Kalman estimator after processing all measurements
+     */
+    private KalmanEstimator filterRangeAndAzEl(final Context context, final List<ObservedMeasurement<?>> measurements,
+                                               final boolean squareRoot, final KalmanObserver observer) {
+
+        final NumericalPropagatorBuilder propagatorBuilder =
+                        context.createBuilder(OrbitType.KEPLERIAN, PositionAngleType.TRUE, false,
+                                              1.e-6, 60., 1.);
+
+        // Initial sigmas: 1000m on position, 0.01m/s on velocity
+        final Orbit initialOrbit = OrbitType.KEPLERIAN.convertType(context.initialOrbit);
+        final double[][] dYdC = new double[6][6];
+        initialOrbit.getJacobianWrtCartesian(PositionAngleType.TRUE, dYdC);
+        final RealMatrix Jac = MatrixUtils.createRealMatrix(dYdC);
+        final RealMatrix initialP = Jac.multiply(MatrixUtils.createRealDiagonalMatrix(new double [] {
+            1e6, 1e6, 1e6, 1e-4, 1e-4, 1e-4
+        }).multiplyTransposed(Jac));
+        final RealMatrix Q = Jac.multiply(MatrixUtils.createRealDiagonalMatrix(new double [] {
+            1.e-4, 1.e-4, 1.e-4, 1.e-10, 1.e-10, 1.e-10
+        }).multiplyTransposed(Jac));
+
+        final KalmanEstimator kalman = new KalmanEstimatorBuilder().
+                        addPropagationConfiguration(propagatorBuilder, new ConstantProcessNoise(initialP, Q)).
+                        squareRootFilter(squareRoot).
+                        build();
+        kalman.setObserver(observer);
+        kalman.processMeasurements(measurements);
+        return kalman;
+
+    }
+
     /**
      * Perfect range and range rate measurements with a perfect start
      */
@@ -0,0 +1,182 @@
+/* Copyright 2002-2025 CS GROUP
+ * Licensed to CS GROUP (CS) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * CS licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.orekit.estimation.sequential;
+
+import org.hipparchus.filtering.kalman.KalmanEstimate;
+import org.hipparchus.filtering.kalman.KalmanFilter;
+import org.hipparchus.filtering.kalman.KalmanObserver;
+import org.hipparchus.filtering.kalman.Measurement;
+import org.hipparchus.filtering.kalman.ProcessEstimate;
+import org.hipparchus.filtering.kalman.extended.ExtendedKalmanFilter;
+import org.hipparchus.filtering.kalman.extended.NonLinearEvolution;
+import org.hipparchus.filtering.kalman.extended.NonLinearProcess;
+import org.hipparchus.linear.CholeskyDecomposer;
+import org.hipparchus.linear.MatrixUtils;
+import org.hipparchus.linear.RealMatrix;
+import org.hipparchus.linear.RealVector;
+import org.hipparchus.util.FastMath;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class SquareRootExtendedKalmanFilterTest {
+
+    @Test
+    public void testSameAsExtendedFilter() {
+
+        final RealMatrix covariance = MatrixUtils.createRealMatrix(new double[][] {
+            { 1.0, 0.3 }, { 0.3, 2.0 }
+        });
+        final ProcessEstimate initial = new ProcessEstimate(0.0,
+                                                            MatrixUtils.createRealVector(new double[] { 1.0, 0.0, 0.5, -0.2 }),
+                                                            MatrixUtils.createRealDiagonalMatrix(new double[] { 4.0, 1.0, 4.0, 1.0 }));
+        final KalmanFilter<SimpleMeasurement> regular =
+                        new ExtendedKalmanFilter<>(new CholeskyDecomposer(1.0e-15, 1.0e-15), new PlanarProcess(-1.0), initial);
+        final KalmanFilter<SimpleMeasurement> squareRoot =
+                        new SquareRootExtendedKalmanFilter<>(new PlanarProcess(-1.0), initial);
+        final int[] updates = new int[1];
+        squareRoot.setObserver(new KalmanObserver() {
+            @Override
+            public void init(final KalmanEstimate estimate) {
+                Assertions.assertNull(estimate.getPredicted());
+                Assertions.assertEquals(0.0, estimate.getCorrected().getTime(), 0.0);
+            }
+            @Override
+            public void updatePerformed(final KalmanEstimate estimate) {
+                ++updates[0];
+            }
+        });
+
+        for (int i = 1; i <= 50; ++i) {
+            final double t = 0.5 * i;
+            final SimpleMeasurement m = new SimpleMeasurement(t, new double[] {
+                2.0 + 0.1 * t + 0.01 * FastMath.sin(t), 0.3 - 0.05 * t + 0.01 * FastMath.cos(3 * t)
+            }, covariance);
+            final ProcessEstimate r = regular.estimationStep(m);
+            final ProcessEstimate s = squareRoot.estimationStep(m);
+            checkClose(r.getState(), s.getState(), 1.0e-12);
+            checkClose(r.getCovariance(), s.getCovariance(), 1.0e-12);
+            checkClose(r.getKalmanGain(), s.getKalmanGain(), 1.0e-12);
+            checkClose(r.getInnovationCovariance(), s.getInnovationCovariance(), 1.0e-12);
+            checkClose(((KalmanEstimate) regular).getStateCrossCovariance(),
+                       ((KalmanEstimate) squareRoot).getStateCrossCovariance(), 1.0e-12);
+        }
+        Assertions.assertEquals(50, updates[0]);
+
+    }
+
+    @Test
+    public void testRejectedMeasurement() {
+
+        final ProcessEstimate initial = new ProcessEstimate(0.0,
+                                                            MatrixUtils.createRealVector(new double[] { 1.0, 0.0, 0.5, -0.2 }),
+                                                            MatrixUtils.createRealDiagonalMatrix(new double[] { 4.0, 1.0, 4.0, 1.0 }));
+        final KalmanFilter<SimpleMeasurement> squareRoot =
+                        new SquareRootExtendedKalmanFilter<>(new PlanarProcess(1.0), initial);
+
+        // measurement far away is rejected, corrected state is the predicted one
+        final ProcessEstimate s = squareRoot.estimationStep(new SimpleMeasurement(1.0, new double[] { 100.0, 100.0 },
+                                                                                  MatrixUtils.createRealIdentityMatrix(2)));
+        Assertions.assertSame(squareRoot.getPredicted(), s);
+        Assertions.assertEquals(1.0, s.getState().getEntry(0), 1.0e-15);
+        Assertions.assertEquals(0.3, s.getState().getEntry(2), 1.0e-15);
+        Assertions.assertEquals(5.0 + 1.0e-4 / 3, s.getCovariance().getEntry(0, 0), 1.0e-14);
+
+    }
+
+    private void checkClose(final RealVector expected, final RealVector actual, final double tolerance) {
+        Assertions.assertEquals(0.0, expected.subtract(actual).getLInfNorm(), tolerance * expected.getLInfNorm());
+    }
+
+    private void checkClose(final RealMatrix expected, final RealMatrix actual, final double tolerance) {
+        Assertions.assertEquals(0.0, expected.subtract(actual).getNorm1(), tolerance * expected.getNorm1());
+    }
+
+    /** Simple measurement with fixed covariance. */
+    private static class SimpleMeasurement implements Measurement {
+
+        private final double     time;
+        private final RealVector value;
+        private final RealMatrix covariance;
+
+        SimpleMeasurement(final double time, final double[] value, final RealMatrix covariance) {
+            this.time       = time;
+            this.value      = MatrixUtils.createRealVector(value);
+            this.covariance = covariance;
+        }
+
+        @Override
+        public double getTime() {
+            return time;
+        }
+
+        @Override
+        public RealVector getValue() {
+            return value;
+        }
+
+        @Override
+        public RealMatrix getCovariance() {
+            return covariance;
+        }
+
+    }
+
+    /** Planar constant velocity process (x, vx, y, vy), observing positions.
+     * If a rejection threshold is set, measurements with larger normalized innovation are rejected.
+     */
+    private static class PlanarProcess implements NonLinearProcess<SimpleMeasurement> {
+
+        private final double threshold;
+
+        PlanarProcess(final double threshold) {
+            this.threshold = threshold;
+        }
+
+        @Override
+        public NonLinearEvolution getEvolution(final double previousTime, final RealVector previousState,
+                                               final SimpleMeasurement measurement) {
+            final double dt = measurement.getTime() - previousTime;
+            final RealMatrix stm = MatrixUtils.createRealIdentityMatrix(4);
+            stm.setEntry(0, 1, dt);
+            stm.setEntry(2, 3, dt);
+            final RealMatrix q = MatrixUtils.createRealMatrix(new double[][] {
+                { dt * dt * dt / 3, dt * dt / 2, 0, 0 },
+                { dt * dt / 2,      dt,          0, 0 },
+                { 0, 0, dt * dt * dt / 3, dt * dt / 2 },
+                { 0, 0, dt * dt / 2,      dt }
+            }).scalarMultiply(1.0e-4);
+            final RealMatrix h = MatrixUtils.createRealMatrix(2, 4);
+            h.setEntry(0, 0, 1.0);
+            h.setEntry(1, 2, 1.0);
+            return new NonLinearEvolution(measurement.getTime(), stm.operate(previousState), stm, q, h);
+        }
+
+        @Override
+        public RealVector getInnovation(final SimpleMeasurement measurement, final NonLinearEvolution evolution,
+                                        final RealMatrix innovationCovarianceMatrix) {
+            final RealVector innovation =
+                            measurement.getValue().subtract(evolution.getMeasurementJacobian().operate(evolution.getCurrentState()));
+            if (threshold > 0 &&
+                FastMath.abs(innovation.getEntry(0)) > threshold * FastMath.sqrt(innovationCovarianceMatrix.getEntry(0, 0))) {
+                return null;
+            }
+            return innovation;
+        }
+
+    }
+
+}
@@ -19,6 +19,8 @@ package org.orekit.estimation.sequential;
 import java.util.Arrays;
 import java.util.Comparator;
 import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
 import org.hipparchus.geometry.euclidean.threed.Vector3D;
 import org.hipparchus.linear.MatrixUtils;
@@ -33,6 +35,7 @@ import org.orekit.errors.OrekitMessages;
 import org.orekit.estimation.*;
 import org.orekit.estimation.measurements.*;
 import org.orekit.estimation.measurements.modifiers.Bias;
+import org.orekit.forces.maneuvers.ConstantThrustManeuver;
 import org.orekit.frames.FramesFactory;
 import org.orekit.frames.TopocentricFrame;
 import org.orekit.orbits.CartesianOrbit;
@@ -553,6 +556,126 @@ public class UnscentedKalmanEstimatorTest {
         Assertions.assertNotNull(kalman.getPhysicalEstimatedState());
     }
 
+    @Test
+    public void testParallelSigmaPoints() {
+
+        // Create context
+        Context context = UnscentedEstimationTestUtils.eccentricContext("regular-data:potential:tides");
+
+        // Create perfect range measurements
+        final NumericalPropagatorBuilder referenceBuilder =
+                        context.createBuilder(OrbitType.CARTESIAN, PositionAngleType.TRUE, true,
+                                              1.e-6, 60., 1.);
+        final Propagator propagator = UnscentedEstimationTestUtils.createPropagator(context.initialOrbit,
+                                                                                   referenceBuilder);
+        final List<ObservedMeasurement<?>> measurements =
+                UnscentedEstimationTestUtils.createMeasurements(propagator,
+                                                               new TwoWayRangeMeasurementCreator(context),
+                                                               0.0, 1.0, 300.0);
+
+        final ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            final RealMatrix serial   = filterRanges(context, measurements, false, null, 1);
+            final RealMatrix parallel = filterRanges(context, measurements, false, executor, 4);
+
+            // parallel processing gathers results in sigma points order, so results are identical
+            for (int i = 0; i < serial.getRowDimension(); ++i) {
+                for (int j = 0; j < serial.getColumnDimension(); ++j) {
+                    Assertions.assertEquals(serial.getEntry(i, j), parallel.getEntry(i, j), 0.0);
+                }
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+    }
+
+    @Test
+    public void testParallelSigmaPointsWithManeuver() {
+
+        // Create context
+        Context context = UnscentedEstimationTestUtils.eccentricContext("regular-data:potential:tides");
+
+        // Create perfect range measurements
+        final NumericalPropagatorBuilder referenceBuilder =
+                        context.createBuilder(OrbitType.CARTESIAN, PositionAngleType.TRUE, true,
+                                              1.e-6, 60., 1.);
+        final Propagator propagator = UnscentedEstimationTestUtils.createPropagator(context.initialOrbit,
+                                                                                   referenceBuilder);
+        final List<ObservedMeasurement<?>> measurements =
+                UnscentedEstimationTestUtils.createMeasurements(propagator,
+                                                               new TwoWayRangeMeasurementCreator(context),
+                                                               0.0, 1.0, 300.0);
+
+        // maneuver triggers are not thread-safe, so we use only one worker, which still
+        // exercises the parallel code path where all propagators are built before propagating
+        final ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            final RealMatrix serial   = filterRanges(context, measurements, true, null, 1);
+            final RealMatrix parallel = filterRanges(context, measurements, true, executor, 1);
+
+            // mass changes during sigma points propagation must not leak from one sigma point to the next
+            for (int i = 0; i < serial.getRowDimension(); ++i) {
+                for (int j = 0; j < serial.getColumnDimension(); ++j) {
+                    Assertions.assertEquals(serial.getEntry(i, j), parallel.getEntry(i, j), 0.0);
+                }
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+    }
+
+    @Test
+    public void testParallelSigmaPointsWrongSettings() {
+        final ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            new UnscentedKalmanEstimatorBuilder().sigmaPointsExecutor(executor, 0);
+            Assertions.fail("an exception should have been thrown");
+        } catch (OrekitException oe) {
+            Assertions.assertEquals(OrekitMessages.NOT_STRICTLY_POSITIVE, oe.getSpecifier());
+            Assertions.assertEquals(0, oe.getParts()[0]);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    /** Filter range measurements starting from a shifted orbit.
+     * @param context context
+     * @param measurements measurements to filter
+     * @param withManeuver if true, a maneuver consuming mass is added to the propagator
+     * @param executor executor for sigma points processing (may be null)
+     * @param workers maximum number of workers
+     * @return state (first column) and covariance (remaining columns) after last measurement
+     */
+    private RealMatrix filterRanges(final Context context, final List<ObservedMeasurement<?>> measurements,
+                                    final boolean withManeuver, final ExecutorService executor, final int workers) {
+
+        final NumericalPropagatorBuilder propagatorBuilder =
+                        context.createBuilder(OrbitType.CARTESIAN, PositionAngleType.TRUE, false,
+                                              1.e-6, 60., 1.);
+        if (withManeuver) {
+            propagatorBuilder.addForceModel(new ConstantThrustManeuver(context.initialOrbit.getDate().shiftedBy(100.0),
+                                                                       10.0, 10.0, 100.0, Vector3D.PLUS_I));
+        }
+        final RealMatrix initialP = MatrixUtils.createRealDiagonalMatrix(new double[] {
+            1.0e2, 1.0e2, 1.0e2, 1.0e-2, 1.0e-2, 1.0e-2
+        });
+        final RealMatrix Q = MatrixUtils.createRealMatrix(6, 6);
+        final UnscentedKalmanEstimator kalman = new UnscentedKalmanEstimatorBuilder().
+                        addPropagationConfiguration(propagatorBuilder, new ConstantProcessNoise(initialP, Q)).
+                        unscentedTransformProvider(new MerweUnscentedTransform(6)).
+                        sigmaPointsExecutor(executor, workers).
+                        build();
+        kalman.processMeasurements(measurements);
+
+        final RealMatrix result = MatrixUtils.createRealMatrix(6, 7);
+        result.setColumnVector(0, kalman.getPhysicalEstimatedState());
+        result.setSubMatrix(kalman.getPhysicalEstimatedCovarianceMatrix().getData(), 0, 1);
+        return result;
+
+    }
+
     /**
      * Perfect Range measurements with a perfect start.
      */
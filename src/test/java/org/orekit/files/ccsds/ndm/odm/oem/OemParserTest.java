@@ -27,6 +27,7 @@ import java.util.ArrayList;
 import java.util.List;
 
 import org.hamcrest.MatcherAssert;
+import org.hipparchus.exception.LocalizedCoreFormats;
 import org.hipparchus.geometry.euclidean.threed.Rotation;
 import org.hipparchus.geometry.euclidean.threed.Vector3D;
 import org.hipparchus.linear.Array2DRowRealMatrix;
@@ -41,6 +42,7 @@ import org.orekit.bodies.CelestialBodyFactory;
 import org.orekit.data.DataContext;
 import org.orekit.data.DataSource;
 import org.orekit.errors.OrekitException;
+import org.orekit.errors.OrekitIllegalArgumentException;
 import org.orekit.errors.OrekitMessages;
 import org.orekit.files.ccsds.definitions.CelestialBodyFrame;
 import org.orekit.files.ccsds.definitions.OrbitRelativeFrame;
@@ -870,4 +872,132 @@ public class OemParserTest {
         Assertions.assertEquals(25, iss.getSegments().get(0).getData().getCoordinates().size());
     }
 
+    @Test
+    public void testStreamingKvn() {
+        doTestStreaming("/ccsds/odm/oem/OEMExample3.txt");
+    }
+
+    @Test
+    public void testStreamingXml() {
+        doTestStreaming("/ccsds/odm/oem/OEMExample3.xml");
+    }
+
+    private void doTestStreaming(final String ex) {
+        final ParserBuilder builder = new ParserBuilder().withMu(CelestialBodyFactory.getMars().getGM());
+        final Oem reference = builder.buildOemParser().
+                              parseMessage(new DataSource(ex, () -> getClass().getResourceAsStream(ex)));
+
+        final List<OemMetadata>              started     = new ArrayList<>();
+        final List<OemMetadata>              ended       = new ArrayList<>();
+        final List<TimeStampedPVCoordinates> data        = new ArrayList<>();
+        final List<CartesianCovariance>      covariances = new ArrayList<>();
+        final Oem streamed = builder.buildOemParser().
+                             parseMessage(new DataSource(ex, () -> getClass().getResourceAsStream(ex)),
+                                          new OemDataConsumer() {
+                                              @Override
+                                              public void startSegment(final OemMetadata metadata, final double mu) {
+                                                  Assertions.assertEquals(CelestialBodyFactory.getMars().getGM(), mu, 1.0);
+                                                  started.add(metadata);
+                                              }
+                                              @Override
+                                              public void addData(final TimeStampedPVCoordinates pv, final boolean hasAcceleration) {
+                                                  Assertions.assertEquals(started.size(), ended.size() + 1);
+                                                  data.add(pv);
+                                              }
+                                              @Override
+                                              public void addCovarianceMatrix(final CartesianCovariance covariance) {
+                                                  covariances.add(covariance);
+                                              }
+                                              @Override
+                                              public void endSegment(final OemMetadata metadata) {
+                                                  Assertions.assertSame(started.get(started.size() - 1), metadata);
+                                                  ended.add(metadata);
+                                              }
+                                          });
+
+        Assertions.assertEquals(reference.getHeader().getMessageId(), streamed.getHeader().getMessageId());
+        Assertions.assertEquals(reference.getSegments().size(), started.size());
+        Assertions.assertEquals(reference.getSegments().size(), ended.size());
+        Assertions.assertEquals(reference.getSegments().size(), streamed.getSegments().size());
+        int index    = 0;
+        int covIndex = 0;
+        for (int i = 0; i < reference.getSegments().size(); ++i) {
+            final OemSegment referenceSegment = reference.getSegments().get(i);
+            final OemSegment streamedSegment  = streamed.getSegments().get(i);
+            Assertions.assertSame(started.get(i), streamedSegment.getMetadata());
+            Assertions.assertEquals(referenceSegment.getMetadata().getObjectID(),
+                                    streamedSegment.getMetadata().getObjectID());
+            Assertions.assertTrue(streamedSegment.getCoordinates().isEmpty());
+            Assertions.assertTrue(streamedSegment.getCovarianceMatrices().isEmpty());
+            for (final TimeStampedPVCoordinates pv : referenceSegment.getCoordinates()) {
+                final TimeStampedPVCoordinates streamedPV = data.get(index++);
+                Assertions.assertEquals(0.0, streamedPV.getDate().durationFrom(pv.getDate()), 0.0);
+                Assertions.assertEquals(0.0, Vector3D.distance(pv.getPosition(), streamedPV.getPosition()), 0.0);
+                Assertions.assertEquals(0.0, Vector3D.distance(pv.getVelocity(), streamedPV.getVelocity()), 0.0);
+            }
+            for (final CartesianCovariance covariance : referenceSegment.getCovarianceMatrices()) {
+                final CartesianCovariance streamedCovariance = covariances.get(covIndex++);
+                Assertions.assertEquals(0.0, streamedCovariance.getEpoch().durationFrom(covariance.getEpoch()), 0.0);
+                Assertions.assertEquals(0.0,
+                                        streamedCovariance.getCovarianceMatrix().
+                                        subtract(covariance.getCovarianceMatrix()).getNorm1(),
+                                        0.0);
+            }
+        }
+        Assertions.assertEquals(data.size(), index);
+        Assertions.assertEquals(covariances.size(), covIndex);
+        Assertions.assertTrue(covIndex > 0);
+
+    }
+
+    @Test
+    public void testSlidingWindow() {
+        final String name = "/ccsds/odm/oem/ISS.resampled.truncated.txt";
+        final ParserBuilder builder = new ParserBuilder().withDefaultInterpolationDegree(3);
+        final BoundedPropagator reference =
+                        builder.buildOemParser().
+                        parseMessage(new DataSource(name, () -> getClass().getResourceAsStream(name))).
+                        getSegments().get(0).getPropagator();
+
+        final List<BoundedPropagator> windows = new ArrayList<>();
+        builder.buildOemParser().
+        parseMessage(new DataSource(name, () -> getClass().getResourceAsStream(name)),
+                     new SlidingWindowOemConsumer(10, (metadata, propagator) -> {
+                         Assertions.assertEquals("1998-067-A", metadata.getObjectID());
+                         windows.add(propagator);
+                     }));
+
+        // 25 points, windows of 10 points sharing 4 points: 0-9, 6-15, 12-21 and 18-24
+        Assertions.assertEquals(4, windows.size());
+        Assertions.assertEquals(0.0, windows.get(0).getMinDate().durationFrom(reference.getMinDate()), 0.0);
+        Assertions.assertEquals(0.0, windows.get(3).getMaxDate().durationFrom(reference.getMaxDate()), 0.0);
+        for (int i = 1; i < windows.size(); ++i) {
+            Assertions.assertTrue(windows.get(i).getMinDate().isBefore(windows.get(i - 1).getMaxDate()));
+        }
+
+        // in the interior of each window, interpolation uses the same samples as the full segment
+        final Frame frame = reference.getFrame();
+        for (final BoundedPropagator window : windows) {
+            final double duration = window.getMaxDate().durationFrom(window.getMinDate());
+            for (double f = 0.3; f <= 0.7; f += 0.05) {
+                final AbsoluteDate date = window.getMinDate().shiftedBy(f * duration);
+                Assertions.assertEquals(0.0,
+                                        Vector3D.distance(reference.getPosition(date, frame),
+                                                          window.getPosition(date, frame)),
+                                        1.0e-9);
+            }
+        }
+
+    }
+
+    @Test
+    public void testSlidingWindowTooSmall() {
+        try {
+            new SlidingWindowOemConsumer(1, (metadata, propagator) -> Assertions.fail("should not be called"));
+            Assertions.fail("an exception should have been thrown");
+        } catch (OrekitIllegalArgumentException oiae) {
+            Assertions.assertEquals(LocalizedCoreFormats.NUMBER_TOO_SMALL, oiae.getSpecifier());
+        }
+    }
+
 }
@@ -0,0 +1,222 @@
+/* Copyright 2002-2025 CS GROUP
+ * Licensed to CS GROUP (CS) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * CS licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.orekit.files.ccsds.utils.lexical;
+
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.hipparchus.random.RandomGenerator;
+import org.hipparchus.random.Well19937a;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.orekit.data.DataSource;
+import org.orekit.errors.OrekitException;
+import org.orekit.errors.OrekitMessages;
+import org.orekit.files.ccsds.ndm.ParserBuilder;
+import org.orekit.files.ccsds.utils.FileFormat;
+import org.orekit.utils.units.Unit;
+import org.orekit.utils.units.UnitsCache;
+
+public class KvnLexicalAnalyzerTest {
+
+    /** Reference regular expressions, used by the lexical analyzer up to 13.1. */
+    private static final String UNITS = "(?:\\p{Blank}+\\[([-+*×.·/⁄^√⁺⁻A-Za-zµμ0-9⁰¹²³⁴⁵⁶⁷⁸⁹" +
+                                        "¼½¾⅐⅑⅒⅓⅔⅕⅖⅗⅘⅙⅚⅛⅜⅝⅞%°◦′'″\\\"#()]*)\\])?";
+    private static final Pattern COMMENT_ENTRY     =
+                    Pattern.compile("^\\p{Blank}*(COMMENT)\\p{Blank}*((?:(?:\\p{Graph}.*?)?))\\p{Blank}*$");
+    private static final Pattern NON_COMMENT_ENTRY =
+                    Pattern.compile("^\\p{Blank}*([A-Z][A-Z_0-9]*)\\p{Blank}*=\\p{Blank}*((?:(?:\\p{Graph}.*?)?))" +
+                                    UNITS + "\\p{Blank}*$");
+    private static final Pattern START_ENTRY       =
+                    Pattern.compile("^\\p{Blank}*([A-Z][A-Z_0-9]*)_START\\p{Blank}*$");
+    private static final Pattern STOP_ENTRY        =
+                    Pattern.compile("^\\p{Blank}*([A-Z][A-Z_0-9]*)_STOP\\p{Blank}*$");
+
+    @Test
+    public void testNullCharacter() {
+        KvnLexicalAnalyzer la = new KvnLexicalAnalyzer(new DataSource("empty", (DataSource.ReaderOpener) () -> null));
+        try {
+            la.accept(new ParserBuilder().buildOcmParser());
+            Assertions.fail("an exception should have been thrown");
+        } catch (OrekitException oe) {
+            Assertions.assertEquals(OrekitMessages.UNABLE_TO_FIND_FILE, oe.getSpecifier());
+            Assertions.assertEquals("empty", oe.getParts()[0]);
+        }
+    }
+
+    @Test
+    public void testSpecialLines() {
+        checkSameAsRegularExpressions(Arrays.asList(
+            "CCSDS_OEM_VERS = 3.0",
+            "  OBJECT_NAME    =   ISS (ZARYA)  ",
+            "MASS = 1500.0 [kg]",
+            "MASS = 1500.0 [kg] ",
+            "MASS = 1500.0[kg]",
+            "MASS = [kg]",
+            "MASS =[kg]",
+            "MASS=",
+            "MASS =   ",
+            "MASS = 1500.0 [k g]",
+            "MASS = 1500.0 [km²/s⁻¹]",
+            "MASS = 1500.0 [km**2/s]",
+            "MASS = 1500.0 [km] [s]",
+            "MASS = 1500.0 []",
+            "MASS = é1500.0",
+            "MASS = 1500\u0085.0",
+            "MASS \t= \t1500.0\t[%]\t",
+            "Mass = 1500.0",
+            "M_1 = x",
+            "_M = x",
+            "COMMENT",
+            "COMMENT   ",
+            "COMMENT this is a comment",
+            "  COMMENT\tthis is a comment  ",
+            "COMMENTS are glued",
+            "COMMENT = not really a comment",
+            "COMMENT é accented",
+            "META_START",
+            "  META_START  ",
+            "_START",
+            "A_START",
+            "META_START_START",
+            "META_STOP",
+            "_STOP",
+            "META_STOP x",
+            "DATA_START = 1",
+            "2024-05-12T03:00:00.000 1.0 2.0 3.0 4.0 5.0 6.0",
+            "   1.0 2.0",
+            "A B C",
+            "ABC"
+        ));
+    }
+
+    @Test
+    public void testRandomLines() {
+        final RandomGenerator random = new Well19937a(0x2f4e9e8a1c3d5b7fl);
+        final String alphabet = "  \t\tAAZZ__09az==[[]]..-/²¹µ#é COMMENT_STARTSTOP";
+        final List<String> lines = new ArrayList<>();
+        for (int i = 0; i < 20000; ++i) {
+            final StringBuilder builder = new StringBuilder();
+            final int length = 1 + random.nextInt(20);
+            for (int j = 0; j < length; ++j) {
+                builder.append(alphabet.charAt(random.nextInt(alphabet.length())));
+            }
+            lines.add(builder.toString());
+        }
+        checkSameAsRegularExpressions(lines);
+    }
+
+    private void checkSameAsRegularExpressions(final List<String> lines) {
+
+        final List<ParseToken> tokens = new ArrayList<>();
+        new KvnLexicalAnalyzer(new DataSource("lines",
+                                              () -> new StringReader(String.join("\n", lines)))).
+            accept(new RecordingParser(tokens));
+
+        int index = 0;
+        for (int i = 0; i < lines.size(); ++i) {
+            final String line = lines.get(i);
+            if (line.trim().isEmpty()) {
+                continue;
+            }
+            final ParseToken token = tokens.get(index++);
+            Assertions.assertEquals(i + 1, token.getLineNumber());
+            Assertions.assertEquals("lines", token.getFileName());
+            final Matcher nonComment = NON_COMMENT_ENTRY.matcher(line);
+            final Matcher comment    = COMMENT_ENTRY.matcher(line);
+            final Matcher start      = START_ENTRY.matcher(line);
+            final Matcher stop       = STOP_ENTRY.matcher(line);
+            if (nonComment.matches()) {
+                checkToken(line, TokenType.ENTRY, nonComment.group(1), nonComment.group(2),
+                           new UnitsCache().getUnits(nonComment.group(3)), token);
+            } else if (comment.matches()) {
+                checkToken(line, TokenType.ENTRY, comment.group(1), comment.group(2), null, token);
+            } else if (start.matches()) {
+                checkToken(line, TokenType.START, start.group(1), null, null, token);
+            } else if (stop.matches()) {
+                checkToken(line, TokenType.STOP, stop.group(1), null, null, token);
+            } else {
+                checkToken(line, TokenType.RAW_LINE, null, line, null, token);
+            }
+        }
+        Assertions.assertEquals(index, tokens.size());
+
+    }
+
+    private void checkToken(final String line, final TokenType type, final String name, final String content,
+                            final Unit units, final ParseToken token) {
+        Assertions.assertEquals(type,    token.getType(),       line);
+        Assertions.assertEquals(name,    token.getName(),       line);
+        Assertions.assertEquals(content, token.getRawContent(), line);
+        if (units == null) {
+            Assertions.assertNull(token.getUnits(), line);
+        } else {
+            Assertions.assertEquals(units.getName(), token.getUnits().getName(), line);
+        }
+    }
+
+    private static class RecordingParser implements MessageParser<List<ParseToken>> {
+
+        private final List<ParseToken> tokens;
+
+        RecordingParser(final List<ParseToken> tokens) {
+            this.tokens = tokens;
+        }
+
+        @Override
+        public List<ParseToken> parseMessage(final DataSource source) {
+            return new KvnLexicalAnalyzer(source).accept(this);
+        }
+
+        @Override
+        public String getFormatVersionKey() {
+            return "CCSDS_TEST_VERS";
+        }
+
+        @Override
+        public Map<String, XmlTokenBuilder> getSpecialXmlElementsBuilders() {
+            return null;
+        }
+
+        @Override
+        public void reset(final FileFormat fileFormat) {
+            tokens.clear();
+        }
+
+        @Override
+        public void process(final ParseToken token) {
+            tokens.add(token);
+        }
+
+        @Override
+        public List<ParseToken> build() {
+            return tokens;
+        }
+
+        @Override
+        public FileFormat getFileFormat() {
+            return FileFormat.KVN;
+        }
+
+    }
+
+}
@@ -0,0 +1,274 @@
+/* Copyright 2002-2025 CS GROUP
+ * Licensed to CS GROUP (CS) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * CS licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.orekit.files.general;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import org.hipparchus.linear.MatrixUtils;
+import org.hipparchus.linear.RealMatrix;
+import org.hipparchus.random.RandomGenerator;
+import org.hipparchus.random.Well19937a;
+import org.hipparchus.util.FastMath;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.orekit.Utils;
+import org.orekit.errors.OrekitException;
+import org.orekit.errors.OrekitIllegalArgumentException;
+import org.orekit.errors.OrekitMessages;
+import org.orekit.files.general.BinaryEphemerisFile.BinaryEphemerisSegment;
+import org.orekit.files.general.BinaryEphemerisFile.BinarySatelliteEphemeris;
+import org.orekit.files.general.OrekitEphemerisFile.OrekitSatelliteEphemeris;
+import org.orekit.frames.Frame;
+import org.orekit.frames.FramesFactory;
+import org.orekit.frames.Transform;
+import org.orekit.orbits.KeplerianOrbit;
+import org.orekit.orbits.OrbitType;
+import org.orekit.orbits.PositionAngleType;
+import org.orekit.propagation.BoundedPropagator;
+import org.orekit.propagation.SpacecraftState;
+import org.orekit.propagation.StateCovariance;
+import org.orekit.propagation.analytical.KeplerianPropagator;
+import org.orekit.time.AbsoluteDate;
+import org.orekit.time.TimeScalesFactory;
+import org.orekit.utils.Constants;
+import org.orekit.utils.TimeStampedPVCoordinates;
+
+public class BinaryEphemerisFileTest {
+
+    @TempDir
+    public Path tempDir;
+
+    private AbsoluteDate t0;
+
+    @Test
+    public void testRoundTrip() throws IOException {
+        final OrekitEphemerisFile source = new OrekitEphemerisFile();
+        final OrekitSatelliteEphemeris sat1 = source.addSatellite("SAT-1");
+        sat1.addNewSegment(sample(7.0e6, FramesFactory.getEME2000(), t0, 3600.0, 60.0));
+        sat1.addNewSegment(sample(7.0e6, FramesFactory.getEME2000(), t0.shiftedBy(3600.0), 3600.0, 30.0));
+        final OrekitSatelliteEphemeris sat2 = source.addSatellite("SAT-2");
+        sat2.addNewSegment(sample(4.2e7, FramesFactory.getGCRF(), t0, 86400.0, 600.0));
+
+        final Path file = tempDir.resolve("catalog.bin");
+        BinaryEphemerisFile.write(source, file);
+        final BinaryEphemerisFile loaded = BinaryEphemerisFile.open(file);
+
+        Assertions.assertEquals(2, loaded.getSatellites().size());
+        for (final OrekitSatelliteEphemeris original : source.getSatellites().values()) {
+            final BinarySatelliteEphemeris copy = loaded.getSatellites().get(original.getId());
+            Assertions.assertEquals(original.getId(), copy.getId());
+            Assertions.assertEquals(original.getMu(), copy.getMu(), 0.0);
+            Assertions.assertEquals(0.0, copy.getStart().durationFrom(original.getStart()), 0.0);
+            Assertions.assertEquals(0.0, copy.getStop().durationFrom(original.getStop()), 0.0);
+            Assertions.assertEquals(original.getSegments().size(), copy.getSegments().size());
+            for (int i = 0; i < copy.getSegments().size(); ++i) {
+                final EphemerisFile.EphemerisSegment<TimeStampedPVCoordinates> o = original.getSegments().get(i);
+                final BinaryEphemerisSegment c = copy.getSegments().get(i);
+                Assertions.assertSame(o.getFrame(), c.getFrame());
+                Assertions.assertEquals(o.getMu(), c.getMu(), 0.0);
+                Assertions.assertEquals(o.getInterpolationSamples(), c.getInterpolationSamples());
+                Assertions.assertEquals(o.getAvailableDerivatives(), c.getAvailableDerivatives());
+                Assertions.assertEquals(o.getCoordinates().size(), c.getCoordinates().size());
+                Assertions.assertTrue(c.getCovariances().isEmpty());
+                for (int j = 0; j < c.getCoordinates().size(); ++j) {
+                    final TimeStampedPVCoordinates po = o.getCoordinates().get(j);
+                    final TimeStampedPVCoordinates pc = c.getCoordinates().get(j);
+                    Assertions.assertEquals(0.0, pc.getDate().durationFrom(po.getDate()), 1.0e-12);
+                    Assertions.assertEquals(0.0, pc.getPosition().distance(po.getPosition()), 0.0);
+                    Assertions.assertEquals(0.0, pc.getVelocity().distance(po.getVelocity()), 0.0);
+                }
+            }
+
+            final BoundedPropagator po = original.getPropagator();
+            final BoundedPropagator pc = copy.getPropagator();
+            Assertions.assertEquals(0.0, pc.getMinDate().durationFrom(po.getMinDate()), 0.0);
+            Assertions.assertEquals(0.0, pc.getMaxDate().durationFrom(po.getMaxDate()), 0.0);
+            final RandomGenerator random = new Well19937a(0x3cf1b1e2ba5d7a8bl);
+            final double span = po.getMaxDate().durationFrom(po.getMinDate());
+            for (int k = 0; k < 100; ++k) {
+                final AbsoluteDate date = po.getMinDate().shiftedBy(span * random.nextDouble());
+                Assertions.assertEquals(0.0,
+                                        pc.getPosition(date, FramesFactory.getEME2000()).
+                                        distance(po.getPosition(date, FramesFactory.getEME2000())),
+                                        1.0e-6);
+            }
+        }
+
+    }
+
+    @Test
+    public void testColumnarSize() throws IOException {
+        final OrekitEphemerisFile source = new OrekitEphemerisFile();
+        source.addSatellite("S").addNewSegment(sample(7.0e6, FramesFactory.getEME2000(), t0, 600.0, 60.0));
+        final Path file = tempDir.resolve("size.bin");
+        BinaryEphemerisFile.write(source, file);
+        // 11 entries, each with a date offset and 6 position-velocity columns
+        final long dataSize = 11 * 7 * 8;
+        final long directorySize = Files.size(file) - 16 - dataSize;
+        Assertions.assertEquals(0, directorySize % 8);
+        Assertions.assertTrue(directorySize < 100);
+    }
+
+    @Test
+    public void testCovariances() throws IOException {
+        final OrekitEphemerisFile source = new OrekitEphemerisFile();
+        final List<SpacecraftState> states = sample(7.0e6, FramesFactory.getEME2000(), t0, 3600.0, 60.0);
+        source.addSatellite("COV").addNewSegment(states);
+        final RandomGenerator random = new Well19937a(0x52f3b8f9ce5dd3a1l);
+        final List<StateCovariance> covariances = new ArrayList<>();
+        for (int i = 0; i < states.size(); i += 10) {
+            final RealMatrix a = MatrixUtils.createRealMatrix(6, 6);
+            for (int r = 0; r < 6; ++r) {
+                for (int c = 0; c < 6; ++c) {
+                    a.setEntry(r, c, random.nextGaussian());
+                }
+            }
+            covariances.add(new StateCovariance(a.multiplyTransposed(a), states.get(i).getDate(),
+                                                FramesFactory.getEME2000(),
+                                                OrbitType.CARTESIAN, PositionAngleType.MEAN));
+        }
+
+        final Path file = tempDir.resolve("covariances.bin");
+        BinaryEphemerisFile.write(source, file, (id, segment) -> covariances);
+        final BinaryEphemerisSegment segment =
+                        BinaryEphemerisFile.open(file).getSatellites().get("COV").getSegments().get(0);
+        Assertions.assertEquals(states.size(), segment.getCoordinates().size());
+        Assertions.assertEquals(covariances.size(), segment.getCovariances().size());
+        for (int i = 0; i < covariances.size(); ++i) {
+            final StateCovariance o = covariances.get(i);
+            final StateCovariance c = segment.getCovariances().get(i);
+            Assertions.assertEquals(0.0, c.getDate().durationFrom(o.getDate()), 1.0e-12);
+            Assertions.assertSame(FramesFactory.getEME2000(), c.getFrame());
+            Assertions.assertEquals(OrbitType.CARTESIAN, c.getOrbitType());
+            Assertions.assertEquals(0.0, c.getMatrix().subtract(o.getMatrix()).getNorm1(), 0.0);
+        }
+
+    }
+
+    @Test
+    public void testWrongCovariance() {
+        final OrekitEphemerisFile source = new OrekitEphemerisFile();
+        final List<SpacecraftState> states = sample(7.0e6, FramesFactory.getEME2000(), t0, 600.0, 60.0);
+        source.addSatellite("COV").addNewSegment(states);
+        final Path file = tempDir.resolve("wrong-covariance.bin");
+
+        final StateCovariance keplerian =
+                        new StateCovariance(MatrixUtils.createRealIdentityMatrix(6), t0, FramesFactory.getEME2000(),
+                                            OrbitType.KEPLERIAN, PositionAngleType.MEAN);
+        try {
+            BinaryEphemerisFile.write(source, file, (id, segment) -> Collections.singletonList(keplerian));
+            Assertions.fail("an exception should have been thrown");
+        } catch (OrekitIllegalArgumentException oiae) {
+            Assertions.assertEquals(OrekitMessages.WRONG_ORBIT_PARAMETERS_TYPE, oiae.getSpecifier());
+        } catch (IOException ioe) {
+            Assertions.fail(ioe.getLocalizedMessage());
+        }
+
+        final StateCovariance gcrf =
+                        new StateCovariance(MatrixUtils.createRealIdentityMatrix(6), t0, FramesFactory.getGCRF(),
+                                            OrbitType.CARTESIAN, PositionAngleType.MEAN);
+        try {
+            BinaryEphemerisFile.write(source, file, (id, segment) -> Collections.singletonList(gcrf));
+            Assertions.fail("an exception should have been thrown");
+        } catch (OrekitIllegalArgumentException oiae) {
+            Assertions.assertEquals(OrekitMessages.FRAMES_MISMATCH, oiae.getSpecifier());
+        } catch (IOException ioe) {
+            Assertions.fail(ioe.getLocalizedMessage());
+        }
+
+    }
+
+    @Test
+    public void testCustomFrame() throws IOException {
+        final Frame custom = new Frame(FramesFactory.getEME2000(), Transform.IDENTITY, "custom", true);
+        final OrekitEphemerisFile source = new OrekitEphemerisFile();
+        source.addSatellite("S").addNewSegment(sample(7.0e6, custom, t0, 600.0, 60.0));
+        final Path file = tempDir.resolve("custom.bin");
+        BinaryEphemerisFile.write(source, file);
+
+        try {
+            BinaryEphemerisFile.open(file);
+            Assertions.fail("an exception should have been thrown");
+        } catch (OrekitException oe) {
+            Assertions.assertEquals(OrekitMessages.FRAME_NOT_ALLOWED, oe.getSpecifier());
+            Assertions.assertEquals("custom", oe.getParts()[0]);
+        }
+
+        final BinaryEphemerisFile loaded = BinaryEphemerisFile.open(file, name -> name.equals("custom") ? custom : null);
+        Assertions.assertSame(custom, loaded.getSatellites().get("S").getSegments().get(0).getFrame());
+
+    }
+
+    @Test
+    public void testNotAnEphemeris() throws IOException {
+        final Path file = tempDir.resolve("not-an-ephemeris.bin");
+        Files.write(file, new byte[80]);
+        try {
+            BinaryEphemerisFile.open(file);
+            Assertions.fail("an exception should have been thrown");
+        } catch (OrekitException oe) {
+            Assertions.assertEquals(OrekitMessages.UNSUPPORTED_FILE_FORMAT, oe.getSpecifier());
+        }
+    }
+
+    @Test
+    public void testTruncated() throws IOException {
+        final OrekitEphemerisFile source = new OrekitEphemerisFile();
+        source.addSatellite("S").addNewSegment(sample(7.0e6, FramesFactory.getEME2000(), t0, 600.0, 60.0));
+        final Path file = tempDir.resolve("truncated.bin");
+        BinaryEphemerisFile.write(source, file);
+        final byte[] content = Files.readAllBytes(file);
+        for (final int length : new int[] { 10, 40, content.length - 1 }) {
+            final byte[] truncated = new byte[length];
+            System.arraycopy(content, 0, truncated, 0, truncated.length);
+            Files.write(file, truncated);
+            try {
+                BinaryEphemerisFile.open(file);
+                Assertions.fail("an exception should have been thrown");
+            } catch (OrekitException oe) {
+                Assertions.assertEquals(OrekitMessages.UNEXPECTED_END_OF_FILE, oe.getSpecifier());
+            }
+        }
+    }
+
+    private List<SpacecraftState> sample(final double a, final Frame frame, final AbsoluteDate start,
+                                         final double duration, final double step) {
+        final KeplerianPropagator propagator =
+                        new KeplerianPropagator(new KeplerianOrbit(a, 0.001, FastMath.toRadians(51.6),
+                                                                   0.5, 1.2, 0.3, PositionAngleType.MEAN,
+                                                                   frame, start, Constants.EIGEN5C_EARTH_MU));
+        final List<SpacecraftState> states = new ArrayList<>();
+        for (double dt = 0; dt <= duration; dt += step) {
+            states.add(propagator.propagate(start.shiftedBy(dt)));
+        }
+        return states;
+    }
+
+    @BeforeEach
+    public void setUp() {
+        Utils.setDataRoot("regular-data");
+        t0 = new AbsoluteDate(2024, 5, 12, 3, 0, 0.0, TimeScalesFactory.getUTC());
+    }
+
+}
@@ -0,0 +1,235 @@
+/* Copyright 2002-2025 CS GROUP
+ * Licensed to CS GROUP (CS) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * CS licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.orekit.files.rinex.observation;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.orekit.Utils;
+import org.orekit.data.DataSource;
+import org.orekit.data.UnixCompressFilter;
+import org.orekit.errors.OrekitIllegalArgumentException;
+import org.orekit.errors.OrekitMessages;
+import org.orekit.files.rinex.HatanakaCompressFilter;
+import org.orekit.files.rinex.utils.parsing.RinexUtils;
+import org.orekit.gnss.ObservationType;
+import org.orekit.gnss.PredefinedObservationType;
+import org.orekit.gnss.SatInSystem;
+import org.orekit.gnss.SatelliteSystem;
+import org.orekit.time.AbsoluteDate;
+
+public class RinexObservationColumnsTest {
+
+    @BeforeEach
+    public void setUp() {
+        Utils.setDataRoot("regular-data");
+    }
+
+    @Test
+    public void testSameAsDataSets() {
+        for (final String name : new String[] {
+            "rinex/aiub0000.00o", "rinex/jnu10110.17o", "rinex/cccc0000.07o", "rinex/ice12720-scaled.07o",
+            "rinex/aaaa0000.00o", "rinex/bbbb0000.00o", "rinex/bbbb0000.01o", "rinex/dddd0000.01o",
+            "rinex/cycle-slip.00o", "rinex/brca083.06o", "rinex/dcbs.00o"
+        }) {
+            checkSame(load(name), loadColumns(name));
+        }
+    }
+
+    @Test
+    public void testSameAsDataSetsCompressed() {
+        final String name = "rinex/bogi1210.09d.Z";
+        final RinexObservationParser parser = new RinexObservationParser();
+        checkSame(parser.parse(compressed(name)), parser.parseColumns(compressed(name)));
+    }
+
+    @Test
+    public void testColumns() {
+        final RinexObservationColumns columns = loadColumns("rinex/aaaa0000.00o");
+        Assertions.assertEquals(2, columns.getNbEpochs());
+        Assertions.assertEquals(0, columns.getEventFlag(0));
+        Assertions.assertEquals(0.0, columns.getRcvrClkOffset(1), 1.0e-15);
+        Assertions.assertEquals(15.0, columns.getEpoch(1).durationFrom(columns.getEpoch(0)), 1.0e-15);
+
+        final SatInSystem g27 = new SatInSystem(SatelliteSystem.GPS, 27);
+        final List<ObservationType> types = columns.getObservationTypes(g27);
+        Assertions.assertFalse(types.isEmpty());
+        final int[] epochIndices = columns.getEpochIndices(g27);
+        Assertions.assertArrayEquals(new int[] { 0, 1 }, epochIndices);
+
+        for (final ObservationType type : types) {
+            final double[] values = columns.getValues(g27, type);
+            final byte[]   lli    = columns.getLossOfLockIndicators(g27, type);
+            final byte[]   ssi    = columns.getSignalStrengths(g27, type);
+            Assertions.assertEquals(2, values.length);
+            for (int epoch = 0; epoch < columns.getNbEpochs(); ++epoch) {
+                Assertions.assertEquals(Double.doubleToRawLongBits(columns.getValue(epoch, g27, type)),
+                                        Double.doubleToRawLongBits(values[epoch]));
+                Assertions.assertEquals(columns.getLossOfLockIndicator(epoch, g27, type), lli[epoch]);
+                Assertions.assertEquals(columns.getSignalStrength(epoch, g27, type), ssi[epoch]);
+            }
+        }
+
+        // unknown satellite or observable
+        final SatInSystem g02 = new SatInSystem(SatelliteSystem.GPS, 2);
+        Assertions.assertTrue(columns.getObservationTypes(g02).isEmpty());
+        Assertions.assertEquals(0, columns.getEpochIndices(g02).length);
+        Assertions.assertTrue(Double.isNaN(columns.getValue(0, g02, types.get(0))));
+        Assertions.assertEquals(0, columns.getLossOfLockIndicator(0, g02, types.get(0)));
+        Assertions.assertEquals(0, columns.getSignalStrength(0, g02, types.get(0)));
+        Assertions.assertTrue(Double.isNaN(columns.getValues(g27, PredefinedObservationType.L9X)[0]));
+        Assertions.assertEquals(0, columns.getLossOfLockIndicators(g02, types.get(0))[1]);
+        Assertions.assertEquals(0, columns.getSignalStrengths(g02, types.get(0))[1]);
+
+        try {
+            columns.getEpoch(2);
+            Assertions.fail("an exception should have been thrown");
+        } catch (IndexOutOfBoundsException ioobe) {
+            // expected
+        }
+        try {
+            columns.getObservationDataSets().get(-1);
+            Assertions.fail("an exception should have been thrown");
+        } catch (IndexOutOfBoundsException ioobe) {
+            // expected
+        }
+
+    }
+
+    @Test
+    public void testFieldsParsedExactly() throws IOException {
+        final String name = "rinex/aaaa0000.00o";
+        final RinexObservationColumns columns = loadColumns(name);
+        int epoch   = -1;
+        int checked = 0;
+        try (BufferedReader br =
+                        new BufferedReader(new InputStreamReader(Utils.class.getClassLoader().getResourceAsStream(name),
+                                                                 StandardCharsets.UTF_8))) {
+            boolean inHeader = true;
+            for (String line = br.readLine(); line != null; line = br.readLine()) {
+                if (inHeader) {
+                    inHeader = !line.contains("END OF HEADER");
+                } else if (line.startsWith(">")) {
+                    ++epoch;
+                } else {
+                    final SatInSystem           sat   = new SatInSystem(line.substring(0, 3));
+                    final List<ObservationType> types = columns.getObservationTypes(sat);
+                    for (int i = 0; i < types.size(); ++i) {
+                        final int index = 3 + 16 * i;
+                        Assertions.assertEquals(Double.doubleToRawLongBits(RinexUtils.parseDouble(line, index, 14)),
+                                                Double.doubleToRawLongBits(columns.getValue(epoch, sat, types.get(i))));
+                        Assertions.assertEquals(RinexUtils.parseInt(line, index + 14, 1),
+                                                columns.getLossOfLockIndicator(epoch, sat, types.get(i)));
+                        Assertions.assertEquals(RinexUtils.parseInt(line, index + 15, 1),
+                                                columns.getSignalStrength(epoch, sat, types.get(i)));
+                        ++checked;
+                    }
+                }
+            }
+        }
+        Assertions.assertTrue(checked > 100);
+    }
+
+    @Test
+    public void testInconsistentSampling() {
+        final RinexObservationColumns columns = loadColumns("rinex/aaaa0000.00o");
+        final SatInSystem g27 = new SatInSystem(SatelliteSystem.GPS, 27);
+        try {
+            columns.startRecord(g27, columns.getObservationTypes(g27),
+                                columns.getEpoch(1).shiftedBy(7.0), 0, 0.0);
+            Assertions.fail("an exception should have been thrown");
+        } catch (OrekitIllegalArgumentException oiae) {
+            Assertions.assertEquals(OrekitMessages.INCONSISTENT_SAMPLING_DATE, oiae.getSpecifier());
+        }
+    }
+
+    @Test
+    public void testEqualDatesSameEpoch() {
+        final RinexObservationColumns columns = loadColumns("rinex/aaaa0000.00o");
+        final SatInSystem  g02    = new SatInSystem(SatelliteSystem.GPS, 2);
+        final int          nb     = columns.getNbEpochs();
+        final AbsoluteDate latest = columns.getEpoch(nb - 1);
+
+        // a different instance representing the same date does not start a new epoch
+        columns.startRecord(g02, columns.getObservationTypes(new SatInSystem(SatelliteSystem.GPS, 27)),
+                            new AbsoluteDate(latest, 0.0), 0, 0.0);
+        Assertions.assertEquals(nb, columns.getNbEpochs());
+        Assertions.assertEquals(1, columns.getEpochIndices(g02).length);
+        Assertions.assertEquals(nb - 1, columns.getEpochIndices(g02)[0]);
+
+        // a later date starts a new epoch
+        columns.startRecord(g02, columns.getObservationTypes(g02),
+                            latest.shiftedBy(columns.getHeader().getInterval()), 0, 0.0);
+        Assertions.assertEquals(nb + 1, columns.getNbEpochs());
+
+    }
+
+    private void checkSame(final RinexObservation reference, final RinexObservationColumns columns) {
+
+        Assertions.assertSame(columns.getHeader(), columns.getHeader());
+        Assertions.assertEquals(reference.getHeader().getMarkerName(), columns.getHeader().getMarkerName());
+        Assertions.assertEquals(reference.getComments().size(), columns.getComments().size());
+
+        final List<ObservationDataSet> expected = reference.getObservationDataSets();
+        final List<ObservationDataSet> lazy     = columns.getObservationDataSets();
+        Assertions.assertEquals(expected.size(), lazy.size());
+        for (int i = 0; i < expected.size(); ++i) {
+            final ObservationDataSet e = expected.get(i);
+            final ObservationDataSet l = lazy.get(i);
+            Assertions.assertEquals(e.getSatellite(), l.getSatellite());
+            Assertions.assertEquals(0.0, l.getDate().durationFrom(e.getDate()), 1.0e-15);
+            Assertions.assertEquals(e.getEventFlag(), l.getEventFlag());
+            Assertions.assertEquals(e.getRcvrClkOffset(), l.getRcvrClkOffset(), 1.0e-15);
+            Assertions.assertEquals(e.getObservationData().size(), l.getObservationData().size());
+            for (int j = 0; j < e.getObservationData().size(); ++j) {
+                final ObservationData eData = e.getObservationData().get(j);
+                final ObservationData lData = l.getObservationData().get(j);
+                Assertions.assertEquals(eData.getObservationType(), lData.getObservationType());
+                Assertions.assertEquals(Double.doubleToRawLongBits(eData.getValue()),
+                                        Double.doubleToRawLongBits(lData.getValue()));
+                Assertions.assertEquals(eData.getLossOfLockIndicator(), lData.getLossOfLockIndicator());
+                Assertions.assertEquals(eData.getSignalStrength(), lData.getSignalStrength());
+            }
+        }
+
+    }
+
+    private RinexObservation load(final String name) {
+        return new RinexObservationParser().parse(source(name));
+    }
+
+    private RinexObservationColumns loadColumns(final String name) {
+        return new RinexObservationParser().parseColumns(source(name));
+    }
+
+    private DataSource source(final String name) {
+        return new DataSource(name, () -> Utils.class.getClassLoader().getResourceAsStream(name));
+    }
+
+    private DataSource compressed(final String name) {
+        final DataSource raw = new DataSource(name.substring(name.indexOf('/') + 1),
+                                              () -> Utils.class.getClassLoader().getResourceAsStream(name));
+        return new HatanakaCompressFilter().filter(new UnixCompressFilter().filter(raw));
+    }
+
+}
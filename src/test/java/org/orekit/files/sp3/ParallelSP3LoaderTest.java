@@ -0,0 +1,168 @@
+/* Copyright 2002-2025 CS GROUP
+ * Licensed to CS GROUP (CS) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * CS licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.orekit.files.sp3;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.regex.Pattern;
+import java.util.zip.GZIPOutputStream;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.orekit.Utils;
+import org.orekit.data.DataContext;
+import org.orekit.data.DataSource;
+import org.orekit.errors.OrekitException;
+import org.orekit.errors.OrekitMessages;
+import org.orekit.gnss.IGSUtils;
+import org.orekit.utils.Constants;
+
+public class ParallelSP3LoaderTest {
+
+    @TempDir
+    public Path tempDir;
+
+    private ExecutorService executor;
+
+    private SP3Parser parser;
+
+    @Test
+    public void testDirectory() throws IOException {
+        copy("/sp3/gbm19500_truncated.sp3",     "gbm19500_truncated.sp3",        false);
+        copy("/sp3/gbm19500_after_no_drop.sp3", "gbm19500_after_no_drop.sp3.gz", true);
+        copy("/sp3/gbm19500_after_drop.sp3",    "ignored.txt",                   false);
+
+        final SP3 loaded = new ParallelSP3Loader(parser,
+                                                 DataContext.getDefault().getDataProvidersManager().getFiltersManager()).
+                           load(tempDir, Pattern.compile(".*\\.sp3(?:\\.gz)?"), executor, 4);
+
+        final SP3 reference = SP3.splice(Arrays.asList(parse("/sp3/gbm19500_after_no_drop.sp3"),
+                                                       parse("/sp3/gbm19500_truncated.sp3")));
+        checkSame(reference, loaded);
+
+    }
+
+    @Test
+    public void testManyFiles() {
+        final List<DataSource> sources = Arrays.asList(source("/sp3/gbm19500_after_drop.sp3"),
+                                                       source("/sp3/gbm19500_truncated.sp3"));
+        final SP3 loaded = new ParallelSP3Loader(parser,
+                                                 DataContext.getDefault().getDataProvidersManager().getFiltersManager()).
+                           load(sources, executor, 8);
+        final SP3 reference = SP3.splice(Arrays.asList(parse("/sp3/gbm19500_truncated.sp3"),
+                                                       parse("/sp3/gbm19500_after_drop.sp3")));
+        checkSame(reference, loaded);
+    }
+
+    @Test
+    public void testNoFiles() throws IOException {
+        try {
+            new ParallelSP3Loader().load(tempDir, Pattern.compile(".*\\.sp3"), executor, 4);
+            Assertions.fail("an exception should have been thrown");
+        } catch (OrekitException oe) {
+            Assertions.assertEquals(OrekitMessages.NO_FILE_MATCHING_PATTERN, oe.getSpecifier());
+            Assertions.assertEquals(tempDir, oe.getParts()[0]);
+            Assertions.assertEquals(".*\\.sp3", oe.getParts()[1]);
+        }
+    }
+
+    @Test
+    public void testParseError() {
+        final List<DataSource> sources = Arrays.asList(source("/sp3/gbm19500_truncated.sp3"),
+                                                       source("/sp3/truncated-line.sp3"));
+        try {
+            new ParallelSP3Loader().load(sources, executor, 2);
+            Assertions.fail("an exception should have been thrown");
+        } catch (OrekitException oe) {
+            Assertions.assertEquals(OrekitMessages.UNABLE_TO_PARSE_LINE_IN_FILE, oe.getSpecifier());
+            Assertions.assertEquals("/sp3/truncated-line.sp3", oe.getParts()[1]);
+        }
+    }
+
+    @Test
+    public void testWrongWorkers() {
+        try {
+            new ParallelSP3Loader().load(Arrays.asList(source("/sp3/gbm19500_truncated.sp3")), executor, 0);
+            Assertions.fail("an exception should have been thrown");
+        } catch (OrekitException oe) {
+            Assertions.assertEquals(OrekitMessages.NOT_STRICTLY_POSITIVE, oe.getSpecifier());
+        }
+    }
+
+    private void checkSame(final SP3 reference, final SP3 loaded) {
+        Assertions.assertEquals(reference.getSatelliteCount(), loaded.getSatelliteCount());
+        Assertions.assertEquals(reference.getHeader().getNumberOfEpochs(), loaded.getHeader().getNumberOfEpochs());
+        Assertions.assertEquals(0.0, loaded.getHeader().getEpoch().durationFrom(reference.getHeader().getEpoch()), 0.0);
+        for (final String id : reference.getSatellites().keySet()) {
+            final SP3Ephemeris referenceEphemeris = reference.getEphemeris(id);
+            final SP3Ephemeris loadedEphemeris    = loaded.getEphemeris(id);
+            Assertions.assertEquals(referenceEphemeris.getSegments().size(), loadedEphemeris.getSegments().size());
+            for (int i = 0; i < referenceEphemeris.getSegments().size(); ++i) {
+                final List<SP3Coordinate> rc = referenceEphemeris.getSegments().get(i).getCoordinates();
+                final List<SP3Coordinate> lc = loadedEphemeris.getSegments().get(i).getCoordinates();
+                Assertions.assertEquals(rc.size(), lc.size());
+                for (int j = 0; j < rc.size(); ++j) {
+                    Assertions.assertEquals(0.0, lc.get(j).getDate().durationFrom(rc.get(j).getDate()), 0.0);
+                    Assertions.assertEquals(0.0, lc.get(j).getPosition().distance(rc.get(j).getPosition()), 0.0);
+                }
+            }
+        }
+    }
+
+    private void copy(final String resource, final String name, final boolean compress) throws IOException {
+        try (InputStream  in  = getClass().getResourceAsStream(resource);
+             OutputStream out = compress ?
+                                new GZIPOutputStream(Files.newOutputStream(tempDir.resolve(name))) :
+                                Files.newOutputStream(tempDir.resolve(name))) {
+            final byte[] buffer = new byte[4096];
+            for (int n = in.read(buffer); n >= 0; n = in.read(buffer)) {
+                out.write(buffer, 0, n);
+            }
+        }
+    }
+
+    private DataSource source(final String name) {
+        return new DataSource(name, () -> getClass().getResourceAsStream(name));
+    }
+
+    private SP3 parse(final String name) {
+        return parser.parse(source(name));
+    }
+
+    @BeforeEach
+    public void setUp() {
+        Utils.setDataRoot("regular-data");
+        executor = Executors.newFixedThreadPool(4);
+        parser   = new SP3Parser(Constants.EIGEN5C_EARTH_MU, 2, IGSUtils::guessFrame);
+    }
+
+    @AfterEach
+    public void tearDown() {
+        executor.shutdownNow();
+    }
+
+}
@@ -0,0 +1,201 @@
+/* Copyright 2002-2025 CS GROUP
+ * Licensed to CS GROUP (CS) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * CS licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.orekit.forces.gravity;
+
+import org.hipparchus.exception.LocalizedCoreFormats;
+import org.hipparchus.geometry.euclidean.threed.Vector3D;
+import org.hipparchus.ode.nonstiff.DormandPrince853Integrator;
+import org.hipparchus.util.FastMath;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.orekit.Utils;
+import org.orekit.errors.OrekitIllegalArgumentException;
+import org.orekit.forces.ForceModel;
+import org.orekit.forces.gravity.potential.GRGSFormatReader;
+import org.orekit.forces.gravity.potential.GravityFieldFactory;
+import org.orekit.forces.gravity.potential.NormalizedSphericalHarmonicsProvider;
+import org.orekit.frames.Frame;
+import org.orekit.frames.FramesFactory;
+import org.orekit.orbits.KeplerianOrbit;
+import org.orekit.orbits.Orbit;
+import org.orekit.orbits.OrbitType;
+import org.orekit.orbits.PositionAngleType;
+import org.orekit.propagation.SpacecraftState;
+import org.orekit.propagation.ToleranceProvider;
+import org.orekit.propagation.numerical.NumericalPropagator;
+import org.orekit.time.AbsoluteDate;
+import org.orekit.time.DateComponents;
+import org.orekit.time.TimeComponents;
+import org.orekit.time.TimeScalesFactory;
+import org.orekit.utils.Constants;
+import org.orekit.utils.IERSConventions;
+import org.orekit.utils.PVCoordinates;
+
+public class AdaptiveDegreeAttractionModelTest {
+
+    private Frame                                itrf;
+    private NormalizedSphericalHarmonicsProvider provider;
+    private AbsoluteDate                         date;
+
+    @Test
+    public void testRequiredDegree() {
+        final AdaptiveDegreeAttractionModel model = new AdaptiveDegreeAttractionModel(itrf, provider, 1.0e-9, 0.02);
+        Assertions.assertEquals(1.0e-9, model.getTolerance(), 0.0);
+        Assertions.assertEquals(0.02, model.getHysteresis(), 0.0);
+        final int leo = model.requiredDegree(provider.getAe() + 400000.0);
+        final int meo = model.requiredDegree(26560000.0);
+        final int geo = model.requiredDegree(42164000.0);
+        Assertions.assertEquals(provider.getMaxDegree(), leo);
+        Assertions.assertTrue(meo < leo);
+        Assertions.assertTrue(geo < meo);
+        Assertions.assertTrue(geo <= 12);
+
+        // the estimated truncation error is consistent with tolerance
+        Assertions.assertTrue(model.estimateTruncationError(geo, 42164000.0) <= 1.0e-9);
+        Assertions.assertTrue(model.estimateTruncationError(geo - 1, 42164000.0) > 1.0e-9);
+
+    }
+
+    @Test
+    public void testAccelerationAccuracy() {
+        final double tolerance = 1.0e-9;
+        final AdaptiveDegreeAttractionModel     adaptive = new AdaptiveDegreeAttractionModel(itrf, provider, tolerance, 0.02);
+        final HolmesFeatherstoneAttractionModel full     = new HolmesFeatherstoneAttractionModel(itrf, provider);
+        for (final double r : new double[] { 7.0e6, 1.2e7, 2.656e7, 4.2164e7 }) {
+            for (int i = 0; i < 20; ++i) {
+                final double lambda = 0.3 * i;
+                final double phi    = 1.2 * FastMath.sin(0.7 * i);
+                final Vector3D p = new Vector3D(r, new Vector3D(lambda, phi));
+                final SpacecraftState state =
+                                new SpacecraftState(new KeplerianOrbit(new PVCoordinates(p, new Vector3D(0, 0, FastMath.sqrt(provider.getMu() / r))),
+                                                                       FramesFactory.getEME2000(),
+                                                                       date, provider.getMu()));
+                adaptive.init(state, date);
+                final Vector3D aAdaptive = adaptive.acceleration(state, adaptive.getParameters(date));
+                final Vector3D aFull     = full.acceleration(state, full.getParameters(date));
+                Assertions.assertEquals(0.0, Vector3D.distance(aAdaptive, aFull), 10 * tolerance);
+            }
+        }
+    }
+
+    @Test
+    public void testHysteresis() {
+        final AdaptiveDegreeAttractionModel model = new AdaptiveDegreeAttractionModel(itrf, provider, 1.0e-9, 0.05);
+
+        // find a radius where required degree changes
+        double r = 2.0e7;
+        final int d0 = model.requiredDegree(r);
+        while (model.requiredDegree(r) == d0) {
+            r += 1000.0;
+        }
+        final int d1 = model.requiredDegree(r);
+        Assertions.assertTrue(d1 < d0);
+
+        final SpacecraftState inner = buildState(r - 2000.0);
+        final SpacecraftState outer = buildState(r + 2000.0);
+        final SpacecraftState far   = buildState(1.1 * r);
+        model.init(inner, date);
+        Assertions.assertEquals(0, model.getCurrentDegree());
+        model.acceleration(inner, model.getParameters(date));
+        Assertions.assertEquals(d0, model.getCurrentDegree());
+
+        // just above threshold, degree is kept
+        model.acceleration(outer, model.getParameters(date));
+        Assertions.assertEquals(d0, model.getCurrentDegree());
+
+        // far above threshold, degree is decreased
+        model.acceleration(far, model.getParameters(date));
+        Assertions.assertTrue(model.getCurrentDegree() < d0);
+
+        // back near threshold, degree is increased immediately
+        model.acceleration(inner, model.getParameters(date));
+        Assertions.assertEquals(d0, model.getCurrentDegree());
+
+        final long[] evaluations = model.getEvaluationsPerDegree();
+        Assertions.assertEquals(provider.getMaxDegree() + 1, evaluations.length);
+        Assertions.assertEquals(3, evaluations[d0]);
+
+    }
+
+    @Test
+    public void testGeoPropagation() {
+        final Orbit orbit = new KeplerianOrbit(42164000.0, 1.0e-4, FastMath.toRadians(0.1),
+                                               0.0, 0.0, 0.0, PositionAngleType.MEAN,
+                                               FramesFactory.getEME2000(), date, provider.getMu());
+        final AdaptiveDegreeAttractionModel adaptive = new AdaptiveDegreeAttractionModel(itrf, provider, 1.0e-10, 0.02);
+        final SpacecraftState adaptiveState = propagate(orbit, adaptive);
+        final SpacecraftState fullState     = propagate(orbit, new HolmesFeatherstoneAttractionModel(itrf, provider));
+        // a constant 1.0e-10 m/s² acceleration error would lead to 0.37m after one day
+        Assertions.assertEquals(0.0,
+                                Vector3D.distance(adaptiveState.getPosition(), fullState.getPosition()),
+                                0.2);
+        Assertions.assertTrue(adaptive.getCurrentDegree() < 12);
+        long evaluations = 0;
+        for (final long n : adaptive.getEvaluationsPerDegree()) {
+            evaluations += n;
+        }
+        Assertions.assertEquals(evaluations, adaptive.getEvaluationsPerDegree()[adaptive.getCurrentDegree()]);
+    }
+
+    @Test
+    public void testWrongSettings() {
+        try {
+            new AdaptiveDegreeAttractionModel(itrf, provider, 0.0, 0.02);
+            Assertions.fail("an exception should have been thrown");
+        } catch (OrekitIllegalArgumentException oiae) {
+            Assertions.assertEquals(LocalizedCoreFormats.NUMBER_TOO_SMALL_BOUND_EXCLUDED, oiae.getSpecifier());
+        }
+        try {
+            new AdaptiveDegreeAttractionModel(itrf, provider, 1.0e-9, -0.02);
+            Assertions.fail("an exception should have been thrown");
+        } catch (OrekitIllegalArgumentException oiae) {
+            Assertions.assertEquals(LocalizedCoreFormats.NUMBER_TOO_SMALL, oiae.getSpecifier());
+        }
+    }
+
+    private SpacecraftState buildState(final double r) {
+        final Vector3D p = new Vector3D(r, new Vector3D(0.4, 0.3));
+        final Vector3D v = new Vector3D(0, 0, FastMath.sqrt(provider.getMu() / r));
+        return new SpacecraftState(new KeplerianOrbit(new PVCoordinates(p, v), FramesFactory.getEME2000(),
+                                                      date, provider.getMu()));
+    }
+
+    private SpacecraftState propagate(final Orbit orbit, final ForceModel model) {
+        final double[][] tolerances = ToleranceProvider.getDefaultToleranceProvider(0.001).
+                                      getTolerances(orbit, OrbitType.CARTESIAN);
+        final NumericalPropagator propagator =
+                        new NumericalPropagator(new DormandPrince853Integrator(1.0e-3, 3600.0,
+                                                                               tolerances[0], tolerances[1]));
+        propagator.setOrbitType(OrbitType.CARTESIAN);
+        propagator.addForceModel(model);
+        propagator.setInitialState(new SpacecraftState(orbit));
+        return propagator.propagate(orbit.getDate().shiftedBy(Constants.JULIAN_DAY));
+    }
+
+    @BeforeEach
+    public void setUp() {
+        Utils.setDataRoot("regular-data:potential/grgs-format");
+        GravityFieldFactory.addPotentialCoefficientsReader(new GRGSFormatReader("grim4s4_gr", true));
+        itrf     = FramesFactory.getITRF(IERSConventions.IERS_2010, true);
+        provider = GravityFieldFactory.getNormalizedProvider(50, 50);
+        date     = new AbsoluteDate(new DateComponents(2000, 7, 1),
+                                    new TimeComponents(13, 59, 27.816),
+                                    TimeScalesFactory.getUTC());
+    }
+
+}
@@ -25,6 +25,7 @@ import org.hipparchus.analysis.differentiation.DerivativeStructure;
 import org.hipparchus.analysis.differentiation.Gradient;
 import org.hipparchus.analysis.differentiation.GradientField;
 import org.hipparchus.dfp.Dfp;
+import org.hipparchus.exception.LocalizedCoreFormats;
 import org.hipparchus.geometry.euclidean.threed.FieldVector3D;
 import org.hipparchus.geometry.euclidean.threed.Rotation;
 import org.hipparchus.geometry.euclidean.threed.SphericalCoordinates;
@@ -37,6 +38,8 @@ import org.hipparchus.ode.nonstiff.AdaptiveStepsizeFieldIntegrator;
 import org.hipparchus.ode.nonstiff.AdaptiveStepsizeIntegrator;
 import org.hipparchus.ode.nonstiff.DormandPrince853FieldIntegrator;
 import org.hipparchus.ode.nonstiff.DormandPrince853Integrator;
+import org.hipparchus.random.RandomGenerator;
+import org.hipparchus.random.Well19937a;
 import org.hipparchus.util.FastMath;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.Assertions;
@@ -49,6 +52,7 @@ import org.orekit.attitudes.Attitude;
 import org.orekit.attitudes.LofOffset;
 import org.orekit.bodies.CelestialBodyFactory;
 import org.orekit.errors.OrekitException;
+import org.orekit.errors.OrekitIllegalArgumentException;
 import org.orekit.forces.AbstractLegacyForceModelTest;
 import org.orekit.forces.ForceModel;
 import org.orekit.forces.gravity.potential.GRGSFormatReader;
@@ -1047,6 +1051,62 @@ public class HolmesFeatherstoneAttractionModelTest extends AbstractLegacyForceMo
         return generator.getGeneratedEphemeris();
     }
 
+    @Test
+    void testBatchGradient() {
+
+        Utils.setDataRoot("regular-data:potential/grgs-format");
+        GravityFieldFactory.addPotentialCoefficientsReader(new GRGSFormatReader("grim4s4_gr", true));
+        final HolmesFeatherstoneAttractionModel hfModel =
+                new HolmesFeatherstoneAttractionModel(itrf, GravityFieldFactory.getNormalizedProvider(50, 40));
+        final AbsoluteDate date = new AbsoluteDate(new DateComponents(2000, 7, 1),
+                                                   new TimeComponents(13, 59, 27.816),
+                                                   TimeScalesFactory.getUTC());
+
+        // more positions than one block, and an incomplete last block
+        final RandomGenerator random    = new Well19937a(0x1c5e4d2b9a3f7e61L);
+        final int             n         = 150;
+        final double[]        positions = new double[3 * n];
+        for (int i = 0; i < n; ++i) {
+            final Vector3D p = new Vector3D(6.6e6 + 3.0e7 * random.nextDouble(),
+                                            new Vector3D(random.nextGaussian(),
+                                                         random.nextGaussian(),
+                                                         random.nextGaussian()).normalize());
+            positions[3 * i]     = p.getX();
+            positions[3 * i + 1] = p.getY();
+            positions[3 * i + 2] = p.getZ();
+        }
+
+        final double[] gradients = new double[3 * n];
+        hfModel.gradient(date, positions, mu, gradients);
+        for (int i = 0; i < n; ++i) {
+            final double[] single = hfModel.gradient(date,
+                                                     new Vector3D(positions[3 * i],
+                                                                  positions[3 * i + 1],
+                                                                  positions[3 * i + 2]),
+                                                     mu);
+            Assertions.assertEquals(single[0], gradients[3 * i],     0.0);
+            Assertions.assertEquals(single[1], gradients[3 * i + 1], 0.0);
+            Assertions.assertEquals(single[2], gradients[3 * i + 2], 0.0);
+        }
+
+        try {
+            hfModel.gradient(date, positions, mu, new double[3 * n - 3]);
+            Assertions.fail("an exception should have been thrown");
+        } catch (OrekitIllegalArgumentException oiae) {
+            Assertions.assertEquals(LocalizedCoreFormats.DIMENSIONS_MISMATCH, oiae.getSpecifier());
+        }
+
+        try {
+            hfModel.gradient(date, new double[3 * n + 1], mu, new double[3 * n + 1]);
+            Assertions.fail("an exception should have been thrown");
+        } catch (OrekitIllegalArgumentException oiae) {
+            Assertions.assertEquals(LocalizedCoreFormats.DIMENSIONS_MISMATCH, oiae.getSpecifier());
+            Assertions.assertEquals(3 * n + 1, ((Integer) oiae.getParts()[0]).intValue());
+            Assertions.assertEquals(3 * n,     ((Integer) oiae.getParts()[1]).intValue());
+        }
+
+    }
+
     @Test
     void testStateJacobian()
         {
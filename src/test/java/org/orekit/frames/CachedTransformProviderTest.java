@@ -16,6 +16,7 @@
  */
 package org.orekit.frames;
 
+import org.hipparchus.exception.LocalizedCoreFormats;
 import org.hipparchus.random.RandomGenerator;
 import org.hipparchus.random.Well19937a;
 import org.junit.jupiter.api.AfterEach;
@@ -23,12 +24,15 @@ import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.orekit.Utils;
+import org.orekit.errors.OrekitIllegalArgumentException;
 import org.orekit.time.AbsoluteDate;
 import org.orekit.utils.Constants;
 import org.orekit.utils.IERSConventions;
 
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.concurrent.Callable;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ExecutorService;
@@ -113,6 +117,72 @@ public class CachedTransformProviderTest {
         Assertions.assertEquals(dates.size(), earth2.count);
     }
 
+    @Test
+    public void testCounters() {
+        final CachedTransformProvider cachedTransformProvider = buildCache(20);
+        Assertions.assertEquals(1, cachedTransformProvider.getStripes());
+        final List<AbsoluteDate> dates = generateDates(new Well19937a(0x03fb4b0832dadcbe2L), 50, 5);
+        for (final AbsoluteDate date : dates) {
+            cachedTransformProvider.getTransform(date);
+        }
+        Assertions.assertEquals(10, cachedTransformProvider.getMisses());
+        Assertions.assertEquals(dates.size() - 10, cachedTransformProvider.getHits());
+        Assertions.assertEquals(10, earth1.count);
+    }
+
+    @Test
+    public void testStripedMultiThread() throws InterruptedException, ExecutionException {
+        final CachedTransformProvider cachedTransformProvider = buildCache(30, 4);
+        Assertions.assertEquals(30, cachedTransformProvider.getCacheSize());
+        Assertions.assertEquals(4,  cachedTransformProvider.getStripes());
+        final List<AbsoluteDate> dates = generateDates(new Well19937a(0x7d63ba984c6ae29eL), 300, 10);
+        final List<Callable<Transform>> tasks = new ArrayList<>();
+        for (final AbsoluteDate date : dates) {
+            tasks.add(() -> cachedTransformProvider.getTransform(date));
+        }
+        ExecutorService executorService = Executors.newFixedThreadPool(4);
+        final List<Future<Transform>> futures = executorService.invokeAll(tasks);
+        executorService.shutdown();
+        for (int i = 0; i < dates.size(); i++) {
+            final Transform transform1   = futures.get(i).get();
+            final Transform transform2   = earth2.getTransformTo(inertialFrame, dates.get(i));
+            final Transform backAndForth = new Transform(dates.get(i), transform1, transform2.getInverse());
+            Assertions.assertEquals(0.0, backAndForth.getRotation().getAngle(), 1.0e-14);
+        }
+        Assertions.assertEquals(dates.size(),
+                                cachedTransformProvider.getHits() + cachedTransformProvider.getMisses());
+        Assertions.assertEquals(earth1.count, cachedTransformProvider.getMisses());
+        Assertions.assertEquals(dates.size(), earth2.count);
+    }
+
+    @Test
+    public void testStripedPeer() {
+        final Frame peered = new Frame(earth2, Transform.IDENTITY, "peered", false);
+        peered.setPeerCaching(inertialFrame, 20, 3);
+        Assertions.assertSame(inertialFrame, peered.getPeer());
+        final List<AbsoluteDate> dates = generateDates(new Well19937a(0x03fb4b0832dadcbe2L), 50, 5);
+        final Map<AbsoluteDate, Transform> first = new HashMap<>();
+        for (final AbsoluteDate date : dates) {
+            final Transform transform1   = peered.getTransformTo(inertialFrame, date);
+            final Transform transform2   = earth1.getTransformTo(inertialFrame, date);
+            final Transform backAndForth = new Transform(date, transform1, transform2.getInverse());
+            Assertions.assertEquals(0.0, backAndForth.getRotation().getAngle(), 3.0e-15);
+            // a single thread always uses the same stripe
+            Assertions.assertSame(first.computeIfAbsent(date, d -> transform1), transform1);
+        }
+        Assertions.assertEquals(10, first.size());
+    }
+
+    @Test
+    public void testWrongStripes() {
+        try {
+            buildCache(20, 0);
+            Assertions.fail("an exception should have been thrown");
+        } catch (OrekitIllegalArgumentException oiae) {
+            Assertions.assertEquals(LocalizedCoreFormats.NUMBER_TOO_SMALL, oiae.getSpecifier());
+        }
+    }
+
     @Test
     public void testExhaust() {
         final RandomGenerator random = new Well19937a(0x3b18a628c1a8b5e9L);
@@ -254,6 +324,15 @@ public class CachedTransformProviderTest {
 
     }
 
+    private CachedTransformProvider buildCache(final int size, final int nbStripes) {
+        return new CachedTransformProvider(earth1, inertialFrame,
+                                           d -> earth1.getTransformTo(inertialFrame, d),
+                                           d -> earth1.getKinematicTransformTo(inertialFrame, d),
+                                           d -> earth1.getStaticTransformTo(inertialFrame, d),
+                                           size, nbStripes);
+
+    }
+
     private List<AbsoluteDate> generateDates(final RandomGenerator random, final int total, final int history) {
         final List<AbsoluteDate> dates = new ArrayList<>(total);
         for (int i = 0; i < total; i++) {
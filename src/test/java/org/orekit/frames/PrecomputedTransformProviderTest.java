@@ -0,0 +1,165 @@
+/* Copyright 2002-2025 CS GROUP
+ * Licensed to CS GROUP (CS) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * CS licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.orekit.frames;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.hipparchus.CalculusFieldElement;
+import org.hipparchus.geometry.euclidean.threed.Rotation;
+import org.hipparchus.util.Binary64;
+import org.hipparchus.util.Binary64Field;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.orekit.Utils;
+import org.orekit.errors.OrekitException;
+import org.orekit.errors.OrekitMessages;
+import org.orekit.time.AbsoluteDate;
+import org.orekit.time.FieldAbsoluteDate;
+import org.orekit.time.TimeScalesFactory;
+import org.orekit.utils.Constants;
+import org.orekit.utils.IERSConventions;
+
+public class PrecomputedTransformProviderTest {
+
+    @TempDir
+    public Path tempDir;
+
+    private Frame gcrf;
+    private Frame itrf;
+    private TransformProvider raw;
+
+    @Test
+    public void testAccuracy() throws IOException {
+        final AbsoluteDate start = new AbsoluteDate(2003, 3, 1, TimeScalesFactory.getUTC());
+        final AbsoluteDate end   = start.shiftedBy(2 * Constants.JULIAN_DAY);
+        final Path         file  = tempDir.resolve("gcrf-itrf.bin");
+        final double error = PrecomputedTransformProvider.write(raw, start, end, 1800.0, 8, file);
+        Assertions.assertEquals(headerAndEntries(97), Files.size(file));
+
+        final PrecomputedTransformProvider provider = PrecomputedTransformProvider.load(file);
+        Assertions.assertEquals(error, provider.getMaxError(), 0.0);
+        Assertions.assertEquals(6.6e-13, error, 1.0e-14);
+        Assertions.assertEquals(97,     provider.getCount());
+        Assertions.assertEquals(8,      provider.getInterpolationPoints());
+        Assertions.assertEquals(1800.0, provider.getStep(), 0.0);
+        Assertions.assertEquals(0.0,    provider.getStart().durationFrom(start), 0.0);
+        Assertions.assertEquals(0.0,    provider.getEnd().durationFrom(end), 0.0);
+
+        for (double dt = 0; dt <= end.durationFrom(start); dt += 317.0) {
+            final AbsoluteDate date = start.shiftedBy(dt);
+            final Transform    tRaw = raw.getTransform(date);
+            final Transform    tTab = provider.getTransform(date);
+            Assertions.assertEquals(0.0, Rotation.distance(tRaw.getRotation(), tTab.getRotation()), 1.1 * error);
+            // raw rates ignore precession-nutation, interpolated rates don't
+            Assertions.assertEquals(0.0, tRaw.getRotationRate().subtract(tTab.getRotationRate()).getNorm(), 5.0e-13);
+        }
+
+    }
+
+    @Test
+    public void testField() throws IOException {
+        final AbsoluteDate start = new AbsoluteDate(2003, 3, 1, TimeScalesFactory.getUTC());
+        final Path         file  = tempDir.resolve("gcrf-itrf-field.bin");
+        PrecomputedTransformProvider.write(raw, start, start.shiftedBy(Constants.JULIAN_DAY), 3600.0, 6, file);
+        final PrecomputedTransformProvider provider = PrecomputedTransformProvider.load(file);
+        final AbsoluteDate date = start.shiftedBy(12345.678);
+        final FieldTransform<Binary64> fieldTransform =
+                        provider.getTransform(new FieldAbsoluteDate<>(Binary64Field.getInstance(), date));
+        final Transform transform = provider.getTransform(date);
+        Assertions.assertEquals(0.0,
+                                Rotation.distance(transform.getRotation(), fieldTransform.getRotation().toRotation()),
+                                1.0e-15);
+    }
+
+    @Test
+    public void testOutOfRange() throws IOException {
+        final AbsoluteDate start = new AbsoluteDate(2003, 3, 1, TimeScalesFactory.getUTC());
+        final Path         file  = tempDir.resolve("gcrf-itrf-range.bin");
+        PrecomputedTransformProvider.write(raw, start, start.shiftedBy(Constants.JULIAN_DAY), 3600.0, 4, file);
+        final PrecomputedTransformProvider provider = PrecomputedTransformProvider.load(file);
+        try {
+            provider.getTransform(start.shiftedBy(-1.0));
+            Assertions.fail("an exception should have been thrown");
+        } catch (OrekitException oe) {
+            Assertions.assertEquals(OrekitMessages.OUT_OF_RANGE_DATE, oe.getSpecifier());
+        }
+        try {
+            provider.getTransform(provider.getEnd().shiftedBy(1.0));
+            Assertions.fail("an exception should have been thrown");
+        } catch (OrekitException oe) {
+            Assertions.assertEquals(OrekitMessages.OUT_OF_RANGE_DATE, oe.getSpecifier());
+        }
+    }
+
+    @Test
+    public void testNotATable() throws IOException {
+        final Path file = tempDir.resolve("not-a-table.bin");
+        Files.write(file, new byte[80]);
+        try {
+            PrecomputedTransformProvider.load(file);
+            Assertions.fail("an exception should have been thrown");
+        } catch (OrekitException oe) {
+            Assertions.assertEquals(OrekitMessages.UNSUPPORTED_FILE_FORMAT, oe.getSpecifier());
+        }
+    }
+
+    @Test
+    public void testTruncated() throws IOException {
+        final AbsoluteDate start = new AbsoluteDate(2003, 3, 1, TimeScalesFactory.getUTC());
+        final Path         file  = tempDir.resolve("gcrf-itrf-truncated.bin");
+        PrecomputedTransformProvider.write(raw, start, start.shiftedBy(Constants.JULIAN_DAY), 3600.0, 4, file);
+        final byte[] content = Files.readAllBytes(file);
+        final byte[] truncated = new byte[content.length - 1];
+        System.arraycopy(content, 0, truncated, 0, truncated.length);
+        Files.write(file, truncated);
+        try {
+            PrecomputedTransformProvider.load(file);
+            Assertions.fail("an exception should have been thrown");
+        } catch (OrekitException oe) {
+            Assertions.assertEquals(OrekitMessages.UNEXPECTED_END_OF_FILE, oe.getSpecifier());
+        }
+    }
+
+    private static long headerAndEntries(final int count) {
+        return 56 + 32 * count;
+    }
+
+    @BeforeEach
+    public void setUp() {
+        Utils.setDataRoot("regular-data");
+        gcrf = FramesFactory.getGCRF();
+        itrf = FramesFactory.getITRF(IERSConventions.IERS_2010, false);
+        raw  = new TransformProvider() {
+
+            @Override
+            public Transform getTransform(final AbsoluteDate date) {
+                return gcrf.getTransformTo(itrf, date);
+            }
+
+            @Override
+            public <T extends CalculusFieldElement<T>> FieldTransform<T> getTransform(final FieldAbsoluteDate<T> date) {
+                return gcrf.getTransformTo(itrf, date);
+            }
+
+        };
+    }
+
+}
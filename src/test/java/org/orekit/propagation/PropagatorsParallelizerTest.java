@@ -41,11 +41,22 @@ import org.orekit.orbits.OrbitType;
 import org.orekit.orbits.PositionAngleType;
 import org.orekit.propagation.analytical.EcksteinHechlerPropagator;
 import org.orekit.propagation.analytical.KeplerianPropagator;
+import org.orekit.errors.OrekitIllegalArgumentException;
 import org.orekit.propagation.events.DateDetector;
+import org.orekit.propagation.events.EventDetectionSettings;
+import org.orekit.propagation.events.EventsLogger;
+import org.orekit.propagation.events.ExtremumApproachDetector;
+import org.orekit.propagation.events.InterSatDirectViewDetector;
+import org.orekit.propagation.events.MultiSatDirectViewDetector;
+import org.orekit.propagation.events.MultiSatEventDetector;
+import org.orekit.propagation.events.MultiSatExtremumApproachDetector;
+import org.orekit.propagation.events.handlers.ContinueOnEvent;
+import org.orekit.propagation.events.handlers.MultiSatEventHandler;
 import org.orekit.propagation.events.handlers.StopOnEvent;
 import org.orekit.propagation.integration.AdditionalDerivativesProvider;
 import org.orekit.propagation.integration.CombinedDerivatives;
 import org.orekit.propagation.numerical.NumericalPropagator;
+import org.orekit.propagation.sampling.OrekitStepInterpolator;
 import org.orekit.propagation.semianalytical.dsst.DSSTPropagator;
 import org.orekit.propagation.semianalytical.dsst.forces.DSSTForceModel;
 import org.orekit.propagation.semianalytical.dsst.forces.DSSTZonal;
@@ -59,6 +70,8 @@ import org.orekit.utils.IERSConventions;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
 
@@ -400,6 +413,382 @@ public class PropagatorsParallelizerTest {
         Assertions.assertEquals(expected1, results.get(1).getAdditionalState(name)[0], 5.0e-8 * expected1);
     }
 
+    @Test
+    public void testBoundedVsNumericalMonoSat() {
+
+        final AbsoluteDate startDate =  orbit.getDate();
+        final AbsoluteDate endDate   = startDate.shiftedBy(3600.0);
+        Propagator mono = buildNumerical();
+        final EphemerisGenerator generator = mono.getEphemerisGenerator();
+        mono.propagate(startDate, endDate);
+        final BoundedPropagator ephemeris = generator.getGeneratedEphemeris();
+
+        List<Propagator> propagators = Arrays.asList(buildEcksteinHechler(),
+                                                     buildNumerical());
+
+        final ExecutorService executorService = Executors.newSingleThreadExecutor();
+        try {
+            PropagatorsParallelizer parallelizer =
+                            new PropagatorsParallelizer(propagators,
+                                                        interpolators -> {
+                                                            AbsoluteDate aCurr = interpolators.get(0).getCurrentState().getDate();
+                                                            AbsoluteDate nCurr = interpolators.get(1).getCurrentState().getDate();
+                                                            Assertions.assertEquals(0.0, aCurr.durationFrom(nCurr), 3.0e-13);
+                                                            Vector3D nPos = interpolators.get(1).getCurrentState().getPosition();
+                                                            Vector3D ePos = ephemeris.getPosition(nCurr, orbit.getFrame());
+                                                            Assertions.assertEquals(0, Vector3D.distance(ePos, nPos), 1.0e-15);
+                                                        },
+                                                        executorService, 1, Double.POSITIVE_INFINITY);
+            List<SpacecraftState> results = parallelizer.propagate(startDate, endDate);
+
+            Assertions.assertEquals(2, results.size());
+            for (final SpacecraftState state : results) {
+                Assertions.assertEquals(0.0, state.getDate().durationFrom(endDate), 1.0e-15);
+            }
+        } finally {
+            executorService.shutdown();
+        }
+
+    }
+
+    @Test
+    public void testBoundedManyPropagators() {
+        final AbsoluteDate startDate =  orbit.getDate();
+        final AbsoluteDate endDate   = startDate.shiftedBy(3600.0);
+        final double       h         = 60.0;
+        final List<Propagator> propagators = new ArrayList<>();
+        for (int i = 0; i < 20; ++i) {
+            propagators.add(i % 2 == 0 ? buildEcksteinHechler() : new KeplerianPropagator(orbit));
+        }
+        final AtomicInteger counter = new AtomicInteger();
+        final ExecutorService executorService = Executors.newFixedThreadPool(3);
+        try {
+            final List<SpacecraftState> results =
+                            new PropagatorsParallelizer(propagators,
+                                                        h,
+                                                        states -> {
+                                                            Assertions.assertEquals(20, states.size());
+                                                            for (final SpacecraftState state : states) {
+                                                                Assertions.assertEquals(h * counter.get(),
+                                                                                        state.getDate().durationFrom(startDate),
+                                                                                        1.0e-10);
+                                                            }
+                                                            counter.addAndGet(1);
+                                                        },
+                                                        executorService, 3, 450.0).propagate(startDate, endDate);
+            Assertions.assertEquals(1 + (int) FastMath.rint(endDate.durationFrom(startDate) / h), counter.get());
+            Assertions.assertEquals(20, results.size());
+            for (int i = 0; i < results.size(); ++i) {
+                Assertions.assertEquals(0.0, results.get(i).getDate().durationFrom(endDate), 1.0e-15);
+                final Vector3D expected = (i % 2 == 0 ? buildEcksteinHechler() : new KeplerianPropagator(orbit)).
+                                          propagate(endDate).getPosition();
+                Assertions.assertEquals(0.0, Vector3D.distance(expected, results.get(i).getPosition()), 1.0e-6);
+            }
+        } finally {
+            executorService.shutdown();
+        }
+    }
+
+    @Test
+    public void testBoundedStopOnLateEvent() {
+        final AbsoluteDate startDate =  orbit.getDate();
+        final AbsoluteDate endDate   = startDate.shiftedBy(3600.0);
+        final AbsoluteDate stopDate  = startDate.shiftedBy(900.0);
+        List<Propagator> propagators = Arrays.asList(buildEcksteinHechler(),
+                                                     buildNumerical());
+        propagators.get(0).addEventDetector(new DateDetector(stopDate).withHandler(new StopOnEvent()));
+        final ExecutorService executorService = Executors.newFixedThreadPool(2);
+        try {
+            List<SpacecraftState> results = new PropagatorsParallelizer(propagators, interpolators -> {},
+                                                                        executorService, 2, 600.0).
+                                            propagate(startDate, endDate);
+            Assertions.assertEquals(2, results.size());
+            Assertions.assertEquals(0.0, results.get(0).getDate().durationFrom(stopDate), 1.0e-15);
+            Assertions.assertEquals(0.0, results.get(1).getDate().durationFrom(stopDate), 1.0e-15);
+        } finally {
+            executorService.shutdown();
+        }
+    }
+
+    @Test
+    public void testBoundedOrekitException() {
+        final AbsoluteDate startDate =  orbit.getDate();
+        final AbsoluteDate endDate   = startDate.shiftedBy(3600.0);
+        List<Propagator> propagators = Arrays.asList(buildEcksteinHechler(),
+                                                     buildNumerical());
+        propagators.get(0).addEventDetector(new DateDetector(startDate.shiftedBy(900.0)).
+                                            withHandler((state, detector, increasing) -> {
+                                                throw new OrekitException(LocalizedCoreFormats.SIMPLE_MESSAGE,
+                                                                "inTest");
+                                            }));
+        final ExecutorService executorService = Executors.newFixedThreadPool(2);
+        try {
+            new PropagatorsParallelizer(propagators, interpolators -> {}, executorService, 2, 600.0).
+            propagate(startDate, endDate);
+            Assertions.fail("an exception should have been thrown");
+        } catch (OrekitException oe) {
+            Assertions.assertNull(oe.getCause());
+            Assertions.assertEquals(LocalizedCoreFormats.SIMPLE_MESSAGE, oe.getSpecifier());
+            Assertions.assertEquals("inTest", (String) oe.getParts()[0]);
+        } finally {
+            executorService.shutdown();
+        }
+    }
+
+    @Test
+    public void testBoundedWrongSettings() {
+        final List<Propagator> propagators = Arrays.asList(buildEcksteinHechler(), buildNumerical());
+        final ExecutorService executorService = Executors.newSingleThreadExecutor();
+        try {
+            new PropagatorsParallelizer(propagators, interpolators -> {}, executorService, 0, 600.0);
+            Assertions.fail("an exception should have been thrown");
+        } catch (OrekitException oe) {
+            Assertions.assertEquals(OrekitMessages.NOT_STRICTLY_POSITIVE, oe.getSpecifier());
+        }
+        try {
+            new PropagatorsParallelizer(propagators, interpolators -> {}, executorService, 2, 0.0);
+            Assertions.fail("an exception should have been thrown");
+        } catch (OrekitException oe) {
+            Assertions.assertEquals(OrekitMessages.NOT_STRICTLY_POSITIVE, oe.getSpecifier());
+        } finally {
+            executorService.shutdown();
+        }
+    }
+
+    @Test
+    public void testMultiSatExtremumApproach() {
+        checkMultiSatExtremumApproach(null);
+    }
+
+    @Test
+    public void testBoundedMultiSatExtremumApproach() {
+        final ExecutorService executorService = Executors.newFixedThreadPool(2);
+        try {
+            checkMultiSatExtremumApproach(executorService);
+        } finally {
+            executorService.shutdown();
+        }
+    }
+
+    private void checkMultiSatExtremumApproach(final ExecutorService executorService) {
+
+        final AbsoluteDate startDate = orbit.getDate();
+        final AbsoluteDate endDate   = startDate.shiftedBy(Constants.JULIAN_DAY);
+        final Orbit        other     = buildOtherOrbit(0.2, 0.1);
+
+        // reference: serial detection with an independent secondary propagator
+        final EventsLogger reference = new EventsLogger();
+        final Propagator   primary   = new KeplerianPropagator(orbit);
+        primary.addEventDetector(reference.monitorDetector(new ExtremumApproachDetector(new KeplerianPropagator(other)).
+                                                           withHandler(new ContinueOnEvent())));
+        primary.propagate(startDate, endDate);
+
+        // parallel detection
+        final List<AbsoluteDate> dates      = new ArrayList<>();
+        final List<Boolean>      increasing = new ArrayList<>();
+        final List<Propagator>   propagators = Arrays.asList(new KeplerianPropagator(orbit),
+                                                             new KeplerianPropagator(other));
+        final PropagatorsParallelizer parallelizer =
+                        executorService == null ?
+                        new PropagatorsParallelizer(propagators, interpolators -> {}) :
+                        new PropagatorsParallelizer(propagators, interpolators -> {}, executorService, 2, 3600.0);
+        final MultiSatExtremumApproachDetector detector =
+                        new MultiSatExtremumApproachDetector(0, 1, (states, d, inc) -> {
+                            Assertions.assertEquals(2, states.size());
+                            Assertions.assertEquals(0.0, states.get(1).getDate().durationFrom(states.get(0).getDate()), 0.0);
+                            dates.add(states.get(0).getDate());
+                            increasing.add(inc);
+                        });
+        Assertions.assertEquals(0, detector.getFirst());
+        Assertions.assertEquals(1, detector.getSecond());
+        parallelizer.addEventDetector(detector);
+        Assertions.assertEquals(1, parallelizer.getEventDetectors().size());
+        parallelizer.propagate(startDate, endDate);
+
+        Assertions.assertTrue(reference.getLoggedEvents().size() > 20);
+        Assertions.assertEquals(reference.getLoggedEvents().size(), dates.size());
+        for (int i = 0; i < dates.size(); ++i) {
+            Assertions.assertEquals(0.0,
+                                    dates.get(i).durationFrom(reference.getLoggedEvents().get(i).getDate()),
+                                    1.0e-5);
+            Assertions.assertEquals(reference.getLoggedEvents().get(i).isIncreasing(), increasing.get(i));
+        }
+
+        // once cleared, detectors are not triggered anymore
+        parallelizer.clearEventDetectors();
+        Assertions.assertTrue(parallelizer.getEventDetectors().isEmpty());
+        dates.clear();
+        parallelizer.propagate(startDate, endDate);
+        Assertions.assertTrue(dates.isEmpty());
+
+    }
+
+    @Test
+    public void testMultiSatDirectView() {
+
+        final AbsoluteDate     startDate = orbit.getDate();
+        final AbsoluteDate     endDate   = startDate.shiftedBy(Constants.JULIAN_DAY);
+        final Orbit            other     = buildOtherOrbit(1.5, 0.0);
+        final OneAxisEllipsoid earth     = new OneAxisEllipsoid(Constants.WGS84_EARTH_EQUATORIAL_RADIUS,
+                                                                Constants.WGS84_EARTH_FLATTENING,
+                                                                FramesFactory.getITRF(IERSConventions.IERS_2010, true));
+
+        // reference: serial detection with an independent secondary propagator
+        final EventsLogger reference = new EventsLogger();
+        final Propagator   primary   = new KeplerianPropagator(orbit);
+        primary.addEventDetector(reference.monitorDetector(new InterSatDirectViewDetector(earth, new KeplerianPropagator(other)).
+                                                           withSkimmingAltitude(100000.0)));
+        primary.propagate(startDate, endDate);
+
+        // parallel detection
+        final List<AbsoluteDate> dates = new ArrayList<>();
+        final PropagatorsParallelizer parallelizer =
+                        new PropagatorsParallelizer(Arrays.asList(new KeplerianPropagator(orbit),
+                                                                  new KeplerianPropagator(other)),
+                                                    interpolators -> {});
+        final MultiSatDirectViewDetector detector =
+                        new MultiSatDirectViewDetector(earth, 100000.0, 0, 1,
+                                                       (states, d, inc) -> dates.add(states.get(0).getDate()));
+        Assertions.assertSame(earth, detector.getCentralBody());
+        Assertions.assertEquals(100000.0, detector.getSkimmingAltitude(), 0.0);
+        parallelizer.addEventDetector(detector);
+        parallelizer.propagate(startDate, endDate);
+
+        Assertions.assertTrue(reference.getLoggedEvents().size() > 20);
+        Assertions.assertEquals(reference.getLoggedEvents().size(), dates.size());
+        for (int i = 0; i < dates.size(); ++i) {
+            Assertions.assertEquals(0.0,
+                                    dates.get(i).durationFrom(reference.getLoggedEvents().get(i).getDate()),
+                                    1.0e-5);
+        }
+
+    }
+
+    @Test
+    public void testMultiSatWrongIndex() {
+        try {
+            new MultiSatExtremumApproachDetector(-1, 1, (states, d, inc) -> {});
+            Assertions.fail("an exception should have been thrown");
+        } catch (OrekitIllegalArgumentException oiae) {
+            Assertions.assertEquals(LocalizedCoreFormats.NUMBER_TOO_SMALL, oiae.getSpecifier());
+        }
+        try {
+            new MultiSatExtremumApproachDetector(0, -1, (states, d, inc) -> {});
+            Assertions.fail("an exception should have been thrown");
+        } catch (OrekitIllegalArgumentException oiae) {
+            Assertions.assertEquals(LocalizedCoreFormats.NUMBER_TOO_SMALL, oiae.getSpecifier());
+        }
+    }
+
+    @Test
+    public void testMultiSatLazySharedInterpolation() {
+        final int[] single = countMultiSatInterpolations(1);
+        final int[] many   = countMultiSatInterpolations(3);
+
+        // only the satellites used by the detectors are interpolated
+        Assertions.assertTrue(single[0] > 0);
+        Assertions.assertTrue(single[1] > 0);
+        Assertions.assertEquals(0, single[2]);
+        Assertions.assertEquals(0, single[3]);
+
+        // states at sampling dates are shared between detectors
+        Assertions.assertArrayEquals(single, many);
+
+    }
+
+    private int[] countMultiSatInterpolations(final int nbDetectors) {
+
+        final AbsoluteDate     startDate   = orbit.getDate();
+        final AbsoluteDate     endDate     = startDate.shiftedBy(Constants.JULIAN_DAY);
+        final List<Propagator> propagators = new ArrayList<>();
+        for (int k = 0; k < 4; ++k) {
+            propagators.add(new KeplerianPropagator(buildOtherOrbit(0.1 * k, 0.05 * k)));
+        }
+
+        // detectors depending only on the first two satellites, and never triggered
+        final List<MultiSatEventDetector> detectors = new ArrayList<>();
+        for (int i = 0; i < nbDetectors; ++i) {
+            detectors.add(new MultiSatEventDetector() {
+                public double g(final List<SpacecraftState> states) {
+                    return Vector3D.distance(states.get(0).getPosition(), states.get(1).getPosition()) - 1.0e9;
+                }
+                public EventDetectionSettings getDetectionSettings() {
+                    return EventDetectionSettings.getDefaultEventDetectionSettings();
+                }
+                public MultiSatEventHandler getHandler() {
+                    return (states, detector, increasing) -> Assertions.fail("no event expected");
+                }
+            });
+        }
+
+        final MultiSatEventsMonitor monitor = new MultiSatEventsMonitor(detectors, interpolators -> {});
+        final List<SpacecraftState> states0 = new ArrayList<>();
+        for (final Propagator propagator : propagators) {
+            states0.add(propagator.getInitialState());
+        }
+        monitor.init(states0, endDate);
+
+        final int[] counts = new int[propagators.size()];
+        for (AbsoluteDate t = startDate; t.isBefore(endDate); t = t.shiftedBy(600.0)) {
+            final List<OrekitStepInterpolator> interpolators = new ArrayList<>();
+            for (int k = 0; k < propagators.size(); ++k) {
+                interpolators.add(new CountingInterpolator(propagators.get(k), t, t.shiftedBy(600.0), counts, k));
+            }
+            monitor.handleStep(interpolators);
+        }
+
+        return counts;
+
+    }
+
+    private static class CountingInterpolator implements OrekitStepInterpolator {
+        final Propagator   propagator;
+        final AbsoluteDate previous;
+        final AbsoluteDate current;
+        final int[]        counts;
+        final int          index;
+        CountingInterpolator(final Propagator propagator, final AbsoluteDate previous, final AbsoluteDate current,
+                             final int[] counts, final int index) {
+            this.propagator = propagator;
+            this.previous   = previous;
+            this.current    = current;
+            this.counts     = counts;
+            this.index      = index;
+        }
+        public SpacecraftState getPreviousState() {
+            return propagator.propagate(previous);
+        }
+        public boolean isPreviousStateInterpolated() {
+            return false;
+        }
+        public SpacecraftState getCurrentState() {
+            return propagator.propagate(current);
+        }
+        public boolean isCurrentStateInterpolated() {
+            return false;
+        }
+        public SpacecraftState getInterpolatedState(final AbsoluteDate date) {
+            ++counts[index];
+            return propagator.propagate(date);
+        }
+        public boolean isForward() {
+            return true;
+        }
+        public OrekitStepInterpolator restrictStep(final SpacecraftState newPreviousState,
+                                                   final SpacecraftState newCurrentState) {
+            return new CountingInterpolator(propagator, newPreviousState.getDate(), newCurrentState.getDate(),
+                                            counts, index);
+        }
+    }
+
+    private Orbit buildOtherOrbit(final double deltaRaan, final double deltaAnomaly) {
+        final KeplerianOrbit k = (KeplerianOrbit) OrbitType.KEPLERIAN.convertType(orbit);
+        return new KeplerianOrbit(k.getA(), k.getE(), k.getI(), k.getPerigeeArgument(),
+                                  k.getRightAscensionOfAscendingNode() + deltaRaan,
+                                  k.getTrueAnomaly() + deltaAnomaly, PositionAngleType.TRUE,
+                                  k.getFrame(), k.getDate(), k.getMu());
+    }
+
     private static class Exponential implements AdditionalDerivativesProvider {
         final String name;
         final double base;
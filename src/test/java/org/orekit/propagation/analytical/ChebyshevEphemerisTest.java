@@ -0,0 +1,230 @@
+/* Copyright 2002-2025 CS GROUP
+ * Licensed to CS GROUP (CS) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * CS licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.orekit.propagation.analytical;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.Arrays;
+
+import org.hipparchus.exception.LocalizedCoreFormats;
+import org.hipparchus.geometry.euclidean.threed.Vector3D;
+import org.hipparchus.ode.nonstiff.DormandPrince853Integrator;
+import org.hipparchus.util.FastMath;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.orekit.Utils;
+import org.orekit.data.DataSource;
+import org.orekit.errors.OrekitException;
+import org.orekit.errors.OrekitIllegalArgumentException;
+import org.orekit.errors.OrekitMessages;
+import org.orekit.forces.gravity.HolmesFeatherstoneAttractionModel;
+import org.orekit.forces.gravity.potential.GravityFieldFactory;
+import org.orekit.forces.gravity.potential.NormalizedSphericalHarmonicsProvider;
+import org.orekit.frames.FramesFactory;
+import org.orekit.orbits.KeplerianOrbit;
+import org.orekit.orbits.Orbit;
+import org.orekit.orbits.OrbitType;
+import org.orekit.orbits.PositionAngleType;
+import org.orekit.propagation.BoundedPropagator;
+import org.orekit.propagation.EphemerisGenerator;
+import org.orekit.propagation.SpacecraftState;
+import org.orekit.propagation.ToleranceProvider;
+import org.orekit.propagation.numerical.NumericalPropagator;
+import org.orekit.time.AbsoluteDate;
+import org.orekit.time.TimeScalesFactory;
+import org.orekit.utils.Constants;
+import org.orekit.utils.IERSConventions;
+import org.orekit.utils.PVCoordinates;
+
+public class ChebyshevEphemerisTest {
+
+    private BoundedPropagator reference;
+
+    @Test
+    public void testFitAccuracy() {
+        final ChebyshevEphemeris ephemeris = ChebyshevEphemeris.fit(reference, 14, 1800.0, 1.0e-3);
+        Assertions.assertEquals(0, reference.getMinDate().durationFrom(ephemeris.getMinDate()), 0.0);
+        Assertions.assertEquals(0, reference.getMaxDate().durationFrom(ephemeris.getMaxDate()), 0.0);
+        Assertions.assertSame(reference.getFrame(), ephemeris.getFrame());
+        Assertions.assertEquals(14, ephemeris.getDegree());
+        Assertions.assertEquals(96, ephemeris.getNbCells());
+        Assertions.assertTrue(ephemeris.getNbSegments() >= ephemeris.getNbCells());
+        Assertions.assertTrue(ephemeris.getMaxError() <= 1.0e-3);
+
+        double maxP = 0;
+        double maxV = 0;
+        double maxA = 0;
+        final double span = reference.getMaxDate().durationFrom(reference.getMinDate());
+        for (double dt = 0; dt <= span; dt += 17.3) {
+            final AbsoluteDate    date     = reference.getMinDate().shiftedBy(dt);
+            final PVCoordinates   expected = reference.propagate(date).getPVCoordinates();
+            final SpacecraftState fitted   = ephemeris.propagate(date);
+            maxP = FastMath.max(maxP, Vector3D.distance(expected.getPosition(), fitted.getPosition()));
+            maxV = FastMath.max(maxV, Vector3D.distance(expected.getVelocity(), fitted.getVelocity()));
+            maxA = FastMath.max(maxA, Vector3D.distance(expected.getAcceleration(), fitted.getPVCoordinates().getAcceleration()));
+            Assertions.assertEquals(0.0,
+                                    Vector3D.distance(fitted.getPosition(),
+                                                      ephemeris.getPosition(date, reference.getFrame())),
+                                    1.0e-15 * fitted.getPosition().getNorm());
+            Assertions.assertEquals(1000.0, fitted.getMass(), 1.0e-9);
+        }
+        Assertions.assertTrue(maxP < 1.1e-3, "max position error " + maxP);
+        Assertions.assertTrue(maxV < 2.0e-4, "max velocity error " + maxV);
+        Assertions.assertTrue(maxA < 2.0e-5, "max acceleration error " + maxA);
+    }
+
+    @Test
+    public void testAdaptiveLevels() {
+        // long cells force subdivision, tighter tolerance requires more segments
+        final ChebyshevEphemeris loose = ChebyshevEphemeris.fit(reference, 10, 86400.0, 1.0);
+        final ChebyshevEphemeris tight = ChebyshevEphemeris.fit(reference, 10, 86400.0, 1.0e-4);
+        Assertions.assertEquals(2, loose.getNbCells());
+        Assertions.assertEquals(2, tight.getNbCells());
+        Assertions.assertTrue(loose.getNbSegments() > loose.getNbCells());
+        Assertions.assertTrue(tight.getNbSegments() > loose.getNbSegments());
+        Assertions.assertTrue(loose.getMaxError() <= 1.0);
+        Assertions.assertTrue(tight.getMaxError() <= 1.0e-4);
+    }
+
+    @Test
+    public void testWriteRead() throws IOException {
+        final ChebyshevEphemeris ephemeris = ChebyshevEphemeris.fit(reference, 12, 3600.0, 1.0e-2);
+        final ByteArrayOutputStream out = new ByteArrayOutputStream();
+        ephemeris.write(out);
+        final ChebyshevEphemeris read = ChebyshevEphemeris.read(source("ephemeris", out.toByteArray()),
+                                                                reference.getFrame());
+        Assertions.assertEquals(ephemeris.getNbCells(),    read.getNbCells());
+        Assertions.assertEquals(ephemeris.getNbSegments(), read.getNbSegments());
+        Assertions.assertEquals(ephemeris.getMaxError(),   read.getMaxError(), 0.0);
+        Assertions.assertEquals(0, ephemeris.getMaxDate().durationFrom(read.getMaxDate()), 0.0);
+        for (double dt = 0; dt <= 2 * Constants.JULIAN_DAY; dt += 600.0) {
+            final AbsoluteDate date = ephemeris.getMinDate().shiftedBy(dt);
+            Assertions.assertEquals(0.0,
+                                    Vector3D.distance(ephemeris.propagate(date).getPosition(),
+                                                      read.propagate(date).getPosition()),
+                                    0.0);
+        }
+
+        // compact storage: 4 components per segment plus small header and cells index
+        Assertions.assertTrue(out.size() < 200 + 8 * ephemeris.getNbCells() +
+                              8 * 4 * 13 * ephemeris.getNbSegments());
+
+        // wrong frame
+        try {
+            ChebyshevEphemeris.read(source("ephemeris", out.toByteArray()), FramesFactory.getGCRF());
+            Assertions.fail("an exception should have been thrown");
+        } catch (OrekitException oe) {
+            Assertions.assertEquals(OrekitMessages.FRAMES_MISMATCH, oe.getSpecifier());
+        }
+
+        // truncated data
+        try {
+            ChebyshevEphemeris.read(source("truncated", Arrays.copyOf(out.toByteArray(), out.size() - 5)),
+                                    reference.getFrame());
+            Assertions.fail("an exception should have been thrown");
+        } catch (OrekitException oe) {
+            Assertions.assertEquals(OrekitMessages.UNEXPECTED_END_OF_FILE, oe.getSpecifier());
+            Assertions.assertEquals("truncated", oe.getParts()[0]);
+        }
+
+        // corrupted magic number
+        final byte[] corrupted = out.toByteArray();
+        corrupted[0] = 'X';
+        try {
+            ChebyshevEphemeris.read(new ByteArrayInputStream(corrupted), "corrupted", reference.getFrame());
+            Assertions.fail("an exception should have been thrown");
+        } catch (OrekitException oe) {
+            Assertions.assertEquals(OrekitMessages.UNSUPPORTED_FILE_FORMAT, oe.getSpecifier());
+            Assertions.assertEquals("corrupted", oe.getParts()[0]);
+        }
+    }
+
+    @Test
+    public void testOutOfRange() {
+        final ChebyshevEphemeris ephemeris = ChebyshevEphemeris.fit(reference, 12, 3600.0, 1.0e-2);
+        try {
+            ephemeris.propagate(ephemeris.getMinDate().shiftedBy(-1.0));
+            Assertions.fail("an exception should have been thrown");
+        } catch (OrekitException oe) {
+            Assertions.assertEquals(OrekitMessages.OUT_OF_RANGE_EPHEMERIDES_DATE_BEFORE, oe.getSpecifier());
+        }
+        try {
+            ephemeris.propagate(ephemeris.getMaxDate().shiftedBy(1.0));
+            Assertions.fail("an exception should have been thrown");
+        } catch (OrekitException oe) {
+            Assertions.assertEquals(OrekitMessages.OUT_OF_RANGE_EPHEMERIDES_DATE_AFTER, oe.getSpecifier());
+        }
+        try {
+            ephemeris.resetInitialState(ephemeris.getInitialState());
+            Assertions.fail("an exception should have been thrown");
+        } catch (OrekitException oe) {
+            Assertions.assertEquals(OrekitMessages.NON_RESETABLE_STATE, oe.getSpecifier());
+        }
+    }
+
+    @Test
+    public void testWrongSettings() {
+        try {
+            ChebyshevEphemeris.fit(reference, 0, 3600.0, 1.0e-2);
+            Assertions.fail("an exception should have been thrown");
+        } catch (OrekitIllegalArgumentException oiae) {
+            Assertions.assertEquals(LocalizedCoreFormats.NUMBER_TOO_SMALL, oiae.getSpecifier());
+        }
+        try {
+            ChebyshevEphemeris.fit(reference, 12, 0.0, 1.0e-2);
+            Assertions.fail("an exception should have been thrown");
+        } catch (OrekitIllegalArgumentException oiae) {
+            Assertions.assertEquals(LocalizedCoreFormats.NUMBER_TOO_SMALL_BOUND_EXCLUDED, oiae.getSpecifier());
+        }
+        try {
+            ChebyshevEphemeris.fit(reference, 12, 3600.0, -1.0);
+            Assertions.fail("an exception should have been thrown");
+        } catch (OrekitIllegalArgumentException oiae) {
+            Assertions.assertEquals(LocalizedCoreFormats.NUMBER_TOO_SMALL_BOUND_EXCLUDED, oiae.getSpecifier());
+        }
+    }
+
+    private DataSource source(final String name, final byte[] data) {
+        return new DataSource(name, () -> new ByteArrayInputStream(data));
+    }
+
+    @BeforeEach
+    public void setUp() {
+        Utils.setDataRoot("regular-data:potential/icgem-format");
+        final NormalizedSphericalHarmonicsProvider gravity = GravityFieldFactory.getNormalizedProvider(8, 8);
+        final Orbit orbit = new KeplerianOrbit(7000000.0, 0.01, FastMath.toRadians(98.0),
+                                               FastMath.toRadians(30.0), FastMath.toRadians(120.0),
+                                               0.0, PositionAngleType.MEAN, FramesFactory.getEME2000(),
+                                               new AbsoluteDate(2004, 1, 1, TimeScalesFactory.getUTC()),
+                                               gravity.getMu());
+        final double[][] tolerances = ToleranceProvider.getDefaultToleranceProvider(1.0e-4).
+                                      getTolerances(orbit, OrbitType.CARTESIAN);
+        final NumericalPropagator propagator =
+                        new NumericalPropagator(new DormandPrince853Integrator(1.0e-3, 300.0,
+                                                                               tolerances[0], tolerances[1]));
+        propagator.setOrbitType(OrbitType.CARTESIAN);
+        propagator.addForceModel(new HolmesFeatherstoneAttractionModel(FramesFactory.getITRF(IERSConventions.IERS_2010, true),
+                                                                       gravity));
+        propagator.setInitialState(new SpacecraftState(orbit).withMass(1000.0));
+        final EphemerisGenerator generator = propagator.getEphemerisGenerator();
+        propagator.propagate(orbit.getDate().shiftedBy(2 * Constants.JULIAN_DAY));
+        reference = generator.getGeneratedEphemeris();
+    }
+
+}
@@ -18,6 +18,7 @@ package org.orekit.propagation.analytical;
 
 import org.hamcrest.MatcherAssert;
 import org.hipparchus.analysis.polynomials.SmoothStepFactory;
+import org.hipparchus.exception.LocalizedCoreFormats;
 import org.hipparchus.geometry.euclidean.threed.Rotation;
 import org.hipparchus.geometry.euclidean.threed.Vector3D;
 import org.hipparchus.linear.BlockRealMatrix;
@@ -962,6 +963,99 @@ class EphemerisTest {
                 OrekitMatchers.pvCloseTo(finalOrbit.getPVCoordinates(), 0.0));
     }
 
+    @Test
+    void testInterpolatePVCartesian() {
+        setUp();
+        final List<SpacecraftState> states = new ArrayList<>();
+        for (double dt = 0; dt <= 7200; dt += 60) {
+            final Orbit orbit = propagator.propagate(initDate.shiftedBy(dt)).getOrbit();
+            states.add(new SpacecraftState(new CartesianOrbit(orbit)));
+        }
+        final Ephemeris ephemeris = new Ephemeris(states, 6);
+
+        final int      count      = 1000;
+        final double   step       = 7.2;
+        final double[] positions  = new double[3 * count];
+        final double[] velocities = new double[3 * count];
+        ephemeris.interpolatePV(initDate, step, count, positions, velocities);
+
+        for (int j = 0; j < count; ++j) {
+            final PVCoordinates reference = ephemeris.propagate(initDate.shiftedBy(j * step)).getPVCoordinates();
+            Assertions.assertEquals(0.0,
+                                    Vector3D.distance(reference.getPosition(),
+                                                      new Vector3D(positions[3 * j], positions[3 * j + 1], positions[3 * j + 2])),
+                                    1.0e-7);
+            Assertions.assertEquals(0.0,
+                                    Vector3D.distance(reference.getVelocity(),
+                                                      new Vector3D(velocities[3 * j], velocities[3 * j + 1], velocities[3 * j + 2])),
+                                    1.0e-10);
+        }
+    }
+
+    @Test
+    void testInterpolatePVDates() {
+        setUp();
+        final List<SpacecraftState> states = new ArrayList<>();
+        for (double dt = 0; dt <= 7200; dt += 120) {
+            states.add(propagator.propagate(initDate.shiftedBy(dt)));
+        }
+        final Ephemeris ephemeris = new Ephemeris(states, 8);
+
+        // dates are not regularly spaced, and the last ones are extrapolated within threshold
+        final AbsoluteDate[] dates = new AbsoluteDate[500];
+        for (int j = 0; j < dates.length; ++j) {
+            dates[j] = initDate.shiftedBy(7200.0 * FastMath.sqrt(j / (dates.length - 1.0)));
+        }
+        dates[dates.length - 1] = ephemeris.getMaxDate().shiftedBy(0.5 * SpacecraftStateInterpolator.DEFAULT_EXTRAPOLATION_THRESHOLD_SEC);
+        final double[] positions  = new double[3 * dates.length];
+        final double[] velocities = new double[3 * dates.length];
+        ephemeris.interpolatePV(dates, positions, velocities);
+
+        for (int j = 0; j < dates.length; ++j) {
+            final PVCoordinates reference = propagator.propagate(dates[j]).getPVCoordinates();
+            Assertions.assertEquals(0.0,
+                                    Vector3D.distance(reference.getPosition(),
+                                                      new Vector3D(positions[3 * j], positions[3 * j + 1], positions[3 * j + 2])),
+                                    1.0e-4);
+            Assertions.assertEquals(0.0,
+                                    Vector3D.distance(reference.getVelocity(),
+                                                      new Vector3D(velocities[3 * j], velocities[3 * j + 1], velocities[3 * j + 2])),
+                                    1.0e-7);
+        }
+    }
+
+    @Test
+    void testInterpolatePVErrors() {
+        setUp();
+        final List<SpacecraftState> states = new ArrayList<>();
+        for (double dt = 0; dt <= 3600; dt += 60) {
+            states.add(propagator.propagate(initDate.shiftedBy(dt)));
+        }
+        final Ephemeris ephemeris = new Ephemeris(states, 4);
+
+        try {
+            ephemeris.interpolatePV(initDate, 60.0, 10, new double[29], new double[30]);
+            Assertions.fail("an exception should have been thrown");
+        } catch (OrekitIllegalArgumentException oiae) {
+            Assertions.assertEquals(LocalizedCoreFormats.DIMENSIONS_MISMATCH, oiae.getSpecifier());
+        }
+
+        try {
+            ephemeris.interpolatePV(initDate.shiftedBy(-10.0), 60.0, 10, new double[30], new double[30]);
+            Assertions.fail("an exception should have been thrown");
+        } catch (TimeStampedCacheException tsce) {
+            Assertions.assertEquals(OrekitMessages.UNABLE_TO_GENERATE_NEW_DATA_BEFORE, tsce.getSpecifier());
+        }
+
+        try {
+            ephemeris.interpolatePV(new AbsoluteDate[] { initDate, initDate.shiftedBy(3700.0) },
+                                    new double[6], new double[6]);
+            Assertions.fail("an exception should have been thrown");
+        } catch (TimeStampedCacheException tsce) {
+            Assertions.assertEquals(OrekitMessages.UNABLE_TO_GENERATE_NEW_DATA_AFTER, tsce.getSpecifier());
+        }
+    }
+
     public void setUp() throws IllegalArgumentException, OrekitException {
         Utils.setDataRoot("regular-data");
 
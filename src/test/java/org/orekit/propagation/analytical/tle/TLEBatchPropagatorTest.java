@@ -0,0 +1,142 @@
+/* Copyright 2002-2025 CS GROUP
+ * Licensed to CS GROUP (CS) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * CS licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.orekit.propagation.analytical.tle;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import org.hipparchus.exception.LocalizedCoreFormats;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.orekit.Utils;
+import org.orekit.errors.OrekitIllegalArgumentException;
+import org.orekit.frames.FramesFactory;
+import org.orekit.time.AbsoluteDate;
+import org.orekit.utils.PVCoordinates;
+
+public class TLEBatchPropagatorTest {
+
+    private List<TLE> tles;
+
+    @Test
+    public void testSequentialBitCompatible() {
+        final TLEBatchPropagator batch = new TLEBatchPropagator(tles);
+        Assertions.assertEquals(tles.size(), batch.getNbObjects());
+        Assertions.assertEquals(tles, batch.getTLEs());
+        Assertions.assertSame(FramesFactory.getTEME(), batch.getFrame());
+
+        final AbsoluteDate start = tles.get(0).getDate().shiftedBy(-3600.0);
+        final int          count = 97;
+        final double[]     p     = new double[3 * tles.size() * count];
+        final double[]     v     = new double[3 * tles.size() * count];
+        batch.propagate(start, 900.0 + 1.0 / 3.0, count, p, v);
+        checkBitCompatible(tles, start, 900.0 + 1.0 / 3.0, count, p, v);
+    }
+
+    @Test
+    public void testParallelBitCompatible() {
+        final TLEBatchPropagator batch = new TLEBatchPropagator(Arrays.asList(tles.get(0), tles.get(1), tles.get(2),
+                                                                               tles.get(3), tles.get(0), tles.get(1)));
+        final AbsoluteDate start = tles.get(0).getDate().shiftedBy(-3600.0);
+        final int          count = 51;
+        final double[]     p     = new double[3 * batch.getNbObjects() * count];
+        final double[]     v     = new double[3 * batch.getNbObjects() * count];
+        final ExecutorService executorService = Executors.newFixedThreadPool(3);
+        try {
+            batch.propagate(start, 1800.0, count, p, v, executorService, 3);
+        } finally {
+            executorService.shutdown();
+        }
+
+        checkBitCompatible(batch.getTLEs(), start, 1800.0, count, p, v);
+
+    }
+
+    @Test
+    public void testArbitraryDates() {
+        final TLEBatchPropagator batch = new TLEBatchPropagator(tles);
+        final AbsoluteDate[] dates = new AbsoluteDate[] {
+            tles.get(2).getDate(),
+            tles.get(0).getDate().shiftedBy(0.123456789),
+            tles.get(1).getDate().shiftedBy(-86400.0 + 1.0e-9)
+        };
+        final double[] p = new double[3 * tles.size() * dates.length];
+        final double[] v = new double[3 * tles.size() * dates.length];
+        batch.propagate(dates, p, v);
+        for (int k = 0; k < tles.size(); ++k) {
+            final TLEPropagator propagator = TLEPropagator.selectExtrapolator(tles.get(k));
+            for (int j = 0; j < dates.length; ++j) {
+                final PVCoordinates pv = propagator.getPVCoordinates(dates[j]);
+                final int index = 3 * (k * dates.length + j);
+                Assertions.assertEquals(pv.getPosition().getX(), p[index],     0.0);
+                Assertions.assertEquals(pv.getVelocity().getZ(), v[index + 2], 0.0);
+            }
+        }
+    }
+
+    @Test
+    public void testTooSmallArrays() {
+        final TLEBatchPropagator batch = new TLEBatchPropagator(tles);
+        try {
+            batch.propagate(tles.get(0).getDate(), 60.0, 10,
+                            new double[3 * tles.size() * 10 - 1], new double[3 * tles.size() * 10]);
+            Assertions.fail("an exception should have been thrown");
+        } catch (OrekitIllegalArgumentException oiae) {
+            Assertions.assertEquals(LocalizedCoreFormats.DIMENSIONS_MISMATCH, oiae.getSpecifier());
+            Assertions.assertEquals(3 * tles.size() * 10 - 1, ((Integer) oiae.getParts()[0]).intValue());
+            Assertions.assertEquals(3 * tles.size() * 10,     ((Integer) oiae.getParts()[1]).intValue());
+        }
+    }
+
+    private void checkBitCompatible(final List<TLE> propagated,
+                                    final AbsoluteDate start, final double step, final int count,
+                                    final double[] p, final double[] v) {
+        for (int k = 0; k < propagated.size(); ++k) {
+            final TLEPropagator propagator = TLEPropagator.selectExtrapolator(propagated.get(k));
+            for (int j = 0; j < count; ++j) {
+                final PVCoordinates pv = propagator.getPVCoordinates(start.shiftedBy(j * step));
+                final int index = 3 * (k * count + j);
+                Assertions.assertEquals(pv.getPosition().getX(), p[index],     0.0);
+                Assertions.assertEquals(pv.getPosition().getY(), p[index + 1], 0.0);
+                Assertions.assertEquals(pv.getPosition().getZ(), p[index + 2], 0.0);
+                Assertions.assertEquals(pv.getVelocity().getX(), v[index],     0.0);
+                Assertions.assertEquals(pv.getVelocity().getY(), v[index + 1], 0.0);
+                Assertions.assertEquals(pv.getVelocity().getZ(), v[index + 2], 0.0);
+            }
+        }
+    }
+
+    @BeforeEach
+    public void setUp() {
+        Utils.setDataRoot("regular-data");
+        tles = Arrays.asList(
+            // deep space (GPS)
+            new TLE("1 37753U 11036A   12090.13205652 -.00000006  00000-0  00000+0 0  2272",
+                    "2 37753  55.0032 176.5796 0004733  13.2285 346.8266  2.00565440  5153"),
+            // near Earth
+            new TLE("1 27421U 02021A   02124.48976499 -.00021470  00000-0 -89879-2 0    20",
+                    "2 27421  98.7490 199.5121 0001333 133.9522 226.1918 14.26113993    62"),
+            new TLE("1 25544U 98067A   21035.14486477  .00001026  00000-0  26816-4 0  9998",
+                    "2 25544  51.6455 280.7636 0002243 335.6496 186.1723 15.48938788267977"),
+            new TLE("1 05555U 71086J   12026.96078249 -.00000004  00001-9  01234-9 0  9082",
+                    "2 05555  74.0161 228.9750 0075476 328.9888  30.6709 12.26882470804545"));
+    }
+
+}
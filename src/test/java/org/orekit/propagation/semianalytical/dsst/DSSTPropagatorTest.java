@@ -28,6 +28,8 @@ import java.util.Collections;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.stream.Stream;
 
 import org.hamcrest.Matcher;
@@ -62,6 +64,7 @@ import org.orekit.bodies.CelestialBody;
 import org.orekit.bodies.CelestialBodyFactory;
 import org.orekit.bodies.OneAxisEllipsoid;
 import org.orekit.errors.OrekitException;
+import org.orekit.errors.OrekitMessages;
 import org.orekit.forces.BoxAndSolarArraySpacecraft;
 import org.orekit.forces.ForceModel;
 import org.orekit.forces.gravity.HolmesFeatherstoneAttractionModel;
@@ -807,6 +810,76 @@ public class DSSTPropagatorTest {
         Assertions.assertEquals(0.0, maxError, Precision.SAFE_MIN);
     }
 
+    @Test
+    public void testParallelShortPeriodTerms() {
+        Utils.setDataRoot("regular-data:potential/icgem-format");
+        GravityFieldFactory.addPotentialCoefficientsReader(new ICGEMFormatReader("^eigen-6s-truncated$", false));
+        final ExecutorService executor = Executors.newFixedThreadPool(3);
+        try {
+            final List<SpacecraftState> serial   = propagateFullModel(null, 1);
+            final List<SpacecraftState> parallel = propagateFullModel(executor, 4);
+            Assertions.assertEquals(serial.size(), parallel.size());
+            for (int i = 0; i < serial.size(); ++i) {
+                // coefficients are stored in the same order, so results are identical
+                Assertions.assertEquals(0.0,
+                                        Vector3D.distance(serial.get(i).getPosition(), parallel.get(i).getPosition()),
+                                        0.0);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void testParallelShortPeriodTermsWrongSettings() {
+        final ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            new DSSTPropagator(new ClassicalRungeKuttaIntegrator(60.0)).setParallelShortPeriodTerms(executor, 0);
+            Assertions.fail("an exception should have been thrown");
+        } catch (OrekitException oe) {
+            Assertions.assertEquals(OrekitMessages.NOT_STRICTLY_POSITIVE, oe.getSpecifier());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private List<SpacecraftState> propagateFullModel(final ExecutorService executor, final int workers) {
+        UnnormalizedSphericalHarmonicsProvider nshp = GravityFieldFactory.getUnnormalizedProvider(8, 8);
+        Orbit orbit = new KeplerianOrbit(13378000, 0.05, 0, 0, FastMath.PI, 0, PositionAngleType.MEAN,
+                                         FramesFactory.getTOD(false),
+                                         new AbsoluteDate(2003, 5, 6, TimeScalesFactory.getUTC()),
+                                         nshp.getMu());
+        double period = orbit.getKeplerianPeriod();
+        double[][] tolerance = ToleranceProvider.getDefaultToleranceProvider(1.).getTolerances(orbit, OrbitType.EQUINOCTIAL);
+        AdaptiveStepsizeIntegrator integrator =
+                        new DormandPrince853Integrator(period / 100, period * 100, tolerance[0], tolerance[1]);
+        integrator.setInitialStepSize(10 * period);
+        DSSTPropagator propagator = new DSSTPropagator(integrator, PropagationType.OSCULATING);
+        OneAxisEllipsoid earth = new OneAxisEllipsoid(Constants.WGS84_EARTH_EQUATORIAL_RADIUS,
+                                                      Constants.WGS84_EARTH_FLATTENING,
+                                                      FramesFactory.getGTOD(false));
+        CelestialBody sun = CelestialBodyFactory.getSun();
+        DSSTAtmosphericDrag drag = new DSSTAtmosphericDrag(new HarrisPriester(sun, earth), 2.1, 180, nshp.getMu());
+        DSSTSolarRadiationPressure srp = new DSSTSolarRadiationPressure(1.2, 180, sun, earth, nshp.getMu());
+        drag.setParallelShortPeriodTerms(executor, workers);
+        srp.setParallelShortPeriodTerms(executor, workers);
+        propagator.addForceModel(new DSSTZonal(nshp, 8, 7, 17));
+        propagator.addForceModel(new DSSTTesseral(earth.getBodyFrame(),
+                                                  Constants.WGS84_EARTH_ANGULAR_VELOCITY,
+                                                  nshp, 8, 8, 4, 12, 8, 8, 4));
+        propagator.addForceModel(new DSSTThirdBody(sun, nshp.getMu()));
+        propagator.addForceModel(new DSSTThirdBody(CelestialBodyFactory.getMoon(), nshp.getMu()));
+        propagator.addForceModel(drag);
+        propagator.addForceModel(srp);
+        propagator.setParallelShortPeriodTerms(executor, workers);
+        propagator.setInterpolationGridToMaxTimeGap(0.5 * Constants.JULIAN_DAY);
+        propagator.setInitialState(new SpacecraftState(orbit).withMass(45.0), PropagationType.MEAN);
+        final List<SpacecraftState> states = new ArrayList<>();
+        propagator.setStepHandler(600, states::add);
+        propagator.propagate(orbit.getDate().shiftedBy(Constants.JULIAN_DAY));
+        return states;
+    }
+
     @Test
     public void testGetInitialOsculatingState() throws IllegalArgumentException, OrekitException {
         final SpacecraftState initialState = getGEOState();
@@ -0,0 +1,148 @@
+/* Copyright 2002-2025 CS GROUP
+ * Licensed to CS GROUP (CS) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * CS licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.orekit.propagation.semianalytical.dsst.utilities.hansen;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.hipparchus.analysis.polynomials.PolynomialFunction;
+import org.hipparchus.util.FastMath;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.orekit.propagation.semianalytical.dsst.utilities.NewcombOperators;
+
+public class HansenCoefficientsCacheTest {
+
+    @Test
+    public void testZonalSharedAndIdentical() {
+        HansenCoefficientsCache.clear();
+        final HansenCoefficientsCache.Polynomials p1 = HansenCoefficientsCache.getZonalPolynomials(12, 3);
+        final HansenCoefficientsCache.Polynomials p2 = HansenCoefficientsCache.getZonalPolynomials(12, 3);
+        Assertions.assertSame(p1, p2);
+        Assertions.assertEquals(1, HansenCoefficientsCache.size());
+
+        final PolynomialFunction[][] mpvec      = new PolynomialFunction[8][];
+        final PolynomialFunction[][] mpvecDeriv = new PolynomialFunction[8][];
+        HansenUtilities.generateZonalPolynomials(-5, -13, 13, 10, 3, mpvec, mpvecDeriv);
+        checkEquals(mpvec, p1.getMpvec());
+        checkEquals(mpvecDeriv, p1.getMpvecDeriv());
+    }
+
+    @Test
+    public void testTesseralSharedAndIdentical() {
+        HansenCoefficientsCache.clear();
+        final HansenCoefficientsCache.Polynomials p1 = HansenCoefficientsCache.getTesseralPolynomials(20, -2, 5, 2);
+        Assertions.assertSame(p1, HansenCoefficientsCache.getTesseralPolynomials(20, -2, 5, 2));
+        Assertions.assertNotSame(p1, HansenCoefficientsCache.getTesseralPolynomials(20, 2, 5, 2));
+        Assertions.assertEquals(2, HansenCoefficientsCache.size());
+
+        final PolynomialFunction[][] mpvec      = new PolynomialFunction[15][];
+        final PolynomialFunction[][] mpvecDeriv = new PolynomialFunction[15][];
+        HansenUtilities.generateTesseralPolynomials(-6, -21, 21, 10, 5, -2, mpvec, mpvecDeriv);
+        checkEquals(mpvec, p1.getMpvec());
+        checkEquals(mpvecDeriv, p1.getMpvecDeriv());
+    }
+
+    @Test
+    public void testThirdBodySharedAndIdentical() {
+        HansenCoefficientsCache.clear();
+        final HansenCoefficientsCache.Polynomials p1 = HansenCoefficientsCache.getThirdBodyPolynomials(22, 4);
+        Assertions.assertSame(p1, HansenCoefficientsCache.getThirdBodyPolynomials(22, 4));
+
+        final PolynomialFunction[][] mpvec      = new PolynomialFunction[23][];
+        final PolynomialFunction[][] mpvecDeriv = new PolynomialFunction[23][];
+        HansenUtilities.generateThirdBodyPolynomials(4, 22, 10, 4, mpvec, mpvecDeriv);
+        checkEquals(mpvec, p1.getMpvec());
+        checkEquals(mpvecDeriv, p1.getMpvecDeriv());
+    }
+
+    @Test
+    public void testSeries() {
+        HansenCoefficientsCache.clear();
+        final PolynomialFunction series = HansenCoefficientsCache.getSeriesPolynomial(-7, 2, 5, 6);
+        Assertions.assertSame(series, HansenCoefficientsCache.getSeriesPolynomial(-7, 2, 5, 6));
+        final double[] coefficients = series.getCoefficients();
+        Assertions.assertEquals(7, coefficients.length);
+        for (int alpha = 0; alpha < coefficients.length; ++alpha) {
+            Assertions.assertEquals(NewcombOperators.getValue(alpha + 3, alpha, -7, 2), coefficients[alpha], 0.0);
+        }
+    }
+
+    @Test
+    public void testConcurrentAccess() throws InterruptedException, ExecutionException {
+        HansenCoefficientsCache.clear();
+        final ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            final List<Future<HansenCoefficientsCache.Polynomials>> futures = new ArrayList<>();
+            for (int i = 0; i < 64; ++i) {
+                futures.add(executor.submit(() -> HansenCoefficientsCache.getTesseralPolynomials(30, 3, 7, 3)));
+            }
+            final HansenCoefficientsCache.Polynomials reference = futures.get(0).get();
+            for (final Future<HansenCoefficientsCache.Polynomials> future : futures) {
+                Assertions.assertSame(reference, future.get());
+            }
+            Assertions.assertEquals(1, HansenCoefficientsCache.size());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void testLinearObjectsUseCache() {
+        HansenCoefficientsCache.clear();
+        final HansenZonalLinear zonal1 = new HansenZonalLinear(10, 2);
+        final HansenZonalLinear zonal2 = new HansenZonalLinear(10, 2);
+        Assertions.assertEquals(1, HansenCoefficientsCache.size());
+        new HansenTesseralLinear(10, 1, 3, 2, 4);
+        final int afterFirst = HansenCoefficientsCache.size();
+        new HansenTesseralLinear(10, 1, 3, 2, 4);
+        Assertions.assertEquals(afterFirst, HansenCoefficientsCache.size());
+
+        // cached and fresh objects give the same values
+        final double chi = 1.0 / FastMath.sqrt(1.0 - 0.1 * 0.1);
+        zonal1.computeInitValues(chi);
+        zonal2.computeInitValues(chi);
+        HansenCoefficientsCache.clear();
+        final HansenZonalLinear zonal3 = new HansenZonalLinear(10, 2);
+        zonal3.computeInitValues(chi);
+        for (int n = 3; n <= 10; ++n) {
+            Assertions.assertEquals(zonal3.getValue(-n - 1, chi), zonal1.getValue(-n - 1, chi), 0.0);
+            Assertions.assertEquals(zonal3.getDerivative(-n - 1, chi), zonal2.getDerivative(-n - 1, chi), 0.0);
+        }
+    }
+
+    private void checkEquals(final PolynomialFunction[][] expected, final PolynomialFunction[][] actual) {
+        Assertions.assertEquals(expected.length, actual.length);
+        for (int i = 0; i < expected.length; ++i) {
+            if (expected[i] == null) {
+                Assertions.assertNull(actual[i]);
+            } else {
+                Assertions.assertEquals(expected[i].length, actual[i].length);
+                for (int k = 0; k < expected[i].length; ++k) {
+                    Assertions.assertArrayEquals(expected[i][k].getCoefficients(),
+                                                 actual[i][k].getCoefficients(),
+                                                 0.0);
+                }
+            }
+        }
+    }
+
+}
@@ -0,0 +1,132 @@
+/* Copyright 2002-2025 CS GROUP
+ * Licensed to CS GROUP (CS) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * CS licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.orekit.time;
+
+import org.hipparchus.exception.LocalizedCoreFormats;
+import org.hipparchus.random.RandomGenerator;
+import org.hipparchus.random.Well1024a;
+import org.hipparchus.util.FastMath;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.orekit.errors.OrekitIllegalArgumentException;
+
+public class DateAccumulatorTest {
+
+    @Test
+    public void testShiftConsistency() {
+        final RandomGenerator random  = new Well1024a(0x4c1e8d3b7a9f2065L);
+        final AbsoluteDate    t0      = AbsoluteDate.J2000_EPOCH.shiftedBy(1.0e8 * random.nextDouble());
+        final DateAccumulator acc     = new DateAccumulator(t0);
+        AbsoluteDate          current = t0;
+        for (int i = 0; i < 10000; ++i) {
+            final double dt = (random.nextDouble() - 0.5) * FastMath.scalb(1.0, random.nextInt(40) - 20);
+            current = current.shiftedBy(dt);
+            acc.shiftBy(dt);
+            Assertions.assertEquals(current.getSeconds(),     acc.getSeconds());
+            Assertions.assertEquals(current.getAttoSeconds(), acc.getAttoSeconds());
+            Assertions.assertEquals(current.durationFrom(t0), acc.durationFrom(t0), 0.0);
+            Assertions.assertEquals(current.compareTo(t0),    acc.compareTo(t0));
+            Assertions.assertEquals(0, acc.compareTo(current));
+        }
+        Assertions.assertEquals(current, acc.toAbsoluteDate());
+        Assertions.assertTrue(acc.isFinite());
+    }
+
+    @Test
+    public void testShiftTimeOffset() {
+        final AbsoluteDate    t0  = AbsoluteDate.GPS_EPOCH;
+        final DateAccumulator acc = new DateAccumulator(t0);
+        acc.shiftBy(new TimeOffset(3L, 700000000000000000L)).shiftBy(new TimeOffset(-1L, 600000000000000000L));
+        Assertions.assertEquals(t0.shiftedBy(new TimeOffset(3L, 300000000000000000L)), acc.toAbsoluteDate());
+        Assertions.assertEquals(3.3, acc.durationFrom(t0), 1.0e-15);
+        Assertions.assertEquals(t0.add(new TimeOffset(3L, 300000000000000000L)), acc.toTimeOffset());
+    }
+
+    @Test
+    public void testSpecialValues() {
+        final DateAccumulator acc = new DateAccumulator(AbsoluteDate.J2000_EPOCH);
+        acc.shiftBy(Double.POSITIVE_INFINITY);
+        Assertions.assertFalse(acc.isFinite());
+        Assertions.assertTrue(acc.toAbsoluteDate().isPositiveInfinity());
+        Assertions.assertEquals(Double.POSITIVE_INFINITY, acc.durationFrom(AbsoluteDate.J2000_EPOCH), 0.0);
+        Assertions.assertEquals(1, acc.compareTo(AbsoluteDate.J2000_EPOCH));
+        Assertions.assertEquals(TimeOffset.POSITIVE_INFINITY.getSeconds(),     acc.getSeconds());
+        Assertions.assertEquals(TimeOffset.POSITIVE_INFINITY.getAttoSeconds(), acc.getAttoSeconds());
+        acc.shiftBy(Double.NEGATIVE_INFINITY);
+        Assertions.assertTrue(acc.toTimeOffset().isNaN());
+
+        acc.reset(AbsoluteDate.PAST_INFINITY).shiftBy(TimeOffset.SECOND);
+        Assertions.assertTrue(acc.toAbsoluteDate().isNegativeInfinity());
+        acc.reset(AbsoluteDate.J2000_EPOCH).shiftBy(TimeOffset.NEGATIVE_INFINITY);
+        Assertions.assertTrue(acc.toAbsoluteDate().isNegativeInfinity());
+
+        acc.reset(AbsoluteDate.J2000_EPOCH);
+        Assertions.assertTrue(acc.isFinite());
+        Assertions.assertEquals(Double.NEGATIVE_INFINITY, acc.durationFrom(AbsoluteDate.FUTURE_INFINITY), 0.0);
+        Assertions.assertEquals(-1, acc.compareTo(AbsoluteDate.FUTURE_INFINITY));
+    }
+
+    @Test
+    public void testDurationsFrom() {
+        final AbsoluteDate   reference = AbsoluteDate.GALILEO_EPOCH;
+        final AbsoluteDate[] dates     = new AbsoluteDate[100];
+        for (int i = 0; i < dates.length; ++i) {
+            dates[i] = reference.shiftedBy(i * 0.1 - 3.0);
+        }
+        final double[] durations = new double[dates.length];
+        DateAccumulator.durationsFrom(dates, reference, durations);
+        for (int i = 0; i < dates.length; ++i) {
+            Assertions.assertEquals(dates[i].durationFrom(reference), durations[i], 0.0);
+        }
+        try {
+            DateAccumulator.durationsFrom(dates, reference, new double[3]);
+            Assertions.fail("an exception should have been thrown");
+        } catch (OrekitIllegalArgumentException oiae) {
+            Assertions.assertEquals(LocalizedCoreFormats.DIMENSIONS_MISMATCH, oiae.getSpecifier());
+        }
+    }
+
+    @Test
+    public void testShiftedBy() {
+        final AbsoluteDate reference   = AbsoluteDate.BEIDOU_EPOCH;
+        final double[]     dt          = new double[100];
+        for (int i = 0; i < dt.length; ++i) {
+            dt[i] = FastMath.scalb(i - 50.0, i / 3);
+        }
+        final long[] seconds     = new long[dt.length];
+        final long[] attoSeconds = new long[dt.length];
+        DateAccumulator.shiftedBy(reference, dt, seconds, attoSeconds);
+        for (int i = 0; i < dt.length; ++i) {
+            final AbsoluteDate shifted = reference.shiftedBy(dt[i]);
+            Assertions.assertEquals(shifted.getSeconds(),     seconds[i]);
+            Assertions.assertEquals(shifted.getAttoSeconds(), attoSeconds[i]);
+        }
+        try {
+            DateAccumulator.shiftedBy(reference, dt, new long[3], attoSeconds);
+            Assertions.fail("an exception should have been thrown");
+        } catch (OrekitIllegalArgumentException oiae) {
+            Assertions.assertEquals(LocalizedCoreFormats.DIMENSIONS_MISMATCH, oiae.getSpecifier());
+        }
+        try {
+            DateAccumulator.shiftedBy(reference, dt, seconds, new long[3]);
+            Assertions.fail("an exception should have been thrown");
+        } catch (OrekitIllegalArgumentException oiae) {
+            Assertions.assertEquals(LocalizedCoreFormats.DIMENSIONS_MISMATCH, oiae.getSpecifier());
+        }
+    }
+
+}
@@ -1136,6 +1136,38 @@ public class TimeOffsetTest {
 
     }
 
+    @Test
+    public void testShiftConstructor() {
+        final RandomGenerator random = new Well1024a(0x8a3e6c1f7b4d2509L);
+        for (int i = 0; i < 10000; ++i) {
+            final TimeOffset time = new TimeOffset(random.nextLong() >> 8, random.nextLong() >> 1);
+            final double     dt   = (random.nextDouble() - 0.5) * FastMath.scalb(1.0, random.nextInt(60) - 30);
+            final TimeOffset ref  = time.add(new TimeOffset(dt));
+            final TimeOffset shifted = new TimeOffset(time, dt);
+            checkComponents(shifted, ref.getSeconds(), ref.getAttoSeconds());
+        }
+        Assertions.assertTrue(new TimeOffset(TimeOffset.NaN, 1.0).isNaN());
+        Assertions.assertTrue(new TimeOffset(TimeOffset.SECOND, Double.NaN).isNaN());
+        Assertions.assertTrue(new TimeOffset(TimeOffset.POSITIVE_INFINITY, -1.0).isPositiveInfinity());
+        Assertions.assertTrue(new TimeOffset(TimeOffset.SECOND, Double.NEGATIVE_INFINITY).isNegativeInfinity());
+        Assertions.assertTrue(new TimeOffset(TimeOffset.SECOND, 1.0e30).isPositiveInfinity());
+    }
+
+    @Test
+    public void testSubtractAsDouble() {
+        final RandomGenerator random = new Well1024a(0x2f6d8b1a9c3e4075L);
+        for (int i = 0; i < 10000; ++i) {
+            final TimeOffset t1 = new TimeOffset(random.nextLong() >> 32, random.nextLong() >> 1);
+            final TimeOffset t2 = new TimeOffset(random.nextLong() >> 32, random.nextLong() >> 1);
+            Assertions.assertEquals(t1.subtract(t2).toDouble(), t1.subtractAsDouble(t2), 0.0);
+        }
+        Assertions.assertTrue(Double.isNaN(TimeOffset.NaN.subtractAsDouble(TimeOffset.SECOND)));
+        Assertions.assertTrue(Double.isNaN(TimeOffset.POSITIVE_INFINITY.subtractAsDouble(TimeOffset.POSITIVE_INFINITY)));
+        Assertions.assertEquals(Double.NEGATIVE_INFINITY,
+                                TimeOffset.SECOND.subtractAsDouble(TimeOffset.POSITIVE_INFINITY),
+                                0.0);
+    }
+
     private void checkMultiple(final int n, final TimeOffset small, final TimeOffset large) {
         Assertions.assertTrue(small.multiply(n).subtract(large).isZero());
     }
@@ -0,0 +1,333 @@
+/* Copyright 2002-2025 CS GROUP
+ * Licensed to CS GROUP (CS) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * CS licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.orekit.utils;
+
+import org.hamcrest.CoreMatchers;
+import org.hamcrest.MatcherAssert;
+import org.hipparchus.random.RandomGenerator;
+import org.hipparchus.random.Well1024a;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.orekit.Utils;
+import org.orekit.errors.TimeStampedCacheException;
+import org.orekit.time.AbsoluteDate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.Collectors;
+
+/** Tests specific to {@link LockFreeTimeStampedCache}.
+ * <p>
+ * The general behavior shared with {@link GenericTimeStampedCache} is covered by
+ * {@link GenericTimeStampedCacheTest}, here we only check the two caches agree,
+ * and the eviction and concurrency aspects specific to the lock-free implementation.
+ * </p>
+ */
+public class LockFreeTimeStampedCacheTest {
+
+    @Test
+    public void testSameNeighborsAsGeneric() throws TimeStampedCacheException {
+        checkSameNeighborsAsGeneric(2, 2, new SequentialMode());
+        checkSameNeighborsAsGeneric(2, 2, new AlternateMode());
+        checkSameNeighborsAsGeneric(1, 2, new AlternateMode());
+        checkSameNeighborsAsGeneric(30, 5, new RandomMode(64394632125212l));
+        // configurations with evictions between several slots are not compared,
+        // as the caches do not select the same slots to evict
+    }
+
+    @Test
+    public void testLeastRecentlyUsedEviction() throws TimeStampedCacheException {
+        LockFreeTimeStampedCache<AbsoluteDate> cache = createCache(2, 3600, 13);
+        final AbsoluteDate a = AbsoluteDate.GALILEO_EPOCH;
+        final AbsoluteDate b = a.shiftedBy(10 * Constants.JULIAN_DAY);
+        final AbsoluteDate c = b.shiftedBy(10 * Constants.JULIAN_DAY);
+
+        // create slots for a and b, then use slot a again, so slot b becomes the least recently used
+        cache.getNeighbors(a);
+        cache.getNeighbors(b);
+        final int generateCalls = cache.getGenerateCalls();
+        cache.getNeighbors(a);
+        Assertions.assertEquals(generateCalls, cache.getGenerateCalls());
+
+        // creating slot c evicts slot b, despite slot a is older
+        cache.getNeighbors(c);
+        Assertions.assertEquals(1, cache.getSlotsEvictions());
+        final int afterEviction = cache.getGenerateCalls();
+        cache.getNeighbors(a);
+        Assertions.assertEquals(afterEviction, cache.getGenerateCalls());
+        cache.getNeighbors(b);
+        Assertions.assertTrue(cache.getGenerateCalls() > afterEviction);
+        Assertions.assertEquals(2, cache.getSlotsEvictions());
+
+    }
+
+    @Test
+    public void testMultithreadedGoodConfiguration() throws TimeStampedCacheException {
+        LockFreeTimeStampedCache<AbsoluteDate> cache = createCache(50, 3600, 13);
+        int n = testMultipleMultiThread(cache, new AlternateMode(), 50, 30);
+        Assertions.assertEquals(n, cache.getGetNeighborsCalls());
+        Assertions.assertTrue(cache.getGenerateCalls() < n / 20,
+                "this test may fail randomly due to multi-threading non-determinism" +
+                " (n = " + n + ", calls = " + cache.getGenerateCalls() +
+                ", ratio = " + (n / cache.getGenerateCalls()) + ")");
+        Assertions.assertTrue(cache.getSlotsEvictions() < n / 1000, 
+                "this test may fail randomly due to multi-threading non-determinism" +
+                " (n = " + n + ", evictions = " + cache.getSlotsEvictions() +
+                (cache.getSlotsEvictions() == 0 ? "" : (", ratio = " + (n / cache.getSlotsEvictions()))) + ")");
+    }
+
+    @Test
+    public void testMultithreadedBadConfiguration() throws TimeStampedCacheException {
+        LockFreeTimeStampedCache<AbsoluteDate> cache = createCache(3, 3600, 13);
+        int n = testMultipleMultiThread(cache, new AlternateMode(), 50, 100);
+        Assertions.assertEquals(n, cache.getGetNeighborsCalls());
+        Assertions.assertTrue(cache.getGenerateCalls() > n / 15,
+                "this test may fail randomly due to multi-threading non-determinism" +
+                " (n = " + n + ", calls = " + cache.getGenerateCalls() +
+                ", ratio = " + (n / cache.getGenerateCalls()) + ")");
+        Assertions.assertTrue(cache.getSlotsEvictions() > n / 60, 
+                "this test may fail randomly due to multi-threading non-determinism" +
+                " (n = " + n + ", evictions = " + cache.getSlotsEvictions() +
+                ", ratio = " + (n / cache.getSlotsEvictions()) + ")");
+    }
+
+    @Test
+    public void testFactory() {
+        final TimeStampedCacheFactory previous = OrekitConfiguration.getTimeStampedCacheFactory();
+        Assertions.assertSame(TimeStampedCacheFactory.GENERIC, previous);
+        try {
+            OrekitConfiguration.setTimeStampedCacheFactory(TimeStampedCacheFactory.LOCK_FREE);
+            final TimeStampedCache<AbsoluteDate> cache =
+                    OrekitConfiguration.getTimeStampedCacheFactory().
+                    createCache(3, 5, Constants.JULIAN_YEAR, Constants.JULIAN_DAY,
+                                new Generator(AbsoluteDate.J2000_EPOCH.shiftedBy(-3600.0),
+                                              AbsoluteDate.J2000_EPOCH.shiftedBy(+3600.0),
+                                              10.0));
+            MatcherAssert.assertThat(cache, CoreMatchers.instanceOf(LockFreeTimeStampedCache.class));
+            Assertions.assertEquals(3, cache.getNeighbors(AbsoluteDate.J2000_EPOCH).count());
+        } finally {
+            OrekitConfiguration.setTimeStampedCacheFactory(previous);
+        }
+    }
+
+    private void checkSameNeighborsAsGeneric(final int maxSlots, final int slots, final Mode mode)
+        throws TimeStampedCacheException {
+        final LockFreeTimeStampedCache<AbsoluteDate> lockFree = createCache(maxSlots, 3600, 13);
+        final GenericTimeStampedCache<AbsoluteDate>  generic  =
+                new GenericTimeStampedCache<>(lockFree.getMaxNeighborsSize(), maxSlots, Constants.JULIAN_YEAR,
+                                              Constants.JULIAN_DAY, lockFree.getGenerator());
+        for (final AbsoluteDate central : generateDates(mode, slots, 3600)) {
+            final List<AbsoluteDate> expected = generic.getNeighbors(central).collect(Collectors.toList());
+            final List<AbsoluteDate> actual   = lockFree.getNeighbors(central).collect(Collectors.toList());
+            Assertions.assertEquals(expected, actual);
+        }
+        Assertions.assertEquals(generic.getGetNeighborsCalls(), lockFree.getGetNeighborsCalls());
+        Assertions.assertEquals(generic.getGenerateCalls(),     lockFree.getGenerateCalls());
+        Assertions.assertEquals(generic.getSlotsEvictions(),    lockFree.getSlotsEvictions());
+    }
+
+    private List<AbsoluteDate> generateDates(final Mode mode, final int slots, final double step) {
+        AbsoluteDate[] base = new AbsoluteDate[slots];
+        base[0] = AbsoluteDate.GALILEO_EPOCH;
+        for (int i = 1; i < base.length; ++i) {
+            base[i] = base[i - 1].shiftedBy(10 * Constants.JULIAN_DAY);
+        }
+        return mode.generateDates(base, 25 * step, 0.025 * step);
+    }
+
+    private int testMultipleMultiThread(LockFreeTimeStampedCache<AbsoluteDate> cache, Mode mode,
+                                        int slots, int threadPoolSize)
+        throws TimeStampedCacheException {
+        double step = ((Generator) cache.getGenerator()).getStep();
+        return checkDatesMultiThread(generateDates(mode, slots, step), cache, threadPoolSize);
+    }
+
+    private LockFreeTimeStampedCache<AbsoluteDate> createCache(int maxSlots, double step, int neighborsSize) {
+        Generator generator =
+                new Generator(AbsoluteDate.J2000_EPOCH.shiftedBy(-Constants.JULIAN_CENTURY),
+                              AbsoluteDate.J2000_EPOCH.shiftedBy(+Constants.JULIAN_CENTURY),
+                              step);
+        return new LockFreeTimeStampedCache<AbsoluteDate>(neighborsSize, maxSlots, Constants.JULIAN_YEAR,
+                                                  Constants.JULIAN_DAY, generator);
+    }
+
+    private int checkDatesMultiThread(final List<AbsoluteDate> centralDates,
+                                      final LockFreeTimeStampedCache<AbsoluteDate> cache,
+                                      final int threadPoolSize)
+        throws TimeStampedCacheException {
+
+        final int n = cache.getMaxNeighborsSize();
+        final double step = ((Generator) cache.getGenerator()).getStep();
+        final AtomicReference<AbsoluteDate[]> failedDates = new AtomicReference<AbsoluteDate[]>();
+        final AtomicReference<TimeStampedCacheException> caught = new AtomicReference<TimeStampedCacheException>();
+        ExecutorService executorService = Executors.newFixedThreadPool(threadPoolSize);
+
+        for (final AbsoluteDate central : centralDates) {
+            executorService.execute(new Runnable() {
+                public void run() {
+                    try {
+                        final List<AbsoluteDate> neighbors = cache.getNeighbors(central).collect(Collectors.toList());
+                        Assertions.assertEquals(n, neighbors.size());
+                        for (final AbsoluteDate date : neighbors) {
+                            if (date.durationFrom(central) < -(n + 1) * step ||
+                                date.durationFrom(central) > n * step) {
+                                AbsoluteDate[] dates = new AbsoluteDate[n + 1];
+                                dates[0] = central;
+                                System.arraycopy(neighbors, 0, dates, 1, n);
+                                failedDates.set(dates);
+                            }
+                        }
+                    } catch (TimeStampedCacheException tce) {
+                        caught.set(tce);
+                    }
+                }
+            });
+        }
+
+        try {
+            executorService.shutdown();
+            Assertions.assertTrue(executorService.awaitTermination(10, TimeUnit.MINUTES), 
+                    "Not enough time for all threads to complete, try increasing the timeout");
+        } catch (InterruptedException ie) {
+            Assertions.fail(ie.getLocalizedMessage());
+        }
+
+        if (caught.get() != null) {
+            throw caught.get();
+        }
+
+        if (failedDates.get() != null) {
+            AbsoluteDate[] dates = failedDates.get();
+            StringBuilder builder = new StringBuilder();
+            String eol = System.getProperty("line.separator");
+            builder.append("central = ").append(dates[0]).append(eol);
+            builder.append("step = ").append(step).append(eol);
+            builder.append("neighbors =").append(eol);
+            for (int i = 1; i < dates.length; ++i) {
+                builder.append("    ").append(dates[i]).append(eol);
+            }
+            Assertions.fail(builder.toString());
+        }
+
+        return centralDates.size();
+
+    }
+
+    private static class Generator implements TimeStampedGenerator<AbsoluteDate> {
+
+        private final AbsoluteDate earliest;
+        private final AbsoluteDate latest;
+        private final double step;
+
+        public Generator(final AbsoluteDate earliest, final AbsoluteDate latest, final double step) {
+            this.earliest = earliest;
+            this.latest   = latest;
+            this.step     = step;
+        }
+
+        public double getStep() {
+            return step;
+        }
+
+        public List<AbsoluteDate> generate(AbsoluteDate existingDate, AbsoluteDate date) {
+            List<AbsoluteDate> dates = new ArrayList<AbsoluteDate>();
+            if (existingDate == null) {
+                dates.add(date);
+            } else if (date.compareTo(existingDate) >= 0) {
+                AbsoluteDate previous = existingDate;
+                while (date.compareTo(previous) > 0) {
+                    previous = previous.shiftedBy(step);
+                    if (previous.compareTo(earliest) >= 0 && previous.compareTo(latest) <= 0) {
+                        dates.add(dates.size(), previous);
+                    }
+                }
+            } else {
+                AbsoluteDate previous = existingDate;
+                while (date.compareTo(previous) < 0) {
+                    previous = previous.shiftedBy(-step);
+                    if (previous.compareTo(earliest) >= 0 && previous.compareTo(latest) <= 0) {
+                        dates.add(0, previous);
+                    }
+                }
+            }
+            return dates;
+        }
+
+    }
+
+    private interface Mode {
+        List<AbsoluteDate> generateDates(AbsoluteDate[] base, double duration, double step);
+    }
+
+    private class SequentialMode implements Mode {
+
+        public List<AbsoluteDate> generateDates(AbsoluteDate[] base, double duration, double step) {
+            List<AbsoluteDate> list = new ArrayList<AbsoluteDate>();
+            for (final AbsoluteDate initial : base) {
+                for (double dt = 0; dt < duration; dt += step) {
+                    list.add(initial.shiftedBy(dt));
+                }
+            }
+            return list;
+        }
+
+    }
+
+    private class AlternateMode implements Mode {
+
+        public List<AbsoluteDate> generateDates(AbsoluteDate[] base, double duration, double step) {
+            List<AbsoluteDate> list = new ArrayList<AbsoluteDate>();
+            for (double dt = 0; dt < duration; dt += step) {
+                for (final AbsoluteDate initial : base) {
+                    list.add(initial.shiftedBy(dt));
+                }
+            }
+            return list;
+        }
+
+    }
+
+    private class RandomMode implements Mode {
+
+        private RandomGenerator random;
+
+        public RandomMode(long seed) {
+            random = new Well1024a(seed);
+        }
+
+        public List<AbsoluteDate> generateDates(AbsoluteDate[] base, double duration, double step) {
+            List<AbsoluteDate> list = new ArrayList<AbsoluteDate>();
+            for (int i = 0; i < base.length * duration / step; ++i) {
+                int j     = random.nextInt(base.length);
+                double dt = random.nextDouble() * duration;
+                    list.add(base[j].shiftedBy(dt));
+            }
+            return list;
+        }
+
+    }
+
+    @BeforeEach
+    public void setUp() {
+        Utils.setDataRoot("regular-data");
+    }
+}
@@ -0,0 +1,170 @@
+/* Copyright 2002-2025 CS GROUP
+ * Licensed to CS GROUP (CS) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * CS licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.orekit.utils;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.hipparchus.exception.LocalizedCoreFormats;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.orekit.errors.OrekitException;
+import org.orekit.errors.OrekitMessages;
+
+public class ParallelLoopTest {
+
+    @Test
+    public void testSerial() {
+        final List<Integer> indices = new ArrayList<>();
+        ParallelLoop.run(null, 4, 10, indices::add);
+        Assertions.assertEquals(10, indices.size());
+        for (int i = 0; i < indices.size(); ++i) {
+            Assertions.assertEquals(i, indices.get(i).intValue());
+        }
+    }
+
+    @Test
+    public void testAllIndicesProcessedOnce() {
+        final ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            final int[] counts = new int[1000];
+            ParallelLoop.run(executor, 4, counts.length, i -> ++counts[i]);
+            for (final int count : counts) {
+                Assertions.assertEquals(1, count);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void testNestedLoopsSingleThread() {
+        // the only executor thread is busy with an outer iteration,
+        // inner loops must complete thanks to the calling threads
+        final ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            final AtomicInteger count = new AtomicInteger();
+            ParallelLoop.run(executor, 2, 5,
+                             i -> ParallelLoop.run(executor, 2, 7, j -> count.incrementAndGet()));
+            Assertions.assertEquals(35, count.get());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void testOrekitException() {
+        final ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            ParallelLoop.run(executor, 3, 100, i -> {
+                if (i == 50) {
+                    throw new OrekitException(OrekitMessages.NOT_STRICTLY_POSITIVE, i);
+                }
+            });
+            Assertions.fail("an exception should have been thrown");
+        } catch (OrekitException oe) {
+            Assertions.assertEquals(OrekitMessages.NOT_STRICTLY_POSITIVE, oe.getSpecifier());
+            Assertions.assertEquals(50, oe.getParts()[0]);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void testOtherException() {
+        final ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            // all iterations fail, so both the calling thread and the workers see failures
+            for (int k = 0; k < 20; ++k) {
+                try {
+                    ParallelLoop.run(executor, 3, 100, i -> {
+                        throw new IllegalStateException("boom");
+                    });
+                    Assertions.fail("an exception should have been thrown");
+                } catch (OrekitException oe) {
+                    Assertions.assertEquals(LocalizedCoreFormats.SIMPLE_MESSAGE, oe.getSpecifier());
+                    Assertions.assertEquals("boom", oe.getParts()[0]);
+                    Assertions.assertInstanceOf(IllegalStateException.class, oe.getCause());
+                }
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void testError() {
+        final ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            for (int k = 0; k < 20; ++k) {
+                try {
+                    ParallelLoop.run(executor, 3, 100, i -> {
+                        throw new InternalError("boom");
+                    });
+                    Assertions.fail("an error should have been thrown");
+                } catch (InternalError ie) {
+                    Assertions.assertEquals("boom", ie.getMessage());
+                }
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void testNoIterationRunningAfterFailure() throws InterruptedException {
+        final ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            final AtomicInteger running  = new AtomicInteger();
+            final AtomicInteger finished = new AtomicInteger();
+            try {
+                ParallelLoop.run(executor, 5, 1000, i -> {
+                    running.incrementAndGet();
+                    try {
+                        if (i == 20) {
+                            throw new OrekitException(OrekitMessages.NOT_STRICTLY_POSITIVE, i);
+                        }
+                        TimeUnit.MILLISECONDS.sleep(2);
+                    } catch (InterruptedException ie) {
+                        Thread.currentThread().interrupt();
+                    } finally {
+                        running.decrementAndGet();
+                        finished.incrementAndGet();
+                    }
+                });
+                Assertions.fail("an exception should have been thrown");
+            } catch (OrekitException oe) {
+                Assertions.assertEquals(OrekitMessages.NOT_STRICTLY_POSITIVE, oe.getSpecifier());
+            }
+
+            // all started iterations are complete, and no new ones are started
+            Assertions.assertEquals(0, running.get());
+            final int count = finished.get();
+            Assertions.assertTrue(count < 1000);
+            TimeUnit.MILLISECONDS.sleep(50);
+            Assertions.assertEquals(count, finished.get());
+
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+}